@@ -0,0 +1,177 @@
+package net.runelite.api;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.util.Arrays;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Clickboxes computed by {@link Perspective#getClickbox} within the current frame.
+ * <p>
+ * Entries are keyed by model identity, orientation and local position, and are only valid for the camera they
+ * were projected with: the cache is emptied whenever the camera, zoom or viewport changes, and at the start of
+ * every frame. Lookups do not allocate. The returned shapes are shared between callers and must not be modified.
+ */
+@ApiStatus.Internal
+public final class ClickboxCache
+{
+	/**
+	 * Returned by {@link #get} when the clickbox is not cached.
+	 */
+	static final Shape MISS = new Rectangle();
+
+	private static final int CAPACITY = 1024;
+	private static final int MAX_SIZE = CAPACITY * 3 / 4;
+	private static final int CAMERA_STATE = 10;
+
+	private static final Model[] models = new Model[CAPACITY];
+	private static final int[] keys = new int[CAPACITY * 4];
+	private static final Shape[] shapes = new Shape[CAPACITY];
+	private static final int[] camera = new int[CAMERA_STATE];
+	private static int size;
+
+	private static long hits;
+	private static long misses;
+	private static long computeNanos;
+
+	private ClickboxCache()
+	{
+	}
+
+	/**
+	 * Empties the cache. Called before each frame is rendered.
+	 */
+	public static synchronized void invalidate()
+	{
+		if (size > 0)
+		{
+			Arrays.fill(models, null);
+			Arrays.fill(shapes, null);
+			size = 0;
+		}
+	}
+
+	/**
+	 * @return the cached clickbox, which may be null, or {@link #MISS}
+	 */
+	static synchronized Shape get(Client client, Model model, int orientation, int x, int y, int z)
+	{
+		if (!cameraUnchanged(client))
+		{
+			invalidate();
+		}
+
+		for (int slot = slot(model, orientation, x, y, z); models[slot] != null; slot = (slot + 1) & (CAPACITY - 1))
+		{
+			int key = slot * 4;
+			if (models[slot] == model && keys[key] == orientation && keys[key + 1] == x && keys[key + 2] == y && keys[key + 3] == z)
+			{
+				hits++;
+				return shapes[slot];
+			}
+		}
+		return MISS;
+	}
+
+	static synchronized void put(Model model, int orientation, int x, int y, int z, Shape shape, long nanos)
+	{
+		misses++;
+		computeNanos += nanos;
+
+		if (size >= MAX_SIZE)
+		{
+			invalidate();
+		}
+
+		int slot = slot(model, orientation, x, y, z);
+		while (models[slot] != null)
+		{
+			slot = (slot + 1) & (CAPACITY - 1);
+		}
+		int key = slot * 4;
+		models[slot] = model;
+		keys[key] = orientation;
+		keys[key + 1] = x;
+		keys[key + 2] = y;
+		keys[key + 3] = z;
+		shapes[slot] = shape;
+		size++;
+	}
+
+	private static int slot(Model model, int orientation, int x, int y, int z)
+	{
+		int hash = System.identityHashCode(model);
+		hash = hash * 31 + orientation;
+		hash = hash * 31 + x;
+		hash = hash * 31 + y;
+		hash = hash * 31 + z;
+		return (hash ^ (hash >>> 16)) & (CAPACITY - 1);
+	}
+
+	/**
+	 * Compares the camera with the one the cached clickboxes were projected with, and records it if it changed.
+	 */
+	private static boolean cameraUnchanged(Client client)
+	{
+		boolean unchanged = true;
+		unchanged &= update(0, client.getCameraX());
+		unchanged &= update(1, client.getCameraY());
+		unchanged &= update(2, client.getCameraZ());
+		unchanged &= update(3, client.getCameraPitch());
+		unchanged &= update(4, client.getCameraYaw());
+		unchanged &= update(5, client.getScale());
+		unchanged &= update(6, client.getViewportWidth());
+		unchanged &= update(7, client.getViewportHeight());
+		unchanged &= update(8, client.getViewportXOffset());
+		unchanged &= update(9, client.getViewportYOffset());
+		return unchanged;
+	}
+
+	private static boolean update(int index, int value)
+	{
+		if (camera[index] == value)
+		{
+			return true;
+		}
+		camera[index] = value;
+		return false;
+	}
+
+	public static synchronized int size()
+	{
+		return size;
+	}
+
+	public static synchronized long getHits()
+	{
+		return hits;
+	}
+
+	public static synchronized long getMisses()
+	{
+		return misses;
+	}
+
+	/**
+	 * @return the time spent computing the clickboxes that were not cached
+	 */
+	public static synchronized long getComputeNanos()
+	{
+		return computeNanos;
+	}
+
+	/**
+	 * @return an estimate of the time saved by cache hits, at the average cost of a miss
+	 */
+	public static synchronized long getSavedNanos()
+	{
+		return misses == 0 ? 0 : computeNanos / misses * hits;
+	}
+
+	public static synchronized void resetStats()
+	{
+		hits = 0;
+		misses = 0;
+		computeNanos = 0;
+	}
+}
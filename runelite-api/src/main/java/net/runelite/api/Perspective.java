@@ -699,6 +699,24 @@ public class Perspective
 			return null;
 		}
 
+		// the scratch buffers are shared, so the cache lock is held while computing
+		synchronized (ClickboxCache.class)
+		{
+			Shape cached = ClickboxCache.get(client, model, orientation, x, y, z);
+			if (cached != ClickboxCache.MISS)
+			{
+				return cached;
+			}
+
+			long start = System.nanoTime();
+			Shape clickbox = computeClickbox(client, model, orientation, x, y, z);
+			ClickboxCache.put(model, orientation, x, y, z, clickbox, System.nanoTime() - start);
+			return clickbox;
+		}
+	}
+
+	private static Shape computeClickbox(Client client, Model model, int orientation, int x, int y, int z)
+	{
 		SimplePolygon bounds = calculateAABB(client, model, orientation, x, y, z);
 
 		if (bounds == null)
@@ -725,6 +743,15 @@ public class Perspective
 		return bounds2d;
 	}
 
+	// projection scratch buffers for getClickbox, guarded by the ClickboxCache lock
+	private static final int[] AABB_X = new int[8];
+	private static final int[] AABB_Y = new int[8];
+	private static final int[] AABB_Z = new int[8];
+	private static final int[] AABB_X2D = new int[8];
+	private static final int[] AABB_Y2D = new int[8];
+	private static int[] verticesX2d = new int[0];
+	private static int[] verticesY2d = new int[0];
+
 	private static SimplePolygon calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z)
 	{
 		AABB aabb = m.getAABB(jauOrient);
@@ -745,31 +772,34 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		int[] xa = new int[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		int[] ya = new int[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		int[] za = new int[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
+		int[] xa = AABB_X;
+		int[] ya = AABB_Y;
+		int[] za = AABB_Z;
+		for (int i = 0; i < 8; i++)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
 
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		int[] x2d = AABB_X2D;
+		int[] y2d = AABB_Y2D;
 
 		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
 
+		// convexHull copies the points it keeps
 		return Jarvis.convexHull(x2d, y2d);
 	}
 
 	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		if (verticesX2d.length < m.getVerticesCount())
+		{
+			verticesX2d = new int[m.getVerticesCount()];
+			verticesY2d = new int[m.getVerticesCount()];
+		}
+		int[] x2d = verticesX2d;
+		int[] y2d = verticesY2d;
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvasCpu(client,
@@ -62,6 +62,27 @@ public class ClientThread
 		return (T) task.get();
 	}
 
+	/**
+	 * Runs all of the given queries in a single client thread round trip.
+	 *
+	 * @return the results, in the order the queries were given
+	 */
+	@SneakyThrows
+	public Object[] batch(Callable<?>... methods)
+	{
+		final FutureTask<Object[]> task = new FutureTask<>(() ->
+		{
+			Object[] results = new Object[methods.length];
+			for (int i = 0; i < methods.length; i++)
+			{
+				results[i] = methods[i].call();
+			}
+			return results;
+		});
+		invoke(task);
+		return task.get();
+	}
+
 	/**
 	 * Will run r on the game thread, at a unspecified point in the future.
 	 * If r returns false, r will be ran again, at a later point
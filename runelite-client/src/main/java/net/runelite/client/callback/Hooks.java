@@ -44,6 +44,7 @@ import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ClickboxCache;
 import net.runelite.api.Client;
 import net.runelite.api.MainBufferProvider;
 import net.runelite.api.Renderable;
@@ -253,6 +254,7 @@ public class Hooks implements Callbacks
 	@Override
 	public void frame()
 	{
+		ClickboxCache.invalidate();
 		eventBus.post(BEFORE_RENDER);
 	}
 
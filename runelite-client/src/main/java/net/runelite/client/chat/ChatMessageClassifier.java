@@ -0,0 +1,703 @@
+package net.runelite.client.chat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.util.Text;
+
+/**
+ * Matches chat messages against the {@link ChatMessageRule}s registered by plugins.
+ * <p>
+ * Rather than every plugin running each of its patterns over every chat message, a literal keyword is taken from
+ * each pattern and all of the keywords are searched for in one pass over the message. Only the rules whose keyword
+ * was found, and the rules for which no keyword could be found, have their pattern run.
+ */
+@Singleton
+@Slf4j
+public class ChatMessageClassifier
+{
+	private static final String PREFILTER = "(prefilter)";
+
+	private final List<Registration> registrations = new ArrayList<>();
+	private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+	private final Counters prefilterCounters = new Counters();
+	private volatile Map<ChatMessageType, Dispatcher> dispatchers;
+
+	@Inject
+	private ChatMessageClassifier(EventBus eventBus)
+	{
+		eventBus.register(this);
+	}
+
+	/**
+	 * Register a rule. Rules are tried in the order they were registered in, and an owner's rules after one of its
+	 * {@link ChatMessageRule#isExclusive() exclusive} rules which matched are skipped.
+	 *
+	 * @param owner the owner of the rule, usually the plugin, used to unregister the rule and to group its statistics
+	 * @param rule the rule
+	 */
+	public synchronized void register(Object owner, ChatMessageRule rule)
+	{
+		String name = owner.getClass().getSimpleName();
+		Counters ownerCounters = counters.computeIfAbsent(name, k -> new Counters());
+		registrations.add(new Registration(owner, rule, keyword(rule.getPattern()), ownerCounters));
+		dispatchers = null;
+	}
+
+	/**
+	 * Unregister all of the rules registered by an owner
+	 */
+	public synchronized void unregister(Object owner)
+	{
+		if (registrations.removeIf(r -> r.owner == owner))
+		{
+			dispatchers = null;
+		}
+	}
+
+	/**
+	 * @return the number of rules, candidates, matches, and time spent for each owner which has registered rules
+	 */
+	public synchronized List<Stats> getStats()
+	{
+		Map<String, Long> rules = registrations.stream()
+			.collect(Collectors.groupingBy(r -> r.owner.getClass().getSimpleName(), Collectors.counting()));
+
+		List<Stats> stats = new ArrayList<>();
+		stats.add(prefilterCounters.stats(PREFILTER, registrations.size()));
+		counters.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey())
+			.forEach(e -> stats.add(e.getValue().stats(e.getKey(), rules.getOrDefault(e.getKey(), 0L).intValue())));
+		return stats;
+	}
+
+	@Subscribe
+	public void onChatMessage(ChatMessage chatMessage)
+	{
+		Map<ChatMessageType, Dispatcher> dispatchers = this.dispatchers;
+		if (dispatchers == null)
+		{
+			dispatchers = rebuild();
+		}
+
+		Dispatcher dispatcher = dispatchers.get(chatMessage.getType());
+		if (dispatcher != null)
+		{
+			dispatcher.dispatch(chatMessage);
+		}
+	}
+
+	private synchronized Map<ChatMessageType, Dispatcher> rebuild()
+	{
+		if (dispatchers != null)
+		{
+			return dispatchers;
+		}
+
+		// types with the same rules share a dispatcher
+		Map<List<Registration>, Dispatcher> built = new HashMap<>();
+		Map<ChatMessageType, Dispatcher> byType = new EnumMap<>(ChatMessageType.class);
+		for (ChatMessageType type : ChatMessageType.values())
+		{
+			List<Registration> rules = registrations.stream()
+				.filter(r -> r.rule.getTypes().isEmpty() || r.rule.getTypes().contains(type))
+				.collect(Collectors.toList());
+			if (!rules.isEmpty())
+			{
+				byType.put(type, built.computeIfAbsent(rules, Dispatcher::new));
+			}
+		}
+
+		dispatchers = byType;
+		return byType;
+	}
+
+	/**
+	 * Find the longest run of literal characters which any match of the pattern must contain, ignoring anything
+	 * within groups, character classes, and alternations.
+	 *
+	 * @return the keyword, with its ASCII letters lower cased, or null if the pattern has no usable keyword
+	 */
+	@Nullable
+	static String keyword(Pattern pattern)
+	{
+		String regex = pattern.pattern();
+		int flags = pattern.flags();
+		if ((flags & (Pattern.COMMENTS | Pattern.UNICODE_CASE | Pattern.UNICODE_CHARACTER_CLASS | Pattern.CANON_EQ)) != 0)
+		{
+			return null;
+		}
+		if ((flags & Pattern.LITERAL) != 0)
+		{
+			return regex.isEmpty() ? null : fold(regex);
+		}
+
+		String best = "";
+		StringBuilder run = new StringBuilder();
+		int depth = 0;
+		int i = 0;
+		while (i < regex.length())
+		{
+			char c = regex.charAt(i);
+			int literal = -1;
+			int next = i + 1;
+			switch (c)
+			{
+				case '\\':
+				{
+					if (next >= regex.length())
+					{
+						return null;
+					}
+
+					char escaped = regex.charAt(next);
+					if (escaped == 'Q')
+					{
+						int end = regex.indexOf("\\E", next + 1);
+						int after = end == -1 ? regex.length() : end + 2;
+						String quoted = regex.substring(next + 1, end == -1 ? regex.length() : end);
+						if (depth == 0 && !quoted.isEmpty())
+						{
+							// a quantifier after the quote only applies to its last character
+							run.append(quoted, 0, quoted.length() - 1);
+							literal = quoted.charAt(quoted.length() - 1);
+						}
+						next = after;
+					}
+					else if (!Character.isLetterOrDigit(escaped))
+					{
+						literal = escaped;
+						next += 1;
+					}
+					else
+					{
+						// character classes, anchors, back references, and escaped code points
+						next = skipEscape(regex, next);
+					}
+					break;
+				}
+				case '[':
+					next = skipClass(regex, i);
+					break;
+				case '(':
+					if (next < regex.length() && regex.charAt(next) == '?' && changesCase(regex, next + 1))
+					{
+						return null;
+					}
+					++depth;
+					break;
+				case ')':
+					--depth;
+					break;
+				case '|':
+					if (depth == 0)
+					{
+						return null;
+					}
+					break;
+				case '{':
+				{
+					int end = regex.indexOf('}', next);
+					next = end == -1 ? regex.length() : end + 1;
+					break;
+				}
+				case '.':
+				case '^':
+				case '$':
+				case '?':
+				case '*':
+				case '+':
+					break;
+				default:
+					literal = c;
+					break;
+			}
+
+			if (literal != -1 && depth == 0)
+			{
+				char quantifier = next < regex.length() ? regex.charAt(next) : 0;
+				if (quantifier != '?' && quantifier != '*' && quantifier != '{')
+				{
+					run.append((char) literal);
+				}
+				if (quantifier == '?' || quantifier == '*' || quantifier == '{' || quantifier == '+')
+				{
+					best = longest(best, run);
+				}
+			}
+			else
+			{
+				best = longest(best, run);
+			}
+			i = next;
+		}
+
+		best = longest(best, run);
+		return best.isEmpty() ? null : fold(best);
+	}
+
+	private static String longest(String best, StringBuilder run)
+	{
+		if (run.length() > best.length())
+		{
+			best = run.toString();
+		}
+		run.setLength(0);
+		return best;
+	}
+
+	/**
+	 * @return the index after an escape sequence starting with a letter or digit, such as {@code \\x41}
+	 */
+	private static int skipEscape(String regex, int start)
+	{
+		char c = regex.charAt(start);
+		int i = start + 1;
+		switch (c)
+		{
+			case 'x':
+			case 'p':
+			case 'P':
+			case 'N':
+				if (i < regex.length() && regex.charAt(i) == '{')
+				{
+					int end = regex.indexOf('}', i);
+					return end == -1 ? regex.length() : end + 1;
+				}
+				return Math.min(regex.length(), i + (c == 'x' ? 2 : 1));
+			case 'u':
+				return Math.min(regex.length(), i + 4);
+			case 'c':
+				return Math.min(regex.length(), i + 1);
+			case 'k':
+			{
+				int end = regex.indexOf('>', i);
+				return end == -1 ? regex.length() : end + 1;
+			}
+			default:
+				// back references and octal escapes
+				while (Character.isDigit(c) && i < regex.length() && Character.isDigit(regex.charAt(i)))
+				{
+					++i;
+				}
+				return i;
+		}
+	}
+
+	private static int skipClass(String regex, int start)
+	{
+		int i = start + 1;
+		if (i < regex.length() && regex.charAt(i) == '^')
+		{
+			++i;
+		}
+		if (i < regex.length() && regex.charAt(i) == ']')
+		{
+			++i;
+		}
+
+		int nesting = 0;
+		for (; i < regex.length(); ++i)
+		{
+			char c = regex.charAt(i);
+			if (c == '\\')
+			{
+				++i;
+			}
+			else if (c == '[')
+			{
+				++nesting;
+			}
+			else if (c == ']' && nesting-- == 0)
+			{
+				return i + 1;
+			}
+		}
+		return regex.length();
+	}
+
+	/**
+	 * @return true if the inline flags starting at the given index turn on comments or unicode case folding
+	 */
+	private static boolean changesCase(String regex, int start)
+	{
+		for (int i = start; i < regex.length(); ++i)
+		{
+			char c = regex.charAt(i);
+			if (c == 'x' || c == 'u' || c == 'U')
+			{
+				return true;
+			}
+			if (!Character.isLetter(c) && c != '-')
+			{
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private static String fold(String s)
+	{
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; ++i)
+		{
+			chars[i] = fold(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	@Value
+	public static class Stats
+	{
+		String owner;
+		int rules;
+		/**
+		 * The number of times a rule's pattern was run, after passing the prefilter
+		 */
+		long candidates;
+		long matches;
+		long nanos;
+	}
+
+	private static final class Counters
+	{
+		private final AtomicLong candidates = new AtomicLong();
+		private final AtomicLong matches = new AtomicLong();
+		private final AtomicLong nanos = new AtomicLong();
+
+		private Stats stats(String owner, int rules)
+		{
+			return new Stats(owner, rules, candidates.get(), matches.get(), nanos.get());
+		}
+	}
+
+	private static final class Registration
+	{
+		private final Object owner;
+		private final ChatMessageRule rule;
+		@Nullable
+		private final String keyword;
+		private final Counters counters;
+
+		private Registration(Object owner, ChatMessageRule rule, @Nullable String keyword, Counters counters)
+		{
+			this.owner = owner;
+			this.rule = rule;
+			this.keyword = keyword;
+			this.counters = counters;
+		}
+
+		/**
+		 * @return true if the rule matched
+		 */
+		private boolean run(ChatMessage chatMessage, String message)
+		{
+			long start = System.nanoTime();
+			counters.candidates.incrementAndGet();
+			boolean matched = false;
+			try
+			{
+				Matcher matcher = rule.getPattern().matcher(message);
+				switch (rule.getMatch())
+				{
+					case LOOKING_AT:
+						matched = matcher.lookingAt();
+						break;
+					case FIND:
+						matched = matcher.find();
+						break;
+					default:
+						matched = matcher.matches();
+						break;
+				}
+
+				if (matched)
+				{
+					counters.matches.incrementAndGet();
+					rule.getHandler().accept(chatMessage, matcher);
+				}
+			}
+			catch (RuntimeException ex)
+			{
+				log.warn("Uncaught exception in chat message rule {} of {}", rule.getPattern(), owner, ex);
+			}
+			finally
+			{
+				counters.nanos.addAndGet(System.nanoTime() - start);
+			}
+			return matched;
+		}
+	}
+
+	/**
+	 * The rules for a set of message types, with the keyword automata for the messages with and without tags
+	 */
+	private final class Dispatcher
+	{
+		private final Registration[] rules;
+		// the index of each rule's owner, to skip the owner's later rules after an exclusive rule matches
+		private final int[] owners;
+		private final int ownerCount;
+		private final Automaton raw;
+		@Nullable
+		private final Automaton stripped;
+
+		private Dispatcher(List<Registration> registrations)
+		{
+			rules = registrations.toArray(new Registration[0]);
+
+			Map<Object, Integer> ownerIndexes = new IdentityHashMap<>();
+			owners = new int[rules.length];
+			for (int i = 0; i < rules.length; ++i)
+			{
+				owners[i] = ownerIndexes.computeIfAbsent(rules[i].owner, k -> ownerIndexes.size());
+			}
+			ownerCount = ownerIndexes.size();
+
+			Automaton.Builder rawBuilder = new Automaton.Builder();
+			Automaton.Builder strippedBuilder = new Automaton.Builder();
+			boolean removeTags = false;
+			for (int i = 0; i < rules.length; ++i)
+			{
+				removeTags |= rules[i].rule.isRemoveTags();
+				if (rules[i].keyword != null)
+				{
+					(rules[i].rule.isRemoveTags() ? strippedBuilder : rawBuilder).add(rules[i].keyword, i);
+				}
+			}
+			raw = rawBuilder.build();
+			stripped = removeTags ? strippedBuilder.build() : null;
+		}
+
+		private void dispatch(ChatMessage chatMessage)
+		{
+			long start = System.nanoTime();
+			String message = chatMessage.getMessage();
+			String strippedMessage = stripped != null ? Text.removeTags(message) : null;
+
+			boolean[] candidates = new boolean[rules.length];
+			raw.scan(message, candidates);
+			if (stripped != null)
+			{
+				stripped.scan(strippedMessage, candidates);
+			}
+			prefilterCounters.candidates.incrementAndGet();
+			prefilterCounters.nanos.addAndGet(System.nanoTime() - start);
+
+			boolean[] handled = new boolean[ownerCount];
+			for (int i = 0; i < rules.length; ++i)
+			{
+				Registration registration = rules[i];
+				if (handled[owners[i]] || (registration.keyword != null && !candidates[i]))
+				{
+					continue;
+				}
+
+				if (registration.run(chatMessage, registration.rule.isRemoveTags() ? strippedMessage : message)
+					&& registration.rule.isExclusive())
+				{
+					handled[owners[i]] = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * An Aho-Corasick automaton over the keywords of a set of rules. Transitions for ASCII characters are fully
+	 * resolved into a table so scanning a message doesn't follow failure links, other characters are looked up
+	 * in a map and fall back along the failure links.
+	 */
+	private static final class Automaton
+	{
+		private static final int ASCII = 128;
+		private static final int[] NO_RULES = new int[0];
+
+		private final int[][] ascii;
+		private final Map<Long, Integer> other;
+		private final int[] fail;
+		private final int[][] rules;
+
+		private Automaton(Builder builder)
+		{
+			int states = builder.ascii.size();
+			ascii = builder.ascii.toArray(new int[0][]);
+			other = builder.other;
+			fail = new int[states];
+			rules = builder.rules.toArray(new int[0][]);
+
+			Queue<Integer> queue = new ArrayDeque<>();
+			queue.add(0);
+			while (!queue.isEmpty())
+			{
+				int state = queue.poll();
+				int[] transitions = ascii[state];
+				for (int c = 0; c < ASCII; ++c)
+				{
+					int child = transitions[c];
+					if (child > 0)
+					{
+						link(state, child, state == 0 ? 0 : ascii[fail[state]][c]);
+						queue.add(child);
+					}
+					else
+					{
+						transitions[c] = state == 0 ? 0 : ascii[fail[state]][c];
+					}
+				}
+
+				for (Map.Entry<Long, Integer> edge : builder.children.getOrDefault(state, Collections.emptyMap()).entrySet())
+				{
+					char c = (char) edge.getKey().longValue();
+					int child = edge.getValue();
+					link(state, child, state == 0 ? 0 : next(fail[state], c));
+					queue.add(child);
+				}
+			}
+		}
+
+		private void link(int parent, int child, int failState)
+		{
+			fail[child] = failState;
+			if (rules[failState].length > 0)
+			{
+				int[] merged = Arrays.copyOf(rules[child], rules[child].length + rules[failState].length);
+				System.arraycopy(rules[failState], 0, merged, rules[child].length, rules[failState].length);
+				rules[child] = merged;
+			}
+		}
+
+		private int next(int state, char c)
+		{
+			if (c < ASCII)
+			{
+				return ascii[state][c];
+			}
+
+			for (;;)
+			{
+				Integer child = other.get(edge(state, c));
+				if (child != null)
+				{
+					return child;
+				}
+				if (state == 0)
+				{
+					return 0;
+				}
+				state = fail[state];
+			}
+		}
+
+		void scan(String message, boolean[] candidates)
+		{
+			if (ascii.length == 1)
+			{
+				// no keywords
+				return;
+			}
+
+			int state = 0;
+			for (int i = 0; i < message.length(); ++i)
+			{
+				state = next(state, fold(message.charAt(i)));
+				for (int rule : rules[state])
+				{
+					candidates[rule] = true;
+				}
+			}
+		}
+
+		private static long edge(int state, char c)
+		{
+			return ((long) state << 16) | c;
+		}
+
+		private static final class Builder
+		{
+			private final List<int[]> ascii = new ArrayList<>();
+			private final List<int[]> rules = new ArrayList<>();
+			private final Map<Long, Integer> other = new HashMap<>();
+			// the non-ASCII edges by state, to walk them breadth first
+			private final Map<Integer, Map<Long, Integer>> children = new HashMap<>();
+
+			private Builder()
+			{
+				newState();
+			}
+
+			private int newState()
+			{
+				ascii.add(new int[ASCII]);
+				rules.add(NO_RULES);
+				return ascii.size() - 1;
+			}
+
+			void add(String keyword, int rule)
+			{
+				int state = 0;
+				for (int i = 0; i < keyword.length(); ++i)
+				{
+					char c = keyword.charAt(i);
+					if (c < ASCII)
+					{
+						int next = ascii.get(state)[c];
+						if (next == 0)
+						{
+							next = newState();
+							ascii.get(state)[c] = next;
+						}
+						state = next;
+					}
+					else
+					{
+						long edge = edge(state, c);
+						Integer next = other.get(edge);
+						if (next == null)
+						{
+							next = newState();
+							other.put(edge, next);
+							children.computeIfAbsent(state, k -> new HashMap<>()).put((long) c, next);
+						}
+						state = next;
+					}
+				}
+
+				int[] existing = rules.get(state);
+				int[] updated = Arrays.copyOf(existing, existing.length + 1);
+				updated[existing.length] = rule;
+				rules.set(state, updated);
+			}
+
+			Automaton build()
+			{
+				return new Automaton(this);
+			}
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package net.runelite.client.chat;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+
+/**
+ * A pattern registered with the {@link ChatMessageClassifier}, along with the handler to run when a chat message
+ * matches it.
+ */
+@Value
+@Builder
+public class ChatMessageRule
+{
+	public enum Match
+	{
+		/**
+		 * The entire message must match, like {@link Matcher#matches()}
+		 */
+		MATCHES,
+		/**
+		 * The start of the message must match, like {@link Matcher#lookingAt()}
+		 */
+		LOOKING_AT,
+		/**
+		 * The pattern may match anywhere within the message, like {@link Matcher#find()}
+		 */
+		FIND,
+	}
+
+	@NonNull
+	Pattern pattern;
+
+	/**
+	 * The message types the rule applies to, or empty for all types
+	 */
+	@Singular
+	Set<ChatMessageType> types;
+
+	@Builder.Default
+	Match match = Match.MATCHES;
+
+	/**
+	 * Whether to match against the message with its tags removed
+	 */
+	boolean removeTags;
+
+	/**
+	 * Whether a match of this rule ends the message for the rule's owner. When an exclusive rule matches, none of
+	 * the rules the owner registered after it are tried, like the later branches of an else-if chain.
+	 */
+	boolean exclusive;
+
+	/**
+	 * Called on the client thread with the message and the successful matcher, with its groups ready to be read
+	 */
+	@NonNull
+	BiConsumer<ChatMessage, Matcher> handler;
+
+	/**
+	 * Create a rule matching messages which start with, or with {@link Match#MATCHES} are equal to, the given text
+	 */
+	public static ChatMessageRuleBuilder literal(String text)
+	{
+		return builder()
+			.pattern(Pattern.compile(text, Pattern.LITERAL))
+			.match(Match.LOOKING_AT);
+	}
+}
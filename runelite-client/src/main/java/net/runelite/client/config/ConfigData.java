@@ -24,6 +24,12 @@
  */
 package net.runelite.client.config;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,48 +37,97 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * A config profile stored on disk as a properties file snapshot plus an append-only change log.
+ * <p>
+ * Saving appends the patch to the log instead of rewriting the whole properties file, which for the rs profile
+ * can be several megabytes. Once the log grows larger than the snapshot it is compacted into a new snapshot by
+ * {@link #compactIfNeeded()}, which runs periodically in the background rather than as part of a save.
+ * All writers hold the {@code .lck} file lock, so patches from multiple clients are appended in order and get
+ * merged the same way as before. A properties file without a log, such as one from an older client or an
+ * exported profile, is read as a snapshot with no changes.
+ * <p>
+ * The log starts with a header holding a generation number, which is changed whenever the log is compacted,
+ * and the size and crc32 of the properties file the log applies to, followed by records of
+ * {@code length, payload, crc32}. The payload is the op, the key length and the key,
+ * and for a set, the value. Incomplete or corrupt records at the end of the log, for example from a client
+ * which crashed while saving, are ignored and overwritten by the next save.
+ * <p>
+ * Clients which don't know about the log, such as the launcher or an unmodified client sharing the profile
+ * directory, only read and rewrite the properties file. If the properties file no longer matches the one
+ * recorded in the log header it has been rewritten by such a client. The log is then not replayed over the newer
+ * settings, only the keys the other client didn't have are kept, and the keys it overwrote are logged. Once such a
+ * client has been seen the log is compacted at the next opportunity, so that it sees every change.
+ */
 @Slf4j
 class ConfigData
 {
+	private static final int LOG_MAGIC = 0x524c4347; // RLCG
+	private static final int LOG_HEADER_SIZE = 24;
+	private static final byte OP_SET = 1;
+	private static final byte OP_UNSET = 2;
+	// don't bother compacting logs smaller than this, even if the snapshot is tiny
+	private static final long MIN_COMPACT_SIZE = 64 * 1024;
+
 	private final File configPath;
 
 	private final ConcurrentHashMap<String, String> properties;
 	private Map<String, String> patchChanges = new HashMap<>();
 
+	// the log generation and offset this data has read up to, guarded by diskLock and the lock file
+	private final Object diskLock = new Object();
+	private long logGeneration;
+	private long logOffset;
+	// if a client which doesn't read the log has rewritten the properties file
+	private boolean foreignWriter;
+
 	ConfigData(File configPath)
 	{
 		this.configPath = configPath;
 
-		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		Map<String, String> props = new HashMap<>();
+		try
 		{
+			Snapshot snapshot = readSnapshot(configPath, props);
+			LogPosition position = readLog(logFile(configPath), snapshot, props);
+			logGeneration = position.generation;
+			logOffset = position.offset;
+			if (position.recovered != null)
+			{
+				// the stale log is reset on the next save, so save the recovered keys again
+				foreignWriter = true;
+				patchChanges.putAll(position.recovered);
+			}
 		}
-		catch (Exception ex)
+		catch (IOException ex)
 		{
 			throw new RuntimeException(ex);
 		}
 
-		properties = new ConcurrentHashMap<>(props.size());
-		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		properties = new ConcurrentHashMap<>(props);
 	}
 
 	String getProperty(String key)
@@ -130,75 +185,560 @@ class ConfigData
 
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
+		// append the patch to the log instead of flushing the in-memory properties to disk so that
 		// multiple clients editing one config data (such as rs profile config) get their data merged
 		// correctly
 
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+		synchronized (diskLock)
+		{
+			File lckFile = lockFile(configPath);
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
+			{
+				lckChannel.lock();
+
+				if (!configPath.exists())
+				{
+					// this probably doesn't happen outside of the very first save (when no file exists)
+					// but to be safe in the event the prop is deleted off disk, flush the entire properties
+					// from memory
+					log.debug("config file {} does not exist", configPath);
+					setLogGeneration(resetLog(configPath, writeSnapshot(configPath, properties)));
+					return;
+				}
+
+				appendLog(patch);
+			}
+			catch (IOException ex)
+			{
+				log.error("unable to save configuration file", ex);
+			}
+			lckFile.delete();
+		}
+	}
+
+	/**
+	 * Fold the change log into the properties file if it has grown larger than the properties file, or if a client
+	 * which doesn't read the log has rewritten the properties file. This is not done on save, so that saving never
+	 * rewrites the properties file, and is instead run periodically in the background and on shutdown.
+	 */
+	void compactIfNeeded()
+	{
+		synchronized (diskLock)
+		{
+			File logFile = logFile(configPath);
+			long logSize = logFile.length();
+			long snapshotSize = configPath.length();
+			if (!foreignWriter && logSize <= Math.max(MIN_COMPACT_SIZE, snapshotSize))
+			{
+				return;
+			}
+
+			File lckFile = lockFile(configPath);
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
+			{
+				lckChannel.lock();
+				if (logFile.exists())
+				{
+					log.debug("compacting config log {} ({} bytes) into {} ({} bytes)", logFile.getName(), logSize,
+						configPath.getName(), snapshotSize);
+					setLogGeneration(compactLocked(configPath));
+				}
+				foreignWriter = false;
+			}
+			catch (IOException ex)
+			{
+				log.error("unable to compact configuration file", ex);
+			}
+			lckFile.delete();
+		}
+	}
+
+	/**
+	 * Fold the change log of the config at the given path into its properties file, so that the properties file
+	 * alone holds the full configuration, for example before copying it.
+	 */
+	static void compact(File configPath)
+	{
+		File lckFile = lockFile(configPath);
 		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
 			FileChannel lckChannel = lockOut.getChannel())
 		{
 			lckChannel.lock();
+			if (logFile(configPath).exists())
+			{
+				compactLocked(configPath);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration file", ex);
+		}
+		lckFile.delete();
+	}
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+	/**
+	 * Delete the config at the given path, including its change log.
+	 */
+	static void delete(File configPath)
+	{
+		logFile(configPath).delete();
+		configPath.delete();
+	}
+
+	static File logFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".log");
+	}
+
+	private static File lockFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".lck");
+	}
+
+	private void appendLog(Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream records = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(records);
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			writeRecord(out, entry.getKey(), entry.getValue());
+		}
+
+		try (RandomAccessFile file = new RandomAccessFile(logFile(configPath), "rw");
+			FileChannel channel = file.getChannel())
+		{
+			Snapshot snapshot = Snapshot.of(configPath);
+			long generation = channel.size() >= LOG_HEADER_SIZE ? readHeader(file, snapshot) : -1L;
+			if (generation == -1L)
+			{
+				if (channel.size() > 0)
+				{
+					// the properties file was rewritten by another client, keep what it didn't have
+					Map<String, String> snapshotProps = new HashMap<>();
+					readSnapshot(configPath, snapshotProps);
+					Map<String, String> recovered = readLog(logFile(configPath), snapshot, snapshotProps).recovered;
+					if (recovered != null && !recovered.isEmpty())
+					{
+						records.reset();
+						for (Map.Entry<String, String> entry : recovered.entrySet())
+						{
+							if (!patch.containsKey(entry.getKey()))
+							{
+								writeRecord(out, entry.getKey(), entry.getValue());
+							}
+						}
+						for (Map.Entry<String, String> entry : patch.entrySet())
+						{
+							writeRecord(out, entry.getKey(), entry.getValue());
+						}
+					}
+					foreignWriter = true;
+				}
+				channel.truncate(0);
+				generation = writeHeader(file, snapshot);
+				logOffset = LOG_HEADER_SIZE;
+			}
+			else if (generation != logGeneration)
 			{
-				tempProps.load(reader);
+				// another client compacted the log since we last read it
+				logOffset = LOG_HEADER_SIZE;
 			}
-			catch (FileNotFoundException e)
+
+			// skip past records appended by other clients, so a torn record at the end of the log is overwritten
+			// instead of hiding everything appended after it
+			channel.position(logOffset);
+			long end = skipRecords(new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel))), logOffset, channel.size());
+			if (end != channel.size())
 			{
-				log.debug("config file {} does not exist", configPath);
+				log.warn("discarding {} bytes of incomplete records from config log {}", channel.size() - end, logFile(configPath));
+				channel.truncate(end);
 			}
 
-			if (tempProps.isEmpty())
+			ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+			channel.position(end);
+			while (buffer.hasRemaining())
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				channel.write(buffer);
 			}
-			else
+			channel.force(true);
+
+			logGeneration = generation;
+			logOffset = channel.size();
+		}
+	}
+
+	private void setLogGeneration(long generation)
+	{
+		logGeneration = generation;
+		logOffset = generation == 0 ? 0 : LOG_HEADER_SIZE;
+	}
+
+	/**
+	 * @return the generation of the new, empty, log
+	 */
+	private static long compactLocked(File configPath) throws IOException
+	{
+		// rebuild from disk rather than from memory, which doesn't have changes made by other clients
+		Map<String, String> props = new HashMap<>();
+		Snapshot snapshot = readSnapshot(configPath, props);
+		readLog(logFile(configPath), snapshot, props);
+
+		// a crash between writing the snapshot and resetting the log is harmless, the log no longer matches the
+		// new snapshot and is discarded
+		return resetLog(configPath, writeSnapshot(configPath, props));
+	}
+
+	/**
+	 * @param snapshot the properties file the new log applies to
+	 * @return the generation of the new, empty, log, or 0 if there is no log
+	 */
+	private static long resetLog(File configPath, Snapshot snapshot) throws IOException
+	{
+		File logFile = logFile(configPath);
+		if (!logFile.exists())
+		{
+			return 0;
+		}
+
+		try (RandomAccessFile file = new RandomAccessFile(logFile, "rw"))
+		{
+			file.setLength(0);
+			long generation = writeHeader(file, snapshot);
+			file.getChannel().force(true);
+			return generation;
+		}
+	}
+
+	private static Snapshot readSnapshot(File configPath, Map<String, String> out) throws IOException
+	{
+		byte[] data;
+		try
+		{
+			data = Files.readAllBytes(configPath.toPath());
+		}
+		catch (NoSuchFileException ignored)
+		{
+			return Snapshot.NONE;
+		}
+
+		Properties props = new Properties();
+		try (InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+
+		props.forEach((k, v) -> out.put((String) k, (String) v));
+		return new Snapshot(data.length, crc(data));
+	}
+
+	private static Snapshot writeSnapshot(File configPath, Map<String, String> properties) throws IOException
+	{
+		Properties tempProps = new Properties();
+		tempProps.putAll(properties);
+
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		try (OutputStreamWriter writer = new OutputStreamWriter(data, StandardCharsets.UTF_8))
+		{
+			tempProps.store(writer, "RuneLite configuration");
+		}
+		byte[] bytes = data.toByteArray();
+
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel())
+		{
+			channel.lock();
+			out.write(bytes);
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		return new Snapshot(bytes.length, crc(bytes));
+	}
+
+	/**
+	 * The size and crc32 of a properties file, used to tell if it has been rewritten since a log was started
+	 */
+	private static final class Snapshot
+	{
+		static final Snapshot NONE = new Snapshot(-1L, 0);
+
+		final long size;
+		final int crc;
+
+		private Snapshot(long size, int crc)
+		{
+			this.size = size;
+			this.crc = crc;
+		}
+
+		static Snapshot of(File configPath) throws IOException
+		{
+			CRC32 crc = new CRC32();
+			long size = 0;
+			try (FileInputStream in = new FileInputStream(configPath))
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				byte[] buf = new byte[8192];
+				int n;
+				while ((n = in.read(buf)) != -1)
 				{
-					if (entry.getValue() == null)
-					{
-						tempProps.remove(entry.getKey());
-					}
-					else
-					{
-						tempProps.put(entry.getKey(), entry.getValue());
-					}
+					crc.update(buf, 0, n);
+					size += n;
 				}
 			}
+			catch (FileNotFoundException ignored)
+			{
+				return NONE;
+			}
+			return new Snapshot(size, (int) crc.getValue());
+		}
+	}
+
+	private static final class LogPosition
+	{
+		final long generation;
+		final long offset;
+		// for a log written for a different properties file, the keys kept from it
+		final Map<String, String> recovered;
+
+		private LogPosition(long generation, long offset)
+		{
+			this(generation, offset, null);
+		}
+
+		private LogPosition(long generation, long offset, Map<String, String> recovered)
+		{
+			this.generation = generation;
+			this.offset = offset;
+			this.recovered = recovered;
+		}
+	}
+
+	/**
+	 * Apply the records of a change log to the given map.
+	 *
+	 * @param snapshot the properties file the log is being applied to, if the log was started for a different
+	 *                 one only keys which are not in {@code out} are applied
+	 * @return the generation of the log and the offset after its last complete record
+	 */
+	private static LogPosition readLog(File logFile, Snapshot snapshot, Map<String, String> out) throws IOException
+	{
+		try (RandomAccessFile file = new RandomAccessFile(logFile, "r"))
+		{
+			if (file.length() < LOG_HEADER_SIZE)
+			{
+				return new LogPosition(0, 0);
+			}
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+			long generation = readHeader(file, snapshot);
+			if (generation == -1L)
 			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
+				return new LogPosition(0, 0, recoverStaleLog(file, out, logFile));
 			}
 
-			try
+			long length = file.length();
+			long position = LOG_HEADER_SIZE;
+			DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(file.getChannel())));
+			for (;;)
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				byte[] payload = readRecord(in, length - position);
+				if (payload == null)
+				{
+					break;
+				}
+
+				applyRecord(payload, out, false);
+				position += 8 + payload.length;
 			}
-			catch (AtomicMoveNotSupportedException ex)
+
+			if (position != length)
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				log.warn("ignoring {} bytes of incomplete records at the end of config log {}", length - position, logFile);
 			}
+			return new LogPosition(generation, position);
 		}
-		catch (IOException ex)
+		catch (FileNotFoundException ignored)
 		{
-			log.error("unable to save configuration file", ex);
+			return new LogPosition(0, 0);
 		}
-		lckFile.delete();
+	}
+
+	/**
+	 * Apply what can be kept of a log written for a different properties file. That file was rewritten by a client
+	 * which never saw the log, so its values win. Keys it doesn't have are set from the log, other changes in the
+	 * log are dropped.
+	 *
+	 * @return the keys set from the log
+	 */
+	private static Map<String, String> recoverStaleLog(RandomAccessFile file, Map<String, String> out, File logFile) throws IOException
+	{
+		Map<String, String> changes = new LinkedHashMap<>();
+		file.seek(0);
+		if (file.readInt() == LOG_MAGIC)
+		{
+			long length = file.length();
+			long position = LOG_HEADER_SIZE;
+			file.seek(position);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(file.getChannel())));
+			byte[] payload;
+			while ((payload = readRecord(in, length - position)) != null)
+			{
+				applyRecord(payload, changes, true);
+				position += 8 + payload.length;
+			}
+		}
+
+		Map<String, String> recovered = new LinkedHashMap<>();
+		List<String> dropped = new ArrayList<>();
+		for (Map.Entry<String, String> change : changes.entrySet())
+		{
+			String key = change.getKey();
+			String value = change.getValue();
+			if (value != null && !out.containsKey(key))
+			{
+				recovered.put(key, value);
+			}
+			else if (!Objects.equals(out.get(key), value))
+			{
+				dropped.add(key);
+			}
+		}
+		out.putAll(recovered);
+
+		log.warn("config log {} was written for a different properties file, kept {} keys and dropped changes to {}",
+			logFile, recovered.size(), dropped);
+		return recovered;
+	}
+
+	/**
+	 * @return the generation of the log, or -1 if the header is invalid or the log is for a different snapshot
+	 */
+	private static long readHeader(RandomAccessFile file, Snapshot snapshot) throws IOException
+	{
+		file.seek(0);
+		if (file.readInt() != LOG_MAGIC)
+		{
+			return -1L;
+		}
+		long generation = file.readLong();
+		long size = file.readLong();
+		int crc = file.readInt();
+		return size == snapshot.size && crc == snapshot.crc ? generation : -1L;
+	}
+
+	private static long writeHeader(RandomAccessFile file, Snapshot snapshot) throws IOException
+	{
+		long generation;
+		do
+		{
+			generation = ThreadLocalRandom.current().nextLong();
+		}
+		while (generation == -1L || generation == 0L);
+
+		file.seek(0);
+		file.writeInt(LOG_MAGIC);
+		file.writeLong(generation);
+		file.writeLong(snapshot.size);
+		file.writeInt(snapshot.crc);
+		return generation;
+	}
+
+	private static long skipRecords(DataInputStream in, long position, long length) throws IOException
+	{
+		byte[] payload;
+		while ((payload = readRecord(in, length - position)) != null)
+		{
+			position += 8 + payload.length;
+		}
+		return position;
+	}
+
+	/**
+	 * @param remaining the number of bytes left in the log
+	 * @return the payload of the next record, or null if there are no more complete records
+	 */
+	private static byte[] readRecord(DataInputStream in, long remaining) throws IOException
+	{
+		try
+		{
+			int length = in.readInt();
+			if (length < 5 || length > remaining - 8)
+			{
+				return null;
+			}
+
+			byte[] payload = new byte[length];
+			in.readFully(payload);
+			int crc = in.readInt();
+			return crc == crc(payload) ? payload : null;
+		}
+		catch (EOFException ex)
+		{
+			return null;
+		}
+	}
+
+	private static void writeRecord(DataOutputStream out, String key, String value) throws IOException
+	{
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		byte[] valueBytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+
+		ByteBuffer payload = ByteBuffer.allocate(5 + keyBytes.length + valueBytes.length);
+		payload.put(value == null ? OP_UNSET : OP_SET);
+		payload.putInt(keyBytes.length);
+		payload.put(keyBytes);
+		payload.put(valueBytes);
+
+		out.writeInt(payload.capacity());
+		out.write(payload.array());
+		out.writeInt(crc(payload.array()));
+	}
+
+	/**
+	 * @param keepUnsets record an unset as the key mapping to null, instead of removing the key
+	 */
+	private static void applyRecord(byte[] payload, Map<String, String> out, boolean keepUnsets)
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(payload);
+		byte op = buffer.get();
+		int keyLength = buffer.getInt();
+		if (keyLength < 0 || keyLength > buffer.remaining())
+		{
+			return;
+		}
+
+		String key = new String(payload, 5, keyLength, StandardCharsets.UTF_8);
+		if (op == OP_UNSET)
+		{
+			if (keepUnsets)
+			{
+				out.put(key, null);
+			}
+			else
+			{
+				out.remove(key);
+			}
+		}
+		else if (op == OP_SET)
+		{
+			out.put(key, new String(payload, 5 + keyLength, payload.length - 5 - keyLength, StandardCharsets.UTF_8));
+		}
+	}
+
+	private static int crc(byte[] payload)
+	{
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		return (int) crc.getValue();
 	}
 }
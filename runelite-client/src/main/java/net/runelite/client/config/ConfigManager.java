@@ -151,6 +151,7 @@ public class ConfigManager
 		this.sessionManager = sessionManager;
 
 		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::sendConfig), 30 + (int) (5 * 60 * Math.random()), 5 * 60, TimeUnit.SECONDS);
+		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::compactConfig), 15 * 60, 15 * 60, TimeUnit.SECONDS);
 	}
 
 	public void switchProfile(ConfigProfile newProfile)
@@ -193,15 +194,23 @@ public class ConfigManager
 		ConfigData newData = new ConfigData(ProfileManager.profileConfigFile(newProfile));
 		Set<String> allKeys = new HashSet<>(newData.keySet());
 
+		ConfigProfile oldProfile;
 		ConfigData oldData;
 		synchronized (this)
 		{
 			handler.invalidate();
+			oldProfile = profile;
 			oldData = configProfile;
 			profile = newProfile;
 			configProfile = newData;
 		}
 
+		// the old profile was saved above, fold its log into the properties file for clients which don't read it
+		if (oldProfile.getId() != newProfile.getId())
+		{
+			ConfigData.compact(ProfileManager.profileConfigFile(oldProfile));
+		}
+
 		allKeys.addAll(oldData.keySet());
 
 		for (String wholeKey : allKeys)
@@ -676,7 +685,7 @@ public class ConfigManager
 
 				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
-				configFile.delete();
+				ConfigData.delete(configFile);
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -1242,6 +1251,25 @@ public class ConfigManager
 	private void onClientShutdown(ClientShutdown e)
 	{
 		sendConfig();
+		compactConfig();
+	}
+
+	/**
+	 * Fold the change logs into the properties files if they have grown large, or if another client which doesn't
+	 * read the logs is using the profiles
+	 */
+	private void compactConfig()
+	{
+		ConfigData data = configProfile;
+		ConfigData rsData = rsProfileConfigProfile;
+		if (data != null)
+		{
+			data.compactIfNeeded();
+		}
+		if (rsData != null)
+		{
+			rsData.compactIfNeeded();
+		}
 	}
 
 	public void sendConfig()
@@ -1260,6 +1288,16 @@ public class ConfigManager
 		}
 	}
 
+	/**
+	 * Save the configuration, and fold the given profile's change log into its properties file so that the
+	 * file holds the full profile, for example to export or copy it.
+	 */
+	public void flushConfig(ConfigProfile profile)
+	{
+		sendConfig();
+		ConfigData.compact(ProfileManager.profileConfigFile(profile));
+	}
+
 	private static ConfigProfile updateProfile(ProfileManager.Lock lock, ConfigProfile profile)
 	{
 		ConfigProfile p = lock.findProfile(profile.getId());
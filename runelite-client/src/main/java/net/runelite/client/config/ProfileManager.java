@@ -184,6 +184,15 @@ public class ProfileManager {
                         newFile.toPath(),
                         StandardCopyOption.REPLACE_EXISTING
                 );
+
+                File oldLog = ConfigData.logFile(oldFile);
+                if (oldLog.exists()) {
+                    Files.move(
+                            oldLog.toPath(),
+                            ConfigData.logFile(newFile).toPath(),
+                            StandardCopyOption.REPLACE_EXISTING
+                    );
+                }
             } catch (IOException e) {
                 log.error("error renaming profile", e);
             }
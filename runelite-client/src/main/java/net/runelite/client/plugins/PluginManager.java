@@ -37,15 +37,21 @@ import com.google.inject.CreationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -55,6 +61,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -87,6 +94,11 @@ public class PluginManager
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	/**
+	 * Index of the core plugins, written at build time by the plugin annotation processor
+	 */
+	@VisibleForTesting
+	static final String PLUGIN_INDEX = "META-INF/runelite/plugins";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
@@ -97,6 +109,8 @@ public class PluginManager
 	private final Provider<GameEventManager> sceneTileManager;
 	private final List<Plugin> plugins = new CopyOnWriteArrayList<>();
 	private final List<Plugin> activePlugins = new CopyOnWriteArrayList<>();
+	private final PluginTimeline timeline = new PluginTimeline();
+	private long startupStart;
 
 	@Setter
 	boolean isOutdated;
@@ -236,6 +250,7 @@ public class PluginManager
 			{
 				SwingUtilities.invokeAndWait(() ->
 				{
+					long start = System.nanoTime();
 					try
 					{
 						startPlugin(plugin);
@@ -245,6 +260,7 @@ public class PluginManager
 						log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
 						plugins.remove(plugin);
 					}
+					timeline.started(plugin.getClass(), System.nanoTime() - start);
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
@@ -260,19 +276,104 @@ public class PluginManager
 		{
 			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
 		}
+
+		if (startupStart != 0)
+		{
+			timeline.log(System.nanoTime() - startupStart);
+			startupStart = 0;
+		}
 	}
 
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+		startupStart = System.nanoTime();
+		ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+		long loadedClasses = classLoading.getTotalLoadedClassCount();
+		long start = startupStart;
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		List<Class<?>> plugins;
+		List<String> index = readPluginIndex(getClass().getClassLoader());
+		if (index != null)
+		{
+			plugins = new ArrayList<>(index.size());
+			for (String className : index)
+			{
+				try
+				{
+					plugins.add(Class.forName(className, false, getClass().getClassLoader()));
+				}
+				catch (ClassNotFoundException ex)
+				{
+					log.warn("Indexed plugin {} is missing", className, ex);
+				}
+			}
+		}
+		else
+		{
+			log.warn("No plugin index found, scanning the classpath for plugins");
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
+
+		log.debug("Loaded {} core plugins in {}ms, loading {} classes", plugins.size(),
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+			classLoading.getTotalLoadedClassCount() - loadedClasses);
+	}
+
+	/**
+	 * Read the class names of the core plugins from the plugin index, leaving out plugins which would not
+	 * be loaded in the current mode.
+	 *
+	 * @return the plugin class names, or null if there is no index
+	 */
+	@VisibleForTesting
+	List<String> readPluginIndex(ClassLoader classLoader) throws IOException
+	{
+		URL url = classLoader.getResource(PLUGIN_INDEX);
+		if (url == null)
+		{
+			return null;
+		}
+
+		List<String> classNames = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.isEmpty() || line.startsWith("#"))
+				{
+					continue;
+				}
+
+				// class, name, flags, dependencies
+				String[] fields = line.split("\t");
+				if (fields.length != 4)
+				{
+					throw new IOException("malformed plugin index entry: " + line);
+				}
+
+				List<String> flags = Arrays.asList(fields[2].split(","));
+				if (!flags.contains("loadWhenOutdated") && isOutdated)
+				{
+					continue;
+				}
+
+				if (flags.contains("developerPlugin") && !developerMode)
+				{
+					continue;
+				}
+
+				classNames.add(fields[0]);
+			}
+		}
+		return classNames;
 	}
 
 	public void loadSideLoadPlugins()
@@ -389,7 +490,9 @@ public class PluginManager
 			Plugin plugin;
 			try
 			{
+				long start = System.nanoTime();
 				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
+				timeline.instantiated(pluginClazz, System.nanoTime() - start);
 				newPlugins.add(plugin);
 				this.plugins.add(plugin);
 			}
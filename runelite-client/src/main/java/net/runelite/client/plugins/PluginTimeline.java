@@ -0,0 +1,76 @@
+package net.runelite.client.plugins;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records how long each plugin took to instantiate and start during client startup.
+ */
+@Slf4j
+class PluginTimeline
+{
+	private static final int SLOWEST_LOGGED = 10;
+
+	private static final class Timing
+	{
+		private volatile long instantiateNanos;
+		private volatile long startNanos;
+
+		private long total()
+		{
+			return instantiateNanos + startNanos;
+		}
+	}
+
+	private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+	void instantiated(Class<?> pluginClass, long nanos)
+	{
+		timing(pluginClass).instantiateNanos = nanos;
+	}
+
+	void started(Class<?> pluginClass, long nanos)
+	{
+		timing(pluginClass).startNanos = nanos;
+	}
+
+	/**
+	 * Log the time taken by every plugin at debug level, and a summary with the slowest plugins at info level.
+	 */
+	void log(long elapsedNanos)
+	{
+		if (timings.isEmpty())
+		{
+			return;
+		}
+
+		if (log.isDebugEnabled())
+		{
+			timings.entrySet().stream()
+				.sorted(Map.Entry.comparingByKey())
+				.forEach(e -> log.debug("Plugin {}: instantiate {}ms, start {}ms", e.getKey(),
+					millis(e.getValue().instantiateNanos), millis(e.getValue().startNanos)));
+		}
+
+		StringBuilder slowest = new StringBuilder();
+		timings.entrySet().stream()
+			.sorted(Comparator.comparingLong((Map.Entry<String, Timing> e) -> e.getValue().total()).reversed())
+			.limit(SLOWEST_LOGGED)
+			.forEach(e -> slowest.append(slowest.length() == 0 ? "" : ", ")
+				.append(e.getKey()).append(' ').append(millis(e.getValue().total())).append("ms"));
+		log.info("Loaded and started {} plugins in {}ms, slowest: {}", timings.size(), millis(elapsedNanos), slowest);
+	}
+
+	private Timing timing(Class<?> pluginClass)
+	{
+		return timings.computeIfAbsent(pluginClass.getName(), k -> new Timing());
+	}
+
+	private static long millis(long nanos)
+	{
+		return TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+}
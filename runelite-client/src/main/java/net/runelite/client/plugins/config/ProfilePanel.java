@@ -652,7 +652,7 @@ class ProfilePanel extends PluginPanel {
         executor.execute(() ->
         {
             // save config to disk so the export copies the full config
-            configManager.sendConfig();
+            configManager.flushConfig(profile);
 
             File source = ProfileManager.profileConfigFile(profile);
             if (!source.exists()) {
@@ -698,7 +698,7 @@ class ProfilePanel extends PluginPanel {
         executor.execute(() ->
         {
             // save config to disk so the clone copies the full config
-            configManager.sendConfig();
+            configManager.flushConfig(profile);
 
             try (ProfileManager.Lock lock = profileManager.lock()) {
                 int num = 1;
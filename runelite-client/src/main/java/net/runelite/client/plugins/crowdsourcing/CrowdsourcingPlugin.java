@@ -78,6 +78,7 @@ public class CrowdsourcingPlugin extends Plugin
 		eventBus.register(dialogue);
 		eventBus.register(music);
 		eventBus.register(thieving);
+		thieving.startUp();
 		eventBus.register(woodcutting);
 		eventBus.register(zmi);
 	}
@@ -89,6 +90,7 @@ public class CrowdsourcingPlugin extends Plugin
 		eventBus.unregister(dialogue);
 		eventBus.unregister(music);
 		eventBus.unregister(thieving);
+		thieving.shutDown();
 		eventBus.unregister(woodcutting);
 		eventBus.unregister(zmi);
 	}
@@ -36,15 +36,16 @@ import net.runelite.api.NPC;
 import net.runelite.api.Skill;
 import net.runelite.api.Varbits;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.client.chat.ChatMessageClassifier;
+import net.runelite.client.chat.ChatMessageRule;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.crowdsourcing.CrowdsourcingManager;
 
 public class CrowdsourcingThieving
 {
-	private static final String BLACKJACK_SUCCESS = "You smack the bandit over the head and render them unconscious.";
-	private static final String BLACKJACK_FAIL = "Your blow only glances off the bandit's head.";
+	private static final Pattern BLACKJACK_SUCCESS = Pattern.compile("You smack the bandit over the head and render them unconscious.", Pattern.LITERAL);
+	private static final Pattern BLACKJACK_FAIL = Pattern.compile("Your blow only glances off the bandit's head.", Pattern.LITERAL);
 	private static final Pattern PICKPOCKET_SUCCESS = Pattern.compile("You pick .*'s pocket\\.");
 	private static final Pattern PICKPOCKET_FAIL = Pattern.compile("You fail to pick .*'s pocket\\.");
 
@@ -54,6 +55,9 @@ public class CrowdsourcingThieving
 	@Inject
 	private CrowdsourcingManager manager;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	private int lastPickpocketTarget;
 
 	private boolean hasGlovesOfSilence()
@@ -89,28 +93,32 @@ public class CrowdsourcingThieving
 		return easy + 2 * medium + 4 * hard + 8 * elite;
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage event)
+	public void startUp()
 	{
-		if (event.getType() != ChatMessageType.SPAM)
+		for (Pattern pattern : new Pattern[]{BLACKJACK_SUCCESS, BLACKJACK_FAIL, PICKPOCKET_FAIL, PICKPOCKET_SUCCESS})
 		{
-			return;
+			chatMessageClassifier.register(this, ChatMessageRule.builder()
+				.pattern(pattern)
+				.type(ChatMessageType.SPAM)
+				.handler((event, matcher) -> storePickpocket(event.getMessage()))
+				.build());
 		}
+	}
 
-		String message = event.getMessage();
-		if (BLACKJACK_SUCCESS.equals(message)
-			|| BLACKJACK_FAIL.equals(message)
-			|| PICKPOCKET_FAIL.matcher(message).matches()
-			|| PICKPOCKET_SUCCESS.matcher(message).matches())
-		{
-			WorldPoint location = client.getLocalPlayer().getWorldLocation();
-			int ardougneDiary = getArdougneDiary();
-			boolean silence = hasGlovesOfSilence();
-			boolean thievingCape = hasThievingCape();
-			int thievingLevel = client.getBoostedSkillLevel(Skill.THIEVING);
-			PickpocketData data = new PickpocketData(thievingLevel, lastPickpocketTarget, message, location, silence, thievingCape, ardougneDiary);
-			manager.storeEvent(data);
-		}
+	public void shutDown()
+	{
+		chatMessageClassifier.unregister(this);
+	}
+
+	private void storePickpocket(String message)
+	{
+		WorldPoint location = client.getLocalPlayer().getWorldLocation();
+		int ardougneDiary = getArdougneDiary();
+		boolean silence = hasGlovesOfSilence();
+		boolean thievingCape = hasThievingCape();
+		int thievingLevel = client.getBoostedSkillLevel(Skill.THIEVING);
+		PickpocketData data = new PickpocketData(thievingLevel, lastPickpocketTarget, message, location, silence, thievingCape, ardougneDiary);
+		manager.storeEvent(data);
 	}
 
 	@Subscribe
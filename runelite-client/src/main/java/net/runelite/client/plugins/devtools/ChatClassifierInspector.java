@@ -0,0 +1,109 @@
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.chat.ChatMessageClassifier;
+
+class ChatClassifierInspector extends DevToolsFrame
+{
+	private static final int REFRESH_MILLIS = 1000;
+	private static final String[] COLUMNS = {"Owner", "Rules", "Candidates", "Matches", "Time (ms)"};
+
+	private final ChatMessageClassifier chatMessageClassifier;
+	private final StatsTableModel tableModel = new StatsTableModel();
+	private final Timer refreshTimer = new Timer(REFRESH_MILLIS, e -> refresh());
+
+	@Inject
+	ChatClassifierInspector(ChatMessageClassifier chatMessageClassifier)
+	{
+		this.chatMessageClassifier = chatMessageClassifier;
+
+		setTitle("RuneLite Chat Classifier");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(tableModel);
+		table.setAutoCreateRowSorter(true);
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(500, 300));
+		add(scrollPane, BorderLayout.CENTER);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		refreshTimer.stop();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		tableModel.stats = chatMessageClassifier.getStats();
+		tableModel.fireTableDataChanged();
+	}
+
+	private static class StatsTableModel extends AbstractTableModel
+	{
+		private List<ChatMessageClassifier.Stats> stats = Collections.emptyList();
+
+		@Override
+		public int getRowCount()
+		{
+			return stats.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public String getColumnName(int column)
+		{
+			return COLUMNS[column];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int column)
+		{
+			return column == 0 ? String.class : Long.class;
+		}
+
+		@Override
+		public Object getValueAt(int row, int column)
+		{
+			ChatMessageClassifier.Stats s = stats.get(row);
+			switch (column)
+			{
+				case 0:
+					return s.getOwner();
+				case 1:
+					return (long) s.getRules();
+				case 2:
+					return s.getCandidates();
+				case 3:
+					return s.getMatches();
+				default:
+					return TimeUnit.NANOSECONDS.toMillis(s.getNanos());
+			}
+		}
+	}
+}
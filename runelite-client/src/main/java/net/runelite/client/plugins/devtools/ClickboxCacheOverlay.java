@@ -0,0 +1,61 @@
+package net.runelite.client.plugins.devtools;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import javax.inject.Inject;
+import net.runelite.api.ClickboxCache;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+public class ClickboxCacheOverlay extends OverlayPanel
+{
+	private final DevToolsPlugin plugin;
+
+	@Inject
+	ClickboxCacheOverlay(DevToolsPlugin plugin)
+	{
+		this.plugin = plugin;
+		setPosition(OverlayPosition.TOP_LEFT);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		if (!plugin.getClickboxCache().isActive())
+		{
+			return null;
+		}
+
+		long hits = ClickboxCache.getHits();
+		long misses = ClickboxCache.getMisses();
+		long lookups = hits + misses;
+
+		panelComponent.getChildren().add(TitleComponent.builder()
+				.text("Clickbox Cache")
+				.build());
+
+		panelComponent.getChildren().add(LineComponent.builder()
+				.left("Entries")
+				.right("" + ClickboxCache.size())
+				.build());
+
+		panelComponent.getChildren().add(LineComponent.builder()
+				.left("Hit rate")
+				.right(lookups == 0 ? "-" : (hits * 100 / lookups) + "% of " + lookups)
+				.build());
+
+		panelComponent.getChildren().add(LineComponent.builder()
+				.left("Compute")
+				.right(ClickboxCache.getComputeNanos() / 1_000_000 + " ms")
+				.build());
+
+		panelComponent.getChildren().add(LineComponent.builder()
+				.left("Saved")
+				.right(ClickboxCache.getSavedNanos() / 1_000_000 + " ms")
+				.build());
+
+		return super.render(graphics);
+	}
+}
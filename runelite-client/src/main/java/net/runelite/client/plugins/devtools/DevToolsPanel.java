@@ -57,6 +57,7 @@ class DevToolsPanel extends PluginPanel
 	private final WidgetInspector widgetInspector;
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
+	private final ChatClassifierInspector chatClassifierInspector;
 	private final InventoryInspector inventoryInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
@@ -69,6 +70,7 @@ class DevToolsPanel extends PluginPanel
 		WidgetInspector widgetInspector,
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
+		ChatClassifierInspector chatClassifierInspector,
 		InventoryInspector inventoryInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
@@ -82,6 +84,7 @@ class DevToolsPanel extends PluginPanel
 		this.varInspector = varInspector;
 		this.inventoryInspector = inventoryInspector;
 		this.scriptInspector = scriptInspector;
+		this.chatClassifierInspector = chatClassifierInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 		this.scheduledExecutorService = scheduledExecutorService;
@@ -113,6 +116,7 @@ class DevToolsPanel extends PluginPanel
 		container.add(plugin.getWorldMapLocation());
 		container.add(plugin.getTileLocation());
 		container.add(plugin.getCameraPosition());
+		container.add(plugin.getClickboxCache());
 
 		container.add(plugin.getChunkBorders());
 		container.add(plugin.getMapSquares());
@@ -149,6 +153,9 @@ class DevToolsPanel extends PluginPanel
 		container.add(plugin.getScriptInspector());
 		plugin.getScriptInspector().addFrame(scriptInspector);
 
+		container.add(plugin.getChatClassifier());
+		plugin.getChatClassifier().addFrame(chatClassifierInspector);
+
 		final JButton newInfoboxBtn = new JButton("Infobox");
 		newInfoboxBtn.addActionListener(e ->
 		{
@@ -102,6 +102,9 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private CameraOverlay cameraOverlay;
 
+	@Inject
+	private ClickboxCacheOverlay clickboxCacheOverlay;
+
 	@Inject
 	private WorldMapLocationOverlay worldMapLocationOverlay;
 
@@ -137,6 +140,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton movementFlags;
 	private DevToolsButton lineOfSight;
 	private DevToolsButton cameraPosition;
+	private DevToolsButton clickboxCache;
 	private DevToolsButton worldMapLocation;
 	private DevToolsButton tileLocation;
 	private DevToolsButton interacting;
@@ -146,6 +150,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton varInspector;
 	private DevToolsButton soundEffects;
 	private DevToolsButton scriptInspector;
+	private DevToolsButton chatClassifier;
 	private DevToolsButton inventoryInspector;
 	private DevToolsButton roofs;
 	private DevToolsButton shell;
@@ -177,6 +182,7 @@ public class DevToolsPlugin extends Plugin
 		worldMapLocation = new DevToolsButton("World Map Location");
 		tileLocation = new DevToolsButton("Tile Location");
 		cameraPosition = new DevToolsButton("Camera Position");
+		clickboxCache = new DevToolsButton("Clickbox Cache");
 
 		chunkBorders = new DevToolsButton("Chunk Borders");
 		mapSquares = new DevToolsButton("Map Squares");
@@ -193,6 +199,7 @@ public class DevToolsPlugin extends Plugin
 		varInspector = new DevToolsButton("Var Inspector");
 		soundEffects = new DevToolsButton("Sound Effects");
 		scriptInspector = new DevToolsButton("Script Inspector");
+		chatClassifier = new DevToolsButton("Chat Classifier");
 		inventoryInspector = new DevToolsButton("Inventory Inspector");
 		roofs = new DevToolsButton("Roofs");
 		shell = new DevToolsButton("Shell");
@@ -202,6 +209,7 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.add(locationOverlay);
 		overlayManager.add(sceneOverlay);
 		overlayManager.add(cameraOverlay);
+		overlayManager.add(clickboxCacheOverlay);
 		overlayManager.add(worldMapLocationOverlay);
 		overlayManager.add(mapRegionOverlay);
 		overlayManager.add(soundEffectOverlay);
@@ -230,6 +238,7 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.remove(locationOverlay);
 		overlayManager.remove(sceneOverlay);
 		overlayManager.remove(cameraOverlay);
+		overlayManager.remove(clickboxCacheOverlay);
 		overlayManager.remove(worldMapLocationOverlay);
 		overlayManager.remove(mapRegionOverlay);
 		overlayManager.remove(soundEffectOverlay);
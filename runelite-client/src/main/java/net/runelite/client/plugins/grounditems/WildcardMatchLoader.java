@@ -30,18 +30,18 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
-	private final List<ItemThreshold> itemThresholds;
+	private final WildcardMatcherSet<ItemThreshold> itemThresholds;
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
-		this.itemThresholds = configEntries.stream()
+		this.itemThresholds = WildcardMatcherSet.of(configEntries.stream()
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
-			.collect(Collectors.toList());
+			.collect(Collectors.toList()), ItemThreshold::getItemName);
 	}
 
 	@Override
@@ -54,10 +54,9 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 
 		final String filteredName = key.getName().trim();
 
-		for (final ItemThreshold entry : itemThresholds)
+		for (final ItemThreshold entry : itemThresholds.matchAll(filteredName))
 		{
-			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
-				&& entry.quantityHolds(key.getQuantity()))
+			if (entry.quantityHolds(key.getQuantity()))
 			{
 				return true;
 			}
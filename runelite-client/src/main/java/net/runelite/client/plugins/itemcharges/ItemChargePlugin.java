@@ -27,12 +27,15 @@
  */
 package net.runelite.client.plugins.itemcharges;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.primitives.Ints;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -57,6 +60,8 @@ import net.runelite.api.widgets.WidgetID;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.chat.ChatMessageClassifier;
+import net.runelite.client.chat.ChatMessageRule;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
@@ -65,7 +70,6 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
-import net.runelite.client.util.Text;
 
 @PluginDescriptor(
 	name = "Item Charges",
@@ -183,6 +187,9 @@ public class ItemChargePlugin extends Plugin
 	@Inject
 	private ItemChargeConfig config;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	// Limits destroy callback to once per tick
 	private int lastCheckTick;
 	private final Map<EquipmentInventorySlot, ItemChargeInfobox> infoboxes = new EnumMap<>(EquipmentInventorySlot.class);
@@ -198,6 +205,7 @@ public class ItemChargePlugin extends Plugin
 	protected void startUp()
 	{
 		overlayManager.add(overlay);
+		registerChatMessageRules();
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
 			clientThread.invokeLater(() -> updateExplorerRingCharges(client.getVarbitValue(Varbits.EXPLORER_RING_ALCHS)));
@@ -207,6 +215,7 @@ public class ItemChargePlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
+		chatMessageClassifier.unregister(this);
 		overlayManager.remove(overlay);
 		infoBoxManager.removeIf(ItemChargeInfobox.class::isInstance);
 		infoboxes.clear();
@@ -244,258 +253,187 @@ public class ItemChargePlugin extends Plugin
 		clientThread.invoke(this::updateInfoboxes);
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage event)
+	@VisibleForTesting
+	void registerChatMessageRules()
 	{
-		if (event.getType() == ChatMessageType.GAMEMESSAGE || event.getType() == ChatMessageType.SPAM)
+		onContains(RING_OF_RECOIL_BREAK_MESSAGE, () ->
 		{
-			String message = Text.removeTags(event.getMessage());
-			Matcher dodgyCheckMatcher = DODGY_CHECK_PATTERN.matcher(message);
-			Matcher dodgyProtectMatcher = DODGY_PROTECT_PATTERN.matcher(message);
-			Matcher dodgyBreakMatcher = DODGY_BREAK_PATTERN.matcher(message);
-			Matcher bindingNecklaceCheckMatcher = BINDING_CHECK_PATTERN.matcher(message);
-			Matcher bindingNecklaceUsedMatcher = BINDING_USED_PATTERN.matcher(message);
-			Matcher ringOfForgingCheckMatcher = RING_OF_FORGING_CHECK_PATTERN.matcher(message);
-			Matcher amuletOfChemistryCheckMatcher = AMULET_OF_CHEMISTRY_CHECK_PATTERN.matcher(message);
-			Matcher amuletOfChemistryUsedMatcher = AMULET_OF_CHEMISTRY_USED_PATTERN.matcher(message);
-			Matcher amuletOfChemistryBreakMatcher = AMULET_OF_CHEMISTRY_BREAK_PATTERN.matcher(message);
-			Matcher amuletOfBountyCheckMatcher = AMULET_OF_BOUNTY_CHECK_PATTERN.matcher(message);
-			Matcher amuletOfBountyUsedMatcher = AMULET_OF_BOUNTY_USED_PATTERN.matcher(message);
-			Matcher chronicleAddMatcher = CHRONICLE_ADD_PATTERN.matcher(message);
-			Matcher chronicleUseAndCheckMatcher = CHRONICLE_USE_AND_CHECK_PATTERN.matcher(message);
-			Matcher slaughterActivateMatcher = BRACELET_OF_SLAUGHTER_ACTIVATE_PATTERN.matcher(message);
-			Matcher slaughterCheckMatcher = BRACELET_OF_SLAUGHTER_CHECK_PATTERN.matcher(message);
-			Matcher expeditiousActivateMatcher = EXPEDITIOUS_BRACELET_ACTIVATE_PATTERN.matcher(message);
-			Matcher expeditiousCheckMatcher = EXPEDITIOUS_BRACELET_CHECK_PATTERN.matcher(message);
-			Matcher bloodEssenceCheckMatcher = BLOOD_ESSENCE_CHECK_PATTERN.matcher(message);
-			Matcher bloodEssenceExtractMatcher = BLOOD_ESSENCE_EXTRACT_PATTERN.matcher(message);
-			Matcher braceletOfClayCheckMatcher = BRACELET_OF_CLAY_CHECK_PATTERN.matcher(message);
-
-			if (config.recoilNotification() && message.contains(RING_OF_RECOIL_BREAK_MESSAGE))
+			if (config.recoilNotification())
 			{
 				notifier.notify("Your Ring of Recoil has shattered");
 			}
-			else if (dodgyBreakMatcher.find())
-			{
-				if (config.dodgyNotification())
-				{
-					notifier.notify("Your dodgy necklace has crumbled to dust.");
-				}
-
-				updateDodgyNecklaceCharges(MAX_DODGY_CHARGES);
-			}
-			else if (dodgyCheckMatcher.find())
+		});
+		onPattern(DODGY_BREAK_PATTERN, m ->
+		{
+			if (config.dodgyNotification())
+			{
+				notifier.notify("Your dodgy necklace has crumbled to dust.");
+			}
+
+			updateDodgyNecklaceCharges(MAX_DODGY_CHARGES);
+		});
+		onPattern(DODGY_CHECK_PATTERN, m -> updateDodgyNecklaceCharges(Integer.parseInt(m.group(1))));
+		onPattern(DODGY_PROTECT_PATTERN, m -> updateDodgyNecklaceCharges(Integer.parseInt(m.group(1))));
+		onPattern(AMULET_OF_CHEMISTRY_CHECK_PATTERN, m -> updateAmuletOfChemistryCharges(Integer.parseInt(m.group(1))));
+		onPattern(AMULET_OF_CHEMISTRY_USED_PATTERN, m -> updateAmuletOfChemistryCharges(parseCharges(m.group(1))));
+		onPattern(AMULET_OF_CHEMISTRY_BREAK_PATTERN, m -> updateAmuletOfChemistryCharges(MAX_AMULET_OF_CHEMISTRY_CHARGES));
+		onPattern(AMULET_OF_BOUNTY_CHECK_PATTERN, m -> updateAmuletOfBountyCharges(Integer.parseInt(m.group(1))));
+		onPattern(AMULET_OF_BOUNTY_USED_PATTERN, m -> updateAmuletOfBountyCharges(Integer.parseInt(m.group(1))));
+		onMessage(AMULET_OF_BOUNTY_BREAK_TEXT, () -> updateAmuletOfBountyCharges(MAX_AMULET_OF_BOUNTY_CHARGES));
+		onContains(BINDING_BREAK_TEXT, () ->
+		{
+			if (config.bindingNotification())
 			{
-				updateDodgyNecklaceCharges(Integer.parseInt(dodgyCheckMatcher.group(1)));
+				notifier.notify(BINDING_BREAK_TEXT);
 			}
-			else if (dodgyProtectMatcher.find())
+
+			// This chat message triggers before the used message so add 1 to the max charges to ensure proper sync
+			updateBindingNecklaceCharges(MAX_BINDING_CHARGES + 1);
+		});
+		onPattern(BINDING_USED_PATTERN, m ->
+		{
+			final ItemContainer equipment = client.getItemContainer(InventoryID.EQUIPMENT);
+			if (equipment.contains(ItemID.BINDING_NECKLACE))
 			{
-				updateDodgyNecklaceCharges(Integer.parseInt(dodgyProtectMatcher.group(1)));
+				updateBindingNecklaceCharges(getItemCharges(ItemChargeConfig.KEY_BINDING_NECKLACE) - 1);
 			}
-			else if (amuletOfChemistryCheckMatcher.find())
+		});
+		onPattern(BINDING_CHECK_PATTERN, m -> updateBindingNecklaceCharges(parseCharges(m.group(1))));
+		onPattern(RING_OF_FORGING_CHECK_PATTERN, m -> updateRingOfForgingCharges(parseCharges(m.group(1))));
+		onMessage(RING_OF_FORGING_USED_TEXT, () -> ringOfForgingUsed(false));
+		onMessage(RING_OF_FORGING_VARROCK_PLATEBODY, () -> ringOfForgingUsed(true));
+		onMessage(RING_OF_FORGING_BREAK_TEXT, () ->
+		{
+			if (config.ringOfForgingNotification())
 			{
-				updateAmuletOfChemistryCharges(Integer.parseInt(amuletOfChemistryCheckMatcher.group(1)));
+				notifier.notify("Your ring of forging has melted.");
 			}
-			else if (amuletOfChemistryUsedMatcher.find())
-			{
-				final String match = amuletOfChemistryUsedMatcher.group(1);
 
-				int charges = 1;
-				if (!match.equals("one"))
+			// This chat message triggers before the used message so add 1 to the max charges to ensure proper sync
+			updateRingOfForgingCharges(MAX_RING_OF_FORGING_CHARGES + 1);
+		});
+		onPattern(CHRONICLE_ADD_PATTERN, m -> setItemCharges(ItemChargeConfig.KEY_CHRONICLE, parseCharges(m.group(1))));
+		onPattern(CHRONICLE_USE_AND_CHECK_PATTERN, m -> setItemCharges(ItemChargeConfig.KEY_CHRONICLE, Integer.parseInt(m.group(1))));
+		onMessage(CHRONICLE_ONE_CHARGE_TEXT, () -> setItemCharges(ItemChargeConfig.KEY_CHRONICLE, 1));
+		onMessage(CHRONICLE_EMPTY_TEXT, () -> setItemCharges(ItemChargeConfig.KEY_CHRONICLE, 0));
+		onMessage(CHRONICLE_NO_CHARGES_TEXT, () -> setItemCharges(ItemChargeConfig.KEY_CHRONICLE, 0));
+		onMessage(CHRONICLE_FULL_TEXT, () -> setItemCharges(ItemChargeConfig.KEY_CHRONICLE, 1000));
+		onPattern(BRACELET_OF_SLAUGHTER_ACTIVATE_PATTERN, m ->
+		{
+			final String found = m.group(1);
+			if (found == null)
+			{
+				updateBraceletOfSlaughterCharges(MAX_SLAYER_BRACELET_CHARGES);
+				if (config.slaughterNotification())
 				{
-					charges = Integer.parseInt(match);
+					notifier.notify(BRACELET_OF_SLAUGHTER_BREAK_TEXT);
 				}
-
-				updateAmuletOfChemistryCharges(charges);
-			}
-			else if (amuletOfChemistryBreakMatcher.find())
-			{
-				updateAmuletOfChemistryCharges(MAX_AMULET_OF_CHEMISTRY_CHARGES);
-			}
-			else if (amuletOfBountyCheckMatcher.find())
-			{
-				updateAmuletOfBountyCharges(Integer.parseInt(amuletOfBountyCheckMatcher.group(1)));
-			}
-			else if (amuletOfBountyUsedMatcher.find())
-			{
-				updateAmuletOfBountyCharges(Integer.parseInt(amuletOfBountyUsedMatcher.group(1)));
 			}
-			else if (message.equals(AMULET_OF_BOUNTY_BREAK_TEXT))
+			else
 			{
-				updateAmuletOfBountyCharges(MAX_AMULET_OF_BOUNTY_CHARGES);
+				updateBraceletOfSlaughterCharges(Integer.parseInt(found));
 			}
-			else if (message.contains(BINDING_BREAK_TEXT))
+		});
+		onPattern(BRACELET_OF_SLAUGHTER_CHECK_PATTERN, m -> updateBraceletOfSlaughterCharges(Integer.parseInt(m.group(1))));
+		onPattern(EXPEDITIOUS_BRACELET_ACTIVATE_PATTERN, m ->
+		{
+			final String found = m.group(1);
+			if (found == null)
 			{
-				if (config.bindingNotification())
+				updateExpeditiousBraceletCharges(MAX_SLAYER_BRACELET_CHARGES);
+				if (config.expeditiousNotification())
 				{
-					notifier.notify(BINDING_BREAK_TEXT);
+					notifier.notify(EXPEDITIOUS_BRACELET_BREAK_TEXT);
 				}
-
-				// This chat message triggers before the used message so add 1 to the max charges to ensure proper sync
-				updateBindingNecklaceCharges(MAX_BINDING_CHARGES + 1);
 			}
-			else if (bindingNecklaceUsedMatcher.find())
+			else
 			{
-				final ItemContainer equipment = client.getItemContainer(InventoryID.EQUIPMENT);
-				if (equipment.contains(ItemID.BINDING_NECKLACE))
-				{
-					updateBindingNecklaceCharges(getItemCharges(ItemChargeConfig.KEY_BINDING_NECKLACE) - 1);
-				}
-			}
-			else if (bindingNecklaceCheckMatcher.find())
+				updateExpeditiousBraceletCharges(Integer.parseInt(found));
+			}
+		});
+		onPattern(EXPEDITIOUS_BRACELET_CHECK_PATTERN, m -> updateExpeditiousBraceletCharges(Integer.parseInt(m.group(1))));
+		onPattern(BLOOD_ESSENCE_CHECK_PATTERN, m -> updateBloodEssenceCharges(Integer.parseInt(m.group(1))));
+		onPattern(BLOOD_ESSENCE_EXTRACT_PATTERN, m -> updateBloodEssenceCharges(getItemCharges(ItemChargeConfig.KEY_BLOOD_ESSENCE) - Integer.parseInt(m.group(1))));
+		onContains(BLOOD_ESSENCE_ACTIVATE_TEXT, () -> updateBloodEssenceCharges(MAX_BLOOD_ESSENCE_CHARGES));
+		onPattern(BRACELET_OF_CLAY_CHECK_PATTERN, m -> updateBraceletOfClayCharges(Integer.parseInt(m.group(1))));
+		onMessage(BRACELET_OF_CLAY_USE_TEXT, this::braceletOfClayUsed);
+		onMessage(BRACELET_OF_CLAY_USE_TEXT_TRAHAEARN, this::braceletOfClayUsed);
+		onMessage(BRACELET_OF_CLAY_BREAK_TEXT, () ->
+		{
+			if (config.braceletOfClayNotification())
 			{
-				final String match = bindingNecklaceCheckMatcher.group(1);
+				notifier.notify("Your bracelet of clay has crumbled to dust");
+			}
+			updateBraceletOfClayCharges(MAX_BRACELET_OF_CLAY_CHARGES);
+		});
+	}
 
-				int charges = 1;
-				if (!match.equals("one"))
-				{
-					charges = Integer.parseInt(match);
-				}
+	private void onPattern(Pattern pattern, Consumer<Matcher> handler)
+	{
+		register(ChatMessageRule.builder()
+			.pattern(pattern)
+			.match(ChatMessageRule.Match.FIND), (chatMessage, matcher) -> handler.accept(matcher));
+	}
 
-				updateBindingNecklaceCharges(charges);
-			}
-			else if (ringOfForgingCheckMatcher.find())
-			{
-				final String match = ringOfForgingCheckMatcher.group(1);
+	private void onMessage(String message, Runnable handler)
+	{
+		register(ChatMessageRule.literal(message)
+			.match(ChatMessageRule.Match.MATCHES), (chatMessage, matcher) -> handler.run());
+	}
 
-				int charges = 1;
-				if (!match.equals("one"))
-				{
-					charges = Integer.parseInt(match);
-				}
-				updateRingOfForgingCharges(charges);
-			}
-			else if (message.equals(RING_OF_FORGING_USED_TEXT) || message.equals(RING_OF_FORGING_VARROCK_PLATEBODY))
-			{
-				final ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
-				final ItemContainer equipment = client.getItemContainer(InventoryID.EQUIPMENT);
+	private void onContains(String text, Runnable handler)
+	{
+		register(ChatMessageRule.literal(text)
+			.match(ChatMessageRule.Match.FIND), (chatMessage, matcher) -> handler.run());
+	}
 
-				// Determine if the player smelted with a Ring of Forging equipped.
-				if (equipment == null)
-				{
-					return;
-				}
+	/**
+	 * Rules are tried in the order they are registered in, and like the branches of an else-if chain only the first
+	 * one to match a message is run.
+	 */
+	private void register(ChatMessageRule.ChatMessageRuleBuilder rule, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		chatMessageClassifier.register(this, rule
+			.type(ChatMessageType.GAMEMESSAGE)
+			.type(ChatMessageType.SPAM)
+			.removeTags(true)
+			.exclusive(true)
+			.handler(handler)
+			.build());
+	}
 
-				if (equipment.contains(ItemID.RING_OF_FORGING) && (message.equals(RING_OF_FORGING_USED_TEXT) || inventory.count(ItemID.IRON_ORE) > 1))
-				{
-					int charges = Ints.constrainToRange(getItemCharges(ItemChargeConfig.KEY_RING_OF_FORGING) - 1, 0, MAX_RING_OF_FORGING_CHARGES);
-					updateRingOfForgingCharges(charges);
-				}
-			}
-			else if (message.equals(RING_OF_FORGING_BREAK_TEXT))
-			{
-				if (config.ringOfForgingNotification())
-				{
-					notifier.notify("Your ring of forging has melted.");
-				}
+	private static int parseCharges(String match)
+	{
+		return match.equals("one") ? 1 : Integer.parseInt(match);
+	}
 
-				// This chat message triggers before the used message so add 1 to the max charges to ensure proper sync
-				updateRingOfForgingCharges(MAX_RING_OF_FORGING_CHARGES + 1);
-			}
-			else if (chronicleAddMatcher.find())
-			{
-				final String match = chronicleAddMatcher.group(1);
+	private void ringOfForgingUsed(boolean varrockPlatebody)
+	{
+		final ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
+		final ItemContainer equipment = client.getItemContainer(InventoryID.EQUIPMENT);
 
-				if (match.equals("one"))
-				{
-					setItemCharges(ItemChargeConfig.KEY_CHRONICLE, 1);
-				}
-				else
-				{
-					setItemCharges(ItemChargeConfig.KEY_CHRONICLE, Integer.parseInt(match));
-				}
-			}
-			else if (chronicleUseAndCheckMatcher.find())
-			{
-				setItemCharges(ItemChargeConfig.KEY_CHRONICLE, Integer.parseInt(chronicleUseAndCheckMatcher.group(1)));
-			}
-			else if (message.equals(CHRONICLE_ONE_CHARGE_TEXT))
-			{
-				setItemCharges(ItemChargeConfig.KEY_CHRONICLE, 1);
-			}
-			else if (message.equals(CHRONICLE_EMPTY_TEXT) || message.equals(CHRONICLE_NO_CHARGES_TEXT))
-			{
-				setItemCharges(ItemChargeConfig.KEY_CHRONICLE, 0);
-			}
-			else if (message.equals(CHRONICLE_FULL_TEXT))
-			{
-				setItemCharges(ItemChargeConfig.KEY_CHRONICLE, 1000);
-			}
-			else if (slaughterActivateMatcher.find())
-			{
-				final String found = slaughterActivateMatcher.group(1);
-				if (found == null)
-				{
-					updateBraceletOfSlaughterCharges(MAX_SLAYER_BRACELET_CHARGES);
-					if (config.slaughterNotification())
-					{
-						notifier.notify(BRACELET_OF_SLAUGHTER_BREAK_TEXT);
-					}
-				}
-				else
-				{
-					updateBraceletOfSlaughterCharges(Integer.parseInt(found));
-				}
-			}
-			else if (slaughterCheckMatcher.find())
-			{
-				updateBraceletOfSlaughterCharges(Integer.parseInt(slaughterCheckMatcher.group(1)));
-			}
-			else if (expeditiousActivateMatcher.find())
-			{
-				final String found = expeditiousActivateMatcher.group(1);
-				if (found == null)
-				{
-					updateExpeditiousBraceletCharges(MAX_SLAYER_BRACELET_CHARGES);
-					if (config.expeditiousNotification())
-					{
-						notifier.notify(EXPEDITIOUS_BRACELET_BREAK_TEXT);
-					}
-				}
-				else
-				{
-					updateExpeditiousBraceletCharges(Integer.parseInt(found));
-				}
-			}
-			else if (expeditiousCheckMatcher.find())
-			{
-				updateExpeditiousBraceletCharges(Integer.parseInt(expeditiousCheckMatcher.group(1)));
-			}
-			else if (bloodEssenceCheckMatcher.find())
-			{
-				updateBloodEssenceCharges(Integer.parseInt(bloodEssenceCheckMatcher.group(1)));
-			}
-			else if (bloodEssenceExtractMatcher.find())
-			{
-				updateBloodEssenceCharges(getItemCharges(ItemChargeConfig.KEY_BLOOD_ESSENCE) - Integer.parseInt(bloodEssenceExtractMatcher.group(1)));
-			}
-			else if (message.contains(BLOOD_ESSENCE_ACTIVATE_TEXT))
-			{
-				updateBloodEssenceCharges(MAX_BLOOD_ESSENCE_CHARGES);
-			}
-			else if (braceletOfClayCheckMatcher.find())
-			{
-				updateBraceletOfClayCharges(Integer.parseInt(braceletOfClayCheckMatcher.group(1)));
-			}
-			else if (message.equals(BRACELET_OF_CLAY_USE_TEXT) || message.equals(BRACELET_OF_CLAY_USE_TEXT_TRAHAEARN))
-			{
-				final ItemContainer equipment = client.getItemContainer(InventoryID.EQUIPMENT);
+		// Determine if the player smelted with a Ring of Forging equipped.
+		if (equipment == null)
+		{
+			return;
+		}
 
-				// Determine if the player mined with a Bracelet of Clay equipped.
-				if (equipment != null && equipment.contains(ItemID.BRACELET_OF_CLAY))
-				{
-					int charges = Ints.constrainToRange(getItemCharges(ItemChargeConfig.KEY_BRACELET_OF_CLAY) - 1, 0, MAX_BRACELET_OF_CLAY_CHARGES);
-					updateBraceletOfClayCharges(charges);
-				}
-			}
-			else if (message.equals(BRACELET_OF_CLAY_BREAK_TEXT))
-			{
-				if (config.braceletOfClayNotification())
-				{
-					notifier.notify("Your bracelet of clay has crumbled to dust");
-				}
-				updateBraceletOfClayCharges(MAX_BRACELET_OF_CLAY_CHARGES);
-			}
+		if (equipment.contains(ItemID.RING_OF_FORGING) && (!varrockPlatebody || inventory.count(ItemID.IRON_ORE) > 1))
+		{
+			int charges = Ints.constrainToRange(getItemCharges(ItemChargeConfig.KEY_RING_OF_FORGING) - 1, 0, MAX_RING_OF_FORGING_CHARGES);
+			updateRingOfForgingCharges(charges);
+		}
+	}
+
+	private void braceletOfClayUsed()
+	{
+		final ItemContainer equipment = client.getItemContainer(InventoryID.EQUIPMENT);
+
+		// Determine if the player mined with a Bracelet of Clay equipped.
+		if (equipment != null && equipment.contains(ItemID.BRACELET_OF_CLAY))
+		{
+			int charges = Ints.constrainToRange(getItemCharges(ItemChargeConfig.KEY_BRACELET_OF_CLAY) - 1, 0, MAX_BRACELET_OF_CLAY_CHARGES);
+			updateBraceletOfClayCharges(charges);
 		}
 	}
 
@@ -66,8 +66,30 @@ class ConfigLoot
 		drops[drops.length - 1] = qty;
 	}
 
+	int getQuantity(int id)
+	{
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			if (drops[i] == id)
+			{
+				return drops[i + 1];
+			}
+		}
+		return 0;
+	}
+
 	int numDrops()
 	{
 		return drops.length / 2;
 	}
+
+	ConfigLoot copy()
+	{
+		ConfigLoot copy = new ConfigLoot(type, name);
+		copy.kills = kills;
+		copy.first = first;
+		copy.last = last;
+		copy.drops = drops.clone();
+		return copy;
+	}
 }
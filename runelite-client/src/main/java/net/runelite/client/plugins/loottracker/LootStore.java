@@ -0,0 +1,642 @@
+package net.runelite.client.plugins.loottracker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * The aggregated loot of one RuneScape profile, kept in memory and persisted to an append-only file.
+ * <p>
+ * The file starts with a header, followed by records which each hold a length, a payload, and a CRC32 of the
+ * payload. A payload either adds kills and drops to an event, with the drops stored as a column of item ids followed
+ * by a column of quantities, removes an event, records the totals of an event last imported from the config, or
+ * records the checksum of a config value already imported. Each batch of saved loot is appended as one record per
+ * event, and the file is rewritten with a single record per event once it has grown to several times the number of
+ * events.
+ * <p>
+ * Other clients may write their totals back to the config after they have been imported, so the imported totals are
+ * kept to only add what has changed since the last import, and the checksums to not parse unchanged values again.
+ */
+@Slf4j
+class LootStore
+{
+	private static final int MAGIC = 0x524c4c54; // RLLT
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+
+	private static final byte OP_ADD = 1;
+	private static final byte OP_REMOVE = 2;
+	private static final byte OP_IMPORTED = 3;
+	private static final byte OP_IMPORTED_VALUE = 4;
+
+	private static final int COMPACT_FACTOR = 4;
+	private static final int COMPACT_MIN_RECORDS = 256;
+
+	private static final Comparator<ConfigLoot> MOST_RECENT = Comparator.comparing(ConfigLoot::getLast).reversed()
+		.thenComparing(ConfigLoot::getType)
+		.thenComparing(ConfigLoot::getName);
+
+	private final File file;
+	private final Map<ConfigLoot, ConfigLoot> loots = new HashMap<>();
+	private final TreeSet<ConfigLoot> byRecent = new TreeSet<>(MOST_RECENT);
+	// the config totals as of the last import
+	private final Map<ConfigLoot, ConfigLoot> imported = new HashMap<>();
+	// config key to the checksum of the value last imported from it
+	private final Map<String, Integer> importedValues = new HashMap<>();
+	private int records;
+
+	private LootStore(File file)
+	{
+		this.file = file;
+	}
+
+	/**
+	 * Open the loot store in the given file, creating it on the first write if it doesn't exist.
+	 */
+	static LootStore open(File file) throws IOException
+	{
+		LootStore store = new LootStore(file);
+		if (file.exists())
+		{
+			store.load();
+		}
+		return store;
+	}
+
+	synchronized boolean isEmpty()
+	{
+		return loots.isEmpty();
+	}
+
+	/**
+	 * @return a copy of the loot of an event, or null if there is none
+	 */
+	synchronized ConfigLoot get(LootRecordType type, String name)
+	{
+		ConfigLoot loot = loots.get(new ConfigLoot(type, name));
+		return loot == null ? null : loot.copy();
+	}
+
+	/**
+	 * Add kills and drops to the stored loot. The first and last seen times of the events are widened to include
+	 * those of the added loot.
+	 */
+	synchronized void add(Collection<ConfigLoot> added) throws IOException
+	{
+		if (added.isEmpty())
+		{
+			return;
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (ConfigLoot loot : added)
+		{
+			if (loot.last == null)
+			{
+				loot.last = Instant.now();
+			}
+			writeRecord(out, addPayload(loot));
+			apply(loot);
+		}
+		append(out.toByteArray(), added.size());
+	}
+
+	/**
+	 * Import loot totals, such as those kept in the config. Only the kills and drops added to a total since it was
+	 * last imported are added to the stored loot.
+	 *
+	 * @return the number of events which had new loot
+	 */
+	synchronized int importTotals(Collection<ConfigLoot> totals) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int count = 0;
+		int changed = 0;
+		for (ConfigLoot total : totals)
+		{
+			ConfigLoot previous = imported.get(total);
+			if (previous != null && previous.kills == total.kills && previous.last.equals(total.last))
+			{
+				continue;
+			}
+
+			ConfigLoot added = difference(total, previous);
+			if (added.kills > 0 || added.drops.length > 0)
+			{
+				writeRecord(out, addPayload(added));
+				apply(added);
+				++count;
+				++changed;
+			}
+
+			ConfigLoot copy = total.copy();
+			imported.put(copy, copy);
+			writeRecord(out, payload(OP_IMPORTED, copy));
+			++count;
+		}
+
+		if (count > 0)
+		{
+			append(out.toByteArray(), count);
+		}
+		return changed;
+	}
+
+	/**
+	 * @return if this exact config value has already been imported from the key
+	 */
+	synchronized boolean isImported(String key, String value)
+	{
+		Integer checksum = importedValues.get(key);
+		return checksum != null && checksum == crc32(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Record config values as imported, so {@link #isImported(String, String)} skips them until they change
+	 */
+	synchronized void markImported(Map<String, String> values) throws IOException
+	{
+		if (values.isEmpty())
+		{
+			return;
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (Map.Entry<String, String> entry : values.entrySet())
+		{
+			int checksum = crc32(entry.getValue().getBytes(StandardCharsets.UTF_8));
+			importedValues.put(entry.getKey(), checksum);
+			writeRecord(out, importedValuePayload(entry.getKey(), checksum));
+		}
+		append(out.toByteArray(), values.size());
+	}
+
+	/**
+	 * @return the kills and drops added to a total since the previous total
+	 */
+	private static ConfigLoot difference(ConfigLoot total, ConfigLoot previous)
+	{
+		ConfigLoot added = new ConfigLoot(total.type, total.name);
+		added.first = total.first;
+		added.last = total.last;
+		if (previous == null || total.kills < previous.kills)
+		{
+			// never imported, or the total was reset by the other client since
+			added.kills = total.kills;
+			added.drops = total.drops.clone();
+			return added;
+		}
+
+		added.kills = total.kills - previous.kills;
+		for (int i = 0; i < total.drops.length; i += 2)
+		{
+			int qty = total.drops[i + 1] - previous.getQuantity(total.drops[i]);
+			if (qty > 0)
+			{
+				added.add(total.drops[i], qty);
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Remove the loot of an event
+	 */
+	synchronized void remove(LootRecordType type, String name) throws IOException
+	{
+		ConfigLoot removed = loots.remove(new ConfigLoot(type, name));
+		if (removed == null)
+		{
+			return;
+		}
+		byRecent.remove(removed);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeRecord(out, removePayload(type, name));
+		append(out.toByteArray(), 1);
+	}
+
+	/**
+	 * Remove the loot of all events last seen before the given time
+	 *
+	 * @return the number of events removed
+	 */
+	synchronized int removeOlderThan(Instant time) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int removed = 0;
+		for (Iterator<ConfigLoot> it = byRecent.descendingIterator(); it.hasNext(); )
+		{
+			ConfigLoot loot = it.next();
+			if (!loot.last.isBefore(time))
+			{
+				break;
+			}
+
+			it.remove();
+			loots.remove(loot);
+			writeRecord(out, removePayload(loot.type, loot.name));
+			++removed;
+		}
+
+		if (removed > 0)
+		{
+			append(out.toByteArray(), removed);
+		}
+		return removed;
+	}
+
+	/**
+	 * Remove all loot. What was imported is still recorded so that the loot isn't imported again.
+	 */
+	synchronized void clear() throws IOException
+	{
+		loots.clear();
+		byRecent.clear();
+		if (imported.isEmpty() && importedValues.isEmpty())
+		{
+			records = 0;
+			Files.deleteIfExists(file.toPath());
+		}
+		else
+		{
+			compact();
+		}
+	}
+
+	/**
+	 * @return copies of the loot of up to {@code limit} events, starting at {@code offset}, ordered by the time
+	 * they were last seen with the most recent first
+	 */
+	synchronized List<ConfigLoot> page(int offset, int limit)
+	{
+		List<ConfigLoot> page = new ArrayList<>(Math.min(limit, Math.max(0, loots.size() - offset)));
+		int i = 0;
+		for (ConfigLoot loot : byRecent)
+		{
+			if (page.size() >= limit)
+			{
+				break;
+			}
+			if (i++ >= offset)
+			{
+				page.add(loot.copy());
+			}
+		}
+		return page;
+	}
+
+	/**
+	 * @param n the number of events to return
+	 * @param value the value of an event's loot
+	 * @return copies of the loot of the {@code n} most valuable events, most valuable first
+	 */
+	synchronized List<ConfigLoot> top(int n, ToLongFunction<ConfigLoot> value)
+	{
+		if (n <= 0)
+		{
+			return Collections.emptyList();
+		}
+
+		// min heap of the best n seen so far
+		PriorityQueue<Map.Entry<Long, ConfigLoot>> heap = new PriorityQueue<>(n, Map.Entry.comparingByKey());
+		for (ConfigLoot loot : loots.values())
+		{
+			long v = value.applyAsLong(loot);
+			if (heap.size() < n)
+			{
+				heap.add(new AbstractMap.SimpleImmutableEntry<>(v, loot));
+			}
+			else if (v > heap.peek().getKey())
+			{
+				heap.poll();
+				heap.add(new AbstractMap.SimpleImmutableEntry<>(v, loot));
+			}
+		}
+
+		List<ConfigLoot> top = new ArrayList<>(heap.size());
+		while (!heap.isEmpty())
+		{
+			top.add(heap.poll().getValue().copy());
+		}
+		Collections.reverse(top);
+		return top;
+	}
+
+	private void apply(ConfigLoot added)
+	{
+		ConfigLoot loot = loots.get(added);
+		if (loot == null)
+		{
+			loot = new ConfigLoot(added.type, added.name);
+			loot.first = added.first;
+			loot.last = added.last;
+			loots.put(loot, loot);
+		}
+		else
+		{
+			byRecent.remove(loot);
+			if (added.first != null && (loot.first == null || added.first.isBefore(loot.first)))
+			{
+				loot.first = added.first;
+			}
+			if (added.last.isAfter(loot.last))
+			{
+				loot.last = added.last;
+			}
+		}
+
+		loot.kills += added.kills;
+		for (int i = 0; i < added.drops.length; i += 2)
+		{
+			loot.add(added.drops[i], added.drops[i + 1]);
+		}
+		byRecent.add(loot);
+	}
+
+	private void append(byte[] data, int count) throws IOException
+	{
+		if (records + count > COMPACT_FACTOR * (loots.size() + imported.size() + importedValues.size()) + COMPACT_MIN_RECORDS)
+		{
+			// the new records have already been applied in memory, so they are included in the rewrite
+			compact();
+			return;
+		}
+
+		File dir = file.getParentFile();
+		if (dir != null)
+		{
+			dir.mkdirs();
+		}
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND))
+		{
+			if (channel.size() == 0)
+			{
+				channel.write(header());
+			}
+			channel.write(ByteBuffer.wrap(data));
+			channel.force(false);
+		}
+		records += count;
+	}
+
+	/**
+	 * Rewrite the file with one record per event
+	 */
+	private void compact() throws IOException
+	{
+		File dir = file.getParentFile();
+		if (dir != null)
+		{
+			dir.mkdirs();
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (ConfigLoot loot : byRecent)
+		{
+			writeRecord(out, addPayload(loot));
+		}
+		for (ConfigLoot total : imported.values())
+		{
+			writeRecord(out, payload(OP_IMPORTED, total));
+		}
+		for (Map.Entry<String, Integer> entry : importedValues.entrySet())
+		{
+			writeRecord(out, importedValuePayload(entry.getKey(), entry.getValue()));
+		}
+
+		File tempFile = File.createTempFile("runelite_loot", null, dir);
+		try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE))
+		{
+			channel.write(header());
+			channel.write(ByteBuffer.wrap(out.toByteArray()));
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		records = loots.size() + imported.size() + importedValues.size();
+	}
+
+	private void load() throws IOException
+	{
+		byte[] data = Files.readAllBytes(file.toPath());
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		if (data.length < HEADER_SIZE || buf.getInt() != MAGIC || buf.getInt() != VERSION)
+		{
+			File backup = new File(file.getPath() + ".bak");
+			log.warn("loot store {} has an invalid header, moving it to {}", file, backup);
+			Files.move(file.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return;
+		}
+
+		while (buf.remaining() >= Integer.BYTES)
+		{
+			int start = buf.position();
+			int length = buf.getInt();
+			if (length < 0 || length > buf.remaining() - Integer.BYTES)
+			{
+				truncate(start);
+				break;
+			}
+
+			byte[] payload = new byte[length];
+			buf.get(payload);
+			int crc = buf.getInt();
+			if (crc != crc32(payload))
+			{
+				truncate(start);
+				break;
+			}
+
+			try
+			{
+				readPayload(payload);
+			}
+			catch (IOException | IllegalArgumentException ex)
+			{
+				log.warn("skipping unreadable record in loot store {}", file, ex);
+			}
+			++records;
+		}
+
+		if (buf.hasRemaining() && buf.remaining() < Integer.BYTES)
+		{
+			truncate(buf.position());
+		}
+	}
+
+	private void readPayload(byte[] payload) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		byte op = in.readByte();
+		if (op == OP_IMPORTED_VALUE)
+		{
+			String key = in.readUTF();
+			importedValues.put(key, in.readInt());
+			return;
+		}
+
+		LootRecordType type = LootRecordType.valueOf(in.readUTF());
+		String name = in.readUTF();
+		switch (op)
+		{
+			case OP_ADD:
+				apply(readLoot(in, type, name));
+				break;
+			case OP_IMPORTED:
+			{
+				ConfigLoot total = readLoot(in, type, name);
+				imported.put(total, total);
+				break;
+			}
+			case OP_REMOVE:
+			{
+				ConfigLoot removed = loots.remove(new ConfigLoot(type, name));
+				if (removed != null)
+				{
+					byRecent.remove(removed);
+				}
+				break;
+			}
+			default:
+				throw new IOException("unknown loot store op " + op);
+		}
+	}
+
+	private static ConfigLoot readLoot(DataInputStream in, LootRecordType type, String name) throws IOException
+	{
+		ConfigLoot loot = new ConfigLoot(type, name);
+		loot.kills = in.readInt();
+		loot.first = Instant.ofEpochMilli(in.readLong());
+		loot.last = Instant.ofEpochMilli(in.readLong());
+		int count = in.readInt();
+		int[] drops = new int[count * 2];
+		for (int i = 0; i < count; ++i)
+		{
+			drops[i * 2] = in.readInt();
+		}
+		for (int i = 0; i < count; ++i)
+		{
+			drops[i * 2 + 1] = in.readInt();
+		}
+		loot.drops = drops;
+		return loot;
+	}
+
+	private void truncate(long length) throws IOException
+	{
+		log.warn("loot store {} has an incomplete or corrupt record at {}, truncating it", file, length);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(length);
+		}
+	}
+
+	private static byte[] addPayload(ConfigLoot loot) throws IOException
+	{
+		return payload(OP_ADD, loot);
+	}
+
+	private static byte[] payload(byte op, ConfigLoot loot) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(op);
+		out.writeUTF(loot.type.name());
+		out.writeUTF(loot.name);
+		out.writeInt(loot.kills);
+		out.writeLong((loot.first != null ? loot.first : loot.last).toEpochMilli());
+		out.writeLong(loot.last.toEpochMilli());
+		int count = loot.numDrops();
+		out.writeInt(count);
+		for (int i = 0; i < count; ++i)
+		{
+			out.writeInt(loot.drops[i * 2]);
+		}
+		for (int i = 0; i < count; ++i)
+		{
+			out.writeInt(loot.drops[i * 2 + 1]);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] removePayload(LootRecordType type, String name) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(OP_REMOVE);
+		out.writeUTF(type.name());
+		out.writeUTF(name);
+		return bytes.toByteArray();
+	}
+
+	private static byte[] importedValuePayload(String key, int checksum) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(OP_IMPORTED_VALUE);
+		out.writeUTF(key);
+		out.writeInt(checksum);
+		return bytes.toByteArray();
+	}
+
+	private static void writeRecord(ByteArrayOutputStream bytes, byte[] payload) throws IOException
+	{
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(payload.length);
+		out.write(payload);
+		out.writeInt(crc32(payload));
+	}
+
+	private static ByteBuffer header()
+	{
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC);
+		header.putInt(VERSION);
+		header.flip();
+		return header;
+	}
+
+	private static int crc32(byte[] payload)
+	{
+		CRC32 crc = new CRC32();
+		crc.update(payload, 0, payload.length);
+		return (int) crc.getValue();
+	}
+}
@@ -329,7 +329,7 @@ class LootTrackerPanel extends PluginPanel
 			if (currentView != null)
 			{
 				assert currentType != null;
-				plugin.removeLootConfig(currentType, currentView);
+				plugin.removeLoot(currentType, currentView);
 			}
 			else
 			{
@@ -611,7 +611,7 @@ class LootTrackerPanel extends PluginPanel
 			// Without loot being grouped we have no way to identify single kills to be deleted
 			if (groupLoot)
 			{
-				plugin.removeLootConfig(box.getLootRecordType(), box.getId());
+				plugin.removeLoot(box.getLootRecordType(), box.getId());
 			}
 		});
 
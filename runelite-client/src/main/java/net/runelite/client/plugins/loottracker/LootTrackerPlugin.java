@@ -26,7 +26,6 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Strings;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
@@ -38,6 +37,8 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -91,6 +92,7 @@ import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.PostClientTick;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.WidgetID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
@@ -134,6 +136,10 @@ import org.apache.commons.text.WordUtils;
 public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
+	private static final int PAGE_SIZE = 64;
+	// events shown in the panel by value, in addition to the most recent
+	private static final int TOP_VALUE_EVENTS = 32;
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
 
 	// Activity/Event loot handling
@@ -369,6 +375,7 @@ public class LootTrackerPlugin extends Plugin
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
 	private String profileKey;
+	private LootStore lootStore;
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
@@ -460,6 +467,20 @@ public class LootTrackerPlugin extends Plugin
 
 			this.profileKey = profileKey;
 
+			LootStore store;
+			try
+			{
+				store = LootStore.open(new File(LOOT_DIR, profileKey.replaceAll("[^A-Za-z0-9._-]", "_") + ".dat"));
+				importConfigLoot(store, profileKey);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to open loot store for profile {}", profileKey, ex);
+				lootStore = null;
+				return;
+			}
+			lootStore = store;
+
 			log.debug("Switched to profile {}", profileKey);
 
 			if (!config.syncPanel())
@@ -467,45 +488,36 @@ public class LootTrackerPlugin extends Plugin
 				return;
 			}
 
-			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
-			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			try
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
-
-				try
-				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
-				}
-				catch (JsonSyntaxException ex)
-				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
-
-				if (configLoot.last.isBefore(old))
-				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
-
-				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
-				{
-					// fast drop
-					continue;
-				}
+				int removed = store.removeOlderThan(Instant.now().minus(MAX_AGE));
+				log.debug("Removed {} old loot records", removed);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to remove old loot", ex);
+			}
 
-				sortedInsert(loots, configLoot, Comparator.comparing(ConfigLoot::getLast));
-				drops += configLoot.numDrops();
+			// the most valuable loot is always shown, however long ago it was last seen
+			Set<ConfigLoot> loots = new LinkedHashSet<>(getTopLootByValue(TOP_VALUE_EVENTS));
+			int drops = loots.stream().mapToInt(ConfigLoot::numDrops).sum();
 
-				if (drops >= MAX_DROPS)
+			// page through the most recently seen loot until the panel's budget of drops is used up
+			List<ConfigLoot> page;
+			for (int offset = 0; drops < MAX_DROPS && !(page = store.page(offset, PAGE_SIZE)).isEmpty(); offset += PAGE_SIZE)
+			{
+				for (ConfigLoot configLoot : page)
 				{
-					ConfigLoot top = loots.remove(0);
-					drops -= top.numDrops();
+					if (loots.contains(configLoot))
+					{
+						continue;
+					}
+					drops += configLoot.numDrops();
+					if (drops >= MAX_DROPS)
+					{
+						break;
+					}
+					loots.add(configLoot);
 				}
 			}
 
@@ -521,7 +533,9 @@ public class LootTrackerPlugin extends Plugin
 				}
 
 				// convertToLootTrackerRecord must be called on client thread
+				// the panel expects the oldest loot first
 				List<LootTrackerRecord> records = loots.stream()
+					.sorted(Comparator.comparing(ConfigLoot::getLast))
 					.map(this::convertToLootTrackerRecord)
 					.collect(Collectors.toList());
 				SwingUtilities.invokeLater(() ->
@@ -535,10 +549,62 @@ public class LootTrackerPlugin extends Plugin
 		});
 	}
 
-	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
+	/**
+	 * Move loot saved to the config by older clients, or synced from other clients, into the loot store. Values
+	 * already imported are skipped without being parsed, and the keys are removed from the config once imported.
+	 * Another client may write its totals back later, and then only what changed since the last import is added.
+	 */
+	private void importConfigLoot(LootStore store, String profileKey) throws IOException
 	{
-		int idx = Collections.binarySearch(list, value, c);
-		list.add(idx < 0 ? -idx - 1 : idx, value);
+		List<String> keys = configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_");
+		if (keys.isEmpty())
+		{
+			return;
+		}
+
+		List<ConfigLoot> loots = new ArrayList<>(keys.size());
+		Map<String, String> values = new HashMap<>();
+		for (String key : keys)
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			if (json == null || store.isImported(key, json))
+			{
+				continue;
+			}
+			values.put(key, json);
+
+			ConfigLoot configLoot;
+			try
+			{
+				configLoot = gson.fromJson(json, ConfigLoot.class);
+			}
+			catch (JsonSyntaxException ex)
+			{
+				log.warn("Removing loot with malformed json: {}", json, ex);
+				continue;
+			}
+
+			if (configLoot == null || configLoot.type == null || configLoot.name == null || configLoot.last == null)
+			{
+				log.warn("Removing incomplete loot: {}", json);
+				continue;
+			}
+
+			if (configLoot.drops == null)
+			{
+				configLoot.drops = new int[0];
+			}
+			loots.add(configLoot);
+		}
+
+		int imported = store.importTotals(loots);
+		store.markImported(values);
+
+		for (String key : keys)
+		{
+			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+		}
+		log.debug("Imported new loot for {} of {} changed loot records from the config", imported, loots.size());
 	}
 
 	@Subscribe
@@ -1247,25 +1313,27 @@ public class LootTrackerPlugin extends Plugin
 
 	private void saveLoot(List<LootRecord> records)
 	{
+		LootStore store = lootStore;
+		if (store == null)
+		{
+			log.debug("Trying to save loot with no profile!");
+			return;
+		}
+
 		Instant now = Instant.now();
 		Collection<ConfigLoot> combinedRecords = combine(records);
 		for (ConfigLoot record : combinedRecords)
 		{
-			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
-			if (lootConfig == null)
-			{
-				lootConfig = record;
-			}
-			else
-			{
-				lootConfig.kills += record.kills;
-				for (int i = 0; i < record.drops.length; i += 2)
-				{
-					lootConfig.add(record.drops[i], record.drops[i + 1]);
-				}
-			}
-			lootConfig.last = now;
-			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+			record.last = now;
+		}
+
+		try
+		{
+			store.add(combinedRecords);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to save loot", ex);
 		}
 	}
 
@@ -1485,61 +1553,69 @@ public class LootTrackerPlugin extends Plugin
 				.build());
 	}
 
-	ConfigLoot getLootConfig(LootRecordType type, String name)
+	/**
+	 * @return the loot of the {@code n} events with the highest total Grand Exchange value
+	 */
+	List<ConfigLoot> getTopLootByValue(int n)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
-			log.debug("Trying to get loot with no profile!");
-			return null;
+			return Collections.emptyList();
 		}
 
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
+		return store.top(n, loot ->
 		{
-			return null;
-		}
-
-		return gson.fromJson(json, ConfigLoot.class);
-	}
-
-	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to set loot with no profile!");
-			return;
-		}
-
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
+			long value = 0;
+			for (int i = 0; i < loot.drops.length; i += 2)
+			{
+				value += (long) itemManager.getItemPrice(loot.drops[i]) * loot.drops[i + 1];
+			}
+			return value;
+		});
 	}
 
-	void removeLootConfig(LootRecordType type, String name)
+	void removeLoot(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to remove loot with no profile!");
 			return;
 		}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+		executor.execute(() ->
+		{
+			try
+			{
+				store.remove(type, name);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to remove loot", ex);
+			}
+		});
 	}
 
 	void removeAllLoot()
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to clear loot with no profile!");
 			return;
 		}
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
+		executor.execute(() ->
 		{
-			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
-		}
+			try
+			{
+				store.clear();
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to clear loot", ex);
+			}
+		});
 	}
 }
@@ -45,6 +45,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
@@ -157,6 +158,19 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private final Multimap<String, Swap> swaps = LinkedHashMultimap.create();
 	private final ArrayListMultimap<String, Integer> optionIndexes = ArrayListMultimap.create();
+	// the option and target of each entry of the menu being swapped, without tags and lower case. Kept in the
+	// same order as the entries.
+	private String[] menuOptions = new String[0];
+	private String[] menuTargets = new String[0];
+
+	// custom swaps from the config, indexed by whether they are for shift click. Only used and reloaded on the
+	// client thread.
+	private final SwapTable[] itemSwaps = new SwapTable[2];
+	private final SwapTable[] wornItemSwaps = new SwapTable[2];
+	private final SwapTable[] objectSwaps = new SwapTable[2];
+	private final SwapTable[] npcSwaps = new SwapTable[2];
+	private final SwapTable[] uiSwaps = new SwapTable[2];
+	private boolean customSwapsLoaded;
 
 	@Provides
 	MenuEntrySwapperConfig provideConfig(ConfigManager configManager)
@@ -175,6 +189,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	public void shutDown()
 	{
 		swaps.clear();
+		clientThread.invoke(() -> customSwapsLoaded = false);
 	}
 
 	@VisibleForTesting
@@ -419,25 +434,185 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 		else if (event.getGroup().equals(SHIFTCLICK_CONFIG_GROUP) && event.getKey().startsWith(ITEM_KEY_PREFIX))
 		{
-			clientThread.invoke(this::resetItemCompositionCache);
+			clientThread.invoke(() ->
+			{
+				customSwapsLoaded = false;
+				resetItemCompositionCache();
+			});
+		}
+		else if (event.getGroup().equals(MenuEntrySwapperConfig.GROUP) && isCustomSwapKey(event.getKey()))
+		{
+			clientThread.invoke(() -> customSwapsLoaded = false);
 		}
 	}
 
-	private void resetItemCompositionCache()
+	private static boolean isCustomSwapKey(String key)
 	{
-		client.getItemCompositionCache().reset();
+		return key.startsWith(ITEM_KEY_PREFIX) || key.startsWith(WORN_ITEM_KEY_PREFIX) || key.startsWith(OBJECT_KEY_PREFIX)
+			|| key.startsWith(NPC_KEY_PREFIX) || key.startsWith(UI_KEY_PREFIX);
 	}
 
-	private Integer getItemSwapConfig(boolean shift, int itemId)
+	private void loadCustomSwaps()
+	{
+		SwapTable.Builder[] items = swapTableBuilders();
+		SwapTable.Builder[] wornItems = swapTableBuilders();
+		SwapTable.Builder[] objects = swapTableBuilders();
+		SwapTable.Builder[] npcs = swapTableBuilders();
+		SwapTable.Builder[] uis = swapTableBuilders();
+
+		for (String key : configKeys(SHIFTCLICK_CONFIG_GROUP, ITEM_KEY_PREFIX))
+		{
+			Integer op = parseSwapConfig(configManager.getConfiguration(SHIFTCLICK_CONFIG_GROUP, key));
+			if (op != null)
+			{
+				putSwap(items[1], key.substring(ITEM_KEY_PREFIX.length()), op);
+			}
+		}
+
+		for (String key : configKeys(MenuEntrySwapperConfig.GROUP, ""))
+		{
+			if (!isCustomSwapKey(key))
+			{
+				continue;
+			}
+
+			Integer op = parseSwapConfig(configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, key));
+			if (op == null)
+			{
+				continue;
+			}
+
+			// the shift prefixes start with the left click prefixes, so check them first
+			if (key.startsWith(ITEM_KEY_PREFIX))
+			{
+				putSwap(items[0], key.substring(ITEM_KEY_PREFIX.length()), op);
+			}
+			else if (key.startsWith(WORN_ITEM_SHIFT_KEY_PREFIX))
+			{
+				putSwap(wornItems[1], key.substring(WORN_ITEM_SHIFT_KEY_PREFIX.length()), op);
+			}
+			else if (key.startsWith(WORN_ITEM_KEY_PREFIX))
+			{
+				putSwap(wornItems[0], key.substring(WORN_ITEM_KEY_PREFIX.length()), op);
+			}
+			else if (key.startsWith(OBJECT_SHIFT_KEY_PREFIX))
+			{
+				putSwap(objects[1], key.substring(OBJECT_SHIFT_KEY_PREFIX.length()), op);
+			}
+			else if (key.startsWith(OBJECT_KEY_PREFIX))
+			{
+				putSwap(objects[0], key.substring(OBJECT_KEY_PREFIX.length()), op);
+			}
+			else if (key.startsWith(NPC_SHIFT_KEY_PREFIX))
+			{
+				putSwap(npcs[1], key.substring(NPC_SHIFT_KEY_PREFIX.length()), op);
+			}
+			else if (key.startsWith(NPC_KEY_PREFIX))
+			{
+				putSwap(npcs[0], key.substring(NPC_KEY_PREFIX.length()), op);
+			}
+			else if (key.startsWith(UI_SHIFT_KEY_PREFIX))
+			{
+				putUiSwap(uis[1], key.substring(UI_SHIFT_KEY_PREFIX.length()), op);
+			}
+			else
+			{
+				putUiSwap(uis[0], key.substring(UI_KEY_PREFIX.length()), op);
+			}
+		}
+
+		for (int i = 0; i < 2; ++i)
+		{
+			itemSwaps[i] = items[i].build();
+			wornItemSwaps[i] = wornItems[i].build();
+			objectSwaps[i] = objects[i].build();
+			npcSwaps[i] = npcs[i].build();
+			uiSwaps[i] = uis[i].build();
+		}
+		customSwapsLoaded = true;
+	}
+
+	private List<String> configKeys(String group, String keyPrefix)
+	{
+		final String prefix = group + "." + keyPrefix;
+		return configManager.getConfigurationKeys(prefix).stream()
+			.map(k -> k.substring(group.length() + 1))
+			.collect(Collectors.toList());
+	}
+
+	private static SwapTable.Builder[] swapTableBuilders()
+	{
+		return new SwapTable.Builder[]{new SwapTable.Builder(), new SwapTable.Builder()};
+	}
+
+	private static Integer parseSwapConfig(String config)
 	{
-		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(shift ? SHIFTCLICK_CONFIG_GROUP : MenuEntrySwapperConfig.GROUP, ITEM_KEY_PREFIX + itemId);
 		if (config == null || config.isEmpty())
 		{
 			return null;
 		}
 
-		return Integer.parseInt(config);
+		try
+		{
+			return Integer.parseInt(config);
+		}
+		catch (NumberFormatException ex)
+		{
+			log.debug("invalid custom swap {}", config, ex);
+			return null;
+		}
+	}
+
+	private static void putSwap(SwapTable.Builder table, String id, int op)
+	{
+		try
+		{
+			table.put(Integer.parseInt(id), op);
+		}
+		catch (NumberFormatException ex)
+		{
+			log.debug("invalid custom swap id {}", id, ex);
+		}
+	}
+
+	private static void putUiSwap(SwapTable.Builder table, String id, int op)
+	{
+		final int sep = id.indexOf('_');
+		try
+		{
+			final int componentId = Integer.parseInt(sep == -1 ? id : id.substring(0, sep));
+			final int itemId = sep == -1 ? -1 : Integer.parseInt(id.substring(sep + 1));
+			table.put(uiSwapKey(componentId, itemId), op);
+		}
+		catch (NumberFormatException ex)
+		{
+			log.debug("invalid custom ui swap id {}", id, ex);
+		}
+	}
+
+	private static long uiSwapKey(int componentId, int itemId)
+	{
+		return ((long) componentId << 32) | (itemId & 0xffffffffL);
+	}
+
+	private SwapTable customSwaps(SwapTable[] tables, boolean shift)
+	{
+		if (!customSwapsLoaded)
+		{
+			loadCustomSwaps();
+		}
+		return tables[shift ? 1 : 0];
+	}
+
+	private void resetItemCompositionCache()
+	{
+		client.getItemCompositionCache().reset();
+	}
+
+	private Integer getItemSwapConfig(boolean shift, int itemId)
+	{
+		itemId = ItemVariationMapping.map(itemId);
+		return customSwaps(itemSwaps, shift).get(itemId);
 	}
 
 	private void setItemSwapConfig(boolean shift, int itemId, int index)
@@ -455,14 +630,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private Integer getWornItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? WORN_ITEM_SHIFT_KEY_PREFIX : WORN_ITEM_KEY_PREFIX) + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps(wornItemSwaps, shift).get(itemId);
 	}
 
 	private void setWornItemSwapConfig(boolean shift, int itemId, int index)
@@ -1385,8 +1553,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 	{
 		final int eventId = menuEntry.getIdentifier();
 		final MenuAction menuAction = menuEntry.getType();
-		final String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
+		final String option = menuOptions[index];
+		final String target = menuTargets[index];
 
 		final boolean itemOp = menuEntry.isItemOp();
 		// Custom shift-click item swap
@@ -1575,12 +1743,24 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// cancel -> npc op -> walk here -> ground item op
 		// which cannot be achieved with a simple swap.
 
+		final boolean shift = shiftModifier();
+		final SwapTable objectTable = customSwaps(objectSwaps, shift);
+		final SwapTable npcTable = customSwaps(npcSwaps, shift);
+		final boolean objectWalkHere = shift && config.objectShiftClickWalkHere();
+		final boolean npcWalkHere = shift && config.npcShiftClickWalkHere();
+		final boolean groundItemWalkHere = shift && config.groundItemShiftClickWalkHere();
+
 		for (MenuEntry menuEntry : client.getMenuEntries())
 		{
 			MenuAction type = menuEntry.getType();
 
 			if (OBJECT_MENU_TYPES.contains(type))
 			{
+				if (objectTable.isEmpty() && !objectWalkHere)
+				{
+					continue;
+				}
+
 				// Get multiloc id
 				int objectId = menuEntry.getIdentifier();
 				ObjectComposition objectComposition = client.getObjectDefinition(objectId);
@@ -1590,9 +1770,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 					objectId = objectComposition.getId();
 				}
 
-				final boolean shift = shiftModifier();
-				Integer customOption = getObjectSwapConfig(shift, objectId);
-				if ((customOption == null && shift && config.objectShiftClickWalkHere())
+				Integer customOption = objectTable.get(objectId);
+				if ((customOption == null && objectWalkHere)
 					|| (customOption != null && customOption == -1))
 				{
 					menuEntry.setDeprioritized(true);
@@ -1600,14 +1779,18 @@ public class MenuEntrySwapperPlugin extends Plugin
 			}
 			else if (NPC_MENU_TYPES.contains(type))
 			{
+				if (npcTable.isEmpty() && !npcWalkHere)
+				{
+					continue;
+				}
+
 				final NPC npc = menuEntry.getNpc();
 				assert npc != null;
 				final NPCComposition composition = npc.getTransformedComposition();
 				assert composition != null;
 
-				boolean shift = shiftModifier();
-				Integer customOption = getNpcSwapConfig(shift, composition.getId());
-				if ((customOption == null && shift && config.npcShiftClickWalkHere())
+				Integer customOption = npcTable.get(composition.getId());
+				if ((customOption == null && npcWalkHere)
 					|| (customOption != null && customOption == -1))
 				{
 					menuEntry.setDeprioritized(true);
@@ -1617,7 +1800,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 				|| type == MenuAction.GROUND_ITEM_THIRD_OPTION || type == MenuAction.GROUND_ITEM_FOURTH_OPTION
 				|| type == MenuAction.GROUND_ITEM_FIFTH_OPTION)
 			{
-				if (shiftModifier() && config.groundItemShiftClickWalkHere())
+				if (groundItemWalkHere)
 				{
 					menuEntry.setDeprioritized(true);
 				}
@@ -1640,9 +1823,13 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// Build option map for quick lookup in findIndex
 		int idx = 0;
 		optionIndexes.clear();
+		menuOptions = new String[menuEntries.length];
+		menuTargets = new String[menuEntries.length];
 		for (MenuEntry entry : menuEntries)
 		{
 			String option = Text.removeTags(entry.getOption()).toLowerCase();
+			menuOptions[idx] = option;
+			menuTargets[idx] = Text.removeTags(entry.getTarget()).toLowerCase();
 			optionIndexes.put(option, idx++);
 		}
 
@@ -1697,7 +1884,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private boolean swap(MenuEntry[] menuEntries, String option, String target, int index, boolean strict)
 	{
 		// find option to swap with
-		int optionIdx = findIndex(menuEntries, index, option, target, strict);
+		int optionIdx = findIndex(index, option, target, strict);
 
 		if (optionIdx >= 0)
 		{
@@ -1708,7 +1895,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 		return false;
 	}
 
-	private int findIndex(MenuEntry[] entries, int limit, String option, String target, boolean strict)
+	private int findIndex(int limit, String option, String target, boolean strict)
 	{
 		if (strict)
 		{
@@ -1719,8 +1906,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			for (int i = indexes.size() - 1; i >= 0; --i)
 			{
 				int idx = indexes.get(i);
-				MenuEntry entry = entries[idx];
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryTarget = menuTargets[idx];
 
 				// Limit to the last index which is prior to the current entry
 				if (idx < limit && entryTarget.equals(target))
@@ -1732,13 +1918,13 @@ public class MenuEntrySwapperPlugin extends Plugin
 		else
 		{
 			// Without strict matching we have to iterate all entries up to the current limit...
+			final String lowerOption = option.toLowerCase();
 			for (int i = limit - 1; i >= 0; i--)
 			{
-				MenuEntry entry = entries[i];
-				String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryOption = menuOptions[i];
+				String entryTarget = menuTargets[i];
 
-				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
+				if (entryOption.contains(lowerOption) && entryTarget.equals(target))
 				{
 					return i;
 				}
@@ -1775,9 +1961,15 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		client.setMenuEntries(entries);
 
-		// Update optionIndexes
-		String option1 = Text.removeTags(entry1.getOption()).toLowerCase(),
-			option2 = Text.removeTags(entry2.getOption()).toLowerCase();
+		// Update optionIndexes and the normalized options and targets
+		String option1 = menuOptions[index1],
+			option2 = menuOptions[index2];
+		menuOptions[index1] = option2;
+		menuOptions[index2] = option1;
+
+		String target1 = menuTargets[index1];
+		menuTargets[index1] = menuTargets[index2];
+		menuTargets[index2] = target1;
 
 		List<Integer> list1 = optionIndexes.get(option1),
 			list2 = optionIndexes.get(option2);
@@ -1803,13 +1995,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getObjectSwapConfig(boolean shift, int objectId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? OBJECT_SHIFT_KEY_PREFIX : OBJECT_KEY_PREFIX) + objectId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps(objectSwaps, shift).get(objectId);
 	}
 
 	private void setObjectSwapConfig(boolean shift, int objectId, int index)
@@ -1839,14 +2025,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getNpcSwapConfig(boolean shift, int npcId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? NPC_SHIFT_KEY_PREFIX : NPC_KEY_PREFIX) + npcId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps(npcSwaps, shift).get(npcId);
 	}
 
 	private void setNpcSwapConfig(boolean shift, int npcId, int index)
@@ -1899,14 +2078,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getUiSwapConfig(boolean shift, int componentId, int itemId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? UI_SHIFT_KEY_PREFIX : UI_KEY_PREFIX) + componentId + (itemId != -1 ? "_" + itemId : ""));
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps(uiSwaps, shift).get(uiSwapKey(componentId, itemId));
 	}
 
 	private void setUiSwapConfig(boolean shift, int componentId, int itemId, int op)
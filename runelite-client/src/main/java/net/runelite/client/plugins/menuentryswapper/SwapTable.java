@@ -0,0 +1,65 @@
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable table of custom swaps, from an id such as an object, npc or item id, to the op it is swapped to.
+ * Kept as sorted primitive arrays so looking up a swap while building a menu doesn't allocate.
+ */
+final class SwapTable
+{
+	static final SwapTable EMPTY = new SwapTable(new long[0], new int[0]);
+
+	private final long[] keys;
+	private final int[] ops;
+
+	private SwapTable(long[] keys, int[] ops)
+	{
+		this.keys = keys;
+		this.ops = ops;
+	}
+
+	boolean isEmpty()
+	{
+		return keys.length == 0;
+	}
+
+	/**
+	 * @return the op for the id, or null if there is no swap for it
+	 */
+	Integer get(long key)
+	{
+		int idx = Arrays.binarySearch(keys, key);
+		return idx < 0 ? null : ops[idx];
+	}
+
+	static final class Builder
+	{
+		private final Map<Long, Integer> swaps = new TreeMap<>();
+
+		void put(long key, int op)
+		{
+			swaps.put(key, op);
+		}
+
+		SwapTable build()
+		{
+			if (swaps.isEmpty())
+			{
+				return EMPTY;
+			}
+
+			long[] keys = new long[swaps.size()];
+			int[] ops = new int[swaps.size()];
+			int i = 0;
+			for (Map.Entry<Long, Integer> entry : swaps.entrySet())
+			{
+				keys[i] = entry.getKey();
+				ops[i++] = entry.getValue();
+			}
+			return new SwapTable(keys, ops);
+		}
+	}
+}
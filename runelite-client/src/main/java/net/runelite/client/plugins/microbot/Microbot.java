@@ -12,6 +12,7 @@ import net.runelite.client.game.NPCManager;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.game.WorldService;
 import net.runelite.client.plugins.microbot.util.mouse.Mouse;
+import net.runelite.client.plugins.microbot.util.snapshot.GameStateSnapshot;
 import net.runelite.client.plugins.microbot.util.walker.Walker;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import net.runelite.client.ui.overlay.worldmap.WorldMapPointManager;
@@ -59,6 +60,8 @@ public class Microbot {
     @Getter
     @Setter
     private static WorldService worldService;
+    @Setter
+    private static ScriptScheduler scriptScheduler;
     public static boolean isGainingExp = false;
     public static boolean pauseAllScripts = false;
     public static String status = "IDLE";
@@ -67,20 +70,44 @@ public class Microbot {
     private static ScheduledFuture<?> xpSchedulorFuture;
     private static net.runelite.api.World quickHopTargetWorld;
 
+    public static synchronized ScriptScheduler getScriptScheduler() {
+        if (scriptScheduler == null) {
+            // scripts can be scheduled before MicrobotPlugin has started and injected the shared instance
+            scriptScheduler = new ScriptScheduler();
+        }
+        return scriptScheduler;
+    }
+
     public static boolean isWalking() {
+        GameStateSnapshot snapshot = GameStateSnapshot.get();
+        if (snapshot != null) {
+            return snapshot.getPlayerPoseAnimation() != 813 && snapshot.getPlayerPoseAnimation() != 808;
+        }
         return Microbot.getClientThread().runOnClientThread(() -> getClient().getLocalPlayer().getPoseAnimation() != 813 && getClient().getLocalPlayer().getPoseAnimation() != 808);
     }
 
     public static boolean isAnimating() {
+        GameStateSnapshot snapshot = GameStateSnapshot.get();
+        if (snapshot != null) {
+            return snapshot.getPlayerAnimation() != -1;
+        }
         return Microbot.getClientThread().runOnClientThread(() -> getClient().getLocalPlayer().getAnimation() != -1);
     }
 
 
     public static int getVarbitValue(int varbit) {
+        GameStateSnapshot snapshot = GameStateSnapshot.get();
+        if (snapshot != null) {
+            return snapshot.getVarbit(varbit);
+        }
         return getClientThread().runOnClientThread(() -> getClient().getVarbitValue(varbit));
     }
 
     public static int getVarbitPlayerValue(int varbit) {
+        GameStateSnapshot snapshot = GameStateSnapshot.get();
+        if (snapshot != null) {
+            return snapshot.getVarp(varbit);
+        }
         return getClientThread().runOnClientThread(() -> getClient().getVarpValue(varbit));
     }
 
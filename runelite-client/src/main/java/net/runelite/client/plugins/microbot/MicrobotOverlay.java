@@ -4,6 +4,7 @@ import net.runelite.client.plugins.microbot.cooking.CookingScript;
 import net.runelite.client.plugins.microbot.mining.MiningScript;
 import net.runelite.client.plugins.microbot.thieving.ThievingScript;
 import net.runelite.client.plugins.microbot.util.walker.PathTileOverlay;
+import net.runelite.client.plugins.microbot.util.walker.pathfinder.PathCache;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.components.LineComponent;
@@ -38,6 +39,15 @@ public class MicrobotOverlay extends OverlayPanel {
                 drawMiningOverlay();
             }
 
+            if (!Microbot.getScriptScheduler().getStats().isEmpty()) {
+                drawSchedulerOverlay();
+            }
+
+            PathCache pathCache = Microbot.getWalker() != null ? Microbot.getWalker().getPathCache() : null;
+            if (pathCache != null && pathCache.getHits() + pathCache.getRepairs() + pathCache.getMisses() > 0) {
+                drawPathCacheOverlay(pathCache);
+            }
+
         } catch(Exception ex) {
             System.out.println(ex.getMessage());
         }
@@ -85,5 +95,37 @@ public class MicrobotOverlay extends OverlayPanel {
                 .build());
     }
 
-}
+    private void drawSchedulerOverlay() {
+        ScriptScheduler scheduler = Microbot.getScriptScheduler();
+        panelComponent.getChildren().add(TitleComponent.builder()
+                .text("Scripts")
+                .color(Color.GREEN)
+                .build());
+
+        panelComponent.getChildren().add(LineComponent.builder()
+                .left("Pool")
+                .right(scheduler.getExecutor().getActiveCount() + "/" + scheduler.getExecutor().getPoolSize()
+                        + " q" + scheduler.getQueueDepth())
+                .build());
 
+        for (ScriptScheduler.ScriptStats stats : scheduler.getStats()) {
+            panelComponent.getChildren().add(LineComponent.builder()
+                    .left(stats.getName())
+                    .right(stats.getAverageMillis() + "ms q" + stats.getQueueDepth())
+                    .rightColor(stats.getQueueDepth() > 0 ? Color.ORANGE : Color.WHITE)
+                    .build());
+        }
+    }
+
+    private void drawPathCacheOverlay(PathCache pathCache) {
+        panelComponent.getChildren().add(TitleComponent.builder()
+                .text("Walker")
+                .color(Color.GREEN)
+                .build());
+
+        panelComponent.getChildren().add(LineComponent.builder()
+                .left("Path cache (" + pathCache.size() + ")")
+                .right(pathCache.getHits() + "h " + pathCache.getRepairs() + "r " + pathCache.getMisses() + "m")
+                .build());
+    }
+}
@@ -3,10 +3,33 @@ package net.runelite.client.plugins.microbot;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.DecorativeObjectDespawned;
+import net.runelite.api.events.DecorativeObjectSpawned;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemQuantityChanged;
+import net.runelite.api.events.ItemSpawned;
 import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.api.events.MenuOpened;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.ScriptPostFired;
 import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.api.events.WidgetClosed;
+import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.Widget;
+import net.runelite.api.widgets.WidgetID;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
@@ -23,13 +46,22 @@ import net.runelite.client.plugins.microbot.mining.MiningScript;
 import net.runelite.client.plugins.microbot.quest.QuestScript;
 import net.runelite.client.plugins.microbot.thieving.ThievingScript;
 import net.runelite.client.plugins.microbot.thieving.summergarden.SummerGardenScript;
+import net.runelite.client.plugins.microbot.util.TickWaiter;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
+import net.runelite.client.plugins.microbot.util.gameobject.SceneObjectIndex;
+import net.runelite.client.plugins.microbot.util.grounditem.GroundItemIndex;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.math.Calculations;
+import net.runelite.client.plugins.microbot.util.math.ReachabilityMap;
 import net.runelite.client.plugins.microbot.util.menu.Rs2Menu;
 import net.runelite.client.plugins.microbot.util.mouse.VirtualMouse;
+import net.runelite.client.plugins.microbot.util.npc.NpcIndex;
 import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.util.snapshot.GameStateSnapshot;
 import net.runelite.client.plugins.microbot.util.walker.Walker;
+import net.runelite.client.plugins.microbot.util.widget.WidgetIndex;
+import net.runelite.client.plugins.microbot.util.walker.pathfinder.PathfinderConfig;
 import net.runelite.client.plugins.microbot.walking.WalkingScript;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.worldmap.WorldMapOverlay;
@@ -74,6 +106,8 @@ public class MicrobotPlugin extends Plugin {
     private SpriteManager spriteManager;
     @Inject
     private WorldMapOverlay worldMapOverlay;
+    @Inject
+    private ScriptScheduler scriptScheduler;
 
     public ThievingScript thievingScript;
     public CookingScript cookingScript;
@@ -93,17 +127,30 @@ public class MicrobotPlugin extends Plugin {
         Microbot.setProfileManager(profileManager);
         Microbot.setItemManager(itemManager);
         Microbot.setNpcManager(npcManager);
+        Microbot.setScriptScheduler(scriptScheduler);
         Microbot.setWalker(new Walker());
         Microbot.setMouse(new VirtualMouse());
         Microbot.setSpriteManager(spriteManager);
         if (overlayManager != null) {
             overlayManager.add(microbotOverlay);
         }
+        clientThread.invokeLater(() -> {
+            GroundItemIndex.rebuild(client);
+            SceneObjectIndex.rebuild(client);
+            NpcIndex.rebuild(client);
+            Rs2Inventory.rebuild(client);
+        });
     }
 
     protected void shutDown() {
         overlayManager.remove(microbotOverlay);
         Microbot.setWalker(null);
+        GameStateSnapshot.clear();
+        GroundItemIndex.clear();
+        SceneObjectIndex.clear();
+        NpcIndex.clear();
+        Rs2Inventory.clear();
+        ReachabilityMap.clear();
         if (cookingScript != null) {
             cookingScript.shutdown();
             cookingScript = null;
@@ -163,9 +210,158 @@ public class MicrobotPlugin extends Plugin {
         }
     }
 
+    @Subscribe
+    public void onGameTick(GameTick gameTick) {
+        GameStateSnapshot.capture(client);
+        ReachabilityMap.update(client);
+        TickWaiter.onGameTick();
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged gameStateChanged) {
+        if (gameStateChanged.getGameState() == GameState.LOADING || gameStateChanged.getGameState() == GameState.LOGIN_SCREEN
+                || gameStateChanged.getGameState() == GameState.HOPPING) {
+            GroundItemIndex.clear();
+            SceneObjectIndex.clear();
+            ReachabilityMap.invalidate();
+        }
+        // npcs are kept across region loads
+        if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN || gameStateChanged.getGameState() == GameState.HOPPING) {
+            NpcIndex.clear();
+        }
+        if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN) {
+            Rs2Inventory.clear();
+            PathfinderConfig pathfinderConfig = Microbot.getWalker() != null ? Microbot.getWalker().peekPathfinderConfig() : null;
+            if (pathfinderConfig != null) {
+                pathfinderConfig.invalidateQuests();
+            }
+        }
+    }
+
+    @Subscribe
+    public void onItemContainerChanged(ItemContainerChanged itemContainerChanged) {
+        Rs2Inventory.onItemContainerChanged(itemContainerChanged);
+    }
+
+    @Subscribe
+    public void onItemSpawned(ItemSpawned itemSpawned) {
+        GroundItemIndex.onItemSpawned(itemSpawned);
+    }
+
+    @Subscribe
+    public void onItemDespawned(ItemDespawned itemDespawned) {
+        GroundItemIndex.onItemDespawned(itemDespawned);
+    }
+
+    @Subscribe
+    public void onItemQuantityChanged(ItemQuantityChanged itemQuantityChanged) {
+        GroundItemIndex.onItemQuantityChanged(itemQuantityChanged);
+    }
+
+    @Subscribe
+    public void onNpcSpawned(NpcSpawned npcSpawned) {
+        NpcIndex.onNpcSpawned(npcSpawned);
+    }
+
+    @Subscribe
+    public void onNpcDespawned(NpcDespawned npcDespawned) {
+        NpcIndex.onNpcDespawned(npcDespawned);
+    }
+
+    @Subscribe
+    public void onNpcChanged(NpcChanged npcChanged) {
+        NpcIndex.onNpcChanged(npcChanged);
+    }
+
+    @Subscribe
+    public void onGameObjectSpawned(GameObjectSpawned gameObjectSpawned) {
+        SceneObjectIndex.add(client, gameObjectSpawned.getGameObject());
+        ReachabilityMap.invalidate();
+    }
+
+    @Subscribe
+    public void onGameObjectDespawned(GameObjectDespawned gameObjectDespawned) {
+        SceneObjectIndex.remove(gameObjectDespawned.getGameObject());
+        ReachabilityMap.invalidate();
+    }
+
+    @Subscribe
+    public void onWallObjectSpawned(WallObjectSpawned wallObjectSpawned) {
+        SceneObjectIndex.add(client, wallObjectSpawned.getWallObject());
+        ReachabilityMap.invalidate();
+    }
+
+    @Subscribe
+    public void onWallObjectDespawned(WallObjectDespawned wallObjectDespawned) {
+        SceneObjectIndex.remove(wallObjectDespawned.getWallObject());
+        ReachabilityMap.invalidate();
+    }
+
+    @Subscribe
+    public void onGroundObjectSpawned(GroundObjectSpawned groundObjectSpawned) {
+        SceneObjectIndex.add(client, groundObjectSpawned.getGroundObject());
+        ReachabilityMap.invalidate();
+    }
+
+    @Subscribe
+    public void onGroundObjectDespawned(GroundObjectDespawned groundObjectDespawned) {
+        SceneObjectIndex.remove(groundObjectDespawned.getGroundObject());
+        ReachabilityMap.invalidate();
+    }
+
+    @Subscribe
+    public void onDecorativeObjectSpawned(DecorativeObjectSpawned decorativeObjectSpawned) {
+        SceneObjectIndex.add(client, decorativeObjectSpawned.getDecorativeObject());
+    }
+
+    @Subscribe
+    public void onDecorativeObjectDespawned(DecorativeObjectDespawned decorativeObjectDespawned) {
+        SceneObjectIndex.remove(decorativeObjectDespawned.getDecorativeObject());
+    }
+
+    @Subscribe
+    public void onClientTick(ClientTick clientTick) {
+        WidgetIndex.onClientTick();
+        TickWaiter.onClientTick();
+    }
+
+    @Subscribe
+    public void onWidgetLoaded(WidgetLoaded widgetLoaded) {
+        WidgetIndex.invalidate();
+        // the quest complete scroll is also shown for miniquests, which award no quest points
+        if (widgetLoaded.getGroupId() == WidgetID.QUEST_COMPLETED_GROUP_ID) {
+            PathfinderConfig pathfinderConfig = Microbot.getWalker() != null ? Microbot.getWalker().peekPathfinderConfig() : null;
+            if (pathfinderConfig != null) {
+                pathfinderConfig.invalidateQuests();
+            }
+        }
+    }
+
+    @Subscribe
+    public void onWidgetClosed(WidgetClosed widgetClosed) {
+        WidgetIndex.invalidate();
+    }
+
+    @Subscribe
+    public void onScriptPostFired(ScriptPostFired scriptPostFired) {
+        WidgetIndex.onScriptPostFired();
+    }
+
     @Subscribe
     public void onStatChanged(StatChanged statChanged) {
         Microbot.setIsGainingExp(true);
+        PathfinderConfig pathfinderConfig = Microbot.getWalker() != null ? Microbot.getWalker().peekPathfinderConfig() : null;
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onStatChanged(statChanged.getSkill(), statChanged.getBoostedLevel());
+        }
+    }
+
+    @Subscribe
+    public void onVarbitChanged(VarbitChanged varbitChanged) {
+        PathfinderConfig pathfinderConfig = Microbot.getWalker() != null ? Microbot.getWalker().peekPathfinderConfig() : null;
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onVarbitChanged(varbitChanged);
+        }
     }
 
     private Consumer<MenuEntry> menuActionNpcConsumer(boolean shift, net.runelite.api.NPC npc) {
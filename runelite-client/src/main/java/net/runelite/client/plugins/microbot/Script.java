@@ -7,6 +7,7 @@ import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.plugins.microbot.util.TickWaiter;
 import net.runelite.client.plugins.microbot.util.globval.enums.InterfaceTab;
 import net.runelite.client.plugins.microbot.util.inventory.Inventory;
 import net.runelite.client.plugins.microbot.util.keyboard.VirtualKeyboard;
@@ -17,8 +18,6 @@ import net.runelite.client.plugins.microbot.util.tabs.Tab;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import java.awt.event.KeyEvent;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
@@ -27,7 +26,7 @@ import static net.runelite.api.widgets.WidgetID.LEVEL_UP_GROUP_ID;
 
 public abstract class Script implements IScript {
 
-    protected ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(100);
+    protected ScriptExecutor scheduledExecutorService = new ScriptExecutor(this);
     protected ScheduledFuture<?> scheduledFuture;
     public ScheduledFuture<?> mainScheduledFuture;
     public static boolean hasLeveledUp = false;
@@ -37,21 +36,18 @@ public abstract class Script implements IScript {
     }
 
     public void sleep(int time) {
-        long startTime = System.currentTimeMillis();
-        do {
-            Microbot.status = "[Sleeping] for " + time + " ms";
-        } while (System.currentTimeMillis() - startTime < time);
+        Microbot.status = "[Sleeping] for " + time + " ms";
+        TickWaiter.sleep(time);
     }
 
     public void sleep(int start, int end) {
-        long startTime = System.currentTimeMillis();
-        do {
-            Microbot.status = "[Sleeping] between " + start + " ms and " + end + " ms";
-        } while (System.currentTimeMillis() - startTime < Random.random(start, end));
+        Microbot.status = "[Sleeping] between " + start + " ms and " + end + " ms";
+        TickWaiter.sleep(Random.random(start, end));
     }
 
     public ScheduledFuture<?> keepExecuteUntil(Runnable callback, BooleanSupplier awaitedCondition, int time) {
-        scheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        // a condition poll, so it runs on the helper executor instead of taking a thread from the script loops
+        scheduledFuture = scheduledExecutorService.scheduleHelperWithFixedDelay(() -> {
             if (awaitedCondition.getAsBoolean()) {
                 scheduledFuture.cancel(true);
                 scheduledFuture = null;
@@ -67,11 +63,7 @@ public abstract class Script implements IScript {
     }
 
     public void sleepUntil(BooleanSupplier awaitedCondition, int time) {
-        boolean done;
-        long startTime = System.currentTimeMillis();
-        do {
-            done = awaitedCondition.getAsBoolean();
-        } while (!done && System.currentTimeMillis() - startTime < time);
+        TickWaiter.sleepUntil(awaitedCondition, time);
     }
 
     public void sleepUntilOnClientThread(BooleanSupplier awaitedCondition) {
@@ -79,12 +71,8 @@ public abstract class Script implements IScript {
     }
 
     public void sleepUntilOnClientThread(BooleanSupplier awaitedCondition, int time) {
-        boolean done;
-        long startTime = System.currentTimeMillis();
-        do {
-            Microbot.status = "[ConditionalSleep] for " + time / 1000 + " seconds";
-            done = Microbot.getClientThread().runOnClientThread(() -> awaitedCondition.getAsBoolean() || hasLeveledUp);
-        } while (!done && System.currentTimeMillis() - startTime < time);
+        Microbot.status = "[ConditionalSleep] for " + time / 1000 + " seconds";
+        TickWaiter.sleepUntil(() -> Microbot.getClientThread().runOnClientThread(() -> awaitedCondition.getAsBoolean() || hasLeveledUp), time);
     }
 
 
@@ -94,6 +82,7 @@ public abstract class Script implements IScript {
             Rs2Menu.setOption("");
             mainScheduledFuture.cancel(true);
         }
+        scheduledExecutorService.cancelAll();
     }
 
     public boolean run() {
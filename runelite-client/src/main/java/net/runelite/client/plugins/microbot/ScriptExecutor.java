@@ -0,0 +1,79 @@
+package net.runelite.client.plugins.microbot;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-script view onto the shared {@link ScriptScheduler}. Tasks scheduled through it run on the
+ * shared pool and are accounted to the owning script. The scheduler is resolved on first use, so
+ * scripts may be constructed before the Microbot plugin has started.
+ * <p>
+ * Every periodic task is treated as a script loop and gets a pool thread of its own.
+ */
+public class ScriptExecutor {
+    private final Object owner;
+    private ScriptScheduler scheduler;
+
+    public ScriptExecutor(Object owner) {
+        this.owner = owner;
+    }
+
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        ScriptScheduler scheduler = scheduler();
+        ScriptScheduler.ScriptStats stats = scheduler.register(owner);
+        ScheduledFuture<?> future = scheduler.getExecutor().schedule(stats.wrap(command), delay, unit);
+        stats.track(future);
+        return future;
+    }
+
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        ScriptScheduler scheduler = scheduler();
+        ScriptScheduler.ScriptStats stats = scheduler.register(owner);
+        ScheduledFuture<?> future = scheduler.getExecutor().scheduleAtFixedRate(stats.wrap(command), initialDelay, period, unit);
+        stats.track(future);
+        scheduler.updatePoolSize();
+        return future;
+    }
+
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        ScriptScheduler scheduler = scheduler();
+        ScriptScheduler.ScriptStats stats = scheduler.register(owner);
+        ScheduledFuture<?> future = scheduler.getExecutor().scheduleWithFixedDelay(stats.wrap(command), initialDelay, delay, unit);
+        stats.track(future);
+        scheduler.updatePoolSize();
+        return future;
+    }
+
+    /**
+     * Schedules a short, repeating helper task, such as a condition poll, on the scheduler's helper executor
+     * rather than the pool the script loops block on. It is still cancelled by {@link #cancelAll()}.
+     */
+    public ScheduledFuture<?> scheduleHelperWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        ScriptScheduler scheduler = scheduler();
+        ScheduledFuture<?> future = scheduler.getHelperExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
+        scheduler.register(owner).track(future);
+        return future;
+    }
+
+    /**
+     * Cancels every task scheduled through this executor and drops the owner's statistics.
+     */
+    public synchronized void cancelAll() {
+        if (scheduler == null) {
+            return;
+        }
+        for (ScheduledFuture<?> future : scheduler.register(owner).drainFutures()) {
+            future.cancel(true);
+        }
+        scheduler.unregister(owner);
+        scheduler.updatePoolSize();
+        scheduler = null;
+    }
+
+    private synchronized ScriptScheduler scheduler() {
+        if (scheduler == null) {
+            scheduler = Microbot.getScriptScheduler();
+        }
+        return scheduler;
+    }
+}
@@ -0,0 +1,190 @@
+package net.runelite.client.plugins.microbot;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared, bounded pool that runs the loops of every {@link Script}.
+ * <p>
+ * Scripts no longer own a thread pool; each one gets a {@link ScriptExecutor} view onto this scheduler
+ * that tracks its run time and queue depth. Due tasks are dispatched in trigger-time order, so a script
+ * that is waiting for a free thread is served before scripts whose next run came due later.
+ * <p>
+ * Script loops block while they wait on the game, so short helper tasks such as condition polls and delayed
+ * input events run on a separate {@link #getHelperExecutor() helper executor}. A script blocked on one of them
+ * can then never hold the thread it needs. For the same reason the pool grows to one thread per running loop,
+ * see {@link #updatePoolSize()}, so loops never wait on each other however many scripts run at once.
+ */
+@Singleton
+@Slf4j
+public class ScriptScheduler {
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int HELPER_POOL_SIZE = 2;
+
+    @Getter
+    private final ScheduledThreadPoolExecutor executor;
+    /**
+     * Runs short, non-blocking tasks scheduled by scripts, kept apart from the blocking script loops.
+     */
+    @Getter
+    private final ScheduledThreadPoolExecutor helperExecutor;
+    private final Map<Object, ScriptStats> stats = new ConcurrentHashMap<>();
+
+    @Inject
+    public ScriptScheduler() {
+        executor = new ScheduledThreadPoolExecutor(POOL_SIZE, threadFactory("microbot-script-"));
+        executor.setRemoveOnCancelPolicy(true);
+        helperExecutor = new ScheduledThreadPoolExecutor(HELPER_POOL_SIZE, threadFactory("microbot-helper-"));
+        helperExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    ScriptStats register(Object owner) {
+        return stats.computeIfAbsent(owner, o -> new ScriptStats(o.getClass().getSimpleName()));
+    }
+
+    void unregister(Object owner) {
+        stats.remove(owner);
+    }
+
+    public Collection<ScriptStats> getStats() {
+        List<ScriptStats> list = new ArrayList<>(stats.values());
+        list.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Sizes the pool to at least one thread per periodic task, the script loops, that is still scheduled. A loop
+     * spends most of its time blocked in sleeps, so sharing a thread between loops would stall the others.
+     */
+    synchronized void updatePoolSize() {
+        int loops = 0;
+        for (ScriptStats scriptStats : stats.values()) {
+            loops += scriptStats.countLoops();
+        }
+        int size = Math.max(POOL_SIZE, loops);
+        if (size != executor.getCorePoolSize()) {
+            executor.setCorePoolSize(size);
+        }
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Runnable task : executor.getQueue()) {
+            if (task instanceof ScheduledFuture && ((ScheduledFuture<?>) task).getDelay(TimeUnit.NANOSECONDS) <= 0) {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    public static class ScriptStats {
+        @Getter
+        private final String name;
+        private final AtomicInteger running = new AtomicInteger();
+        private final List<ScheduledFuture<?>> futures = Collections.synchronizedList(new ArrayList<>());
+        @Getter
+        private volatile long runs;
+        @Getter
+        private volatile long totalNanos;
+        @Getter
+        private volatile long lastNanos;
+
+        ScriptStats(String name) {
+            this.name = name;
+        }
+
+        void track(ScheduledFuture<?> future) {
+            synchronized (futures) {
+                futures.removeIf(ScheduledFuture::isDone);
+                futures.add(future);
+            }
+        }
+
+        int countLoops() {
+            int loops = 0;
+            synchronized (futures) {
+                for (ScheduledFuture<?> future : futures) {
+                    if (!future.isDone() && future instanceof RunnableScheduledFuture && ((RunnableScheduledFuture<?>) future).isPeriodic()) {
+                        loops++;
+                    }
+                }
+            }
+            return loops;
+        }
+
+        List<ScheduledFuture<?>> drainFutures() {
+            synchronized (futures) {
+                List<ScheduledFuture<?>> copy = new ArrayList<>(futures);
+                futures.clear();
+                return copy;
+            }
+        }
+
+        Runnable wrap(Runnable task) {
+            return () -> {
+                running.incrementAndGet();
+                long start = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    record(System.nanoTime() - start);
+                    running.decrementAndGet();
+                }
+            };
+        }
+
+        private synchronized void record(long nanos) {
+            runs++;
+            totalNanos += nanos;
+            lastNanos = nanos;
+        }
+
+        public long getAverageMillis() {
+            long r = runs;
+            return r == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / r);
+        }
+
+        /**
+         * Number of this script's tasks that are due but still waiting for a pool thread.
+         */
+        public int getQueueDepth() {
+            int due = 0;
+            synchronized (futures) {
+                for (ScheduledFuture<?> future : futures) {
+                    if (!future.isDone() && future.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+                        due++;
+                    }
+                }
+            }
+            return Math.max(0, due - running.get());
+        }
+
+        public boolean isRunning() {
+            return running.get() > 0;
+        }
+    }
+}
@@ -16,8 +16,6 @@ import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import java.awt.event.KeyEvent;
 import java.util.Arrays;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 public class HouseTabScript extends Script {
@@ -34,8 +32,6 @@ public class HouseTabScript extends Script {
     private final HOUSETABS_CONFIG houseTabConfig;
     private final String[] playerHouses;
 
-    private final ScheduledExecutorService scheduledExecutorService;
-
 
     private boolean hasSoftClay() {
         return Inventory.hasItem(1761);
@@ -52,7 +48,6 @@ public class HouseTabScript extends Script {
     public HouseTabScript(HOUSETABS_CONFIG houseTabConfig, String[] playerHouses) {
         this.houseTabConfig = houseTabConfig;
         this.playerHouses = playerHouses;
-        scheduledExecutorService = Executors.newScheduledThreadPool(1);
     }
 
     private void lookForHouseAdvertisementObject() {
@@ -12,10 +12,8 @@ import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 public class AttackNpcScript extends Script {
 
@@ -32,14 +30,14 @@ public class AttackNpcScript extends Script {
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
                 if (!super.run()) return;
-                 attackableNpcs =  Microbot.getClient().getNpcs().stream()
-                        .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                        .filter(x -> !x.isDead()
-                                && x.getWorldLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation()) < 7
-                                && (!x.isInteracting() || x.getInteracting() == Microbot.getClient().getLocalPlayer())
-                                && (x.getInteracting() == null  || x.getInteracting() == Microbot.getClient().getLocalPlayer())
-                                && x.getAnimation() == -1 && npcToAttack.toLowerCase().equals(x.getName().toLowerCase())).collect(Collectors.toList());
-                Player player = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getLocalPlayer());
+                Player player = Microbot.getClient().getLocalPlayer();
+                attackableNpcs = Rs2Npc.query()
+                        .withName(npcToAttack)
+                        .alive()
+                        .within(player.getWorldLocation(), 6)
+                        .notInteractingWithOthers(player)
+                        .filter(x -> x.getAnimation() == -1)
+                        .sorted();
                 if (player.isInteracting() || player.getAnimation() != -1) {
                     return;
                 }
@@ -17,9 +17,11 @@ import net.runelite.client.plugins.microbot.util.menu.Rs2Menu;
 
 import java.awt.*;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class LootScript extends Script {
+    private static final List<String> ARROWS = Arrays.asList("bronze arrow", "iron arrow", "steel arrow", "mithril arrow", "adamant arrow", "rune arrow", "dragon arrow");
 
     private String[] lootItems;
 
@@ -59,9 +61,11 @@ public class LootScript extends Script {
         lootItems = Arrays.stream(config.itemsToLoot().split(",")).map(x -> x.trim()).toArray(String[]::new);
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay((() -> {
             if (!super.run()) return;
+            // the names are tried in order, so the items listed first in the config are looted first; each name is
+            // a lookup in the ground item index rather than a scene scan
             if (config.toggleLootArrows()) {
-                for (String lootItem : Arrays.asList("bronze arrow", "iron arrow", "steel arrow", "mithril arrow", "adamant arrow", "rune arrow", "dragon arrow")) {
-                    if (GroundItem.loot(lootItem, 13, 14))
+                for (String arrow : ARROWS) {
+                    if (GroundItem.loot(arrow, 13, 14))
                         break;
                 }
             }
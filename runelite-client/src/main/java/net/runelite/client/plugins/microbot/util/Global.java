@@ -1,20 +1,16 @@
 package net.runelite.client.plugins.microbot.util;
 
-import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.math.Random;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
 public class Global {
-    static ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(10);
     static ScheduledFuture<?> scheduledFuture;
     public static ScheduledFuture<?> awaitExecutionUntil(Runnable callback, BooleanSupplier awaitedCondition, int time) {
-        scheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
+        scheduledFuture = Microbot.getScriptScheduler().getHelperExecutor().scheduleWithFixedDelay(() -> {
             if (awaitedCondition.getAsBoolean()) {
                 scheduledFuture.cancel(true);
                 scheduledFuture = null;
@@ -26,34 +22,22 @@ public class Global {
 
     public static void sleep(int start) {
         if (!Microbot.getClient().isClientThread()) {
-            long startTime = System.currentTimeMillis();
-            do {
-            } while (System.currentTimeMillis() - startTime < start);
+            TickWaiter.sleep(start);
         }
     }
 
     public static void sleep(int start, int end) {
         if (!Microbot.getClient().isClientThread()) {
-            long startTime = System.currentTimeMillis();
-            do {
-            } while (System.currentTimeMillis() - startTime < Random.random(start, end));
+            TickWaiter.sleep(Random.random(start, end));
         }
     }
 
     public static void sleepUntil(BooleanSupplier awaitedCondition) {
-        boolean done;
-        long startTime = System.currentTimeMillis();
-        do {
-            done = awaitedCondition.getAsBoolean();
-        } while (!done && System.currentTimeMillis() - startTime < 5000);
+        sleepUntil(awaitedCondition, 5000);
     }
 
     public static void sleepUntil(BooleanSupplier awaitedCondition, int time) {
-        boolean done;
-        long startTime = System.currentTimeMillis();
-        do {
-            done = awaitedCondition.getAsBoolean();
-        } while (!done && System.currentTimeMillis() - startTime < time);
+        TickWaiter.sleepUntil(awaitedCondition, time);
     }
 
     public static void sleepUntilOnClientThread(BooleanSupplier awaitedCondition) {
@@ -61,10 +45,6 @@ public class Global {
     }
 
     public static void sleepUntilOnClientThread(BooleanSupplier awaitedCondition, int time) {
-        boolean done;
-        long startTime = System.currentTimeMillis();
-        do {
-            done = Microbot.getClientThread().runOnClientThread(() -> awaitedCondition.getAsBoolean());
-        } while (!done && System.currentTimeMillis() - startTime < time);
+        TickWaiter.sleepUntil(() -> Microbot.getClientThread().runOnClientThread(awaitedCondition::getAsBoolean), time);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package net.runelite.client.plugins.microbot.util;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Parks script threads instead of spinning on {@link System#currentTimeMillis()}.
+ * <p>
+ * Waiting threads are parked with {@link LockSupport} and woken either by a game/client tick
+ * (see {@link #onGameTick()} and {@link #onClientTick()}) or after {@link #getPollInterval()} ms,
+ * whichever comes first, at which point any awaited condition is re-evaluated.
+ * <p>
+ * Like the busy-waits they replace, waits are not cut short by an interrupt. The interrupt is remembered and
+ * restored when the wait ends, so it stays visible to the caller without turning every later park into a no-op.
+ */
+public class TickWaiter {
+    private static final Set<Thread> waiters = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong gameTicks = new AtomicLong();
+
+    /**
+     * Maximum time in ms a waiting thread stays parked before re-evaluating its condition
+     * when no tick arrives.
+     */
+    @Getter
+    @Setter
+    private static volatile int pollInterval = 100;
+
+    /**
+     * Whether client ticks (every frame) should wake waiters, in addition to game ticks.
+     */
+    @Getter
+    @Setter
+    private static volatile boolean wakeOnClientTick = true;
+
+    public static long getGameTicks() {
+        return gameTicks.get();
+    }
+
+    public static void onGameTick() {
+        gameTicks.incrementAndGet();
+        wakeAll();
+    }
+
+    public static void onClientTick() {
+        if (wakeOnClientTick) {
+            wakeAll();
+        }
+    }
+
+    private static void wakeAll() {
+        for (Thread thread : waiters) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Parks the current thread for the given amount of time.
+     */
+    public static void sleep(long millis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean interrupted = false;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            // parkNanos returns at once while the interrupt flag is set, so clear it for the wait
+            interrupted |= Thread.interrupted();
+            LockSupport.parkNanos(remaining);
+        }
+        if (interrupted || Thread.interrupted()) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parks the current thread until the condition holds or the timeout elapses.
+     *
+     * @return whether the condition was met
+     */
+    public static boolean sleepUntil(BooleanSupplier awaitedCondition, long timeoutMillis) {
+        if (awaitedCondition.getAsBoolean()) {
+            return true;
+        }
+
+        final Thread thread = Thread.currentThread();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        final long pollNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, pollInterval));
+        boolean interrupted = false;
+        waiters.add(thread);
+        try {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                interrupted |= Thread.interrupted();
+                LockSupport.parkNanos(Math.min(remaining, pollNanos));
+                if (awaitedCondition.getAsBoolean()) {
+                    return true;
+                }
+            }
+        } finally {
+            waiters.remove(thread);
+            if (interrupted || Thread.interrupted()) {
+                thread.interrupt();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parks the current thread for the given amount of game ticks.
+     */
+    public static void sleepTicks(int ticks, long timeoutMillis) {
+        final long target = gameTicks.get() + ticks;
+        sleepUntil(() -> gameTicks.get() >= target, timeoutMillis);
+    }
+}
@@ -4,6 +4,7 @@ import net.runelite.api.*;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.inventory.Inventory;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.menu.Rs2Menu;
 import net.runelite.client.plugins.microbot.util.tabs.Tab;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
@@ -76,33 +77,10 @@ public class Rs2Equipment {
     }
 
     public static boolean hasEquipped(String itemName) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            final ItemContainer container = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemContainer(InventoryID.EQUIPMENT));
-            if (container == null) return false;
-            for (EquipmentInventorySlot value: EquipmentInventorySlot.values()) {
-                Item itemSlot = container.getItem(value.getSlotIdx());
-                if (itemSlot == null) continue;
-                ItemComposition item =  Microbot.getItemManager().getItemComposition(itemSlot.getId());
-                if (item.getName().toLowerCase().equals(itemName.toLowerCase())) {
-                    return true;
-                }
-            }
-            return false;
-        });
+        return Rs2Inventory.equipment().contains(itemName);
     }
 
     public static boolean hasEquipped(int id) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            final ItemContainer container = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemContainer(InventoryID.EQUIPMENT));
-            if (container == null) return false;
-            for (EquipmentInventorySlot value: EquipmentInventorySlot.values()) {
-                Item itemSlot = container.getItem(value.getSlotIdx());
-                if (itemSlot == null) continue;
-                if (itemSlot.getId() == id) {
-                    return true;
-                }
-            }
-            return false;
-        });
+        return Rs2Inventory.equipment().contains(id);
     }
 }
@@ -18,6 +18,12 @@ import static net.runelite.client.plugins.microbot.util.Global.sleep;
 
 public class Rs2GameObject {
 
+    /**
+     * Objects further than this from the player, in local units, are not matched by name or option.
+     */
+    private static final int COMPOSITION_DISTANCE = 2400;
+    private static final int COMPOSITION_TILES = COMPOSITION_DISTANCE / Perspective.LOCAL_TILE_SIZE + 1;
+
     public static TileObject objectToInteract = null;
     public static String objectAction = null;
 
@@ -101,112 +107,20 @@ public class Rs2GameObject {
     }
 
     public static TileObject findObjectById(int id) {
-
-        List<GameObject> gameObjects = getGameObjects();
-
-        if (gameObjects == null) return null;
-
-        for (net.runelite.api.GameObject gameObject : gameObjects) {
-            if (gameObject.getId() == id)
-                return gameObject;
-        }
-
-        List<GroundObject> groundObjects = getGroundObjects();
-
-        for (GroundObject groundObject : groundObjects) {
-            if (groundObject.getId() == id)
-                return groundObject;
-        }
-
-        List<WallObject> wallObjects = getWallObjects();
-
-
-        for (WallObject wallObject : wallObjects) {
-            if (wallObject.getId() == id)
-                return wallObject;
-        }
-
-        List<DecorativeObject> decorationObjects = getDecorationObjects();
-
-
-        for (DecorativeObject decorativeObject : decorationObjects) {
-            if (decorativeObject.getId() == id)
-                return decorativeObject;
-        }
-
-        return null;
+        WorldPoint origin = Microbot.getClient().getLocalPlayer().getWorldLocation();
+        return SceneObjectIndex.getNearestById(id, origin, Constants.SCENE_SIZE, Rs2GameObject::isInteractable);
     }
 
     public static TileObject findObjectByIdAndDistance(int id, int distance) {
-
-        List<GameObject> gameObjects = getGameObjects();
-
-        gameObjects = gameObjects.stream().filter(x -> Microbot.getClient().getLocalPlayer().getWorldLocation().distanceTo(x.getWorldLocation()) < distance).collect(Collectors.toList());
-
-        if (gameObjects == null) return null;
-
-        for (net.runelite.api.GameObject gameObject : gameObjects) {
-            if (gameObject.getId() == id)
-                return gameObject;
-        }
-
-        List<GroundObject> groundObjects = getGroundObjects();
-
-        groundObjects = groundObjects.stream().filter(x -> Microbot.getClient().getLocalPlayer().getWorldLocation().distanceTo(x.getWorldLocation()) < distance).collect(Collectors.toList());
-
-
-        for (GroundObject groundObject : groundObjects) {
-            if (groundObject.getId() == id)
-                return groundObject;
-        }
-
-        List<WallObject> wallObjects = getWallObjects();
-
-        wallObjects = wallObjects.stream().filter(x -> Microbot.getClient().getLocalPlayer().getWorldLocation().distanceTo(x.getWorldLocation()) < distance).collect(Collectors.toList());
-
-
-        for (WallObject wallObject : wallObjects) {
-            if (wallObject.getId() == id)
-                return wallObject;
-        }
-
-        List<DecorativeObject> decorationObjects = getDecorationObjects();
-
-        decorationObjects = decorationObjects.stream().filter(x -> Microbot.getClient().getLocalPlayer().getWorldLocation().distanceTo(x.getWorldLocation()) < distance).collect(Collectors.toList());
-
-        for (DecorativeObject decorativeObject : decorationObjects) {
-            if (decorativeObject.getId() == id)
-                return decorativeObject;
-        }
-
-        return null;
+        WorldPoint origin = Microbot.getClient().getLocalPlayer().getWorldLocation();
+        return SceneObjectIndex.getNearestById(id, origin, distance - 1, Rs2GameObject::isInteractable);
     }
 
-    private static List<DecorativeObject> getDecorationObjects() {
-        Scene scene = Microbot.getClient().getScene();
-        Tile[][][] tiles = scene.getTiles();
-
-        int z = Microbot.getClient().getPlane();
-        List<DecorativeObject> tileObjects = new ArrayList<>();
-        for (int x = 0; x < Constants.SCENE_SIZE; ++x) {
-            for (int y = 0; y < Constants.SCENE_SIZE; ++y) {
-                Tile tile = tiles[z][x][y];
-
-                if (tile == null) {
-                    continue;
-                }
-
-                tileObjects.add(tile.getDecorativeObject());
-            }
-        }
-
-
-        List<DecorativeObject> decorativeObjects = Arrays.stream(tileObjects.toArray(new DecorativeObject[tileObjects.size()]))
-                .filter(value -> value != null)
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-
-        return decorativeObjects;
+    /**
+     * Wall objects with a config of 63 or lower are not matched by id.
+     */
+    private static boolean isInteractable(TileObject object, ObjectComposition objComp) {
+        return !(object instanceof WallObject) || ((WallObject) object).getConfig() > 63;
     }
 
     public static GameObject findObjectById(int id, int x) {
@@ -254,29 +168,13 @@ public class Rs2GameObject {
 
 
     public static GameObject findObject(String objectName, boolean exact) {
-
-        List<GameObject> gameObjects = getGameObjects();
-
-        if (gameObjects == null) return null;
-
-        for (net.runelite.api.GameObject gameObject : gameObjects) {
-
-            ObjectComposition objComp = convertGameObjectToObjectComposition(gameObject);
-
-            if (objComp == null) continue;
-
-            if (exact) {
-                if (objComp.getName().toLowerCase().equals(objectName.toLowerCase())) {
-                    return gameObject;
-                }
-            } else {
-                if (objComp.getName().toLowerCase().contains(objectName.toLowerCase())) {
-                    return gameObject;
-                }
-            }
+        WorldPoint origin = Microbot.getClient().getLocalPlayer().getWorldLocation();
+        if (exact) {
+            return SceneObjectIndex.getNearestByName(GameObject.class, objectName, origin, COMPOSITION_TILES, Rs2GameObject::inCompositionRange);
         }
-
-        return null;
+        String name = objectName.toLowerCase();
+        return SceneObjectIndex.getNearest(GameObject.class, origin, COMPOSITION_TILES, (object, objComp) ->
+                inCompositionRange(object, objComp) && objComp.getName().toLowerCase().contains(name));
     }
 
     public static boolean hasAction(ObjectComposition objComp, String action) {
@@ -358,28 +256,11 @@ public class Rs2GameObject {
     }
 
     public static GameObject findObjectByOption(String optionName, boolean exact) {
-        List<GameObject> gameObjects = getGameObjects();
-
-        if (gameObjects == null) return null;
-
-        for (net.runelite.api.GameObject gameObject : gameObjects) {
-
-            ObjectComposition objComp = convertGameObjectToObjectComposition(gameObject);
-
-            if (objComp == null) continue;
-
-            if (exact) {
-                if (Arrays.stream(objComp.getActions()).filter(action -> action != null).anyMatch((action) -> action.toLowerCase().equals(optionName.toLowerCase()))) {
-                    return gameObject;
-                }
-            } else {
-                if (Arrays.stream(objComp.getActions()).filter(action -> action != null).anyMatch((action) -> action.toLowerCase().contains(optionName.toLowerCase()))) {
-                    return gameObject;
-                }
-            }
-        }
-
-        return null;
+        WorldPoint origin = Microbot.getClient().getLocalPlayer().getWorldLocation();
+        String option = optionName.toLowerCase();
+        return SceneObjectIndex.getNearest(GameObject.class, origin, COMPOSITION_TILES, (object, objComp) ->
+                inCompositionRange(object, objComp) && Arrays.stream(objComp.getActions()).filter(action -> action != null)
+                        .anyMatch(action -> exact ? action.toLowerCase().equals(option) : action.toLowerCase().contains(option)));
     }
 
 
@@ -407,11 +288,15 @@ public class Rs2GameObject {
 
     public static ObjectComposition convertGameObjectToObjectComposition(GameObject gameObject) {
         Player player = Microbot.getClient().getLocalPlayer();
-        if (player.getLocalLocation().distanceTo(gameObject.getLocalLocation()) > 2400) return null;
+        if (player.getLocalLocation().distanceTo(gameObject.getLocalLocation()) > COMPOSITION_DISTANCE) return null;
         ObjectComposition objComp = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getObjectDefinition(gameObject.getId()));
         return objComp;
     }
 
+    private static boolean inCompositionRange(TileObject object, ObjectComposition objComp) {
+        return objComp != null && Microbot.getClient().getLocalPlayer().getLocalLocation().distanceTo(object.getLocalLocation()) <= COMPOSITION_DISTANCE;
+    }
+
     public static WallObject findDoor(int id) {
         Scene scene = Microbot.getClient().getScene();
         Tile[][][] tiles = scene.getTiles();
@@ -483,60 +368,6 @@ public class Rs2GameObject {
         return gameObjects;
     }
 
-    private static List<GroundObject> getGroundObjects() {
-        Scene scene = Microbot.getClient().getScene();
-        Tile[][][] tiles = scene.getTiles();
-
-        int z = Microbot.getClient().getPlane();
-        List<GroundObject> tileObjects = new ArrayList<>();
-        for (int x = 0; x < Constants.SCENE_SIZE; ++x) {
-            for (int y = 0; y < Constants.SCENE_SIZE; ++y) {
-                Tile tile = tiles[z][x][y];
-
-                if (tile == null) {
-                    continue;
-                }
-
-                tileObjects.add(tile.getGroundObject());
-            }
-        }
-
-
-        List<GroundObject> groundObjects = Arrays.stream(tileObjects.toArray(new GroundObject[tileObjects.size()]))
-                .filter(value -> value != null)
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-
-        return groundObjects;
-    }
-
-    private static List<WallObject> getWallObjects() {
-        Scene scene = Microbot.getClient().getScene();
-        Tile[][][] tiles = scene.getTiles();
-
-        int z = Microbot.getClient().getPlane();
-        List<WallObject> tileObjects = new ArrayList<>();
-        for (int x = 0; x < Constants.SCENE_SIZE; ++x) {
-            for (int y = 0; y < Constants.SCENE_SIZE; ++y) {
-                Tile tile = tiles[z][x][y];
-
-                if (tile == null) {
-                    continue;
-                }
-
-                tileObjects.add(tile.getWallObject());
-            }
-        }
-
-
-        List<WallObject> wallObjects = Arrays.stream(tileObjects.toArray(new WallObject[tileObjects.size()]))
-                .filter(value -> value != null && value.getConfig() > 63)
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-
-        return wallObjects;
-    }
-
     private static boolean clickObject(TileObject object) {
         if (object != null && object.getClickbox() != null) {
             Microbot.getMouse().click(object.getClickbox().getBounds());
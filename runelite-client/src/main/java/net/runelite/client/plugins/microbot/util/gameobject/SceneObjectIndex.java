@@ -0,0 +1,275 @@
+package net.runelite.client.plugins.microbot.util.gameobject;
+
+import net.runelite.api.Client;
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.GroundObject;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.WallObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.util.walker.pathfinder.WorldPointUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Game, wall, ground and decorative objects in the scene, kept up to date from the object spawn events instead of
+ * sweeping every tile on each query.
+ * <p>
+ * Objects are indexed by id, by lower-cased name and by 8x8 chunk for nearest and within-distance queries. The
+ * event handlers run on the client thread, which is also where the object names are resolved; queries may run on
+ * any thread.
+ */
+public class SceneObjectIndex {
+    private static final int CHUNK_SHIFT = 3;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final Map<TileObject, Entry> entries = new IdentityHashMap<>();
+    private static final Map<Integer, List<Entry>> byId = new HashMap<>();
+    private static final Map<String, List<Entry>> byName = new HashMap<>();
+    private static final Map<Integer, List<Entry>> byChunk = new HashMap<>();
+
+    private static class Entry {
+        private final TileObject object;
+        private final ObjectComposition composition;
+        private final String name;
+        private final WorldPoint location;
+        private final int rank;
+
+        private Entry(TileObject object, ObjectComposition composition) {
+            this.object = object;
+            this.composition = composition;
+            this.name = composition == null || composition.getName() == null ? "" : composition.getName().toLowerCase();
+            this.location = object.getWorldLocation();
+            this.rank = rank(object);
+        }
+    }
+
+    /**
+     * Adds a spawned object. Must be called on the client thread.
+     */
+    public static void add(Client client, TileObject object) {
+        if (object == null) {
+            return;
+        }
+        Entry entry = new Entry(object, client.getObjectDefinition(object.getId()));
+        synchronized (entries) {
+            // multi-tile objects can be reported for every tile they cover
+            if (entries.putIfAbsent(object, entry) != null) {
+                return;
+            }
+            byId.computeIfAbsent(object.getId(), k -> new ArrayList<>()).add(entry);
+            byName.computeIfAbsent(entry.name, k -> new ArrayList<>()).add(entry);
+            byChunk.computeIfAbsent(chunkKey(entry.location), k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    public static void remove(TileObject object) {
+        if (object == null) {
+            return;
+        }
+        synchronized (entries) {
+            Entry entry = entries.remove(object);
+            if (entry == null) {
+                return;
+            }
+            removeFrom(byId, object.getId(), entry);
+            removeFrom(byName, entry.name, entry);
+            removeFrom(byChunk, chunkKey(entry.location), entry);
+        }
+    }
+
+    /**
+     * Re-indexes every object in the scene. Must be called on the client thread.
+     */
+    public static void rebuild(Client client) {
+        clear();
+        if (client.getGameState() != GameState.LOGGED_IN) {
+            return;
+        }
+        for (Tile[][] plane : client.getScene().getTiles()) {
+            for (Tile[] column : plane) {
+                for (Tile tile : column) {
+                    if (tile == null) {
+                        continue;
+                    }
+                    for (GameObject gameObject : tile.getGameObjects()) {
+                        add(client, gameObject);
+                    }
+                    add(client, tile.getWallObject());
+                    add(client, tile.getGroundObject());
+                    add(client, tile.getDecorativeObject());
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets every object, for example when the scene is reloaded.
+     */
+    public static void clear() {
+        synchronized (entries) {
+            entries.clear();
+            byId.clear();
+            byName.clear();
+            byChunk.clear();
+        }
+    }
+
+    public static int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, List<Entry>> map, K key, Entry entry) {
+        List<Entry> list = map.get(key);
+        if (list != null) {
+            list.remove(entry);
+            if (list.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static int chunkKey(WorldPoint location) {
+        return WorldPointUtil.pack(location.getX() >> CHUNK_SHIFT, location.getY() >> CHUNK_SHIFT, location.getPlane());
+    }
+
+    /**
+     * Game objects first, then ground, wall and decorative objects, the order the tile sweeps used to check them in.
+     */
+    private static int rank(TileObject object) {
+        if (object instanceof GameObject) {
+            return 0;
+        }
+        if (object instanceof GroundObject) {
+            return 1;
+        }
+        if (object instanceof WallObject) {
+            return 2;
+        }
+        return object instanceof DecorativeObject ? 3 : 4;
+    }
+
+    private static long distanceSquared(WorldPoint a, WorldPoint b) {
+        long dx = a.getX() - b.getX();
+        long dy = a.getY() - b.getY();
+        return dx * dx + dy * dy;
+    }
+
+    private static boolean matches(Entry entry, WorldPoint origin, int maxDistance, BiPredicate<TileObject, ObjectComposition> filter) {
+        // distanceTo is Integer.MAX_VALUE across planes
+        return entry.location.distanceTo(origin) <= maxDistance && (filter == null || filter.test(entry.object, entry.composition));
+    }
+
+    /**
+     * Returns the object with the given id within maxDistance tiles of the origin. Game objects are preferred over
+     * ground, wall and decorative objects, and the nearest object of that kind is returned.
+     *
+     * @param filter further restricts the objects, or null
+     * @return the object, or null
+     */
+    public static TileObject getNearestById(int id, WorldPoint origin, int maxDistance, BiPredicate<TileObject, ObjectComposition> filter) {
+        Entry best = null;
+        long bestDistance = Long.MAX_VALUE;
+        synchronized (entries) {
+            List<Entry> list = byId.get(id);
+            if (list == null) {
+                return null;
+            }
+            for (Entry entry : list) {
+                if (!matches(entry, origin, maxDistance, filter)) {
+                    continue;
+                }
+                long distance = distanceSquared(entry.location, origin);
+                if (best == null || entry.rank < best.rank || (entry.rank == best.rank && distance < bestDistance)) {
+                    best = entry;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best == null ? null : best.object;
+    }
+
+    /**
+     * @param name   case-insensitive object name
+     * @param filter further restricts the objects, or null
+     * @return the nearest object of the given type and name within maxDistance tiles of the origin, or null
+     */
+    public static <T extends TileObject> T getNearestByName(Class<T> type, String name, WorldPoint origin, int maxDistance,
+                                                            BiPredicate<TileObject, ObjectComposition> filter) {
+        Entry best = null;
+        long bestDistance = Long.MAX_VALUE;
+        synchronized (entries) {
+            List<Entry> list = byName.get(name.toLowerCase());
+            if (list == null) {
+                return null;
+            }
+            for (Entry entry : list) {
+                if (!type.isInstance(entry.object) || !matches(entry, origin, maxDistance, filter)) {
+                    continue;
+                }
+                long distance = distanceSquared(entry.location, origin);
+                if (distance < bestDistance) {
+                    best = entry;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best == null ? null : type.cast(best.object);
+    }
+
+    /**
+     * Searches the chunks around the origin ring by ring, and stops once no closer object can be found.
+     *
+     * @param filter restricts the objects, or null
+     * @return the nearest object of the given type within maxDistance tiles of the origin, or null
+     */
+    public static <T extends TileObject> T getNearest(Class<T> type, WorldPoint origin, int maxDistance,
+                                                      BiPredicate<TileObject, ObjectComposition> filter) {
+        int chunkX = origin.getX() >> CHUNK_SHIFT;
+        int chunkY = origin.getY() >> CHUNK_SHIFT;
+        int maxRing = (maxDistance >> CHUNK_SHIFT) + 1;
+        Entry best = null;
+        long bestDistance = Long.MAX_VALUE;
+        synchronized (entries) {
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // every tile in this ring is at least this far from the origin
+                long minDistance = ring == 0 ? 0 : (long) (ring - 1) * CHUNK_SIZE + 1;
+                if (best != null && bestDistance <= minDistance * minDistance) {
+                    break;
+                }
+                for (int dx = -ring; dx <= ring; dx++) {
+                    for (int dy = -ring; dy <= ring; dy++) {
+                        if (Math.max(Math.abs(dx), Math.abs(dy)) != ring) {
+                            continue;
+                        }
+                        List<Entry> list = byChunk.get(WorldPointUtil.pack(chunkX + dx, chunkY + dy, origin.getPlane()));
+                        if (list == null) {
+                            continue;
+                        }
+                        for (Entry entry : list) {
+                            if (!type.isInstance(entry.object) || !matches(entry, origin, maxDistance, filter)) {
+                                continue;
+                            }
+                            long distance = distanceSquared(entry.location, origin);
+                            if (distance < bestDistance) {
+                                best = entry;
+                                bestDistance = distance;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return best == null ? null : type.cast(best.object);
+    }
+}
@@ -14,6 +14,8 @@ import net.runelite.client.plugins.microbot.util.models.RS2Item;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 public class GroundItem {
@@ -56,25 +58,16 @@ public class GroundItem {
         return null;
     }
 
+    /**
+     * Returns the ground items in a box of 2 * range tiles around the player, from {@link GroundItemIndex}.
+     */
     public static RS2Item[] getAll(int range) {
-        ArrayList<RS2Item> temp = new ArrayList<>();
-        int pX = Microbot.getClient().getLocalPlayer().getWorldLocation().getX();
-        int pY = Microbot.getClient().getLocalPlayer().getWorldLocation().getY();
-        int minX = pX - range, minY = pY - range;
-        int maxX = pX + range, maxY = pY + range;
-        for (int x = minX; x < maxX; x++) {
-            for (int y = minY; y < maxY; y++) {
-                RS2Item[] items = getAllAt(x, y);
-                if (items != null)
-                    for (RS2Item item : items) {
-                        if (item == null) {
-                            continue;
-                        }
-                        temp.add(item);
-                    }
-            }
-        }
-        return temp.toArray(new RS2Item[temp.size()]);
+        WorldPoint playerLocation = Microbot.getClient().getLocalPlayer().getWorldLocation();
+        List<RS2Item> items = GroundItemIndex.getNearest(null, playerLocation, range, Integer.MAX_VALUE, item -> {
+            WorldPoint location = item.getTile().getWorldLocation();
+            return location.getX() < playerLocation.getX() + range && location.getY() < playerLocation.getY() + range;
+        });
+        return items.toArray(new RS2Item[0]);
     }
 
     public static boolean loot(String lootItem, int range) {
@@ -82,26 +75,35 @@ public class GroundItem {
     }
 
     public static boolean loot(String lootItem, int quantity, int range) {
-        if (Inventory.isInventoryFull(lootItem)) return false;
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() ->
-                GroundItem.getAll(range)
-        );
+        return loot(Collections.singletonList(lootItem), quantity, range);
+    }
+
+    /**
+     * Loots the nearest item matching any of the names, using {@link GroundItemIndex} instead of scanning the scene.
+     *
+     * @param lootItems case-insensitive item names
+     * @param quantity  the minimum quantity of the stack
+     */
+    public static boolean loot(Collection<String> lootItems, int quantity, int range) {
+        WorldPoint playerLocation = Microbot.getClient().getLocalPlayer().getWorldLocation();
+        List<RS2Item> groundItems = GroundItemIndex.getNearest(lootItems, playerLocation, range, Integer.MAX_VALUE,
+                item -> item.getTileItem().getQuantity() >= quantity);
         for (RS2Item rs2Item : groundItems) {
-            if (rs2Item.getItem().getName().toLowerCase().equals(lootItem.toLowerCase()) && rs2Item.getTileItem().getQuantity() >= quantity) {
-                LocalPoint groundPoint = LocalPoint.fromWorld(Microbot.getClient(), rs2Item.getTile().getWorldLocation());
-                Polygon poly = Perspective.getCanvasTilePoly(Microbot.getClient(), groundPoint, rs2Item.getTile().getItemLayer().getHeight());
-                if (Camera.isTileOnScreen(rs2Item.getTile().getLocalLocation())) {
-                    if (rs2Item.getTileItem().getQuantity() > 1) {
-                        lootItem = lootItem + " (" + rs2Item.getTileItem().getQuantity() + ")";
-                    }
-                    if (Rs2Menu.doAction("Take", poly, new String[]{lootItem.toLowerCase()})) {
-                        Microbot.pauseAllScripts = true;
-                        Global.sleepUntilOnClientThread(() -> Microbot.getClient().getLocalPlayer().getLocalLocation().equals(rs2Item.getTile().getLocalLocation()), 5000);
-                        return true;
-                    }
-                } else {
-                    Camera.turnTo(rs2Item.getTile().getLocalLocation());
+            String lootItem = rs2Item.getItem().getName();
+            if (Inventory.isInventoryFull(lootItem)) continue;
+            LocalPoint groundPoint = LocalPoint.fromWorld(Microbot.getClient(), rs2Item.getTile().getWorldLocation());
+            Polygon poly = Perspective.getCanvasTilePoly(Microbot.getClient(), groundPoint, rs2Item.getTile().getItemLayer().getHeight());
+            if (Camera.isTileOnScreen(rs2Item.getTile().getLocalLocation())) {
+                if (rs2Item.getTileItem().getQuantity() > 1) {
+                    lootItem = lootItem + " (" + rs2Item.getTileItem().getQuantity() + ")";
+                }
+                if (Rs2Menu.doAction("Take", poly, new String[]{lootItem.toLowerCase()})) {
+                    Microbot.pauseAllScripts = true;
+                    Global.sleepUntilOnClientThread(() -> Microbot.getClient().getLocalPlayer().getLocalLocation().equals(rs2Item.getTile().getLocalLocation()), 5000);
+                    return true;
                 }
+            } else {
+                Camera.turnTo(rs2Item.getTile().getLocalLocation());
             }
         }
         return false;
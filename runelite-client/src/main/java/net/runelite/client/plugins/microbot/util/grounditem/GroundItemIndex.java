@@ -0,0 +1,234 @@
+package net.runelite.client.plugins.microbot.util.grounditem;
+
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemQuantityChanged;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.models.RS2Item;
+import net.runelite.client.plugins.microbot.util.walker.pathfinder.WorldPointUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Ground items in the scene, kept up to date from item spawn events instead of scanning tiles.
+ * <p>
+ * Items are indexed by tile, id and lower-cased name. The event handlers run on the client thread and
+ * queries may run on any thread; queries return copies. Item compositions are resolved once, when the
+ * item spawns.
+ */
+public class GroundItemIndex {
+    private static final Map<Integer, List<RS2Item>> byTile = new HashMap<>();
+    private static final Map<Integer, List<RS2Item>> byId = new HashMap<>();
+    private static final Map<String, List<RS2Item>> byName = new HashMap<>();
+    private static int size;
+
+    public static void onItemSpawned(ItemSpawned event) {
+        TileItem tileItem = event.getItem();
+        ItemComposition composition = Microbot.getItemManager().getItemComposition(tileItem.getId());
+        add(new RS2Item(composition, event.getTile(), tileItem));
+    }
+
+    public static void onItemDespawned(ItemDespawned event) {
+        remove(event.getTile(), event.getItem());
+    }
+
+    /**
+     * The indexed {@link RS2Item} keeps the same {@link TileItem}, which already reports the new quantity;
+     * the entry is only re-added in case the item was missed when it spawned.
+     */
+    public static void onItemQuantityChanged(ItemQuantityChanged event) {
+        synchronized (byTile) {
+            if (find(event.getTile(), event.getItem()) != null) {
+                return;
+            }
+        }
+        ItemComposition composition = Microbot.getItemManager().getItemComposition(event.getItem().getId());
+        add(new RS2Item(composition, event.getTile(), event.getItem()));
+    }
+
+    /**
+     * Re-indexes every ground item in the scene. Must be called on the client thread.
+     */
+    public static void rebuild(Client client) {
+        clear();
+        if (client.getGameState() != GameState.LOGGED_IN) {
+            return;
+        }
+        for (Tile[][] plane : client.getScene().getTiles()) {
+            for (Tile[] column : plane) {
+                for (Tile tile : column) {
+                    if (tile == null || tile.getGroundItems() == null) {
+                        continue;
+                    }
+                    for (TileItem tileItem : tile.getGroundItems()) {
+                        add(new RS2Item(Microbot.getItemManager().getItemComposition(tileItem.getId()), tile, tileItem));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets every item, for example when the scene is reloaded.
+     */
+    public static void clear() {
+        synchronized (byTile) {
+            byTile.clear();
+            byId.clear();
+            byName.clear();
+            size = 0;
+        }
+    }
+
+    public static int size() {
+        synchronized (byTile) {
+            return size;
+        }
+    }
+
+    private static void add(RS2Item item) {
+        synchronized (byTile) {
+            byTile.computeIfAbsent(tileKey(item.getTile()), k -> new ArrayList<>()).add(item);
+            byId.computeIfAbsent(item.getTileItem().getId(), k -> new ArrayList<>()).add(item);
+            byName.computeIfAbsent(nameKey(item), k -> new ArrayList<>()).add(item);
+            size++;
+        }
+    }
+
+    private static void remove(Tile tile, TileItem tileItem) {
+        synchronized (byTile) {
+            RS2Item item = find(tile, tileItem);
+            if (item == null) {
+                return;
+            }
+            removeFrom(byTile, tileKey(tile), item);
+            removeFrom(byId, tileItem.getId(), item);
+            removeFrom(byName, nameKey(item), item);
+            size--;
+        }
+    }
+
+    private static RS2Item find(Tile tile, TileItem tileItem) {
+        List<RS2Item> items = byTile.get(tileKey(tile));
+        if (items != null) {
+            for (RS2Item item : items) {
+                if (item.getTileItem() == tileItem) {
+                    return item;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static <K> void removeFrom(Map<K, List<RS2Item>> map, K key, RS2Item item) {
+        List<RS2Item> items = map.get(key);
+        if (items != null) {
+            items.remove(item);
+            if (items.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static int tileKey(Tile tile) {
+        return WorldPointUtil.pack(tile.getWorldLocation());
+    }
+
+    private static String nameKey(RS2Item item) {
+        return item.getItem().getName().toLowerCase();
+    }
+
+    /**
+     * @return the items on a tile
+     */
+    public static List<RS2Item> getAt(WorldPoint location) {
+        synchronized (byTile) {
+            return copy(byTile.get(WorldPointUtil.pack(location)));
+        }
+    }
+
+    public static List<RS2Item> getAll() {
+        synchronized (byTile) {
+            List<RS2Item> items = new ArrayList<>(size);
+            for (List<RS2Item> tileItems : byTile.values()) {
+                items.addAll(tileItems);
+            }
+            return items;
+        }
+    }
+
+    public static List<RS2Item> getById(int id) {
+        synchronized (byTile) {
+            return copy(byId.get(id));
+        }
+    }
+
+    /**
+     * @param name case-insensitive item name
+     */
+    public static List<RS2Item> getByName(String name) {
+        synchronized (byTile) {
+            return copy(byName.get(name.toLowerCase()));
+        }
+    }
+
+    /**
+     * Returns up to limit items within distance tiles of the origin, nearest first.
+     *
+     * @param names  case-insensitive item names to match, or null to match any item
+     * @param filter further restricts the items, or null
+     */
+    public static List<RS2Item> getNearest(Collection<String> names, WorldPoint origin, int distance, int limit, Predicate<RS2Item> filter) {
+        List<RS2Item> candidates = new ArrayList<>();
+        synchronized (byTile) {
+            if (names == null) {
+                for (List<RS2Item> tileItems : byTile.values()) {
+                    collect(tileItems, origin, distance, filter, candidates);
+                }
+            } else {
+                for (String name : names) {
+                    collect(byName.get(name.toLowerCase()), origin, distance, filter, candidates);
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingInt(item -> item.getTile().getWorldLocation().distanceTo(origin)));
+        return candidates.size() > limit ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+    }
+
+    /**
+     * @return the nearest item with the given name within distance tiles of the origin, or null
+     */
+    public static RS2Item getNearest(String name, WorldPoint origin, int distance) {
+        List<RS2Item> items = getNearest(Collections.singleton(name), origin, distance, 1, null);
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    private static void collect(List<RS2Item> items, WorldPoint origin, int distance, Predicate<RS2Item> filter, List<RS2Item> result) {
+        if (items == null) {
+            return;
+        }
+        for (RS2Item item : items) {
+            // distanceTo is Integer.MAX_VALUE across planes
+            if (item.getTile().getWorldLocation().distanceTo(origin) <= distance && (filter == null || filter.test(item))) {
+                result.add(item);
+            }
+        }
+    }
+
+    private static List<RS2Item> copy(List<RS2Item> items) {
+        return items == null ? new ArrayList<>() : new ArrayList<>(items);
+    }
+}
@@ -1,6 +1,5 @@
 package net.runelite.client.plugins.microbot.util.inventory;
 
-import net.runelite.api.ItemComposition;
 import net.runelite.api.Point;
 import net.runelite.api.Varbits;
 import net.runelite.api.widgets.Widget;
@@ -10,6 +9,7 @@ import net.runelite.client.plugins.microbot.util.globval.enums.InterfaceTab;
 import net.runelite.client.plugins.microbot.util.keyboard.VirtualKeyboard;
 import net.runelite.client.plugins.microbot.util.menu.Rs2Menu;
 import net.runelite.client.plugins.microbot.util.settings.Rs2Settings;
+import net.runelite.client.plugins.microbot.util.snapshot.SnapshotItem;
 import net.runelite.client.plugins.microbot.util.tabs.Tab;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import net.runelite.client.plugins.questhelper.requirements.item.ItemRequirement;
@@ -62,31 +62,22 @@ public class Inventory {
 
     public static boolean isFull() {
         Microbot.status = "Checking if inventory is full";
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren()).filter(x -> itemExistsInInventory(x)).count() == 28);
+        return Rs2Inventory.inventory().isFull();
     }
 
     @Deprecated(since = "Use isFull method instead",forRemoval = true)
     public static boolean isInventoryFull() {
-        Microbot.status = "Checking if inventory is full";
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren()).filter(x -> itemExistsInInventory(x)).count() == 28);
+        return isFull();
     }
 
     public static long count() {
         Microbot.status = "Counting inventory items";
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren()).filter(x -> itemExistsInInventory(x)).count());
+        return Rs2Inventory.inventory().size();
     }
 
     public static boolean isInventoryFull(String itemName) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            Widget inventoryWidget = getInventory();
-            if (hasItemStackable(itemName)) return false;
-            return Arrays.stream(inventoryWidget.getDynamicChildren()).filter(x -> itemExistsInInventory(x)).count() == 28;
-        });
+        ItemContainerModel inventory = Rs2Inventory.inventory();
+        return !inventory.containsStackable(itemName) && inventory.isFull();
     }
 
     public static boolean isEmpty() {
@@ -95,53 +86,27 @@ public class Inventory {
 
     public static boolean hasAmountInventoryItems(int count) {
         Microbot.status = "Checking if player has " + count + " items in their inventory";
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren()).filter(x -> itemExistsInInventory(x)).count() == count);
+        return Rs2Inventory.inventory().size() == count;
     }
 
     public static boolean hasItemStackable(String itemName) {
         Microbot.status = "Checking inventory has stackable item " + itemName;
-        Widget inventoryWidget = getInventory();
-
-        return Arrays.stream(inventoryWidget.getDynamicChildren())
-                .anyMatch(x -> {
-                    ItemComposition itemComp = Microbot.getItemManager().getItemComposition(x.getItemId());
-                    if (itemComp.getNote() == 799 || itemComp.isStackable()) {
-                        return itemExistsInInventory(x) && x.getName().split(">")[1].split("</")[0].toLowerCase().equals(itemName.toLowerCase());
-                    } else {
-                        return false;
-                    }
-                });
+        return Rs2Inventory.inventory().containsStackable(itemName);
     }
 
     public static boolean hasItem(String itemName) {
         Microbot.status = "Looking for item: " + itemName;
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren())
-                .anyMatch(x ->
-                        itemExistsInInventory(x) && x.getName().split(">")[1].split("</")[0].toLowerCase().equals(itemName.toLowerCase())
-                ));
+        return Rs2Inventory.inventory().contains(itemName);
     }
 
     public static boolean hasItem(int id) {
         Microbot.status = "Looking for item: " + id;
-        Widget inventoryWidget = getInventory();
-
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren())
-                .anyMatch(x ->
-                        itemExistsInInventory(x) && x.getItemId() == id));
+        return Rs2Inventory.inventory().contains(id);
     }
 
     public static boolean hasItemContains(String itemName) {
         Microbot.status = "Looking for item: " + itemName;
-        Widget inventoryWidget = getInventory();
-
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren())
-                .anyMatch(x ->
-                        itemExistsInInventory(x) && x.getName().split(">")[1].split("</")[0].toLowerCase().contains(itemName.toLowerCase())
-                ));
+        return Rs2Inventory.inventory().findContains(itemName) != null;
     }
 
     public static Widget getInventoryItem(String itemName) {
@@ -182,60 +147,30 @@ public class Inventory {
 
     public static Widget findItem(int itemId) {
         Microbot.status = "Searching inventory item with id " + itemId;
-        Widget inventoryWidget = getInventory();
-        for (Widget item : inventoryWidget.getDynamicChildren()) {
-            if (item.getItemId() == itemId) {
-                return item;
-            }
-        }
-        return null;
+        return getItemWidget(Rs2Inventory.inventory().find(itemId));
     }
 
     public static boolean hasItemAmount(int itemId, int amount) {
         Microbot.status = "Check if inventory has item: " + itemId + " with amount: " + amount;
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren())
-                .filter(x ->
-                        itemExistsInInventory(x) && x.getItemId() == itemId
-                ).count() >= amount);
+        return Rs2Inventory.inventory().getSlotCount(itemId) >= amount;
     }
 
     public static boolean hasItemAmount(String itemName, int amount) {
         Microbot.status = "Check if inventory has item: " + itemName + " with amount: " + amount;
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren())
-                .filter(x ->
-                        itemExistsInInventory(x) && x.getName().split(">")[1].split("</")[0].toLowerCase().equals(itemName.toLowerCase())
-                ).count() >= amount);
+        return Rs2Inventory.inventory().getSlotCount(itemName) >= amount;
     }
 
     public static boolean hasItemAmountExact(String itemName, int amount) {
         Microbot.status = "Check if inventory has item: " + itemName + " with amount: " + amount;
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren())
-                .filter(x ->
-                        itemExistsInInventory(x) && x.getName().split(">")[1].split("</")[0].toLowerCase().equals(itemName.toLowerCase())
-                ).count() == amount);
+        return Rs2Inventory.inventory().getSlotCount(itemName) == amount;
     }
 
-
+    /**
+     * Checks the quantity held over every slot with the name, so stacks, notes and single items all count.
+     */
     public static boolean hasItemAmountStackable(String itemName, int amount) {
         Microbot.status = "Check if inventory has item: " + itemName + " with amount: " + amount;
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren())
-                .anyMatch(x ->
-                        itemExistsInInventory(x) &&
-                                x.getName()
-                                        .split(">")[1]
-                                        .split("</")[0]
-                                        .toLowerCase()
-                                        .equals(itemName.toLowerCase()) &&
-                                x.getItemQuantity() >= amount
-                ));
+        return Rs2Inventory.inventory().getQuantity(itemName) >= amount;
     }
 
     private static Widget getInventory() {
@@ -258,32 +193,36 @@ public class Inventory {
 
     public static Widget findItem(String itemName) {
         Microbot.status = "Searching inventory for item: " + itemName;
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            for (Widget item : inventoryWidget.getDynamicChildren()) {
-                if (item.isSelfHidden() == false) {
-                    if (itemExistsInInventory(item) && item.getName().split(">")[1].split("</")[0].toLowerCase().equals(itemName.toLowerCase())) {
-                        return item;
-                    }
-                }
-            }
-            return null;
-        });
+        return getItemWidget(Rs2Inventory.inventory().find(itemName));
     }
 
     public static Widget findItemContains(String itemName) {
         Microbot.status = "Searching inventory for item that contains: " + itemName;
+        return getItemWidget(Rs2Inventory.inventory().findContains(itemName));
+    }
+
+    /**
+     * Resolves the widget of an inventory item so it can be clicked, opening the inventory tab if neither the
+     * inventory nor the bank inventory is shown.
+     *
+     * @return the widget, or null if the item is null or the widgets do not show it yet
+     */
+    private static Widget getItemWidget(SnapshotItem item) {
+        if (item == null) {
+            return null;
+        }
         Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            for (Widget item : inventoryWidget.getDynamicChildren()) {
-                if (item.isSelfHidden() == false) {
-                    if (itemExistsInInventory(item) && item.getName().split(">")[1].split("</")[0].toLowerCase().contains(itemName.toLowerCase())) {
-                        return item;
-                    }
-                }
+        if (inventoryWidget == null) {
+            Tab.switchToInventoryTab();
+            inventoryWidget = getInventory();
+            if (inventoryWidget == null) {
+                return null;
             }
-            return null;
+        }
+        final Widget container = inventoryWidget;
+        return Microbot.getClientThread().runOnClientThread(() -> {
+            Widget widget = container.getChild(item.getSlot());
+            return widget != null && widget.getItemId() == item.getId() && itemExistsInInventory(widget) ? widget : null;
         });
     }
 
@@ -478,11 +417,6 @@ public class Inventory {
 
     public static long getAmountForItem(String itemName) {
         Microbot.status = "getAmountForItem: " + itemName;
-        Tab.switchToInventoryTab();
-        Widget inventoryWidget = getInventory();
-        return Microbot.getClientThread().runOnClientThread(() -> Arrays.stream(inventoryWidget.getDynamicChildren())
-                .filter(x ->
-                        itemExistsInInventory(x) && x.getName().split(">")[1].split("</")[0].toLowerCase().contains(itemName.toLowerCase())
-                ).count());
+        return Rs2Inventory.inventory().getSlotCountContains(itemName);
     }
 }
@@ -0,0 +1,228 @@
+package net.runelite.client.plugins.microbot.util.inventory;
+
+import net.runelite.api.Item;
+import net.runelite.api.ItemComposition;
+import net.runelite.client.plugins.microbot.util.snapshot.SnapshotItem;
+import net.runelite.client.util.Text;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable contents of an item container, indexed by slot, item id and normalised item name.
+ * <p>
+ * A new model is built by {@link Rs2Inventory} each time the container changes, resolving every item composition
+ * once. Lookups by id or exact name are hash lookups and can run on any thread; only the substring searches walk
+ * the slots.
+ */
+public class ItemContainerModel {
+    public static final ItemContainerModel EMPTY = empty(0);
+
+    /**
+     * Slots and total quantity of one item id or name.
+     */
+    private static final class Totals {
+        private final SnapshotItem first;
+        private int slots;
+        private int quantity;
+        private boolean stackable;
+
+        private Totals(SnapshotItem first) {
+            this.first = first;
+        }
+
+        private void add(SnapshotItem item) {
+            slots++;
+            quantity += item.getQuantity();
+            stackable |= item.isStackable();
+        }
+    }
+
+    private final SnapshotItem[] slots;
+    private final int capacity;
+    private final int occupied;
+    private final Map<Integer, Totals> byId;
+    private final Map<String, Totals> byName;
+
+    private ItemContainerModel(SnapshotItem[] slots, int capacity) {
+        this.slots = slots;
+        this.capacity = capacity;
+        Map<Integer, Totals> ids = new HashMap<>();
+        Map<String, Totals> names = new HashMap<>();
+        int count = 0;
+        for (SnapshotItem item : slots) {
+            if (item == null) {
+                continue;
+            }
+            count++;
+            ids.computeIfAbsent(item.getId(), id -> new Totals(item)).add(item);
+            names.computeIfAbsent(item.getName(), name -> new Totals(item)).add(item);
+        }
+        this.occupied = count;
+        this.byId = ids.isEmpty() ? Collections.emptyMap() : ids;
+        this.byName = names.isEmpty() ? Collections.emptyMap() : names;
+    }
+
+    /**
+     * @return a model with every slot empty
+     */
+    public static ItemContainerModel empty(int capacity) {
+        return new ItemContainerModel(new SnapshotItem[capacity], capacity);
+    }
+
+    /**
+     * Builds a model from the items of a container. Empty slots and bank placeholders are left out.
+     *
+     * @param capacity     the number of slots the container holds, which may exceed the length of {@code items}
+     * @param compositions resolves item compositions; called on the thread building the model
+     */
+    public static ItemContainerModel build(Item[] items, int capacity, IntFunction<ItemComposition> compositions) {
+        if (items == null) {
+            return empty(capacity);
+        }
+        SnapshotItem[] slots = new SnapshotItem[Math.max(capacity, items.length)];
+        for (int slot = 0; slot < items.length; slot++) {
+            Item item = items[slot];
+            if (item == null || item.getId() == -1 || item.getQuantity() <= 0) {
+                continue;
+            }
+            ItemComposition composition = compositions.apply(item.getId());
+            slots[slot] = new SnapshotItem(slot, item.getId(), item.getQuantity(), normalize(composition.getName()),
+                    composition.isStackable() || composition.getNote() == 799);
+        }
+        return new ItemContainerModel(slots, slots.length);
+    }
+
+    /**
+     * @return the name lower-cased, without tags and with non-breaking spaces as spaces
+     */
+    public static String normalize(String name) {
+        return name == null ? "" : Text.standardize(name);
+    }
+
+    /**
+     * @return the item in the slot, or null if the slot is empty
+     */
+    public SnapshotItem getItem(int slot) {
+        return slot >= 0 && slot < slots.length ? slots[slot] : null;
+    }
+
+    /**
+     * @return a copy of the slots, with null for empty slots
+     */
+    public SnapshotItem[] getItems() {
+        return slots.clone();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of occupied slots
+     */
+    public int size() {
+        return occupied;
+    }
+
+    public boolean isEmpty() {
+        return occupied == 0;
+    }
+
+    public boolean isFull() {
+        return occupied >= capacity;
+    }
+
+    public boolean contains(int id) {
+        return byId.containsKey(id);
+    }
+
+    public boolean contains(String name) {
+        return byName.containsKey(normalize(name));
+    }
+
+    /**
+     * @return the item with the id in the lowest slot, or null
+     */
+    public SnapshotItem find(int id) {
+        Totals totals = byId.get(id);
+        return totals == null ? null : totals.first;
+    }
+
+    /**
+     * @return the item with the name in the lowest slot, or null
+     */
+    public SnapshotItem find(String name) {
+        Totals totals = byName.get(normalize(name));
+        return totals == null ? null : totals.first;
+    }
+
+    /**
+     * @return the first item whose name contains the text, or null
+     */
+    public SnapshotItem findContains(String text) {
+        String normalized = normalize(text);
+        for (SnapshotItem item : slots) {
+            if (item != null && item.getName().contains(normalized)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of slots holding the item
+     */
+    public int getSlotCount(int id) {
+        Totals totals = byId.get(id);
+        return totals == null ? 0 : totals.slots;
+    }
+
+    /**
+     * @return the number of slots holding an item with the name
+     */
+    public int getSlotCount(String name) {
+        Totals totals = byName.get(normalize(name));
+        return totals == null ? 0 : totals.slots;
+    }
+
+    /**
+     * @return the number of slots holding an item whose name contains the text
+     */
+    public int getSlotCountContains(String text) {
+        String normalized = normalize(text);
+        int count = 0;
+        for (SnapshotItem item : slots) {
+            if (item != null && item.getName().contains(normalized)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the total quantity of the item over all slots
+     */
+    public int getQuantity(int id) {
+        Totals totals = byId.get(id);
+        return totals == null ? 0 : totals.quantity;
+    }
+
+    /**
+     * @return the total quantity of the items with the name over all slots, noted and unnoted
+     */
+    public int getQuantity(String name) {
+        Totals totals = byName.get(normalize(name));
+        return totals == null ? 0 : totals.quantity;
+    }
+
+    /**
+     * @return true if a stackable or noted item with the name is held
+     */
+    public boolean containsStackable(String name) {
+        Totals totals = byName.get(normalize(name));
+        return totals != null && totals.stackable;
+    }
+}
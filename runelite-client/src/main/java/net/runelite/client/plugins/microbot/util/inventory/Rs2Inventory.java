@@ -0,0 +1,72 @@
+package net.runelite.client.plugins.microbot.util.inventory;
+
+import net.runelite.api.Client;
+import net.runelite.api.EquipmentInventorySlot;
+import net.runelite.api.InventoryID;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.client.plugins.microbot.Microbot;
+
+/**
+ * The inventory, equipment and bank, kept up to date from item container events instead of reading widgets.
+ * <p>
+ * Each change replaces the container's {@link ItemContainerModel}, so readers on script threads always see a
+ * consistent container without hopping onto the client thread. The bank model keeps the contents seen the last
+ * time the bank was open.
+ */
+public class Rs2Inventory {
+    public static final int INVENTORY_SIZE = 28;
+    private static final int EQUIPMENT_SIZE = EquipmentInventorySlot.values().length;
+
+    private static volatile ItemContainerModel inventory = ItemContainerModel.empty(INVENTORY_SIZE);
+    private static volatile ItemContainerModel equipment = ItemContainerModel.empty(EQUIPMENT_SIZE);
+    private static volatile ItemContainerModel bank = ItemContainerModel.EMPTY;
+
+    public static ItemContainerModel inventory() {
+        return inventory;
+    }
+
+    public static ItemContainerModel equipment() {
+        return equipment;
+    }
+
+    public static ItemContainerModel bank() {
+        return bank;
+    }
+
+    public static void onItemContainerChanged(ItemContainerChanged event) {
+        update(event.getContainerId(), event.getItemContainer());
+    }
+
+    /**
+     * Re-reads every tracked container. Must be called on the client thread.
+     */
+    public static void rebuild(Client client) {
+        update(InventoryID.INVENTORY.getId(), client.getItemContainer(InventoryID.INVENTORY));
+        update(InventoryID.EQUIPMENT.getId(), client.getItemContainer(InventoryID.EQUIPMENT));
+        update(InventoryID.BANK.getId(), client.getItemContainer(InventoryID.BANK));
+    }
+
+    public static void clear() {
+        inventory = ItemContainerModel.empty(INVENTORY_SIZE);
+        equipment = ItemContainerModel.empty(EQUIPMENT_SIZE);
+        bank = ItemContainerModel.EMPTY;
+    }
+
+    private static void update(int containerId, ItemContainer container) {
+        if (containerId == InventoryID.INVENTORY.getId()) {
+            inventory = build(container, INVENTORY_SIZE);
+        } else if (containerId == InventoryID.EQUIPMENT.getId()) {
+            equipment = build(container, EQUIPMENT_SIZE);
+        } else if (containerId == InventoryID.BANK.getId()) {
+            bank = build(container, 0);
+        }
+    }
+
+    private static ItemContainerModel build(ItemContainer container, int capacity) {
+        if (container == null) {
+            return ItemContainerModel.empty(capacity);
+        }
+        return ItemContainerModel.build(container.getItems(), capacity, Microbot.getItemManager()::getItemComposition);
+    }
+}
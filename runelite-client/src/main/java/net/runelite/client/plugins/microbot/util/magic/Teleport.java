@@ -13,14 +13,32 @@ import java.util.List;
 public enum Teleport {
     VARROCK(25,
             new Pair[] {Pair.of("law rune", 1), Pair.of("air rune", 3), Pair.of("fire rune", 1)},
-            new WorldPoint(3213, 3425, 0), "<col=00ff00>Varrock Teleport</col>", "Varrock teleport"),
+            new WorldPoint(3213, 3425, 0), "<col=00ff00>Varrock Teleport</col>", "Varrock teleport", Teleport.STANDARD_TICKS),
     LUMBRIDGE(31,
                     new Pair[] {Pair.of("law rune", 1), Pair.of("air rune", 3), Pair.of("earth rune", 1)},
-            new WorldPoint(3222, 3218, 0), "<col=00ff00>Lumbridge Teleport</col>", "Lumbridge teleport");
+            new WorldPoint(3222, 3218, 0), "<col=00ff00>Lumbridge Teleport</col>", "Lumbridge teleport", Teleport.STANDARD_TICKS);
+
+    /**
+     * Standard spellbook teleports and their tablets: one tick to open the spellbook or inventory and cast, and
+     * the player lands on the destination three ticks after the cast.
+     */
+    private static final int STANDARD_TICKS = 4;
+    private static final int TILES_PER_TICK = 2;
 
     private final int level;
     private final Pair[] itemsRequired;
     private final WorldPoint destination;
     private final String widgetText;
     private final String tabletName;
+    /**
+     * Game ticks from starting the teleport until the player stands on the destination.
+     */
+    private final int durationTicks;
+
+    /**
+     * Path cost of casting the teleport, in tiles run over the same time.
+     */
+    public int getCost() {
+        return durationTicks * TILES_PER_TICK;
+    }
 }
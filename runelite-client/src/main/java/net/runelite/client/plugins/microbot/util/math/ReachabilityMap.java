@@ -0,0 +1,230 @@
+package net.runelite.client.plugins.microbot.util.math;
+
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.CollisionDataFlag;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.Player;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Walking distance from one tile to every other tile of the scene.
+ * <p>
+ * {@link #update(Client)} recomputes the map for the local player once per game tick, and only when the player's
+ * tile, the scene or its collision flags changed. Collision flags only change when objects spawn or despawn or the
+ * scene is loaded, which are reported through {@link #invalidate()}. Reachability and path length queries from the
+ * player are then a single array read. Queries from any other tile compute a map into a per-thread buffer.
+ * <p>
+ * The player's map is computed into one of two buffers, alternately, so computing it allocates nothing. Each buffer
+ * carries a sequence number that is odd while it is being written, and {@link #pathLength} retries a read that
+ * overlapped a write, so script threads never see a half computed map.
+ */
+public class ReachabilityMap {
+    public static final int UNREACHABLE = -1;
+    private static final int SIZE = Constants.SCENE_SIZE;
+
+    private static final int[] DX = {0, -1, 0, 1, -1, -1, 1, 1};
+    private static final int[] DY = {-1, 0, 1, 0, -1, 1, -1, 1};
+
+    // the player's map, alternating between the two buffers, client thread only apart from current
+    private static final ReachabilityMap[] buffers = {new ReachabilityMap(), new ReachabilityMap()};
+    private static volatile ReachabilityMap current;
+    // bumped whenever the collision flags may have changed, client thread only
+    private static int collisionVersion;
+    private static int computedVersion;
+    private static final ThreadLocal<ReachabilityMap> SCRATCH = ThreadLocal.withInitial(ReachabilityMap::new);
+
+    private final int[] distances = new int[SIZE * SIZE];
+    private final int[] queue = new int[SIZE * SIZE];
+    // odd while the map is being computed
+    private volatile int sequence;
+    private int baseX;
+    private int baseY;
+    private int plane;
+    private int originX;
+    private int originY;
+
+    /**
+     * Recomputes the map from the local player if anything it depends on changed. Must be called on the client
+     * thread.
+     */
+    public static void update(Client client) {
+        Player player = client.getLocalPlayer();
+        CollisionData[] collisionMaps = client.getCollisionMaps();
+        if (client.getGameState() != GameState.LOGGED_IN || player == null || collisionMaps == null) {
+            current = null;
+            return;
+        }
+        LocalPoint location = player.getLocalLocation();
+        int plane = client.getPlane();
+
+        ReachabilityMap map = current;
+        if (map != null && map.originX == location.getSceneX() && map.originY == location.getSceneY() && map.plane == plane
+                && map.baseX == client.getBaseX() && map.baseY == client.getBaseY() && computedVersion == collisionVersion) {
+            return;
+        }
+
+        ReachabilityMap next = map == buffers[0] ? buffers[1] : buffers[0];
+        next.compute(collisionMaps[plane].getFlags(), location.getSceneX(), location.getSceneY(), client.getBaseX(), client.getBaseY(), plane);
+        current = next;
+        computedVersion = collisionVersion;
+    }
+
+    /**
+     * Marks the collision flags as changed, so the map is recomputed on the next update. Must be called on the client
+     * thread.
+     */
+    public static void invalidate() {
+        collisionVersion++;
+    }
+
+    public static void clear() {
+        current = null;
+    }
+
+    /**
+     * Walking distance between two tiles of the scene, using the player's map when start is the player's tile.
+     *
+     * @param adjacent accept any tile orthogonally next to dest, for example to interact with an object
+     * @return the number of steps, or {@link #UNREACHABLE}
+     */
+    public static int pathLength(Client client, WorldPoint start, WorldPoint dest, boolean adjacent) {
+        ReachabilityMap map = current;
+        if (map != null) {
+            int sequence = map.sequence;
+            if ((sequence & 1) == 0 && map.isOrigin(start)) {
+                int distance = map.getDistance(dest, adjacent);
+                // the reads above must not be reordered after the sequence check
+                VarHandle.acquireFence();
+                if (map.sequence == sequence) {
+                    return distance;
+                }
+            }
+        }
+
+        CollisionData[] collisionMaps = client.getCollisionMaps();
+        if (collisionMaps == null || start.getPlane() != client.getPlane()) {
+            return UNREACHABLE;
+        }
+        int startX = start.getX() - client.getBaseX();
+        int startY = start.getY() - client.getBaseY();
+        if (!inScene(startX, startY)) {
+            return UNREACHABLE;
+        }
+        ReachabilityMap scratch = SCRATCH.get();
+        scratch.compute(collisionMaps[start.getPlane()].getFlags(), startX, startY, client.getBaseX(), client.getBaseY(), start.getPlane());
+        return scratch.getDistance(dest, adjacent);
+    }
+
+    /**
+     * Breadth-first search from the start tile over the collision flags of a plane, with the same movement rules
+     * as {@link net.runelite.api.coords.WorldArea#canTravelInDirection}. Overwrites the previous map, reusing its
+     * buffers.
+     */
+    public void compute(int[][] flags, int startX, int startY, int baseX, int baseY, int plane) {
+        sequence++;
+        // readers must see the odd sequence before any of the writes below
+        VarHandle.storeStoreFence();
+        this.originX = startX;
+        this.originY = startY;
+        this.baseX = baseX;
+        this.baseY = baseY;
+        this.plane = plane;
+        Arrays.fill(distances, UNREACHABLE);
+        if (inScene(startX, startY)) {
+            search(flags, startX, startY);
+        }
+        sequence++;
+    }
+
+    private void search(int[][] flags, int startX, int startY) {
+        int head = 0;
+        int tail = 0;
+        distances[startX * SIZE + startY] = 0;
+        queue[tail++] = startX * SIZE + startY;
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile / SIZE;
+            int y = tile % SIZE;
+            int next = distances[tile] + 1;
+            for (int d = 0; d < DX.length; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (!inScene(nx, ny) || distances[nx * SIZE + ny] != UNREACHABLE || !canMove(flags, x, y, DX[d], DY[d])) {
+                    continue;
+                }
+                distances[nx * SIZE + ny] = next;
+                queue[tail++] = nx * SIZE + ny;
+            }
+        }
+    }
+
+    private static boolean canMove(int[][] flags, int x, int y, int dx, int dy) {
+        int xFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL
+                | (dx < 0 ? CollisionDataFlag.BLOCK_MOVEMENT_EAST : CollisionDataFlag.BLOCK_MOVEMENT_WEST);
+        int yFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL
+                | (dy < 0 ? CollisionDataFlag.BLOCK_MOVEMENT_NORTH : CollisionDataFlag.BLOCK_MOVEMENT_SOUTH);
+        if (dy == 0) {
+            return (flags[x + dx][y] & xFlags) == 0;
+        }
+        if (dx == 0) {
+            return (flags[x][y + dy] & yFlags) == 0;
+        }
+        int xyFlags;
+        if (dx < 0) {
+            xyFlags = dy < 0 ? CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST : CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+        } else {
+            xyFlags = dy < 0 ? CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST : CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+        }
+        return (flags[x + dx][y + dy] & (xFlags | yFlags | xyFlags)) == 0
+                && (flags[x + dx][y] & xFlags) == 0
+                && (flags[x][y + dy] & yFlags) == 0;
+    }
+
+    private static boolean inScene(int x, int y) {
+        return x >= 0 && y >= 0 && x < SIZE && y < SIZE;
+    }
+
+    public boolean isOrigin(WorldPoint point) {
+        return point.getPlane() == plane && point.getX() - baseX == originX && point.getY() - baseY == originY;
+    }
+
+    /**
+     * @return the number of steps from the origin to the scene tile, or {@link #UNREACHABLE}
+     */
+    public int getDistance(int sceneX, int sceneY) {
+        return inScene(sceneX, sceneY) ? distances[sceneX * SIZE + sceneY] : UNREACHABLE;
+    }
+
+    /**
+     * @param adjacent accept any tile orthogonally next to dest instead of dest itself
+     * @return the number of steps from the origin, or {@link #UNREACHABLE}
+     */
+    public int getDistance(WorldPoint dest, boolean adjacent) {
+        if (dest.getPlane() != plane) {
+            return UNREACHABLE;
+        }
+        int x = dest.getX() - baseX;
+        int y = dest.getY() - baseY;
+        if (!adjacent) {
+            return getDistance(x, y);
+        }
+        int best = UNREACHABLE;
+        for (int d = 0; d < 4; d++) {
+            int distance = getDistance(x + DX[d], y + DY[d]);
+            if (distance != UNREACHABLE && (best == UNREACHABLE || distance < best)) {
+                best = distance;
+            }
+        }
+        return best;
+    }
+
+    public boolean canReach(WorldPoint dest, boolean adjacent) {
+        return getDistance(dest, adjacent) != UNREACHABLE;
+    }
+}
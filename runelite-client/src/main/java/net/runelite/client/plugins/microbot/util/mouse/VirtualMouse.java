@@ -1,13 +1,12 @@
 package net.runelite.client.plugins.microbot.util.mouse;
 
 import net.runelite.api.Point;
+import net.runelite.client.plugins.microbot.Microbot;
 
 import javax.inject.Inject;
 import java.awt.*;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static net.runelite.client.plugins.microbot.util.Global.sleep;
@@ -15,13 +14,9 @@ import static net.runelite.client.plugins.microbot.util.math.Random.random;
 
 public class VirtualMouse extends Mouse {
 
-
-    private final ScheduledExecutorService scheduledExecutorService;
-
     @Inject
     public VirtualMouse() {
         super();
-        this.scheduledExecutorService = Executors.newScheduledThreadPool(10);
     }
 
     public Mouse click(Point point, boolean rightClick) {
@@ -122,7 +117,7 @@ public class VirtualMouse extends Mouse {
 
         move(point);
 
-        scheduledExecutorService.schedule(() -> {
+        Microbot.getScriptScheduler().getHelperExecutor().schedule(() -> {
             MouseEvent mouseScroll = new MouseWheelEvent(getCanvas(), MouseEvent.MOUSE_WHEEL, time, 0, point.getX(), point.getY(), 0, false,
                     0, 10, 2);
 
@@ -0,0 +1,172 @@
+package net.runelite.client.plugins.microbot.util.npc;
+
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.client.util.Text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Npcs in the scene, kept up to date from npc spawn, despawn and change events instead of streaming over
+ * {@link Client#getNpcs()} on every query.
+ * <p>
+ * Npcs are indexed by id, by standardized name and by npc index. The id and name are captured when the npc spawns
+ * or transforms, so queries do not resolve compositions. The event handlers run on the client thread and queries
+ * may run on any thread.
+ */
+public class NpcIndex {
+    private static final int MAX_NPCS = 65536;
+
+    private static final NPC[] byIndex = new NPC[MAX_NPCS];
+    private static final Map<Integer, List<NPC>> byId = new HashMap<>();
+    private static final Map<String, List<NPC>> byName = new HashMap<>();
+    private static final Map<NPC, Key> keys = new IdentityHashMap<>();
+
+    private static class Key {
+        private final int id;
+        private final String name;
+
+        private Key(NPC npc) {
+            this.id = npc.getId();
+            this.name = normalize(npc.getName());
+        }
+    }
+
+    public static void onNpcSpawned(NpcSpawned event) {
+        add(event.getNpc());
+    }
+
+    public static void onNpcDespawned(NpcDespawned event) {
+        remove(event.getNpc());
+    }
+
+    /**
+     * The npc transformed into another composition, so its id and name may have changed.
+     */
+    public static void onNpcChanged(NpcChanged event) {
+        synchronized (byIndex) {
+            remove(event.getNpc());
+            add(event.getNpc());
+        }
+    }
+
+    /**
+     * Re-indexes every npc in the scene. Must be called on the client thread.
+     */
+    public static void rebuild(Client client) {
+        synchronized (byIndex) {
+            clear();
+            for (NPC npc : client.getNpcs()) {
+                add(npc);
+            }
+        }
+    }
+
+    public static void clear() {
+        synchronized (byIndex) {
+            Arrays.fill(byIndex, null);
+            byId.clear();
+            byName.clear();
+            keys.clear();
+        }
+    }
+
+    public static int size() {
+        synchronized (byIndex) {
+            return keys.size();
+        }
+    }
+
+    private static void add(NPC npc) {
+        if (npc == null || npc.getIndex() < 0 || npc.getIndex() >= MAX_NPCS) {
+            return;
+        }
+        synchronized (byIndex) {
+            if (keys.containsKey(npc)) {
+                return;
+            }
+            Key key = new Key(npc);
+            keys.put(npc, key);
+            byIndex[npc.getIndex()] = npc;
+            byId.computeIfAbsent(key.id, k -> new ArrayList<>()).add(npc);
+            byName.computeIfAbsent(key.name, k -> new ArrayList<>()).add(npc);
+        }
+    }
+
+    private static void remove(NPC npc) {
+        synchronized (byIndex) {
+            Key key = keys.remove(npc);
+            if (key == null) {
+                return;
+            }
+            if (byIndex[npc.getIndex()] == npc) {
+                byIndex[npc.getIndex()] = null;
+            }
+            removeFrom(byId, key.id, npc);
+            removeFrom(byName, key.name, npc);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, List<NPC>> map, K key, NPC npc) {
+        List<NPC> npcs = map.get(key);
+        if (npcs != null) {
+            npcs.remove(npc);
+            if (npcs.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @return the name lower-cased, without tags and with non-breaking spaces replaced, or an empty string
+     */
+    public static String normalize(String name) {
+        return name == null ? "" : Text.standardize(name);
+    }
+
+    /**
+     * @return the npc with the given index, or null
+     */
+    public static NPC get(int index) {
+        if (index < 0 || index >= MAX_NPCS) {
+            return null;
+        }
+        synchronized (byIndex) {
+            return byIndex[index];
+        }
+    }
+
+    public static List<NPC> getAll() {
+        synchronized (byIndex) {
+            return new ArrayList<>(keys.keySet());
+        }
+    }
+
+    public static List<NPC> getById(int id) {
+        synchronized (byIndex) {
+            return copy(byId.get(id));
+        }
+    }
+
+    /**
+     * @param name case-insensitive npc name
+     */
+    public static List<NPC> getByName(String name) {
+        synchronized (byIndex) {
+            return copy(byName.get(normalize(name)));
+        }
+    }
+
+    private static List<NPC> copy(List<NPC> npcs) {
+        return npcs == null ? Collections.emptyList() : new ArrayList<>(npcs);
+    }
+}
@@ -0,0 +1,160 @@
+package net.runelite.client.plugins.microbot.util.npc;
+
+import net.runelite.api.Actor;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Composable npc query over the {@link NpcIndex}.
+ * <p>
+ * A query by id or name only looks at the npcs indexed under that key. Nearest-first results keep the closest
+ * npcs in a bounded heap instead of sorting every match.
+ * <pre>
+ * NPC target = Rs2Npc.query().withName("goblin").alive().attackable().notInteractingWithOthers(player).nearest();
+ * </pre>
+ */
+public class NpcQuery {
+    private Integer id;
+    private String name;
+    private Predicate<NPC> filter = npc -> true;
+
+    public NpcQuery withId(int id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * @param name case-insensitive npc name
+     */
+    public NpcQuery withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public NpcQuery filter(Predicate<NPC> predicate) {
+        filter = filter.and(predicate);
+        return this;
+    }
+
+    public NpcQuery alive() {
+        return filter(npc -> !npc.isDead());
+    }
+
+    public NpcQuery attackable() {
+        return filter(npc -> npc.getCombatLevel() > 0);
+    }
+
+    public NpcQuery combatLevel(int min, int max) {
+        return filter(npc -> npc.getCombatLevel() >= min && npc.getCombatLevel() <= max);
+    }
+
+    public NpcQuery interactingWith(Actor actor) {
+        return filter(npc -> npc.getInteracting() == actor);
+    }
+
+    /**
+     * Npcs that are not interacting, or are interacting with the given actor.
+     */
+    public NpcQuery notInteractingWithOthers(Actor actor) {
+        return filter(npc -> npc.getInteracting() == null || npc.getInteracting() == actor);
+    }
+
+    /**
+     * @param distance the maximum number of tiles between the npc and the origin
+     */
+    public NpcQuery within(WorldPoint origin, int distance) {
+        return filter(npc -> npc.getWorldLocation().distanceTo(origin) <= distance);
+    }
+
+    /**
+     * @return every matching npc, in no particular order
+     */
+    public List<NPC> list() {
+        List<NPC> result = new ArrayList<>();
+        for (NPC npc : candidates()) {
+            if (filter.test(npc)) {
+                result.add(npc);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return up to limit matching npcs, nearest to the origin first
+     * @throws IllegalArgumentException if limit is negative
+     */
+    public List<NPC> nearest(LocalPoint origin, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+        }
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+        Comparator<NPC> byDistance = Comparator.comparingInt(npc -> npc.getLocalLocation().distanceTo(origin));
+        // the farthest of the kept npcs is on top, so it is the one replaced by a closer match
+        PriorityQueue<NPC> heap = new PriorityQueue<>(byDistance.reversed());
+        for (NPC npc : candidates()) {
+            if (!filter.test(npc)) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(npc);
+            } else if (byDistance.compare(npc, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(npc);
+            }
+        }
+        List<NPC> result = new ArrayList<>(heap);
+        result.sort(byDistance);
+        return result;
+    }
+
+    /**
+     * @return up to limit matching npcs, nearest to the local player first
+     */
+    public List<NPC> nearest(int limit) {
+        return nearest(Microbot.getClient().getLocalPlayer().getLocalLocation(), limit);
+    }
+
+    /**
+     * @return every matching npc, nearest to the local player first
+     */
+    public List<NPC> sorted() {
+        return nearest(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the matching npc nearest to the local player, or null
+     */
+    public NPC nearest() {
+        List<NPC> npcs = nearest(1);
+        return npcs.isEmpty() ? null : npcs.get(0);
+    }
+
+    private List<NPC> candidates() {
+        if (id != null) {
+            List<NPC> npcs = NpcIndex.getById(id);
+            return name == null ? npcs : filterByName(npcs);
+        }
+        return name != null ? NpcIndex.getByName(name) : NpcIndex.getAll();
+    }
+
+    private List<NPC> filterByName(List<NPC> npcs) {
+        String normalized = NpcIndex.normalize(name);
+        List<NPC> result = new ArrayList<>();
+        for (NPC npc : npcs) {
+            if (NpcIndex.normalize(npc.getName()).equals(normalized)) {
+                result.add(npc);
+            }
+        }
+        return result;
+    }
+}
@@ -6,11 +6,7 @@ import net.runelite.api.NPCComposition;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.camera.Camera;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static net.runelite.client.plugins.microbot.util.Global.sleep;
 
@@ -21,11 +17,12 @@ public class Rs2Npc {
     public static String npcAction = null;
 
 
+    public static NpcQuery query() {
+        return new NpcQuery();
+    }
+
     public static NPC getNpcByIndex(int index) {
-        return Microbot.getClient().getNpcs().stream()
-                .filter(x -> x.getIndex() == index)
-                .findFirst()
-                .orElse(null);
+        return NpcIndex.get(index);
     }
 
     public static NPC validateInteractable(NPC npc) {
@@ -38,15 +35,7 @@ public class Rs2Npc {
     }
 
     public static List<NPC> getNpcsForPlayer() {
-        List<NPC> npcs = Microbot.getClient().getNpcs().stream()
-                .filter(x -> x.getInteracting() == Microbot.getClient().getLocalPlayer())
-                .sorted(Comparator
-                        .comparingInt(value -> value
-                                .getLocalLocation()
-                                .distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-
-        return npcs;
+        return query().interactingWith(Microbot.getClient().getLocalPlayer()).sorted();
     }
 
     public static int getHealth(Actor npc) {
@@ -99,86 +88,35 @@ public class Rs2Npc {
     }
 
     public static NPC[] getNpcs() {
-        List<NPC> npcs = Microbot.getClient().getNpcs().stream()
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-
-        return npcs.toArray(new NPC[npcs.size()]);
+        return query().sorted().toArray(new NPC[0]);
     }
 
     public static NPC[] getAttackableNpcs() {
-        List<NPC> npcs = Microbot.getClient().getNpcs().stream()
-                .filter((npc) -> npc.getCombatLevel() > 0 && !npc.isDead())
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-
-        return npcs.toArray(new NPC[npcs.size()]);
+        return query().attackable().alive().sorted().toArray(new NPC[0]);
     }
 
     public static NPC[] getAttackableNpcs(String name) {
-        List<NPC> npcs = Microbot.getClient().getNpcs().stream()
-                .filter((npc) -> npc.getCombatLevel() > 0 && !npc.isDead() && npc.getName().toLowerCase().equals(name))
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-
-        return npcs.toArray(new NPC[npcs.size()]);
+        return query().withName(name).attackable().alive().sorted().toArray(new NPC[0]);
     }
 
     public static NPC[] getPestControlPortals() {
-        List<NPC> npcs = Microbot.getClient().getNpcs().stream()
-                .filter((npc) -> !npc.isDead() && npc.getHealthRatio() > 0 && npc.getName().toLowerCase().equals("portal"))
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-
-        return npcs.toArray(new NPC[npcs.size()]);
+        return query().withName("portal").alive().filter(npc -> npc.getHealthRatio() > 0).sorted().toArray(new NPC[0]);
     }
 
     public static NPC getNpc(String name) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            List<NPC> npcs = Arrays.stream(getNpcs()).collect(Collectors.toList());
-            if (npcs.isEmpty())
-                return null;
-            else
-                return npcs.stream()
-                        .filter(x -> x != null && x.getName().toLowerCase().equalsIgnoreCase(name.toLowerCase()))
-                        .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                        .findAny().orElse(null);
-        });
+        return query().withName(name).nearest();
     }
 
     public static List<NPC> getNpcs(String name) {
-        List<NPC> npcs = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getNpcs().stream()
-                .filter(x -> x != null && x.getName().toLowerCase().equalsIgnoreCase(name.toLowerCase()))
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList()));
-
-        return npcs;
+        return query().withName(name).sorted();
     }
 
     public static NPC getNpc(int id) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            List<NPC> npcs = Arrays.stream(getNpcs()).collect(Collectors.toList());
-            if (npcs.isEmpty())
-                return null;
-            else
-                return npcs.stream()
-                        .filter(x -> x != null && x.getId() == id)
-                        .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                        .findFirst().orElse(null);
-        });
+        return query().withId(id).nearest();
     }
 
     public static NPC getNpc(int id, List<Integer> excludedIndexes) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            List<NPC> npcs = Arrays.stream(getNpcs()).collect(Collectors.toList());
-            if (npcs.isEmpty())
-                return null;
-            else
-                return npcs.stream()
-                        .filter(x -> x != null && x.getId() == id && !excludedIndexes.contains(x.getIndex()))
-                        .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                        .findFirst().orElse(null);
-        });
+        return query().withId(id).filter(npc -> !excludedIndexes.contains(npc.getIndex())).nearest();
     }
 
 
@@ -202,7 +140,7 @@ public class Rs2Npc {
     }
 
     public static boolean interact(int npcId, String action) {
-        NPC npc = Microbot.getClient().getNpcs().stream().filter(x -> x.getId() == npcId).findFirst().orElse(null);
+        NPC npc = query().withId(npcId).nearest();
 
         return interact(npc, action);
     }
@@ -0,0 +1,106 @@
+package net.runelite.client.plugins.microbot.util.snapshot;
+
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Player;
+import net.runelite.api.VarbitComposition;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable view of the game state, captured on the client thread once per game tick.
+ * <p>
+ * Script threads read the latest snapshot through {@link #get()} without hopping onto the client thread.
+ * Callers should fall back to querying the client directly when {@link #get()} returns null, which happens
+ * before the first tick after login or when the last capture is older than {@link #MAX_AGE_MS}.
+ */
+@Getter
+public class GameStateSnapshot {
+    private static final long MAX_AGE_MS = 1200;
+
+    private static volatile GameStateSnapshot latest;
+    // varbit id -> {varp index, lsb, msb}
+    private static final Map<Integer, int[]> varbitDefinitions = new ConcurrentHashMap<>();
+
+    private final long capturedAt;
+    private final int tickCount;
+    private final int plane;
+    private final int[] varps;
+    private final WorldPoint playerLocation;
+    private final LocalPoint playerLocalLocation;
+    private final int playerAnimation;
+    private final int playerPoseAnimation;
+    private final boolean playerInteracting;
+
+    private GameStateSnapshot(Client client) {
+        final Player player = client.getLocalPlayer();
+
+        capturedAt = System.currentTimeMillis();
+        tickCount = client.getTickCount();
+        plane = client.getPlane();
+        varps = client.getVarps().clone();
+        playerLocation = player.getWorldLocation();
+        playerLocalLocation = player.getLocalLocation();
+        playerAnimation = player.getAnimation();
+        playerPoseAnimation = player.getPoseAnimation();
+        playerInteracting = player.isInteracting();
+    }
+
+    /**
+     * Captures a new snapshot. Must be called on the client thread.
+     */
+    public static void capture(Client client) {
+        if (client.getGameState() != GameState.LOGGED_IN || client.getLocalPlayer() == null) {
+            latest = null;
+            return;
+        }
+        latest = new GameStateSnapshot(client);
+    }
+
+    public static void clear() {
+        latest = null;
+    }
+
+    /**
+     * @return the latest snapshot, or null if there is no recent one
+     */
+    public static GameStateSnapshot get() {
+        GameStateSnapshot snapshot = latest;
+        if (snapshot == null || System.currentTimeMillis() - snapshot.capturedAt > MAX_AGE_MS) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    public int getVarp(int varp) {
+        return varp >= 0 && varp < varps.length ? varps[varp] : 0;
+    }
+
+    /**
+     * Computes a varbit from the captured varps. The varbit definition is resolved on the client
+     * thread the first time a varbit is requested and cached afterwards.
+     */
+    public int getVarbit(int varbit) {
+        int[] definition = varbitDefinitions.get(varbit);
+        if (definition == null) {
+            definition = Microbot.getClientThread().runOnClientThread(() -> {
+                VarbitComposition composition = Microbot.getClient().getVarbit(varbit);
+                return composition == null ? null : new int[]{composition.getIndex(), composition.getLeastSignificantBit(), composition.getMostSignificantBit()};
+            });
+            if (definition == null) {
+                return 0;
+            }
+            varbitDefinitions.put(varbit, definition);
+        }
+        int lsb = definition[1];
+        int msb = definition[2];
+        // not (1 << bits) - 1, which is 0 for a 32 bit varbit as the shift count is masked to 5 bits
+        int mask = -1 >>> (31 - (msb - lsb));
+        return (getVarp(definition[0]) >>> lsb) & mask;
+    }
+}
@@ -0,0 +1,18 @@
+package net.runelite.client.plugins.microbot.util.snapshot;
+
+import lombok.Value;
+
+/**
+ * An item in an item container at the time the container was read.
+ */
+@Value
+public class SnapshotItem {
+    int slot;
+    int id;
+    int quantity;
+    /**
+     * Lower-cased item name.
+     */
+    String name;
+    boolean stackable;
+}
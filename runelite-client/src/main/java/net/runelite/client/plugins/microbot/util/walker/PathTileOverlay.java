@@ -6,17 +6,25 @@ import net.runelite.api.Tile;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.walker.pathfinder.PathfinderConfig;
 import net.runelite.client.ui.overlay.Overlay;
 
 import java.awt.*;
 import java.awt.geom.Line2D;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class PathTileOverlay {
 
     private static void renderTransports(Graphics2D graphics) {
-        for (WorldPoint a : Microbot.getWalker().pathfinderConfig.getTransports().keySet()) {
+        // don't block rendering on the walker data, there is nothing to draw until a path has been requested
+        PathfinderConfig pathfinderConfig = Microbot.getWalker().peekPathfinderConfig();
+        if (pathfinderConfig == null) {
+            return;
+        }
+        Map<WorldPoint, List<Transport>> transports = pathfinderConfig.getTransports();
+        for (WorldPoint a : transports.keySet()) {
             drawTile(graphics, a, new Color(0, 255, 0, 128), -1, true);
 
             Point ca = tileCenter(a);
@@ -26,7 +34,7 @@ public class PathTileOverlay {
             }
 
             StringBuilder s = new StringBuilder();
-            for (Transport b : Microbot.getWalker().pathfinderConfig.getTransports().getOrDefault(a, new ArrayList<>())) {
+            for (Transport b : transports.getOrDefault(a, new ArrayList<>())) {
                 for (WorldPoint origin : WorldPoint.toLocalInstance(Microbot.getClient(), b.getOrigin())) {
                     Point cb = tileCenter(origin);
                     if (cb != null) {
@@ -15,7 +15,7 @@ import net.runelite.client.plugins.microbot.util.magic.Teleport;
 import net.runelite.client.plugins.microbot.util.math.Calculations;
 import net.runelite.client.plugins.microbot.util.math.Random;
 import net.runelite.client.plugins.microbot.util.tabs.Tab;
-import net.runelite.client.plugins.microbot.util.walker.pathfinder.CollisionMap;
+import net.runelite.client.plugins.microbot.util.walker.pathfinder.PathCache;
 import net.runelite.client.plugins.microbot.util.walker.pathfinder.Pathfinder;
 import net.runelite.client.plugins.microbot.util.walker.pathfinder.PathfinderConfig;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
@@ -35,7 +36,7 @@ import static org.apache.commons.lang3.tuple.Pair.of;
 public class Walker {
     @Getter
     public Pathfinder pathfinder;
-    public PathfinderConfig pathfinderConfig;
+    private PathfinderConfig pathfinderConfig;
 
     public WorldPoint currentDestination;
 
@@ -44,19 +45,46 @@ public class Walker {
     List<WorldPoint> pathOrigin = new ArrayList<>();
 
 
+    /**
+     * Creating a walker is cheap; the shared {@link WalkerData} is only waited for when the first path is needed.
+     */
     public Walker() {
-        CollisionMap map = CollisionMap.fromResources();
-        Map<WorldPoint, List<Transport>> transports = Transport.fromResources();
-        pathfinderConfig = new PathfinderConfig(map, transports);
+        WalkerData.preload();
     }
 
+    public synchronized PathfinderConfig getPathfinderConfig() {
+        if (pathfinderConfig == null) {
+            WalkerData data = WalkerData.get();
+            pathfinderConfig = new PathfinderConfig(data.getCollisionMap(), data.getTransports());
+        }
+        return pathfinderConfig;
+    }
+
+    /**
+     * @return the pathfinder config, or null if no path has been requested yet
+     */
+    public synchronized PathfinderConfig peekPathfinderConfig() {
+        return pathfinderConfig;
+    }
+
+    /**
+     * @return the path cache, or null if no path has been requested yet
+     */
+    public PathCache getPathCache() {
+        PathfinderConfig config = peekPathfinderConfig();
+        return config == null ? null : config.getPathCache();
+    }
+
+    /**
+     * Plans a route from start or from any teleport the player can cast, in a single search seeded with the
+     * teleport destinations at their cost.
+     *
+     * @return the path and the teleport it begins with; the teleport is null when walking from start is cheapest
+     */
     private Pair<Pathfinder, Teleport> walkToWithTeleports(WorldPoint start, WorldPoint target) {
-        List<Teleport> teleportsAvaible = new ArrayList<>();
-        Pathfinder currentPath = new Pathfinder(pathfinderConfig, start, target, false);
-        final Pathfinder _currentPath = currentPath;
-        sleepUntil(() -> _currentPath.isDone(), 10000);
-        Teleport currentTeleport = null;
-        for (Teleport teleport : Teleport.values()) {
+        Map<WorldPoint, Teleport> teleportsAvailable = new HashMap<>();
+        Map<WorldPoint, Integer> sources = new HashMap<>();
+        for (Teleport teleport : WalkerData.get().getTeleports()) {
             boolean hasTablet = Inventory.hasItem(teleport.getTabletName());
             boolean hasRunes = true;
             for (Pair itemRequired : teleport.getItemsRequired()) {
@@ -64,19 +92,24 @@ public class Walker {
                     hasRunes = false;
             }
 
-            if (hasTablet || hasRunes) {
-                teleportsAvaible.add(teleport);
+            if ((hasTablet || hasRunes) && !teleport.getDestination().equals(start)) {
+                teleportsAvailable.put(teleport.getDestination(), teleport);
+                sources.merge(teleport.getDestination(), teleport.getCost(), Math::min);
             }
         }
-        for (Teleport teleportAvailble : teleportsAvaible) {
-            final Pathfinder p = new Pathfinder(pathfinderConfig, teleportAvailble.getDestination(), target, false);
-            sleepUntil(() -> p.isDone(), 10000);
-            if (currentPath.getTotalCost() > p.getTotalCost()) {
-                currentTeleport = teleportAvailble;
-                currentPath = p;
-            }
+
+        final Pathfinder currentPath = new Pathfinder(getPathfinderConfig(), start, sources, target, true);
+        sleepUntil(currentPath::isDone, 10000);
+        if (!currentPath.isDone()) {
+            // don't leave the search running once nobody is waiting for it
+            currentPath.cancel();
         }
-        return Pair.of(currentPath, currentTeleport);
+        if (!currentPath.isDone() || currentPath.getPath().isEmpty()) {
+            return Pair.of(currentPath, null);
+        }
+        // the path runs from the target back to the source it was reached from
+        WorldPoint source = currentPath.getPath().get(currentPath.getPath().size() - 1);
+        return Pair.of(currentPath, source.equals(start) ? null : teleportsAvailable.get(source));
     }
 
     public WorldPoint walkFastRegion(int regionX, int regionY) {
@@ -155,8 +188,12 @@ public class Walker {
 
         if (useTransport && pathfinder == null) {
             Pair<Pathfinder, Teleport> p = walkToWithTeleports(Microbot.getClient().getLocalPlayer().getWorldLocation(), target);
-            if (p != null && p.getRight() != null) {
+            if (p.getLeft().isDone() && !p.getLeft().getPath().isEmpty()) {
+                // the search includes walking from the start, so when no teleport is cheaper this is the walking
+                // path, which doesn't need to be searched for again
                 pathfinder = p.getLeft();
+                currentDestination = null;
+                ignoreTransport = new ArrayList<>();
                 if (p.getRight() != null) {
                     if (Inventory.hasItem(p.getRight().getTabletName())) {
                         Inventory.useItem(p.getRight().getTabletName());
@@ -182,7 +219,7 @@ public class Walker {
             pathfinder = null;
         } else {
             if (memorizePath && pathOrigin.size() > 0 && pathfinder == null) {
-                pathfinder = new Pathfinder(pathfinderConfig, target);
+                pathfinder = new Pathfinder(getPathfinderConfig(), target);
                 pathfinder.setPath(pathOrigin);
                 reverse = pathOrigin.get(pathOrigin.size() - 1).distanceTo(target) < 4;
                 if (reverse)
@@ -197,7 +234,7 @@ public class Walker {
                 if (pathfinder != null) {
                     start = pathfinder.getStart();
                 }
-                pathfinder = new Pathfinder(pathfinderConfig, start, target, useTransport);
+                pathfinder = new Pathfinder(getPathfinderConfig(), start, target, useTransport);
                 currentDestination = null;
                 ignoreTransport = new ArrayList<>();
                 pathOrigin = new ArrayList<>();
@@ -211,7 +248,7 @@ public class Walker {
                 return true;
             }
 
-            List<WorldPoint> transportDestinations = pathfinder.getPath().stream().filter(x -> pathfinderConfig.getTransports().get(x) != null).collect(Collectors.toList());
+            List<WorldPoint> transportDestinations = pathfinder.getPath().stream().filter(x -> getPathfinderConfig().getTransports().get(x) != null).collect(Collectors.toList());
 
             Collections.reverse(transportDestinations);
 
@@ -251,7 +288,7 @@ public class Walker {
     public boolean useTransport(WorldPoint destinationWorldPoint) {
         LocalPoint localPoint = LocalPoint.fromWorld(Microbot.getClient(), destinationWorldPoint);
         if (localPoint == null) return false;
-        List<Transport> transportWorldPoints = pathfinderConfig.getTransports().get(destinationWorldPoint);
+        List<Transport> transportWorldPoints = getPathfinderConfig().getTransports().get(destinationWorldPoint);
         if (transportWorldPoints == null) return false;
         List<Transport> matchingTransports = transportWorldPoints.stream().filter(x -> x.getOrigin().equals(destinationWorldPoint)).collect(Collectors.toList());
         for (Transport transport : matchingTransports) {
@@ -271,7 +308,7 @@ public class Walker {
                             sleep(2000, 3000);
                         }
                         if ( Microbot.getClient().getLocalPlayer().getWorldLocation().equals(transport.getDestination())) {
-                            List<Transport> transportsToIgnore = pathfinderConfig.getTransports().get(transport.getOrigin()).stream().collect(Collectors.toList());
+                            List<Transport> transportsToIgnore = getPathfinderConfig().getTransports().get(transport.getOrigin()).stream().collect(Collectors.toList());
                             for (Transport transportToIgnore : transportsToIgnore) {
                                 ignoreTransport.add(transportToIgnore);
                             }
@@ -0,0 +1,91 @@
+package net.runelite.client.plugins.microbot.util.walker;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.util.magic.Teleport;
+import net.runelite.client.plugins.microbot.util.walker.pathfinder.CollisionMap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The static data the walker needs: collision map, transports and teleports.
+ * <p>
+ * Loaded once per process on a background thread and shared by every {@link Walker}, so restarting the
+ * plugin or switching profiles does not load it again. Nothing in here changes after loading.
+ */
+@Slf4j
+@Getter
+public class WalkerData {
+    private static CompletableFuture<WalkerData> loading;
+
+    private final CollisionMap collisionMap;
+    private final Map<WorldPoint, List<Transport>> transports;
+    private final List<Teleport> teleports;
+    private final int transportCount;
+    private final long loadMillis;
+
+    private WalkerData() {
+        long start = System.nanoTime();
+        collisionMap = CollisionMap.fromResources();
+
+        Map<WorldPoint, List<Transport>> transportMap = new HashMap<>();
+        int count = 0;
+        for (Map.Entry<WorldPoint, List<Transport>> entry : Transport.fromResources().entrySet()) {
+            transportMap.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+            count += entry.getValue().size();
+        }
+        transports = Collections.unmodifiableMap(transportMap);
+        transportCount = count;
+        teleports = Collections.unmodifiableList(Arrays.asList(Teleport.values()));
+        loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /**
+     * Starts loading the data in the background if that hasn't happened yet.
+     */
+    public static synchronized CompletableFuture<WalkerData> preload() {
+        if (loading == null || loading.isCompletedExceptionally()) {
+            loading = new CompletableFuture<>();
+            final CompletableFuture<WalkerData> future = loading;
+            Thread thread = new Thread(() -> {
+                try {
+                    WalkerData data = new WalkerData();
+                    log.info("Loaded walker data in {} ms: {} KB collision map, {} transports from {} tiles",
+                            data.loadMillis, data.getCollisionMapBytes() / 1024, data.transportCount, data.transports.size());
+                    future.complete(data);
+                } catch (Throwable t) {
+                    log.warn("Unable to load walker data", t);
+                    future.completeExceptionally(t);
+                }
+            }, "Walker data loader");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return loading;
+    }
+
+    /**
+     * Returns the data, waiting for it to finish loading if needed.
+     */
+    public static WalkerData get() {
+        return preload().join();
+    }
+
+    /**
+     * @return whether the data has been loaded
+     */
+    public static synchronized boolean isLoaded() {
+        return loading != null && loading.isDone() && !loading.isCompletedExceptionally();
+    }
+
+    public int getCollisionMapBytes() {
+        return collisionMap.getDataSize();
+    }
+}
@@ -1,21 +1,50 @@
 package net.runelite.client.plugins.microbot.util.walker.pathfinder;
 
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.walker.Transport;
 import net.runelite.client.plugins.microbot.util.walker.Util;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+@Slf4j
 public class CollisionMap extends SplitFlagMap {
+    private static final int REGION_SIZE = 64;
+    private static final int FLAG_COUNT = 2;
+    private static final File CACHE_FILE = new File(RuneLite.CACHE_DIR, "microbot/collision-map.dat");
+
     public CollisionMap(int regionSize, Map<Position, byte[]> compressedRegions) {
-        super(regionSize, compressedRegions, 2);
+        super(regionSize, compressedRegions, FLAG_COUNT);
+    }
+
+    /**
+     * Reads a map written by {@link #toBytes()}.
+     */
+    public CollisionMap(ByteBuffer buffer) {
+        super(buffer, FLAG_COUNT);
     }
 
     public boolean n(int x, int y, int z) {
@@ -54,6 +83,38 @@ public class CollisionMap extends SplitFlagMap {
         return !n(x, y, z) && !s(x, y, z) && !e(x, y, z) && !w(x, y, z);
     }
 
+    /**
+     * Returns the directions that can be walked from the tile, as a bitmask indexed by
+     * {@link OrdinalDirection#ordinal()}. Mirrors the rules of {@link #getNeighbors}.
+     */
+    public int traversableMask(int x, int y, int z) {
+        int mask = 0;
+        if (isBlocked(x, y, z)) {
+            boolean westBlocked = isBlocked(x - 1, y, z);
+            boolean eastBlocked = isBlocked(x + 1, y, z);
+            boolean southBlocked = isBlocked(x, y - 1, z);
+            boolean northBlocked = isBlocked(x, y + 1, z);
+            if (!westBlocked) mask |= 1;
+            if (!eastBlocked) mask |= 1 << 1;
+            if (!southBlocked) mask |= 1 << 2;
+            if (!northBlocked) mask |= 1 << 3;
+            if (!westBlocked && !southBlocked && !isBlocked(x - 1, y - 1, z)) mask |= 1 << 4;
+            if (!eastBlocked && !southBlocked && !isBlocked(x + 1, y - 1, z)) mask |= 1 << 5;
+            if (!westBlocked && !northBlocked && !isBlocked(x - 1, y + 1, z)) mask |= 1 << 6;
+            if (!eastBlocked && !northBlocked && !isBlocked(x + 1, y + 1, z)) mask |= 1 << 7;
+        } else {
+            if (w(x, y, z)) mask |= 1;
+            if (e(x, y, z)) mask |= 1 << 1;
+            if (s(x, y, z)) mask |= 1 << 2;
+            if (n(x, y, z)) mask |= 1 << 3;
+            if (sw(x, y, z)) mask |= 1 << 4;
+            if (se(x, y, z)) mask |= 1 << 5;
+            if (nw(x, y, z)) mask |= 1 << 6;
+            if (ne(x, y, z)) mask |= 1 << 7;
+        }
+        return mask;
+    }
+
     public List<Node> getNeighbors(Node node, PathfinderConfig config, boolean useTransport) {
         int x = node.position.getX();
         int y = node.position.getY();
@@ -62,7 +123,7 @@ public class CollisionMap extends SplitFlagMap {
         List<Node> neighbors = new ArrayList<>();
 
         if (useTransport) {
-            for (Transport transport : config.getTransports().getOrDefault(node.position, new ArrayList<>())) {
+            for (Transport transport : config.getTransports().getOrDefault(node.position, Collections.emptyList())) {
                 if (config.useTransport(transport)) {
                     neighbors.add(new TransportNode(transport.getDestination(), node, transport.getWait()));
                 }
@@ -100,7 +161,7 @@ public class CollisionMap extends SplitFlagMap {
             if (traversable[i]) {
                 neighbors.add(new Node(node.position.dx(d.x).dy(d.y), node));
             } else if (useTransport && Math.abs(d.x + d.y) == 1 && isBlocked(x + d.x, y + d.y, z)) {
-                for (Transport transport : config.getTransports().getOrDefault(node.position.dx(d.x).dy(d.y), new ArrayList<>())) {
+                for (Transport transport : config.getTransports().getOrDefault(node.position.dx(d.x).dy(d.y), Collections.emptyList())) {
                     neighbors.add(new Node(transport.getOrigin(), node));
                 }
             }
@@ -109,9 +170,45 @@ public class CollisionMap extends SplitFlagMap {
         return neighbors;
     }
 
+    /**
+     * Loads the bundled collision map, using the dense copy in {@link #CACHE_FILE} when it was built from the
+     * same resource and writing it otherwise.
+     */
     public static CollisionMap fromResources() {
+        return fromResources(CACHE_FILE);
+    }
+
+    /**
+     * @param cacheFile where the dense map is memory-mapped from and saved to, or null to keep it on the heap only
+     */
+    public static CollisionMap fromResources(File cacheFile) {
+        byte[] zip;
+        try (InputStream in = Microbot.class.getResourceAsStream("/collision-map.zip")) {
+            if (in == null) {
+                throw new FileNotFoundException("/collision-map.zip");
+            }
+            zip = Util.readAllBytes(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(zip);
+        long checksum = crc.getValue();
+
+        if (cacheFile != null && cacheFile.isFile()) {
+            try {
+                CollisionMap map = readCache(cacheFile, checksum);
+                if (map != null) {
+                    return map;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Unable to read collision map cache {}", cacheFile, e);
+            }
+        }
+
         Map<Position, byte[]> compressedRegions = new HashMap<>();
-        try (ZipInputStream in = new ZipInputStream(Microbot.class.getResourceAsStream("/collision-map.zip"))) {
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
             ZipEntry entry;
             while ((entry = in.getNextEntry()) != null) {
                 String[] n = entry.getName().split("_");
@@ -124,6 +221,39 @@ public class CollisionMap extends SplitFlagMap {
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
-        return new CollisionMap(64, compressedRegions);
+        CollisionMap map = new CollisionMap(REGION_SIZE, compressedRegions);
+
+        if (cacheFile != null) {
+            try {
+                writeCache(cacheFile, checksum, map);
+            } catch (IOException e) {
+                log.warn("Unable to write collision map cache {}", cacheFile, e);
+            }
+        }
+        return map;
+    }
+
+    private static CollisionMap readCache(File cacheFile, long checksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 || buffer.getLong() != checksum) {
+                return null;
+            }
+            return new CollisionMap(buffer.slice());
+        }
+    }
+
+    private static void writeCache(File cacheFile, long checksum, CollisionMap map) throws IOException {
+        File dir = cacheFile.getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Unable to create " + dir);
+        }
+        File tmp = new File(cacheFile.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeLong(checksum);
+            out.write(map.toBytes());
+        }
+        Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
     }
 }
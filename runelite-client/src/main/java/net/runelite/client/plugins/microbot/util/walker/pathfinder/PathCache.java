@@ -0,0 +1,157 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import lombok.Value;
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Least recently used cache of paths, keyed by the region of the start tile, the target and the transport
+ * configuration the path was computed with.
+ * <p>
+ * A cached path is reused as is when it passes through the new start tile. Otherwise, when the start is within
+ * {@link #REPAIR_RADIUS} tiles of the cached path, a short search from the start to the closest tile on the
+ * path repairs it, and the rest of the path is kept.
+ */
+public class PathCache {
+    private static final int CAPACITY = 64;
+    private static final int REPAIR_RADIUS = 16;
+    private static final int REPAIR_EXPANSION_LIMIT = 20_000;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<Key, Entry>(CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger repairs = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * A path and its cost, walking and transports included.
+     */
+    @Value
+    public static class CachedPath {
+        List<WorldPoint> path;
+        int cost;
+    }
+
+    /**
+     * Looks up a path from start to target.
+     *
+     * @param search used to repair the cached path when start is not on it
+     * @return the path starting with start, or null on a miss
+     */
+    public CachedPath get(WorldPoint start, WorldPoint target, boolean useTransport, int configHash, PathSearch search) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(new Key(regionOf(start), target, useTransport, configHash));
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        List<WorldPoint> path = entry.path;
+        int[] costs = entry.costs;
+        int index = path.lastIndexOf(start);
+        if (index >= 0) {
+            hits.incrementAndGet();
+            return new CachedPath(new ArrayList<>(path.subList(index, path.size())), costs[costs.length - 1] - costs[index]);
+        }
+
+        int closest = -1;
+        int closestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < path.size(); i++) {
+            WorldPoint point = path.get(i);
+            if (point.getPlane() != start.getPlane()) {
+                continue;
+            }
+            int distance = Math.max(Math.abs(point.getX() - start.getX()), Math.abs(point.getY() - start.getY()));
+            // prefer the tile furthest along the path
+            if (distance <= closestDistance) {
+                closest = i;
+                closestDistance = distance;
+            }
+        }
+
+        if (closest >= 0 && closestDistance <= REPAIR_RADIUS) {
+            List<WorldPoint> repair = search.find(start, path.get(closest),
+                    () -> search.getExpanded() > REPAIR_EXPANSION_LIMIT);
+            if (search.isReached()) {
+                repairs.incrementAndGet();
+                List<WorldPoint> repaired = new ArrayList<>(repair.size() + path.size() - closest);
+                repaired.addAll(repair);
+                repaired.addAll(path.subList(closest + 1, path.size()));
+                return new CachedPath(repaired, search.getCost() + costs[costs.length - 1] - costs[closest]);
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches a path, which must start at start and end at target.
+     *
+     * @param costs the cost of reaching each tile of the path from its start, see {@link PathSearch#getPathCosts()}
+     */
+    public void put(WorldPoint start, WorldPoint target, boolean useTransport, int configHash, List<WorldPoint> path, int[] costs) {
+        if (path.isEmpty() || !path.get(path.size() - 1).equals(target) || costs.length != path.size()) {
+            return;
+        }
+        Entry entry = new Entry(Collections.unmodifiableList(new ArrayList<>(path)), costs.clone());
+        synchronized (entries) {
+            entries.put(new Key(regionOf(start), target, useTransport, configHash), entry);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getRepairs() {
+        return repairs.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private static int regionOf(WorldPoint point) {
+        return WorldPointUtil.pack(point.getX() >> 6, point.getY() >> 6, point.getPlane());
+    }
+
+    @Value
+    private static class Entry {
+        List<WorldPoint> path;
+        int[] costs;
+    }
+
+    @Value
+    private static class Key {
+        int startRegion;
+        WorldPoint target;
+        boolean useTransport;
+        int configHash;
+    }
+}
@@ -0,0 +1,239 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.util.walker.Transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A* search over packed tiles.
+ * <p>
+ * Walking a tile costs 1 and a transport costs its {@link Transport#getWait()}, the same weights the
+ * previous breadth-first search used. The heuristic is the Chebyshev distance to the target, capped by the
+ * cheapest way any usable transport could get there, which keeps it admissible when teleports are allowed.
+ * When the target can't be reached the path to the closest tile found before the cutoff is returned.
+ */
+public class PathSearch {
+    private static final long CUTOFF_NANOS = TimeUnit.SECONDS.toNanos(3);
+    private static final int CHECK_INTERVAL = 256;
+    private static final OrdinalDirection[] DIRECTIONS = OrdinalDirection.values();
+
+    private final PathfinderConfig config;
+    private final CollisionMap map;
+    private final TransportIndex transportIndex;
+    private final boolean useTransport;
+
+    private final PrimitiveLongHeap open = new PrimitiveLongHeap(4096);
+    private final TileIntMap costs = new TileIntMap(1 << 16);
+    private final TileIntMap parents = new TileIntMap(1 << 16);
+    private final VisitedTiles closed = new VisitedTiles();
+
+    private int target;
+    private int transportBound;
+    private TransportIndex usableTransports;
+    private boolean targetInWilderness;
+
+    /**
+     * Cost of the last path found
+     */
+    @Getter
+    private int cost;
+    /**
+     * Cost of reaching each tile of the last path found, from the source it begins at
+     */
+    @Getter
+    private int[] pathCosts = new int[0];
+    /**
+     * Number of tiles expanded by the last search
+     */
+    @Getter
+    private int expanded;
+    /**
+     * Whether the last search reached its target
+     */
+    @Getter
+    private boolean reached;
+
+    public PathSearch(PathfinderConfig config, boolean useTransport) {
+        this.config = config;
+        this.map = config.getMap();
+        this.transportIndex = config.getTransportIndex();
+        this.useTransport = useTransport;
+    }
+
+    /**
+     * Finds a path from start to target.
+     *
+     * @param abort checked periodically; when it returns true the search stops and returns the path to the
+     *              tile being expanded
+     * @return the path, starting with the start tile
+     */
+    public List<WorldPoint> find(WorldPoint start, WorldPoint target, BooleanSupplier abort) {
+        return find(start, Collections.emptyMap(), target, abort);
+    }
+
+    /**
+     * Finds the cheapest path to target from either start or one of the other sources, such as teleport
+     * destinations. Every source is seeded into the open set with its cost, so a single search compares all of
+     * them; the first tile of the returned path tells which source was used.
+     *
+     * @param sources additional start tiles and the cost of getting there
+     */
+    public List<WorldPoint> find(WorldPoint start, Map<WorldPoint, Integer> sources, WorldPoint target, BooleanSupplier abort) {
+        reset();
+        int startTile = WorldPointUtil.pack(start);
+        this.target = WorldPointUtil.pack(target);
+        this.targetInWilderness = config.isInWilderness(this.target);
+        this.usableTransports = config.getUsableTransportIndex();
+        this.transportBound = useTransport ? usableTransports.lowerBound(this.target) : Integer.MAX_VALUE;
+
+        costs.put(startTile, 0);
+        push(startTile, 0);
+        for (Map.Entry<WorldPoint, Integer> source : sources.entrySet()) {
+            int tile = WorldPointUtil.pack(source.getKey());
+            int sourceCost = Math.max(0, source.getValue());
+            if (sourceCost < costs.get(tile, Integer.MAX_VALUE)) {
+                costs.put(tile, sourceCost);
+                push(tile, sourceCost);
+            }
+        }
+
+        int best = startTile;
+        int bestDistance = Integer.MAX_VALUE;
+        long bestHeuristic = Integer.MAX_VALUE;
+        long cutoff = System.nanoTime() + CUTOFF_NANOS;
+
+        while (!open.isEmpty()) {
+            int node = (int) open.poll();
+            if (!closed.set(node)) {
+                continue;
+            }
+            expanded++;
+
+            int nodeCost = costs.get(node, Integer.MAX_VALUE);
+            if (node == this.target) {
+                reached = true;
+                best = node;
+                break;
+            }
+
+            if (expanded % CHECK_INTERVAL == 0 && abort.getAsBoolean()) {
+                best = node;
+                break;
+            }
+
+            int distance = WorldPointUtil.distance(node, this.target);
+            long heuristic = distance + WorldPointUtil.manhattanDistance(node, this.target);
+            if (heuristic < bestHeuristic || (heuristic <= bestHeuristic && distance < bestDistance)) {
+                best = node;
+                bestDistance = distance;
+                bestHeuristic = heuristic;
+                cutoff = System.nanoTime() + CUTOFF_NANOS;
+            }
+
+            if (expanded % CHECK_INTERVAL == 0 && System.nanoTime() > cutoff) {
+                break;
+            }
+
+            expand(node, nodeCost);
+        }
+
+        cost = costs.get(best, 0);
+        return buildPath(best);
+    }
+
+    private void reset() {
+        open.clear();
+        costs.clear();
+        parents.clear();
+        closed.clear();
+        cost = 0;
+        pathCosts = new int[0];
+        expanded = 0;
+        reached = false;
+    }
+
+    private void expand(int node, int nodeCost) {
+        int x = WorldPointUtil.unpackX(node);
+        int y = WorldPointUtil.unpackY(node);
+        int z = WorldPointUtil.unpackPlane(node);
+
+        if (useTransport) {
+            Transport[] transports = usableTransports.get(node);
+            int[] destinations = usableTransports.getDestinations(node);
+            for (int i = 0; i < transports.length; i++) {
+                relax(node, destinations[i], nodeCost + transportCost(node, destinations[i], transports[i].getWait()));
+            }
+        }
+
+        int traversable = map.traversableMask(x, y, z);
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            OrdinalDirection d = DIRECTIONS[i];
+            int neighbor = WorldPointUtil.pack(x + d.x, y + d.y, z);
+            if ((traversable & (1 << i)) != 0) {
+                relax(node, neighbor, nodeCost + 1);
+            } else if (useTransport && Math.abs(d.x + d.y) == 1 && map.isBlocked(x + d.x, y + d.y, z)
+                    && transportIndex.get(neighbor).length > 0) {
+                // transports are keyed by origin, so a blocked neighbour with transports is itself their origin
+                relax(node, neighbor, nodeCost + 1);
+            }
+        }
+    }
+
+    private void relax(int node, int neighbor, int neighborCost) {
+        if (closed.get(neighbor) || config.avoidWilderness(node, neighbor, targetInWilderness)) {
+            return;
+        }
+        if (neighborCost < costs.get(neighbor, Integer.MAX_VALUE)) {
+            costs.put(neighbor, neighborCost);
+            parents.put(neighbor, node);
+            push(neighbor, neighborCost);
+        }
+    }
+
+    private void push(int tile, int tileCost) {
+        long priority = (long) tileCost + heuristic(tile);
+        open.push((priority << 32) | tile);
+    }
+
+    private int heuristic(int tile) {
+        return Math.min(WorldPointUtil.distance(tile, target), transportBound);
+    }
+
+    /**
+     * Same edge weight as {@link Node}: moving to an adjacent tile on the same plane costs the distance,
+     * anything else costs the transport's wait.
+     */
+    private static int transportCost(int from, int to, int wait) {
+        int distance = WorldPointUtil.distance(from, to);
+        if (distance > 1 || WorldPointUtil.unpackPlane(from) != WorldPointUtil.unpackPlane(to)) {
+            return wait;
+        }
+        return distance;
+    }
+
+    private List<WorldPoint> buildPath(int end) {
+        List<WorldPoint> path = new ArrayList<>();
+        int node = end;
+        while (node != WorldPointUtil.UNDEFINED) {
+            path.add(WorldPointUtil.unpack(node));
+            node = parents.get(node, WorldPointUtil.UNDEFINED);
+        }
+        for (int i = 0, j = path.size() - 1; i < j; i++, j--) {
+            WorldPoint tmp = path.get(i);
+            path.set(i, path.get(j));
+            path.set(j, tmp);
+        }
+        pathCosts = new int[path.size()];
+        for (int i = 0; i < pathCosts.length; i++) {
+            pathCosts[i] = costs.get(WorldPointUtil.pack(path.get(i)), 0);
+        }
+        return path;
+    }
+}
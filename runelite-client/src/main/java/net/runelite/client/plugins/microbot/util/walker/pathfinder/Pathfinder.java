@@ -1,8 +1,10 @@
 package net.runelite.client.plugins.microbot.util.walker.pathfinder;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -17,20 +19,17 @@ public class Pathfinder implements Runnable {
     private final WorldPoint target;
     private final PathfinderConfig config;
 
-    private final Deque<Node> boundary = new LinkedList<>();
-    private final Set<WorldPoint> visited = new HashSet<>();
-    @Getter
-    private final Queue<Node> pending = new PriorityQueue<>();
-
     @Getter
     @Setter
     private List<WorldPoint> path = new ArrayList<>();
     @Getter
-    private boolean done = false;
+    private volatile boolean done = false;
     @Getter
     int totalCost = 0;
+    private volatile boolean cancelled;
 
     boolean isTeleport = false;
+    private Map<WorldPoint, Integer> sources = Collections.emptyMap();
 
     @Getter
     @Setter
@@ -63,6 +62,21 @@ public class Pathfinder implements Runnable {
         new Thread(this).start();
     }
 
+    /**
+     * Searches from start and every other source at once, see {@link PathSearch#find(WorldPoint, Map, WorldPoint, BooleanSupplier)}.
+     * The path ends at whichever source the cheapest route begins from.
+     */
+    public Pathfinder(PathfinderConfig config, WorldPoint start, Map<WorldPoint, Integer> sources, WorldPoint target, boolean useTransport) {
+        this.config = config;
+        this.start = start;
+        this.target = target;
+        this.sources = sources;
+        this.config.refresh();
+        this.useTransport = useTransport;
+
+        new Thread(this).start();
+    }
+
     public Pathfinder(PathfinderConfig config, WorldPoint target) {
         this.config = config;
         this.config.refresh();
@@ -71,69 +85,37 @@ public class Pathfinder implements Runnable {
         done = true;
     }
 
-    private void addNeighbors(Node node) {
-        for (Node neighbor : config.getMap().getNeighbors(node, config, useTransport)) {
-            if (config.avoidWilderness(node.position, neighbor.position, target)) {
-                continue;
-            }
-            if (visited.add(neighbor.position)) {
-                if (neighbor instanceof TransportNode) {
-                    pending.add(neighbor);
-                } else {
-                    boundary.addLast(neighbor);
-                }
-            }
-        }
+    /**
+     * Stops the search at its next abort check; the path is left empty.
+     */
+    public void cancel() {
+        cancelled = true;
     }
 
     @Override
     public void run() {
         Microbot.status = "Calculating webwalking, please wait...";
-        boundary.addFirst(new Node(start, null));
 
-        int bestDistance = Integer.MAX_VALUE;
-        long bestHeuristic = Integer.MAX_VALUE;
-        Instant cutoffTime = Instant.now().plus(Duration.ofSeconds(3));
-
-        while (!boundary.isEmpty() || !pending.isEmpty()) {
-            System.out.println(boundary.size());
-            Node node = boundary.peekFirst();
-            Node p = pending.peek();
-
-            if (p != null && (node == null || p.cost < node.cost)) {
-                boundary.addFirst(p);
-                pending.poll();
+        PathSearch search = new PathSearch(config, useTransport);
+        PathCache cache = sources.isEmpty() ? config.getPathCache() : null;
+        int configHash = useTransport ? config.getTransportConfigHash() : 0;
+        PathCache.CachedPath cached = cache != null ? cache.get(start, target, useTransport, configHash, search) : null;
+        if (cached != null) {
+            path = cached.getPath();
+            totalCost = cached.getCost();
+        } else {
+            path = search.find(start, sources, target, () -> cancelled || (!isTeleport && !config.isNear(start)));
+            totalCost = search.getCost();
+            if (cache != null && search.isReached()) {
+                cache.put(start, target, useTransport, configHash, path, search.getPathCosts());
             }
-
-            node = boundary.removeFirst();
-
-            if (node.position.equals(target) || (!isTeleport && !config.isNear(start))) {
-                path = node.getPath();
-                break;
-            }
-
-            int distance = Node.distanceBetween(node.position, target);
-            long heuristic = distance + Node.distanceBetween(node.position, target, 2);
-            if (heuristic < bestHeuristic || (heuristic <= bestHeuristic && distance < bestDistance)) {
-                path = node.getPath();
-                totalCost += node.cost;
-                bestDistance = distance;
-                bestHeuristic = heuristic;
-                cutoffTime = Instant.now().plus(Duration.ofSeconds(3));
-            }
-
-            if (Instant.now().isAfter(cutoffTime)) {
-                break;
-            }
-
-            addNeighbors(node);
         }
 
+        if (cancelled) {
+            path = new ArrayList<>();
+        }
         Collections.reverse(path);
 
         done = true;
-        boundary.clear();
-        visited.clear();
-        pending.clear();
     }
 }
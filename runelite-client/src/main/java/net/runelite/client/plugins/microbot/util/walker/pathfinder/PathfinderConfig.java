@@ -5,6 +5,7 @@ import net.runelite.api.Point;
 import net.runelite.api.*;
 import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.api.worldmap.WorldMap;
@@ -13,18 +14,39 @@ import net.runelite.client.plugins.microbot.util.walker.Transport;
 
 import java.awt.*;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PathfinderConfig {
     private static final WorldArea WILDERNESS_ABOVE_GROUND = new WorldArea(2944, 3523, 448, 448, 0);
     private static final WorldArea WILDERNESS_UNDERGROUND = new WorldArea(2944, 9918, 320, 442, 0);
 
+    private static final Skill[] TRANSPORT_SKILLS = {Skill.AGILITY, Skill.RANGED, Skill.STRENGTH, Skill.PRAYER, Skill.WOODCUTTING};
+
+    // fairy rings are usable once Fairytale II - Cure a Queen has been started
+    static final int FAIRYTALE_II_VARBIT = 2326;
+
     @Getter
     private final CollisionMap map;
     @Getter
     private final Map<WorldPoint, List<Transport>> transports;
+    /**
+     * Every transport, whether the player can use it or not
+     */
+    @Getter
+    private final TransportIndex transportIndex;
+    /**
+     * Only the transports {@link #useTransport} currently allows. Rebuilt when a requirement changes.
+     */
+    @Getter
+    private volatile TransportIndex usableTransportIndex;
+    @Getter
+    private final PathCache pathCache = new PathCache();
     @Getter
     private Duration calculationCutoff;
     private boolean avoidWilderness;
@@ -38,55 +60,254 @@ public class PathfinderConfig {
     private int strengthLevel;
     private int prayerLevel;
     private int woodcuttingLevel;
-    private Map<Quest, QuestState> questStates = new HashMap<>();
+    private boolean fairyRingsUnlocked;
+    private final Map<Quest, QuestState> questStates = new ConcurrentHashMap<>();
+
+    // every transport, and whether it passed useTransport the last time it was evaluated
+    private final Transport[] allTransports;
+    private final boolean[] usable;
+    // indices into allTransports of the transports that depend on a skill, quest or fairy ring access
+    private final Map<Skill, int[]> skillDependents = new EnumMap<>(Skill.class);
+    private final Map<Quest, int[]> questDependents = new EnumMap<>(Quest.class);
+    private final int[] fairyRingDependents;
+    private volatile boolean questsDirty = true;
 
     public PathfinderConfig(CollisionMap map, Map<WorldPoint, List<Transport>> transports) {
         this.map = map;
         this.transports = transports;
+        this.transportIndex = new TransportIndex(transports);
+
+        List<Transport> flattened = new ArrayList<>();
+        for (List<Transport> origin : transports.values()) {
+            flattened.addAll(origin);
+        }
+        allTransports = flattened.toArray(new Transport[0]);
+        usable = new boolean[allTransports.length];
+
+        Map<Quest, List<Integer>> byQuest = new EnumMap<>(Quest.class);
+        List<Integer> fairyRings = new ArrayList<>();
+        for (int i = 0; i < allTransports.length; i++) {
+            Transport transport = allTransports[i];
+            if (transport.isQuestLocked()) {
+                byQuest.computeIfAbsent(transport.getQuest(), k -> new ArrayList<>()).add(i);
+            }
+            if (transport.isFairyRing()) {
+                fairyRings.add(i);
+            }
+        }
+        for (Map.Entry<Quest, List<Integer>> entry : byQuest.entrySet()) {
+            questDependents.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        fairyRingDependents = toArray(fairyRings);
+        for (Skill skill : TRANSPORT_SKILLS) {
+            List<Integer> dependents = new ArrayList<>();
+            for (int i = 0; i < allTransports.length; i++) {
+                if (allTransports[i].getRequiredLevel(skill) > 1) {
+                    dependents.add(i);
+                }
+            }
+            skillDependents.put(skill, toArray(dependents));
+        }
+
+        // the first refresh evaluates every transport
         refresh();
     }
 
-    public void refresh() {
+    /**
+     * Re-reads the player's levels and, if a quest may have changed since the last refresh, schedules a quest
+     * check on the client thread. Only the transports whose requirements changed are re-evaluated.
+     */
+    public synchronized void refresh() {
         calculationCutoff = Duration.ofMillis(5 * Constants.GAME_TICK_LENGTH);
+        boolean togglesChanged = !avoidWilderness || !useAgilityShortcuts || !useGrappleShortcuts || !useBoats || !useTeleports;
         avoidWilderness = true;
         useAgilityShortcuts = true;
         useGrappleShortcuts = true;
         useBoats = true;
-        useFairyRings = true;
         useTeleports = true;
 
-        if (GameState.LOGGED_IN.equals(Microbot.getClient().getGameState())) {
-            agilityLevel = Microbot.getClient().getBoostedSkillLevel(Skill.AGILITY);
-            rangedLevel = Microbot.getClient().getBoostedSkillLevel(Skill.RANGED);
-            strengthLevel = Microbot.getClient().getBoostedSkillLevel(Skill.STRENGTH);
-            prayerLevel = Microbot.getClient().getBoostedSkillLevel(Skill.PRAYER);
-            woodcuttingLevel = Microbot.getClient().getBoostedSkillLevel(Skill.WOODCUTTING);
-            Microbot.getClientThread().invokeLater(this::refreshQuests);
-        }
-    }
-
-    private void refreshQuests() {
-        useFairyRings &= !QuestState.NOT_STARTED.equals(Quest.FAIRYTALE_II__CURE_A_QUEEN.getState(Microbot.getClient()));
-        for (Map.Entry<WorldPoint, List<Transport>> entry : transports.entrySet()) {
-            for (Transport transport : entry.getValue()) {
-                if (transport.isQuestLocked()) {
-                    try {
-                        questStates.put(transport.getQuest(), transport.getQuest().getState(Microbot.getClient()));
-                    } catch (NullPointerException ignored) {
-                    }
-                }
+        if (Microbot.getClient() != null && GameState.LOGGED_IN.equals(Microbot.getClient().getGameState())) {
+            boolean changed = togglesChanged;
+            for (Skill skill : TRANSPORT_SKILLS) {
+                changed |= updateLevel(skill, Microbot.getClient().getBoostedSkillLevel(skill));
             }
+            if (changed && !togglesChanged) {
+                rebuildUsableIndex();
+            }
+            if (questsDirty) {
+                questsDirty = false;
+                Microbot.getClientThread().invokeLater(this::refreshQuests);
+            }
+        }
+
+        if (togglesChanged) {
+            evaluateAll();
+        }
+    }
+
+    /**
+     * Updates a level from a {@link net.runelite.api.events.StatChanged} event.
+     */
+    public synchronized void onStatChanged(Skill skill, int boostedLevel) {
+        if (updateLevel(skill, boostedLevel)) {
+            rebuildUsableIndex();
+        }
+    }
+
+    /**
+     * Marks quest states as possibly stale if a var the transports depend on changed; they are re-read on the
+     * next refresh.
+     */
+    public void onVarbitChanged(VarbitChanged varbitChanged) {
+        if (isTransportVar(varbitChanged.getVarpId(), varbitChanged.getVarbitId())) {
+            questsDirty = true;
+        }
+    }
+
+    /**
+     * Marks quest states as stale, for changes no var reports: a miniquest, which awards no quest points, was
+     * completed, or the player logged out and the next account may have done other quests.
+     */
+    public void invalidateQuests() {
+        questsDirty = true;
+    }
+
+    /**
+     * Transports only require a quest to be finished, and finishing a quest awards quest points, so the quest
+     * points varp covers every quest state a transport depends on. Fairy rings also depend on whether
+     * Fairytale II has been started.
+     */
+    static boolean isTransportVar(int varpId, int varbitId) {
+        if (varbitId != -1) {
+            return varbitId == FAIRYTALE_II_VARBIT;
         }
+        return varpId == VarPlayer.QUEST_POINTS;
+    }
+
+    private synchronized void refreshQuests() {
+        boolean changed = false;
+        boolean unlocked = !QuestState.NOT_STARTED.equals(Quest.FAIRYTALE_II__CURE_A_QUEEN.getState(Microbot.getClient()));
+        if (unlocked != fairyRingsUnlocked) {
+            fairyRingsUnlocked = unlocked;
+            useFairyRings = unlocked;
+            changed |= evaluate(fairyRingDependents);
+        }
+        for (Map.Entry<Quest, int[]> entry : questDependents.entrySet()) {
+            Quest quest = entry.getKey();
+            QuestState state;
+            try {
+                state = quest.getState(Microbot.getClient());
+            } catch (NullPointerException ignored) {
+                continue;
+            }
+            if (state != null && state != questStates.put(quest, state)) {
+                changed |= evaluate(entry.getValue());
+            }
+        }
+        if (changed) {
+            rebuildUsableIndex();
+        }
+    }
+
+    private boolean updateLevel(Skill skill, int level) {
+        int previous;
+        switch (skill) {
+            case AGILITY:
+                previous = agilityLevel;
+                agilityLevel = level;
+                break;
+            case RANGED:
+                previous = rangedLevel;
+                rangedLevel = level;
+                break;
+            case STRENGTH:
+                previous = strengthLevel;
+                strengthLevel = level;
+                break;
+            case PRAYER:
+                previous = prayerLevel;
+                prayerLevel = level;
+                break;
+            case WOODCUTTING:
+                previous = woodcuttingLevel;
+                woodcuttingLevel = level;
+                break;
+            default:
+                return false;
+        }
+        return previous != level && evaluate(skillDependents.get(skill));
+    }
+
+    private void evaluateAll() {
+        for (int i = 0; i < allTransports.length; i++) {
+            usable[i] = useTransport(allTransports[i]);
+        }
+        rebuildUsableIndex();
+    }
+
+    /**
+     * @return whether any of the transports changed from usable to unusable or back
+     */
+    private boolean evaluate(int[] dependents) {
+        boolean changed = false;
+        for (int i : dependents) {
+            boolean value = useTransport(allTransports[i]);
+            changed |= value != usable[i];
+            usable[i] = value;
+        }
+        return changed;
+    }
+
+    private void rebuildUsableIndex() {
+        Map<WorldPoint, List<Transport>> filtered = new HashMap<>();
+        for (int i = 0; i < allTransports.length; i++) {
+            if (usable[i]) {
+                filtered.computeIfAbsent(allTransports[i].getOrigin(), k -> new ArrayList<>()).add(allTransports[i]);
+            }
+        }
+        usableTransportIndex = new TransportIndex(filtered);
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Hash of everything {@link #useTransport} depends on. Paths computed with the same hash use the same transports.
+     */
+    public int getTransportConfigHash() {
+        return Objects.hash(avoidWilderness, useAgilityShortcuts, useGrappleShortcuts, useBoats, useFairyRings, useTeleports,
+                agilityLevel, rangedLevel, strengthLevel, prayerLevel, woodcuttingLevel, questStates);
     }
 
     private boolean isInWilderness(WorldPoint p) {
         return WILDERNESS_ABOVE_GROUND.distanceTo(p) == 0 || WILDERNESS_UNDERGROUND.distanceTo(p) == 0;
     }
 
+    public boolean isInWilderness(int packed) {
+        return isInArea(WILDERNESS_ABOVE_GROUND, packed) || isInArea(WILDERNESS_UNDERGROUND, packed);
+    }
+
+    private static boolean isInArea(WorldArea area, int packed) {
+        int x = WorldPointUtil.unpackX(packed);
+        int y = WorldPointUtil.unpackY(packed);
+        return WorldPointUtil.unpackPlane(packed) == area.getPlane()
+                && x >= area.getX() && x < area.getX() + area.getWidth()
+                && y >= area.getY() && y < area.getY() + area.getHeight();
+    }
+
     public boolean avoidWilderness(WorldPoint position, WorldPoint neighbor, WorldPoint target) {
         return avoidWilderness && !isInWilderness(position) && isInWilderness(neighbor) && !isInWilderness(target);
     }
 
+    public boolean avoidWilderness(int position, int neighbor, boolean targetInWilderness) {
+        return avoidWilderness && !targetInWilderness && !isInWilderness(position) && isInWilderness(neighbor);
+    }
+
     public boolean isNear(WorldPoint location) {
         if (Microbot.getClient().getLocalPlayer() == null) {
             return true;
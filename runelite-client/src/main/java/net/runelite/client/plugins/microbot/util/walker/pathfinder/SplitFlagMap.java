@@ -1,53 +1,162 @@
 package net.runelite.client.plugins.microbot.util.walker.pathfinder;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.cache.Weigher;
-import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
 import java.util.zip.GZIPInputStream;
 import net.runelite.client.plugins.microbot.util.walker.Util;
 
+/**
+ * Flags for the whole world, stored densely.
+ * <p>
+ * Every region is inflated once into a fixed-size block of {@code regionSize * regionSize * PLANE_COUNT * flagCount}
+ * bits, and the blocks are laid out back to back in a single buffer. A small table maps region coordinates to
+ * their block, so a lookup is a bounds check, a table read and a bit test. The buffer can be serialized with
+ * {@link #toBytes()} and read back from a memory-mapped file without inflating anything.
+ */
 public abstract class SplitFlagMap {
-    private static final int MAXIMUM_SIZE = 20 * 1024 * 1024;
+    private static final int MAGIC = 0x4D42434D;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 9 * 4;
+
     private final int regionSize;
-    private final LoadingCache<Position, FlagMap> regionMaps;
     private final int flagCount;
+    private final int minRegionX;
+    private final int minRegionY;
+    private final int regionsWide;
+    private final int regionsHigh;
+    private final int regionBytes;
+    // region (x, y) -> block index, -1 when the region has no data
+    private final int[] regionSlots;
+    private final ByteBuffer data;
 
     public SplitFlagMap(int regionSize, Map<Position, byte[]> compressedRegions, int flagCount) {
         this.regionSize = regionSize;
         this.flagCount = flagCount;
-        regionMaps = CacheBuilder
-                .newBuilder()
-                .weigher((Weigher<Position, FlagMap>) (k, v) -> v.flags.size() / 8)
-                .maximumWeight(MAXIMUM_SIZE)
-                .build(CacheLoader.from(position -> {
-                    byte[] compressedRegion = compressedRegions.get(position);
-
-                    if (compressedRegion == null) {
-                        return new FlagMap(position.x * regionSize, position.y * regionSize, (position.x + 1) * regionSize - 1, (position.y + 1) * regionSize - 1, this.flagCount);
-                    }
-
-                    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressedRegion))) {
-                        return new FlagMap(Util.readAllBytes(in), this.flagCount);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                }));
+        this.regionBytes = regionBytes(regionSize, flagCount);
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (Position position : compressedRegions.keySet()) {
+            minX = Math.min(minX, position.x);
+            minY = Math.min(minY, position.y);
+            maxX = Math.max(maxX, position.x);
+            maxY = Math.max(maxY, position.y);
+        }
+        if (compressedRegions.isEmpty()) {
+            minX = minY = 0;
+            maxX = maxY = -1;
+        }
+        minRegionX = minX;
+        minRegionY = minY;
+        regionsWide = maxX - minX + 1;
+        regionsHigh = maxY - minY + 1;
+        regionSlots = new int[regionsWide * regionsHigh];
+        Arrays.fill(regionSlots, -1);
+
+        byte[] blocks = new byte[compressedRegions.size() * regionBytes];
+        int slot = 0;
+        for (Map.Entry<Position, byte[]> entry : compressedRegions.entrySet()) {
+            Position position = entry.getKey();
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(entry.getValue()))) {
+                ByteBuffer region = ByteBuffer.wrap(Util.readAllBytes(in));
+                // FlagMap header: minX, minY, maxX, maxY followed by the BitSet bytes
+                int regionMinX = region.getInt();
+                int regionMinY = region.getInt();
+                int regionMaxX = region.getInt();
+                int regionMaxY = region.getInt();
+                if (regionMinX != position.x * regionSize || regionMinY != position.y * regionSize
+                        || regionMaxX - regionMinX + 1 != regionSize || regionMaxY - regionMinY + 1 != regionSize) {
+                    throw new IllegalArgumentException("Region " + position + " does not cover a " + regionSize + "x" + regionSize + " area");
+                }
+                region.get(blocks, slot * regionBytes, Math.min(region.remaining(), regionBytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            regionSlots[(position.y - minRegionY) * regionsWide + (position.x - minRegionX)] = slot++;
+        }
+        data = ByteBuffer.wrap(blocks);
+    }
+
+    /**
+     * Reads a map written by {@link #toBytes()}. The buffer is used as is, so it may be memory-mapped.
+     */
+    public SplitFlagMap(ByteBuffer buffer, int flagCount) {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalArgumentException("Not a flag map");
+        }
+        regionSize = buffer.getInt();
+        this.flagCount = buffer.getInt();
+        if (this.flagCount != flagCount) {
+            throw new IllegalArgumentException("Expected " + flagCount + " flags but found " + this.flagCount);
+        }
+        regionBytes = regionBytes(regionSize, flagCount);
+        minRegionX = buffer.getInt();
+        minRegionY = buffer.getInt();
+        regionsWide = buffer.getInt();
+        regionsHigh = buffer.getInt();
+        int regionCount = buffer.getInt();
+        regionSlots = new int[regionsWide * regionsHigh];
+        buffer.asIntBuffer().get(regionSlots);
+        buffer.position(buffer.position() + regionSlots.length * 4);
+        if (buffer.remaining() < regionCount * regionBytes) {
+            throw new IllegalArgumentException("Flag map is truncated");
+        }
+        data = buffer.slice();
     }
 
     public boolean get(int x, int y, int z, int flag) {
-        try {
-            return regionMaps.get(new Position(x / regionSize, y / regionSize)).get(x, y, z, flag);
-        } catch (ExecutionException e) {
-            throw new UncheckedExecutionException(e);
+        if (x < 0 || y < 0 || z < 0 || z >= FlagMap.PLANE_COUNT) {
+            return false;
+        }
+        int regionX = x / regionSize - minRegionX;
+        int regionY = y / regionSize - minRegionY;
+        if (regionX < 0 || regionY < 0 || regionX >= regionsWide || regionY >= regionsHigh) {
+            return false;
+        }
+        int slot = regionSlots[regionY * regionsWide + regionX];
+        if (slot < 0) {
+            return false;
+        }
+        // same bit order as FlagMap, which stores a BitSet
+        int bit = ((z * regionSize + y % regionSize) * regionSize + x % regionSize) * flagCount + flag;
+        return (data.get(slot * regionBytes + (bit >>> 3)) & (1 << (bit & 7))) != 0;
+    }
+
+    /**
+     * @return the number of bytes used by the flags
+     */
+    public int getDataSize() {
+        return data.capacity() + regionSlots.length * 4;
+    }
+
+    public byte[] toBytes() {
+        int regionCount = data.capacity() / regionBytes;
+        byte[] bytes = new byte[HEADER_SIZE + regionSlots.length * 4 + regionCount * regionBytes];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(regionSize);
+        buffer.putInt(flagCount);
+        buffer.putInt(minRegionX);
+        buffer.putInt(minRegionY);
+        buffer.putInt(regionsWide);
+        buffer.putInt(regionsHigh);
+        buffer.putInt(regionCount);
+        for (int slot : regionSlots) {
+            buffer.putInt(slot);
         }
+        ByteBuffer source = data.duplicate();
+        source.clear();
+        buffer.put(source);
+        return bytes;
+    }
+
+    private static int regionBytes(int regionSize, int flagCount) {
+        return (regionSize * regionSize * FlagMap.PLANE_COUNT * flagCount + 7) / 8;
     }
 
     public static class Position {
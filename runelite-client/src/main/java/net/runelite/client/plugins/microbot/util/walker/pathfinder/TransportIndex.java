@@ -0,0 +1,65 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.util.walker.Transport;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transports keyed by their packed origin tile, so the pathfinder can look them up without
+ * allocating {@link WorldPoint} keys or empty lists.
+ */
+public class TransportIndex {
+    private static final Transport[] NONE = new Transport[0];
+    private static final int[] NO_DESTINATIONS = new int[0];
+
+    private final TileIntMap slots;
+    private final Transport[][] transports;
+    private final int[][] destinations;
+
+    public TransportIndex(Map<WorldPoint, List<Transport>> transportsByOrigin) {
+        slots = new TileIntMap(transportsByOrigin.size());
+        transports = new Transport[transportsByOrigin.size()][];
+        destinations = new int[transportsByOrigin.size()][];
+        int slot = 0;
+        for (Map.Entry<WorldPoint, List<Transport>> entry : transportsByOrigin.entrySet()) {
+            transports[slot] = entry.getValue().toArray(NONE);
+            destinations[slot] = new int[transports[slot].length];
+            for (int i = 0; i < transports[slot].length; i++) {
+                destinations[slot][i] = WorldPointUtil.pack(transports[slot][i].getDestination());
+            }
+            slots.put(WorldPointUtil.pack(entry.getKey()), slot);
+            slot++;
+        }
+    }
+
+    /**
+     * @return the packed destinations of {@link #get(int)}, in the same order
+     */
+    public int[] getDestinations(int packedOrigin) {
+        int slot = slots.get(packedOrigin, -1);
+        return slot == -1 ? NO_DESTINATIONS : destinations[slot];
+    }
+
+    /**
+     * @return the lowest wait plus remaining distance to the target over all transports
+     */
+    public int lowerBound(int target) {
+        int bound = Integer.MAX_VALUE;
+        for (int slot = 0; slot < transports.length; slot++) {
+            for (int i = 0; i < transports[slot].length; i++) {
+                bound = Math.min(bound, Math.max(0, transports[slot][i].getWait()) + WorldPointUtil.distance(destinations[slot][i], target));
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * @return the transports starting at the packed tile, or an empty array
+     */
+    public Transport[] get(int packedOrigin) {
+        int slot = slots.get(packedOrigin, -1);
+        return slot == -1 ? NONE : transports[slot];
+    }
+}
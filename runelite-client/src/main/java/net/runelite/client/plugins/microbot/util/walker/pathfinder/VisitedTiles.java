@@ -0,0 +1,86 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import java.util.Arrays;
+
+/**
+ * Bitset over packed tiles, split into lazily allocated 64x64 region chunks so a search only pays
+ * for the regions it touches.
+ */
+public class VisitedTiles {
+    private static final int REGION_SHIFT = 6;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+    private static final int REGIONS_X = 128;
+    private static final int REGIONS_Y = 256;
+    private static final int PLANES = 4;
+    private static final int WORDS_PER_REGION = REGION_SIZE * REGION_SIZE / 64;
+
+    private final long[][] regions = new long[PLANES * REGIONS_X * REGIONS_Y][];
+    private int[] used = new int[64];
+    private int usedCount;
+
+    private int regionIndex(int x, int y, int plane) {
+        int regionX = x >>> REGION_SHIFT;
+        int regionY = y >>> REGION_SHIFT;
+        if (regionX >= REGIONS_X || regionY >= REGIONS_Y) {
+            return -1;
+        }
+        return (plane * REGIONS_Y + regionY) * REGIONS_X + regionX;
+    }
+
+    private static int bitIndex(int x, int y) {
+        return ((y & (REGION_SIZE - 1)) << REGION_SHIFT) | (x & (REGION_SIZE - 1));
+    }
+
+    public boolean get(int packed) {
+        int x = WorldPointUtil.unpackX(packed);
+        int y = WorldPointUtil.unpackY(packed);
+        int index = regionIndex(x, y, WorldPointUtil.unpackPlane(packed));
+        if (index < 0) {
+            return true;
+        }
+        long[] region = regions[index];
+        if (region == null) {
+            return false;
+        }
+        int bit = bitIndex(x, y);
+        return (region[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Marks a tile as visited.
+     *
+     * @return true if the tile was not visited before
+     */
+    public boolean set(int packed) {
+        int x = WorldPointUtil.unpackX(packed);
+        int y = WorldPointUtil.unpackY(packed);
+        int index = regionIndex(x, y, WorldPointUtil.unpackPlane(packed));
+        if (index < 0) {
+            return false;
+        }
+        long[] region = regions[index];
+        if (region == null) {
+            region = regions[index] = new long[WORDS_PER_REGION];
+            if (usedCount == used.length) {
+                used = Arrays.copyOf(used, usedCount * 2);
+            }
+            used[usedCount++] = index;
+        }
+        int bit = bitIndex(x, y);
+        long mask = 1L << bit;
+        if ((region[bit >>> 6] & mask) != 0) {
+            return false;
+        }
+        region[bit >>> 6] |= mask;
+        return true;
+    }
+
+    /**
+     * Clears all visited tiles, keeping the allocated region chunks for reuse.
+     */
+    public void clear() {
+        for (int i = 0; i < usedCount; i++) {
+            Arrays.fill(regions[used[i]], 0L);
+        }
+    }
+}
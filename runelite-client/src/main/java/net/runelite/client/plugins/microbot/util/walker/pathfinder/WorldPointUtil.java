@@ -0,0 +1,53 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Packs world coordinates into a single non-negative int so the pathfinder can work on primitives.
+ * Layout: x in bits 0-13, y in bits 14-28 and plane in bits 29-30.
+ */
+public class WorldPointUtil {
+    public static final int UNDEFINED = -1;
+
+    public static int pack(int x, int y, int plane) {
+        return (x & 0x3FFF) | ((y & 0x7FFF) << 14) | ((plane & 0x3) << 29);
+    }
+
+    public static int pack(WorldPoint point) {
+        return pack(point.getX(), point.getY(), point.getPlane());
+    }
+
+    public static WorldPoint unpack(int packed) {
+        return new WorldPoint(unpackX(packed), unpackY(packed), unpackPlane(packed));
+    }
+
+    public static int unpackX(int packed) {
+        return packed & 0x3FFF;
+    }
+
+    public static int unpackY(int packed) {
+        return (packed >>> 14) & 0x7FFF;
+    }
+
+    public static int unpackPlane(int packed) {
+        return (packed >>> 29) & 0x3;
+    }
+
+    public static int offset(int packed, int dx, int dy) {
+        return pack(unpackX(packed) + dx, unpackY(packed) + dy, unpackPlane(packed));
+    }
+
+    /**
+     * Chebyshev distance on the x/y axes, ignoring the plane.
+     */
+    public static int distance(int a, int b) {
+        return Math.max(Math.abs(unpackX(a) - unpackX(b)), Math.abs(unpackY(a) - unpackY(b)));
+    }
+
+    /**
+     * Manhattan distance on the x/y axes, ignoring the plane.
+     */
+    public static int manhattanDistance(int a, int b) {
+        return Math.abs(unpackX(a) - unpackX(b)) + Math.abs(unpackY(a) - unpackY(b));
+    }
+}
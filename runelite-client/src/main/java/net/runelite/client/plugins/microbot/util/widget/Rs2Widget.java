@@ -75,39 +75,31 @@ public class Rs2Widget {
         } while (true);
     }
 
+    /**
+     * Searches the whole widget tree through the {@link WidgetIndex} when children is null.
+     *
+     * @param exact match the widget name exactly instead of any part of it
+     */
     public static Widget findWidget(String text, List<Widget> children, boolean exact) {
+        if (children == null) {
+            return WidgetIndex.find(text, WidgetIndex.Match.CONTAINS, exact ? WidgetIndex.Match.EXACT : WidgetIndex.Match.CONTAINS);
+        }
         return Microbot.getClientThread().runOnClientThread(() -> {
-            Widget foundWidget = null;
-            if (children == null) {
-                List<Widget> rootWidgets = Arrays.stream(Microbot.getClient().getWidgetRoots()).filter(x -> !x.isHidden()).collect(Collectors.toList());
-                for (Widget rootWidget : rootWidgets) {
-                    if (exact) {
-                        if (rootWidget.getText().toLowerCase().contains(text.toLowerCase()) || rootWidget.getName().toLowerCase().contains(">" + text.toLowerCase() + "<")) {
-                            return rootWidget;
-                        }
-                    } else {
-                        if (rootWidget.getText().toLowerCase().contains(text.toLowerCase()) || rootWidget.getName().toLowerCase().contains(text.toLowerCase())) {
-                            return rootWidget;
-                        }
-                    }
-                    if (rootWidget.getChildren() != null)
-                        return findWidget(text, Arrays.stream(rootWidget.getChildren()).filter(x -> !x.isHidden()).collect(Collectors.toList()), exact);
-                    if (rootWidget.getNestedChildren().length > 0)
-                        return findWidget(text, Arrays.stream(rootWidget.getNestedChildren()).filter(x -> !x.isHidden()).collect(Collectors.toList()), exact);
-                    if (rootWidget.getDynamicChildren().length > 0)
-                        return findWidget(text, Arrays.stream(rootWidget.getDynamicChildren()).filter(x -> !x.isHidden()).collect(Collectors.toList()), exact);
-                    if (rootWidget.getStaticChildren().length > 0)
-                        return findWidget(text, Arrays.stream(rootWidget.getStaticChildren()).filter(x -> !x.isHidden()).collect(Collectors.toList()), exact);
-                }
-            } else if (children.size() > 0) {
-                for (Widget child : children) {
-                    foundWidget = searchChildren(text, child, exact);
-                    if (foundWidget != null) break;
-                }
+            for (Widget child : children) {
+                Widget foundWidget = searchChildren(text, child, exact);
+                if (foundWidget != null) return foundWidget;
             }
-            return foundWidget;
+            return null;
         });
     }
+
+    /**
+     * @return the first visible widget whose text or name starts with the given text, ignoring case and tags
+     */
+    public static Widget findWidgetStartingWith(String text) {
+        return WidgetIndex.find(text, WidgetIndex.Match.PREFIX);
+    }
+
     public static Widget findWidget(String text) {
         return findWidget(text, null, false);
     }
@@ -174,29 +166,17 @@ public class Rs2Widget {
 
     public static Widget findWidget(int spriteId, List<Widget> children) {
         return Microbot.getClientThread().runOnClientThread(() -> {
-            Widget foundWidget = null;
             if (children == null) {
-                List<Widget> rootWidgets = Arrays.stream(Microbot.getClient().getWidgetRoots()).filter(x -> !x.isHidden()).collect(Collectors.toList());
-                for (Widget rootWidget : rootWidgets) {
-                    if (rootWidget.getSpriteId() == spriteId) {
-                        return rootWidget;
-                    }
-                    if (rootWidget.getChildren() != null)
-                        return findWidget(spriteId, Arrays.stream(rootWidget.getChildren()).filter(x -> !x.isHidden()).collect(Collectors.toList()));
-                    if (rootWidget.getNestedChildren().length > 0)
-                        return findWidget(spriteId, Arrays.stream(rootWidget.getNestedChildren()).filter(x -> !x.isHidden()).collect(Collectors.toList()));
-                    if (rootWidget.getDynamicChildren().length > 0)
-                        return findWidget(spriteId, Arrays.stream(rootWidget.getDynamicChildren()).filter(x -> !x.isHidden()).collect(Collectors.toList()));
-                    if (rootWidget.getStaticChildren().length > 0)
-                        return findWidget(spriteId, Arrays.stream(rootWidget.getStaticChildren()).filter(x -> !x.isHidden()).collect(Collectors.toList()));
-                }
-            } else if (children.size() > 0) {
-                for (Widget child : children) {
-                    foundWidget = searchChildren(spriteId, child);
-                    if (foundWidget != null) break;
+                for (Widget widget : WidgetIndex.collectVisible(Microbot.getClient())) {
+                    if (widget.getSpriteId() == spriteId) return widget;
                 }
+                return null;
+            }
+            for (Widget child : children) {
+                Widget foundWidget = searchChildren(spriteId, child);
+                if (foundWidget != null) return foundWidget;
             }
-            return foundWidget;
+            return null;
         });
     }
 
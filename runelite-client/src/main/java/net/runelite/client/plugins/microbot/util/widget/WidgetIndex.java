@@ -0,0 +1,193 @@
+package net.runelite.client.plugins.microbot.util.widget;
+
+import net.runelite.api.Client;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.util.Text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Normalised text and names of the visible widgets, so text searches do not walk the widget tree on every call.
+ * <p>
+ * The index is rebuilt lazily, on the client thread, by the first search after a widget was loaded or closed, or
+ * after a client tick in which client scripts ran. Search results are memoised until the next client tick, so
+ * repeated searches within a frame return without reaching the client thread.
+ */
+public class WidgetIndex {
+    public enum Match {
+        EXACT,
+        CONTAINS,
+        PREFIX
+    }
+
+    private static class Snapshot {
+        private final Widget[] widgets;
+        private final String[] texts;
+        private final String[] names;
+
+        private Snapshot(List<Widget> widgets) {
+            this.widgets = widgets.toArray(new Widget[0]);
+            this.texts = new String[this.widgets.length];
+            this.names = new String[this.widgets.length];
+            for (int i = 0; i < this.widgets.length; i++) {
+                texts[i] = normalize(this.widgets[i].getText());
+                names[i] = normalize(this.widgets[i].getName());
+            }
+        }
+    }
+
+    private static final Map<String, Widget> memo = new ConcurrentHashMap<>();
+    private static final Set<String> memoMisses = ConcurrentHashMap.newKeySet();
+    private static volatile Snapshot snapshot;
+    private static volatile boolean dirty = true;
+    private static volatile boolean scriptsRan;
+    private static volatile int generation;
+
+    /**
+     * Marks the index stale. Called for widget loads and closes. Results already memoised for this frame are kept
+     * until the next client tick.
+     */
+    public static void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Notes that a client script ran. Scripts change widget text and visibility, but run many times a frame, so
+     * the index is marked stale once, at the next client tick, rather than after every script.
+     */
+    public static void onScriptPostFired() {
+        scriptsRan = true;
+    }
+
+    /**
+     * Starts a new frame; memoised results are forgotten, and the index is marked stale if scripts ran.
+     */
+    public static void onClientTick() {
+        if (scriptsRan) {
+            scriptsRan = false;
+            dirty = true;
+        }
+        generation++;
+        memo.clear();
+        memoMisses.clear();
+    }
+
+    /**
+     * @return the text lower-cased, without tags and with line breaks and non-breaking spaces as spaces
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : Text.standardize(text.replace("<br>", " "));
+    }
+
+    /**
+     * Finds the first visible widget, in tree order, whose text or name matches the query.
+     *
+     * @param textMatch how the query is matched against the widget text
+     * @param nameMatch how the query is matched against the widget name
+     * @return the widget, or null
+     */
+    public static Widget find(String query, Match textMatch, Match nameMatch) {
+        String normalized = normalize(query);
+        String key = textMatch + ":" + nameMatch + ":" + normalized;
+        Widget memoised = memo.get(key);
+        if (memoised != null) {
+            return memoised;
+        }
+        if (memoMisses.contains(key)) {
+            return null;
+        }
+
+        int searchGeneration = generation;
+        Snapshot current = getSnapshot();
+        Widget found = null;
+        for (int i = 0; i < current.widgets.length; i++) {
+            if (matches(current.texts[i], normalized, textMatch) || matches(current.names[i], normalized, nameMatch)) {
+                found = current.widgets[i];
+                break;
+            }
+        }
+
+        // a result found while the frame changed may already be stale
+        if (searchGeneration == generation) {
+            if (found != null) {
+                memo.put(key, found);
+            } else {
+                memoMisses.add(key);
+            }
+        }
+        return found;
+    }
+
+    public static Widget find(String query, Match match) {
+        return find(query, match, match);
+    }
+
+    private static boolean matches(String value, String query, Match match) {
+        switch (match) {
+            case EXACT:
+                return value.equals(query);
+            case PREFIX:
+                return value.startsWith(query);
+            default:
+                return value.contains(query);
+        }
+    }
+
+    private static Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (!dirty && current != null) {
+            return current;
+        }
+        return Microbot.getClientThread().runOnClientThread(() -> {
+            // cleared before the walk, so an invalidation during the walk is not lost
+            dirty = false;
+            Snapshot rebuilt = new Snapshot(collectVisible(Microbot.getClient()));
+            snapshot = rebuilt;
+            return rebuilt;
+        });
+    }
+
+    /**
+     * Depth-first walk over every visible widget root, visiting a widget before its children, nested, dynamic and
+     * static children. Must be called on the client thread.
+     */
+    static List<Widget> collectVisible(Client client) {
+        Widget[] roots = client.getWidgetRoots();
+        if (roots == null) {
+            return Collections.emptyList();
+        }
+        List<Widget> result = new ArrayList<>();
+        Set<Widget> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Widget root : roots) {
+            collect(root, result, visited);
+        }
+        return result;
+    }
+
+    private static void collect(Widget widget, List<Widget> result, Set<Widget> visited) {
+        if (widget == null || widget.isHidden() || !visited.add(widget)) {
+            return;
+        }
+        result.add(widget);
+        collectAll(widget.getChildren(), result, visited);
+        collectAll(widget.getNestedChildren(), result, visited);
+        collectAll(widget.getDynamicChildren(), result, visited);
+        collectAll(widget.getStaticChildren(), result, visited);
+    }
+
+    private static void collectAll(Widget[] widgets, List<Widget> result, Set<Widget> visited) {
+        if (widgets == null) {
+            return;
+        }
+        for (Widget widget : widgets) {
+            collect(widget, result, visited);
+        }
+    }
+}
@@ -28,7 +28,6 @@ import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
 import lombok.AccessLevel;
@@ -37,10 +36,11 @@ import net.runelite.api.ChatMessageType;
 import net.runelite.api.GameState;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
+import net.runelite.client.chat.ChatMessageClassifier;
+import net.runelite.client.chat.ChatMessageRule;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -72,15 +72,31 @@ public class PestControlPlugin extends Plugin
 	@Inject
 	private PestControlOverlay overlay;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	@Override
 	protected void startUp() throws Exception
 	{
 		overlayManager.add(overlay);
+		chatMessageClassifier.register(this, ChatMessageRule.builder()
+			.pattern(SHIELD_DROP)
+			.type(ChatMessageType.GAMEMESSAGE)
+			.match(ChatMessageRule.Match.LOOKING_AT)
+			.handler((chatMessage, matcher) ->
+			{
+				if (overlay.getGame() != null)
+				{
+					overlay.getGame().fall(matcher.group(1));
+				}
+			})
+			.build());
 	}
 
 	@Override
 	protected void shutDown() throws Exception
 	{
+		chatMessageClassifier.unregister(this);
 		overlayManager.remove(overlay);
 		spinners.clear();
 	}
@@ -95,19 +111,6 @@ public class PestControlPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage chatMessage)
-	{
-		if (overlay.getGame() != null && chatMessage.getType() == ChatMessageType.GAMEMESSAGE)
-		{
-			Matcher matcher = SHIELD_DROP.matcher(chatMessage.getMessage());
-			if (matcher.lookingAt())
-			{
-				overlay.getGame().fall(matcher.group(1));
-			}
-		}
-	}
-
 	@Subscribe
 	public void onNpcSpawned(NpcSpawned event)
 	{
@@ -35,8 +35,9 @@ import net.runelite.client.plugins.questhelper.banktab.QuestBankTab;
 import net.runelite.client.plugins.questhelper.banktab.QuestHelperBankTagService;
 import net.runelite.client.plugins.questhelper.overlays.*;
 import net.runelite.client.plugins.questhelper.panel.QuestHelperPanel;
-import net.runelite.client.plugins.questhelper.questhelpers.QuestDetails;
 import net.runelite.client.plugins.questhelper.questhelpers.QuestHelper;
+import net.runelite.client.plugins.questhelper.questhelpers.QuestRequirements;
+import net.runelite.client.plugins.questhelper.requirements.RequirementCache;
 import net.runelite.client.plugins.questhelper.requirements.item.ItemRequirement;
 import net.runelite.client.plugins.questhelper.steps.QuestStep;
 import net.runelite.client.plugins.questhelper.steps.playermadesteps.RuneliteConfigSetter;
@@ -132,6 +133,10 @@ public class QuestHelperPlugin extends Plugin
 	@Inject
 	private QuestBank questBank;
 
+	@Getter
+	@Inject
+	private RequirementCache requirementCache;
+
 	@Getter
 	private QuestHelperBankTagService bankTagService;
 
@@ -197,7 +202,7 @@ public class QuestHelperPlugin extends Plugin
 	private boolean developerMode;
 
 	@Setter
-	private QuestHelper sidebarSelectedQuest = null;
+	private QuestHelperQuest sidebarSelectedQuest = null;
 
 	private QuestStep lastStep = null;
 
@@ -226,8 +231,14 @@ public class QuestHelperPlugin extends Plugin
 	private boolean displayNameKnown;
 
 	public Map<String, QuestHelper> backgroundHelpers = new HashMap<>();
+	// helpers which have been injected and set up, released again once they are no longer running
+	private final Map<QuestHelperQuest, QuestHelper> loadedHelpers = new EnumMap<>(QuestHelperQuest.class);
+	// requirements of quests, kept after their helpers are released so they only have to be set up once
+	private final Map<QuestHelperQuest, QuestRequirements> questRequirements = new EnumMap<>(QuestHelperQuest.class);
 	public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRequirements = new TreeMap<>();
 	public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRecommended = new TreeMap<>();
+	// whether the maps above are filled, which is only done while the item check helper runs
+	private boolean itemRequirementsLoaded;
 
 	@Getter
 	private Cheerer cheerer;
@@ -262,7 +273,8 @@ public class QuestHelperPlugin extends Plugin
 		eventBus.register(runeliteObjectManager);
 		runeliteObjectManager.startUp();
 
-		scanAndInstantiate();
+		eventBus.register(requirementCache);
+
 		overlayManager.add(questHelperOverlay);
 		overlayManager.add(questHelperWorldOverlay);
 		overlayManager.add(questHelperWorldArrowOverlay);
@@ -282,16 +294,9 @@ public class QuestHelperPlugin extends Plugin
 		clientToolbar.addNavigation(navButton);
 
 		clientThread.invokeLater(() -> {
-			for (QuestHelperQuest questHelperQuest : QuestHelperQuest.values())
-			{
-				questHelperQuest.getQuestHelper().setupRequirements();
-			}
-
 			if (client.getGameState() == GameState.LOGGED_IN)
 			{
-				// Update with new items
-				QuestHelperQuest.CHECK_ITEMS.getQuestHelper().init();
-				getAllItemRequirements();
+				invalidateItemRequirements();
 				loadQuestList = true;
 				if (config.showRuneliteObjects())
 				{
@@ -310,6 +315,7 @@ public class QuestHelperPlugin extends Plugin
 
 		eventBus.unregister(gameStateManager);
 		eventBus.unregister(runeliteObjectManager);
+		eventBus.unregister(requirementCache);
 
 		overlayManager.remove(questHelperOverlay);
 		overlayManager.remove(questHelperWorldOverlay);
@@ -320,6 +326,15 @@ public class QuestHelperPlugin extends Plugin
 
 		clientToolbar.removeNavigation(navButton);
 		shutDownQuest(false);
+		synchronized (loadedHelpers)
+		{
+			loadedHelpers.clear();
+		}
+		requirementCache.clear();
+		synchronized (questRequirements)
+		{
+			questRequirements.clear();
+		}
 		bankTagService = null;
 		bankTagsMain = null;
 
@@ -342,11 +357,12 @@ public class QuestHelperPlugin extends Plugin
 			{
 				displayNameKnown = true;
 				questBank.loadState();
+				requirementCache.itemContainerChanged(InventoryID.BANK.getId());
 			}
 		}
 		if (sidebarSelectedQuest != null)
 		{
-			startUpQuest(sidebarSelectedQuest);
+			startUpQuest(getQuestHelper(sidebarSelectedQuest));
 			sidebarSelectedQuest = null;
 		}
 		else if (selectedQuest != null)
@@ -371,7 +387,7 @@ public class QuestHelperPlugin extends Plugin
 		{
 			loadQuestList = false;
 			updateQuestList();
-			getAllItemRequirements();
+			invalidateItemRequirements();
 		}
 	}
 
@@ -382,6 +398,8 @@ public class QuestHelperPlugin extends Plugin
 		{
 			lastTickBankUpdated = client.getTickCount();
 			questBank.updateLocalBank(event.getItemContainer().getItems());
+			// the cache saw this event before the quest bank was updated
+			requirementCache.itemContainerChanged(InventoryID.BANK.getId());
 		}
 
 		if (event.getItemContainer() == client.getItemContainer(InventoryID.INVENTORY))
@@ -400,6 +418,7 @@ public class QuestHelperPlugin extends Plugin
 			questBank.saveBankToConfig();
 			SwingUtilities.invokeLater(() -> panel.refresh(Collections.emptyList(), true, new HashMap<>()));
 			questBank.emptyState();
+			requirementCache.clear();
 			if (selectedQuest != null && selectedQuest.getCurrentStep() != null)
 			{
 				shutDownQuest(true);
@@ -411,10 +430,7 @@ public class QuestHelperPlugin extends Plugin
 			GlobalFakeObjects.initNpcs(client, runeliteObjectManager, configManager);
 			loadQuestList = true;
 			displayNameKnown = false;
-			clientThread.invokeLater(() -> {
-				QuestHelperQuest.CHECK_ITEMS.getQuestHelper().init();
-				getAllItemRequirements();
-			});
+			invalidateItemRequirements();
 		}
 	}
 
@@ -468,6 +484,9 @@ public class QuestHelperPlugin extends Plugin
 			return;
 		}
 
+		// requirements such as key rings and colours read the config
+		clientThread.invokeLater(requirementCache::invalidateAll);
+
 		if (event.getKey().equals("showRuneliteObjects"))
 		{
 			clientThread.invokeLater(() -> {
@@ -489,10 +508,10 @@ public class QuestHelperPlugin extends Plugin
 
 		if (configItemEvents.contains(event.getKey()))
 		{
-			getAllItemRequirements();
+			invalidateItemRequirements();
 			if (selectedQuest != null && selectedQuest.getQuest() == QuestHelperQuest.CHECK_ITEMS)
 			{
-				clientThread.invokeLater(() -> startUpQuest(QuestHelperQuest.CHECK_ITEMS.getQuestHelper(), false));
+				clientThread.invokeLater(() -> startUpQuest(getQuestHelper(QuestHelperQuest.CHECK_ITEMS), false));
 			}
 		}
 
@@ -545,16 +564,22 @@ public class QuestHelperPlugin extends Plugin
 	{
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
-			List<QuestHelper> filteredQuests = QuestHelperQuest.getQuestHelpers()
-				.stream()
-				.filter(config.filterListBy())
+			Map<QuestHelperQuest, QuestState> completedQuests = new EnumMap<>(QuestHelperQuest.class);
+			for (QuestHelperQuest quest : QuestHelperQuest.values())
+			{
+				completedQuests.put(quest, quest.getState(client, configManager));
+			}
+			// the requirements check goes last, so only the quests that would otherwise be shown are looked at
+			QuestHelperConfig.QuestFilter filter = config.filterListBy();
+			Predicate<QuestHelperQuest> listFilter = filter == QuestHelperConfig.QuestFilter.SHOW_MEETS_REQS ?
+				this::clientMeetsRequirements : filter;
+			List<QuestHelperQuest> filteredQuests = Arrays.stream(QuestHelperQuest.values())
 				.filter(config.difficulty())
-				.filter(QuestDetails::showCompletedQuests)
+				.filter(q -> config.showCompletedQuests() || completedQuests.get(q) != QuestState.FINISHED)
+				.filter(listFilter)
 				.sorted(config.orderListBy())
 				.collect(Collectors.toList());
-			Map<QuestHelperQuest, QuestState> completedQuests = QuestHelperQuest.getQuestHelpers()
-				.stream()
-				.collect(Collectors.toMap(QuestHelper::getQuest, q -> q.getState(client)));
+			releaseUnusedHelpers();
 			SwingUtilities.invokeLater(() -> panel.refresh(filteredQuests, false, completedQuests, config.orderListBy().getSections()));
 		}
 	}
@@ -573,7 +598,7 @@ public class QuestHelperPlugin extends Plugin
 			case MENUOP_STARTGENERICHELPER:
 				event.consume();
 				String quest = Text.removeTags(event.getMenuTarget());
-				startUpQuest(QuestHelperQuest.getByName(quest));
+				startUpQuest(getQuestHelperByName(quest));
 				break;
 			case MENUOP_STOPHELPER:
 			case MENUOP_STOPGENERICHELPER:
@@ -587,8 +612,8 @@ public class QuestHelperPlugin extends Plugin
 												 MenuEntry[] menuEntries,
 												 int widgetIndex, int widgetID)
 	{
-		QuestHelper questHelper = QuestHelperQuest.getByName(helperName);
-		if (questHelper != null && !questHelper.isCompleted())
+		QuestHelperQuest quest = QuestHelperQuest.getByName(helperName);
+		if (quest != null && quest.getState(client, configManager) != QuestState.FINISHED)
 		{
 			if (selectedQuest != null && selectedQuest.getQuest().getName().equals(helperName))
 			{
@@ -704,14 +729,12 @@ public class QuestHelperPlugin extends Plugin
 				{
 					String phoenixName = QuestHelperQuest.SHIELD_OF_ARRAV_PHOENIX_GANG.getName();
 					String blackArmName = QuestHelperQuest.SHIELD_OF_ARRAV_BLACK_ARM_GANG.getName();
-					QuestHelper questHelperPhoenix = QuestHelperQuest.getByName(phoenixName);
-					QuestHelper questHelperBlackArm = QuestHelperQuest.getByName(blackArmName);
-					if (questHelperPhoenix != null && !questHelperPhoenix.isCompleted())
+					if (QuestHelperQuest.SHIELD_OF_ARRAV_PHOENIX_GANG.getState(client, configManager) != QuestState.FINISHED)
 					{
 						menuEntries = addRightClickMenuOptions(phoenixName, MENUOP_QUESTHELPER,
 							"<col=ff9040>" + phoenixName + "</col>", menuEntries, widgetIndex, widgetID);
 					}
-					if (questHelperBlackArm != null &&  !questHelperBlackArm.isCompleted())
+					if (QuestHelperQuest.SHIELD_OF_ARRAV_BLACK_ARM_GANG.getState(client, configManager) != QuestState.FINISHED)
 					{
 						addRightClickMenuOptions(blackArmName, MENUOP_QUESTHELPER,
 							"<col=ff9040>" + blackArmName + "</col>", menuEntries, widgetIndex, widgetID);
@@ -737,8 +760,8 @@ public class QuestHelperPlugin extends Plugin
 			}
 			else
 			{
-				QuestHelper questHelper = QuestHelperQuest.getByName(target);
-				if (questHelper != null && !questHelper.isCompleted())
+				QuestHelperQuest quest = QuestHelperQuest.getByName(target);
+				if (quest != null && quest.getState(client, configManager) != QuestState.FINISHED)
 				{
 					if (selectedQuest != null && selectedQuest.getQuest().getName().equals(target))
 					{
@@ -782,20 +805,20 @@ public class QuestHelperPlugin extends Plugin
 
 					if (PHOENIX_START_ZONE.contains(location))
 					{
-						startUpQuest(QuestHelperQuest.getByName(QuestHelperQuest.SHIELD_OF_ARRAV_PHOENIX_GANG.getName()));
+						startUpQuest(getQuestHelper(QuestHelperQuest.SHIELD_OF_ARRAV_PHOENIX_GANG));
 					}
 					else
 					{
-						startUpQuest(QuestHelperQuest.getByName(QuestHelperQuest.SHIELD_OF_ARRAV_BLACK_ARM_GANG.getName()));
+						startUpQuest(getQuestHelper(QuestHelperQuest.SHIELD_OF_ARRAV_BLACK_ARM_GANG));
 					}
 				}
 				else if (questName.equals("Recipe for Disaster"))
 				{
-					startUpQuest(QuestHelperQuest.getByName(QuestHelperQuest.RECIPE_FOR_DISASTER_START.getName()));
+					startUpQuest(getQuestHelper(QuestHelperQuest.RECIPE_FOR_DISASTER_START));
 				}
 				else
 				{
-					QuestHelper questHelper = QuestHelperQuest.getByName(questName);
+					QuestHelper questHelper = getQuestHelperByName(questName);
 					if (questHelper != null)
 					{
 						startUpQuest(questHelper);
@@ -851,6 +874,11 @@ public class QuestHelperPlugin extends Plugin
 				shutDownBackgroundQuest(questHelper);
 			}
 
+			if (questHelper.getQuest() == QuestHelperQuest.CHECK_ITEMS)
+			{
+				loadItemRequirements();
+			}
+
 			if (shouldOpenSidebarIfConfig && config.autoOpenSidebar())
 			{
 				displayPanel();
@@ -888,6 +916,7 @@ public class QuestHelperPlugin extends Plugin
 			bankTagsMain.shutDown();
 			SwingUtilities.invokeLater(() -> panel.removeQuest());
 			eventBus.unregister(selectedQuest);
+			requirementCache.clear();
 
 			// If closing the item checking helper and should still check in background, start it back up in background
 			if (selectedQuest.getQuest() == QuestHelperQuest.CHECK_ITEMS && config.highlightItemsBackground())
@@ -910,7 +939,7 @@ public class QuestHelperPlugin extends Plugin
 			if (shouldUpdateList)
 			{
 				updateQuestList();
-				getAllItemRequirements();
+				invalidateItemRequirements();
 			}
 			if (bankTagsMain != null)
 			{
@@ -919,6 +948,8 @@ public class QuestHelperPlugin extends Plugin
 			SwingUtilities.invokeLater(() -> panel.removeQuest());
 			eventBus.unregister(selectedQuest);
 			selectedQuest = null;
+			requirementCache.clear();
+			releaseUnusedHelpers();
 		}
 	}
 
@@ -945,13 +976,18 @@ public class QuestHelperPlugin extends Plugin
 			return;
 		}
 
-		QuestHelper questHelper = QuestHelperQuest.getByName(questHelperName);
+		QuestHelperQuest quest = QuestHelperQuest.getByName(questHelperName);
 
-		if (questHelper == null)
+		if (quest == null)
 		{
 			return;
 		}
 		clientThread.invokeLater(() -> {
+			if (quest == QuestHelperQuest.CHECK_ITEMS)
+			{
+				loadItemRequirements();
+			}
+			QuestHelper questHelper = getQuestHelper(quest);
 			if (!questHelper.isCompleted())
 			{
 				eventBus.register(questHelper);
@@ -992,73 +1028,175 @@ public class QuestHelperPlugin extends Plugin
 
 	}
 
-	private void getAllItemRequirements()
+	/**
+	 * Drops the collected item requirements, as they change with quest states and config. They are only collected
+	 * again by {@link #loadItemRequirements()} when the item check helper runs, so quest helpers aren't set up just
+	 * to highlight items nobody is looking for.
+	 */
+	private void invalidateItemRequirements()
 	{
 		clientThread.invokeLater(() -> {
-			Predicate<QuestHelper> pred = (questHelper) -> false;
-			if (config.highlightNeededQuestItems())
+			itemRequirementsLoaded = false;
+			itemRequirements = new TreeMap<>();
+			itemRecommended = new TreeMap<>();
+
+			if (selectedQuest != null && selectedQuest.getQuest() == QuestHelperQuest.CHECK_ITEMS)
+			{
+				loadItemRequirements();
+			}
+
+			String checkItemsName = QuestHelperQuest.CHECK_ITEMS.getName();
+			if (config.highlightItemsBackground())
 			{
-				pred = pred.or(QuestHelperConfig.QuestFilter.QUEST);
+				shutDownBackgroundQuest(backgroundHelpers.get(checkItemsName));
+				startUpBackgroundQuest(checkItemsName);
 			}
-			if (config.highlightNeededMiniquestItems())
+		});
+	}
+
+	/**
+	 * Collects the item requirements of the unfinished content types marked in the config, for the item check helper.
+	 * Must be called on the client thread.
+	 */
+	private void loadItemRequirements()
+	{
+		if (itemRequirementsLoaded)
+		{
+			return;
+		}
+
+		Predicate<QuestHelperQuest> pred = (quest) -> false;
+		if (config.highlightNeededQuestItems())
+		{
+			pred = pred.or(QuestHelperConfig.QuestFilter.QUEST);
+		}
+		if (config.highlightNeededMiniquestItems())
+		{
+			pred = pred.or(QuestHelperConfig.QuestFilter.MINIQUEST);
+		}
+		if (config.highlightNeededAchievementDiaryItems())
+		{
+			pred = pred.or(QuestHelperConfig.QuestFilter.ACHIEVEMENT_DIARY);
+		}
+
+		SortedMap<QuestHelperQuest, List<ItemRequirement>> newReqs = new TreeMap<>();
+		SortedMap<QuestHelperQuest, List<ItemRequirement>> newRecommended = new TreeMap<>();
+		Arrays.stream(QuestHelperQuest.values())
+			.filter(pred)
+			.filter(q -> q.getState(client, configManager) != QuestState.FINISHED)
+			.forEach(quest -> {
+				QuestRequirements requirements = getQuestRequirements(quest);
+				if (requirements.getItemRequirements() != null)
+				{
+					newReqs.put(quest, requirements.getItemRequirements());
+				}
+				if (requirements.getItemRecommended() != null)
+				{
+					newRecommended.put(quest, requirements.getItemRecommended());
+				}
+			});
+		itemRequirements = newReqs;
+		itemRecommended = newRecommended;
+		itemRequirementsLoaded = true;
+	}
+
+	/**
+	 * Returns the helper for a quest, injecting it and setting up its requirements the first time it is needed.
+	 * Helpers are released again by {@link #releaseUnusedHelpers()} once they are neither selected nor running in
+	 * the background.
+	 */
+	public QuestHelper getQuestHelper(QuestHelperQuest quest)
+	{
+		synchronized (loadedHelpers)
+		{
+			QuestHelper questHelper = loadedHelpers.get(quest);
+			if (questHelper == null)
 			{
-				pred = pred.or(QuestHelperConfig.QuestFilter.MINIQUEST);
+				questHelper = getRunningHelper(quest);
 			}
-			if (config.highlightNeededAchievementDiaryItems())
+			if (questHelper == null)
 			{
-				pred = pred.or(QuestHelperConfig.QuestFilter.ACHIEVEMENT_DIARY);
+				questHelper = instantiate(quest);
+				questHelper.setupRequirements();
 			}
+			loadedHelpers.put(quest, questHelper);
+			return questHelper;
+		}
+	}
 
-			List<QuestHelper> filteredQuests = QuestHelperQuest.getQuestHelpers()
-				.stream()
-				.filter(pred)
-				.filter(QuestDetails::isNotCompleted)
-				.sorted(config.orderListBy())
-				.collect(Collectors.toList());
-
-			clientThread.invokeLater(() -> {
-				SortedMap<QuestHelperQuest, List<ItemRequirement>> newReqs = new TreeMap<>();
-				SortedMap<QuestHelperQuest, List<ItemRequirement>> newRecommended = new TreeMap<>();
-				filteredQuests.forEach((QuestHelper questHelper) -> {
-					if (questHelper.getItemRequirements() != null)
-					{
-						newReqs.put(questHelper.getQuest(), questHelper.getItemRequirements());
-					}
-					if (questHelper.getItemRecommended() != null)
+	/**
+	 * Returns the requirements of a quest. The first time they are needed they are taken from its helper, which is
+	 * set up for it and then dropped again unless the quest is running.
+	 */
+	public QuestRequirements getQuestRequirements(QuestHelperQuest quest)
+	{
+		synchronized (questRequirements)
+		{
+			QuestRequirements requirements = questRequirements.get(quest);
+			if (requirements == null)
+			{
+				QuestHelper questHelper;
+				synchronized (loadedHelpers)
+				{
+					questHelper = loadedHelpers.get(quest);
+					if (questHelper == null)
 					{
-						newRecommended.put(questHelper.getQuest(), questHelper.getItemRecommended());
+						questHelper = getRunningHelper(quest);
 					}
-				});
-				itemRequirements = newReqs;
-				itemRecommended = newRecommended;
-
-				String checkItemsName = QuestHelperQuest.CHECK_ITEMS.getName();
-				if (config.highlightItemsBackground())
+				}
+				if (questHelper == null)
 				{
-					shutDownBackgroundQuest(backgroundHelpers.get(checkItemsName));
-					startUpBackgroundQuest(checkItemsName);
+					questHelper = instantiate(quest);
+					questHelper.setupRequirements();
 				}
-			});
-		});
+
+				requirements = QuestRequirements.of(questHelper);
+				questRequirements.put(quest, requirements);
+			}
+			return requirements;
+		}
 	}
 
-	private void scanAndInstantiate()
+	public boolean clientMeetsRequirements(QuestHelperQuest quest)
 	{
-		for (QuestHelperQuest qhq : QuestHelperQuest.values())
+		return getQuestRequirements(quest).meetsRequirements(requirementCache::check);
+	}
+
+	/**
+	 * @return the selected or background helper for the quest, which may have been released while it was starting
+	 */
+	private QuestHelper getRunningHelper(QuestHelperQuest quest)
+	{
+		if (selectedQuest != null && selectedQuest.getQuest() == quest)
 		{
-			instantiate(qhq);
+			return selectedQuest;
 		}
+		return backgroundHelpers.get(quest.getName());
 	}
 
-	private void instantiate(QuestHelperQuest quest)
+	private QuestHelper getQuestHelperByName(String name)
 	{
-		QuestHelper questHelper = quest.getQuestHelper();
+		QuestHelperQuest quest = QuestHelperQuest.getByName(name);
+		return quest != null ? getQuestHelper(quest) : null;
+	}
 
-			Module questModule = (Binder binder) ->
-			{
-				binder.bind(QuestHelper.class).toInstance(questHelper);
-				binder.install(questHelper);
-			};
+	private void releaseUnusedHelpers()
+	{
+		synchronized (loadedHelpers)
+		{
+			loadedHelpers.values().removeIf(questHelper -> questHelper != selectedQuest && !backgroundHelpers.containsValue(questHelper));
+		}
+	}
+
+	private QuestHelper instantiate(QuestHelperQuest quest)
+	{
+		QuestHelper questHelper = quest.createQuestHelper();
+
+		Module questModule = (Binder binder) ->
+		{
+			binder.bind(QuestHelper.class).toInstance(questHelper);
+			binder.install(questHelper);
+		};
 		Injector questInjector = RuneLite.getInjector().createChildInjector(questModule);
 		injector.injectMembers(questHelper);
 		questHelper.setInjector(questInjector);
@@ -1067,5 +1205,6 @@ public class QuestHelperPlugin extends Plugin
 		questHelper.setQuestHelperPlugin(this);
 
 		log.debug("Loaded quest helper {}", quest.name());
+		return questHelper;
 	}
 }
@@ -0,0 +1,193 @@
+package net.runelite.client.plugins.questhelper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import net.runelite.client.plugins.questhelper.questhelpers.QuestHelper;
+
+/**
+ * Quest points rewarded by each quest, so that ordering the quest list by reward doesn't construct every helper
+ * to call {@link QuestHelper#getQuestPointReward()}. QuestPointsTest checks it against the helpers.
+ */
+final class QuestPoints
+{
+	private static final Map<QuestHelperQuest, Integer> POINTS = new EnumMap<>(QuestHelperQuest.class);
+
+	static
+	{
+		POINTS.put(QuestHelperQuest.BELOW_ICE_MOUNTAIN, 1);
+		POINTS.put(QuestHelperQuest.BLACK_KNIGHTS_FORTRESS, 3);
+		POINTS.put(QuestHelperQuest.COOKS_ASSISTANT, 1);
+		POINTS.put(QuestHelperQuest.THE_CORSAIR_CURSE, 2);
+		POINTS.put(QuestHelperQuest.DEMON_SLAYER, 3);
+		POINTS.put(QuestHelperQuest.DORICS_QUEST, 1);
+		POINTS.put(QuestHelperQuest.DRAGON_SLAYER_I, 2);
+		POINTS.put(QuestHelperQuest.ERNEST_THE_CHICKEN, 4);
+		POINTS.put(QuestHelperQuest.GOBLIN_DIPLOMACY, 5);
+		POINTS.put(QuestHelperQuest.IMP_CATCHER, 1);
+		POINTS.put(QuestHelperQuest.THE_KNIGHTS_SWORD, 1);
+		POINTS.put(QuestHelperQuest.MISTHALIN_MYSTERY, 1);
+		POINTS.put(QuestHelperQuest.PIRATES_TREASURE, 2);
+		POINTS.put(QuestHelperQuest.PRINCE_ALI_RESCUE, 3);
+		POINTS.put(QuestHelperQuest.THE_RESTLESS_GHOST, 1);
+		POINTS.put(QuestHelperQuest.ROMEO__JULIET, 5);
+		POINTS.put(QuestHelperQuest.RUNE_MYSTERIES, 1);
+		POINTS.put(QuestHelperQuest.SHEEP_SHEARER, 1);
+		POINTS.put(QuestHelperQuest.SHIELD_OF_ARRAV_PHOENIX_GANG, 1);
+		POINTS.put(QuestHelperQuest.SHIELD_OF_ARRAV_BLACK_ARM_GANG, 1);
+		POINTS.put(QuestHelperQuest.VAMPYRE_SLAYER, 3);
+		POINTS.put(QuestHelperQuest.WITCHS_POTION, 1);
+		POINTS.put(QuestHelperQuest.X_MARKS_THE_SPOT, 1);
+		POINTS.put(QuestHelperQuest.ANIMAL_MAGNETISM, 1);
+		POINTS.put(QuestHelperQuest.ANOTHER_SLICE_OF_HAM, 1);
+		POINTS.put(QuestHelperQuest.BENEATH_CURSED_SANDS, 2);
+		POINTS.put(QuestHelperQuest.BETWEEN_A_ROCK, 2);
+		POINTS.put(QuestHelperQuest.BIG_CHOMPY_BIRD_HUNTING, 2);
+		POINTS.put(QuestHelperQuest.BIOHAZARD, 3);
+		POINTS.put(QuestHelperQuest.CABIN_FEVER, 2);
+		POINTS.put(QuestHelperQuest.CLOCK_TOWER, 1);
+		POINTS.put(QuestHelperQuest.COLD_WAR, 1);
+		POINTS.put(QuestHelperQuest.CONTACT, 1);
+		POINTS.put(QuestHelperQuest.CREATURE_OF_FENKENSTRAIN, 2);
+		POINTS.put(QuestHelperQuest.DARKNESS_OF_HALLOWVALE, 2);
+		POINTS.put(QuestHelperQuest.DEATH_PLATEAU, 1);
+		POINTS.put(QuestHelperQuest.DEATH_TO_THE_DORGESHUUN, 1);
+		POINTS.put(QuestHelperQuest.THE_DEPTHS_OF_DESPAIR, 1);
+		POINTS.put(QuestHelperQuest.DESERT_TREASURE, 3);
+		POINTS.put(QuestHelperQuest.DEVIOUS_MINDS, 1);
+		POINTS.put(QuestHelperQuest.THE_DIG_SITE, 2);
+		POINTS.put(QuestHelperQuest.DRAGON_SLAYER_II, 5);
+		POINTS.put(QuestHelperQuest.DREAM_MENTOR, 2);
+		POINTS.put(QuestHelperQuest.DRUIDIC_RITUAL, 4);
+		POINTS.put(QuestHelperQuest.DWARF_CANNON, 1);
+		POINTS.put(QuestHelperQuest.EADGARS_RUSE, 1);
+		POINTS.put(QuestHelperQuest.EAGLES_PEAK, 2);
+		POINTS.put(QuestHelperQuest.ELEMENTAL_WORKSHOP_I, 1);
+		POINTS.put(QuestHelperQuest.ELEMENTAL_WORKSHOP_II, 1);
+		POINTS.put(QuestHelperQuest.ENAKHRAS_LAMENT, 2);
+		POINTS.put(QuestHelperQuest.ENLIGHTENED_JOURNEY, 1);
+		POINTS.put(QuestHelperQuest.THE_EYES_OF_GLOUPHRIE, 2);
+		POINTS.put(QuestHelperQuest.FAIRYTALE_I__GROWING_PAINS, 2);
+		POINTS.put(QuestHelperQuest.FAIRYTALE_II__CURE_A_QUEEN, 2);
+		POINTS.put(QuestHelperQuest.FAMILY_CREST, 1);
+		POINTS.put(QuestHelperQuest.THE_FEUD, 1);
+		POINTS.put(QuestHelperQuest.FIGHT_ARENA, 2);
+		POINTS.put(QuestHelperQuest.FISHING_CONTEST, 1);
+		POINTS.put(QuestHelperQuest.FORGETTABLE_TALE, 2);
+		POINTS.put(QuestHelperQuest.BONE_VOYAGE, 1);
+		POINTS.put(QuestHelperQuest.THE_FREMENNIK_ISLES, 1);
+		POINTS.put(QuestHelperQuest.THE_FREMENNIK_TRIALS, 2);
+		POINTS.put(QuestHelperQuest.GARDEN_OF_TRANQUILLITY, 2);
+		POINTS.put(QuestHelperQuest.GERTRUDES_CAT, 1);
+		POINTS.put(QuestHelperQuest.GHOSTS_AHOY, 2);
+		POINTS.put(QuestHelperQuest.THE_GIANT_DWARF, 2);
+		POINTS.put(QuestHelperQuest.THE_GOLEM, 1);
+		POINTS.put(QuestHelperQuest.THE_GRAND_TREE, 5);
+		POINTS.put(QuestHelperQuest.THE_GREAT_BRAIN_ROBBERY, 2);
+		POINTS.put(QuestHelperQuest.GRIM_TALES, 1);
+		POINTS.put(QuestHelperQuest.THE_HAND_IN_THE_SAND, 1);
+		POINTS.put(QuestHelperQuest.HAUNTED_MINE, 2);
+		POINTS.put(QuestHelperQuest.HAZEEL_CULT, 1);
+		POINTS.put(QuestHelperQuest.HEROES_QUEST, 1);
+		POINTS.put(QuestHelperQuest.HOLY_GRAIL, 2);
+		POINTS.put(QuestHelperQuest.HORROR_FROM_THE_DEEP, 2);
+		POINTS.put(QuestHelperQuest.ICTHLARINS_LITTLE_HELPER, 2);
+		POINTS.put(QuestHelperQuest.IN_AID_OF_THE_MYREQUE, 2);
+		POINTS.put(QuestHelperQuest.IN_SEARCH_OF_THE_MYREQUE, 2);
+		POINTS.put(QuestHelperQuest.JUNGLE_POTION, 1);
+		POINTS.put(QuestHelperQuest.KINGS_RANSOM, 1);
+		POINTS.put(QuestHelperQuest.LAND_OF_THE_GOBLINS, 2);
+		POINTS.put(QuestHelperQuest.LEGENDS_QUEST, 4);
+		POINTS.put(QuestHelperQuest.LOST_CITY, 3);
+		POINTS.put(QuestHelperQuest.THE_LOST_TRIBE, 1);
+		POINTS.put(QuestHelperQuest.LUNAR_DIPLOMACY, 2);
+		POINTS.put(QuestHelperQuest.MAKING_FRIENDS_WITH_MY_ARM, 2);
+		POINTS.put(QuestHelperQuest.MAKING_HISTORY, 3);
+		POINTS.put(QuestHelperQuest.MERLINS_CRYSTAL, 6);
+		POINTS.put(QuestHelperQuest.MONKEY_MADNESS_I, 3);
+		POINTS.put(QuestHelperQuest.MONKEY_MADNESS_II, 4);
+		POINTS.put(QuestHelperQuest.MONKS_FRIEND, 1);
+		POINTS.put(QuestHelperQuest.MOUNTAIN_DAUGHTER, 2);
+		POINTS.put(QuestHelperQuest.MOURNINGS_END_PART_I, 2);
+		POINTS.put(QuestHelperQuest.MOURNINGS_END_PART_II, 2);
+		POINTS.put(QuestHelperQuest.MURDER_MYSTERY, 3);
+		POINTS.put(QuestHelperQuest.MY_ARMS_BIG_ADVENTURE, 1);
+		POINTS.put(QuestHelperQuest.NATURE_SPIRIT, 2);
+		POINTS.put(QuestHelperQuest.OBSERVATORY_QUEST, 2);
+		POINTS.put(QuestHelperQuest.OLAFS_QUEST, 1);
+		POINTS.put(QuestHelperQuest.ONE_SMALL_FAVOUR, 2);
+		POINTS.put(QuestHelperQuest.PLAGUE_CITY, 1);
+		POINTS.put(QuestHelperQuest.PRIEST_IN_PERIL, 1);
+		POINTS.put(QuestHelperQuest.THE_QUEEN_OF_THIEVES, 1);
+		POINTS.put(QuestHelperQuest.RAG_AND_BONE_MAN_I, 1);
+		POINTS.put(QuestHelperQuest.RAG_AND_BONE_MAN_II, 1);
+		POINTS.put(QuestHelperQuest.RATCATCHERS, 2);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_START, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_DWARF, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_WARTFACE_AND_BENTNOZE, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_PIRATE_PETE, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_LUMBRIDGE_GUIDE, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_EVIL_DAVE, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_MONKEY_AMBASSADOR, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_SIR_AMIK_VARZE, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_SKRACH_UGLOGWEE, 1);
+		POINTS.put(QuestHelperQuest.RECIPE_FOR_DISASTER_FINALE, 1);
+		POINTS.put(QuestHelperQuest.RECRUITMENT_DRIVE, 1);
+		POINTS.put(QuestHelperQuest.REGICIDE, 3);
+		POINTS.put(QuestHelperQuest.ROVING_ELVES, 1);
+		POINTS.put(QuestHelperQuest.ROYAL_TROUBLE, 1);
+		POINTS.put(QuestHelperQuest.RUM_DEAL, 2);
+		POINTS.put(QuestHelperQuest.SCORPION_CATCHER, 1);
+		POINTS.put(QuestHelperQuest.SEA_SLUG, 1);
+		POINTS.put(QuestHelperQuest.SHADES_OF_MORTTON, 3);
+		POINTS.put(QuestHelperQuest.SHADOW_OF_THE_STORM, 1);
+		POINTS.put(QuestHelperQuest.SHEEP_HERDER, 4);
+		POINTS.put(QuestHelperQuest.SHILO_VILLAGE, 2);
+		POINTS.put(QuestHelperQuest.SLEEPING_GIANTS, 1);
+		POINTS.put(QuestHelperQuest.THE_SLUG_MENACE, 1);
+		POINTS.put(QuestHelperQuest.A_SOULS_BANE, 1);
+		POINTS.put(QuestHelperQuest.SPIRITS_OF_THE_ELID, 2);
+		POINTS.put(QuestHelperQuest.SWAN_SONG, 2);
+		POINTS.put(QuestHelperQuest.TAI_BWO_WANNAI_TRIO, 2);
+		POINTS.put(QuestHelperQuest.A_TAIL_OF_TWO_CATS, 2);
+		POINTS.put(QuestHelperQuest.TALE_OF_THE_RIGHTEOUS, 1);
+		POINTS.put(QuestHelperQuest.A_TASTE_OF_HOPE, 1);
+		POINTS.put(QuestHelperQuest.TEARS_OF_GUTHIX, 1);
+		POINTS.put(QuestHelperQuest.TEMPLE_OF_IKOV, 1);
+		POINTS.put(QuestHelperQuest.TEMPLE_OF_THE_EYE, 1);
+		POINTS.put(QuestHelperQuest.THRONE_OF_MISCELLANIA, 1);
+		POINTS.put(QuestHelperQuest.THE_TOURIST_TRAP, 2);
+		POINTS.put(QuestHelperQuest.TOWER_OF_LIFE, 2);
+		POINTS.put(QuestHelperQuest.TREE_GNOME_VILLAGE, 2);
+		POINTS.put(QuestHelperQuest.TRIBAL_TOTEM, 1);
+		POINTS.put(QuestHelperQuest.TROLL_ROMANCE, 2);
+		POINTS.put(QuestHelperQuest.TROLL_STRONGHOLD, 1);
+		POINTS.put(QuestHelperQuest.UNDERGROUND_PASS, 5);
+		POINTS.put(QuestHelperQuest.CLIENT_OF_KOUREND, 1);
+		POINTS.put(QuestHelperQuest.WANTED, 1);
+		POINTS.put(QuestHelperQuest.WATCHTOWER, 4);
+		POINTS.put(QuestHelperQuest.WATERFALL_QUEST, 1);
+		POINTS.put(QuestHelperQuest.WHAT_LIES_BELOW, 1);
+		POINTS.put(QuestHelperQuest.WITCHS_HOUSE, 4);
+		POINTS.put(QuestHelperQuest.ZOGRE_FLESH_EATERS, 1);
+		POINTS.put(QuestHelperQuest.THE_ASCENT_OF_ARCEUUS, 1);
+		POINTS.put(QuestHelperQuest.THE_FORSAKEN_TOWER, 1);
+		POINTS.put(QuestHelperQuest.SONG_OF_THE_ELVES, 4);
+		POINTS.put(QuestHelperQuest.THE_FREMENNIK_EXILES, 2);
+		POINTS.put(QuestHelperQuest.SINS_OF_THE_FATHER, 2);
+		POINTS.put(QuestHelperQuest.GETTING_AHEAD, 1);
+		POINTS.put(QuestHelperQuest.A_PORCINE_OF_INTEREST, 1);
+		POINTS.put(QuestHelperQuest.A_KINGDOM_DIVIDED, 2);
+		POINTS.put(QuestHelperQuest.A_NIGHT_AT_THE_THEATRE, 2);
+		POINTS.put(QuestHelperQuest.SECRETS_OF_THE_NORTH, 2);
+	}
+
+	private QuestPoints()
+	{
+	}
+
+	static int of(QuestHelperQuest quest)
+	{
+		return POINTS.getOrDefault(quest, 0);
+	}
+}
@@ -385,7 +385,7 @@ public class QuestHelperPanel extends PluginPanel
 		});
 	}
 
-	public void refresh(List<QuestHelper> questHelpers, boolean loggedOut,
+	public void refresh(List<QuestHelperQuest> quests, boolean loggedOut,
 						Map<QuestHelperQuest, QuestState> completedQuests, QuestHelperConfig.QuestFilter... questFilters)
 	{
 		questSelectPanels.forEach(questListPanel::remove);
@@ -399,7 +399,7 @@ public class QuestHelperPanel extends PluginPanel
 		{
 			for (QuestHelperConfig.QuestFilter questFilter : questFilters)
 			{
-				List<QuestHelper> filterList = questHelpers.stream()
+				List<QuestHelperQuest> filterList = quests.stream()
 					.filter(questFilter)
 					.collect(Collectors.toList());
 
@@ -407,24 +407,23 @@ public class QuestHelperPanel extends PluginPanel
 				{
 					questSelectPanels.add(new QuestSelectPanel(questFilter.getDisplayName()));
 				}
-				for (QuestHelper questHelper : filterList)
+				for (QuestHelperQuest quest : filterList)
 				{
-					QuestState questState = completedQuests.getOrDefault(questHelper.getQuest(), QuestState.NOT_STARTED);
-					questSelectPanels.add(new QuestSelectPanel(questHelperPlugin, this, questHelper, questState));
+					QuestState questState = completedQuests.getOrDefault(quest, QuestState.NOT_STARTED);
+					questSelectPanels.add(new QuestSelectPanel(questHelperPlugin, this, quest, questState));
 				}
 			}
 		}
 		else
 		{
-			for (QuestHelper questHelper : questHelpers)
+			for (QuestHelperQuest quest : quests)
 			{
-				QuestState questState = completedQuests.getOrDefault(questHelper.getQuest(), QuestState.NOT_STARTED);
-				questSelectPanels.add(new QuestSelectPanel(questHelperPlugin, this, questHelper, questState));
+				QuestState questState = completedQuests.getOrDefault(quest, QuestState.NOT_STARTED);
+				questSelectPanels.add(new QuestSelectPanel(questHelperPlugin, this, quest, questState));
 			}
 		}
 
-		Set<QuestHelperQuest> quests = completedQuests.keySet();
-		boolean hasMoreQuests = quests.stream().anyMatch(q -> completedQuests.get(q) != QuestState.FINISHED);
+		boolean hasMoreQuests = completedQuests.keySet().stream().anyMatch(q -> completedQuests.get(q) != QuestState.FINISHED);
 		if (questSelectPanels.isEmpty() || !hasMoreQuests)
 		{
 			allQuestsCompletedPanel.removeAll();
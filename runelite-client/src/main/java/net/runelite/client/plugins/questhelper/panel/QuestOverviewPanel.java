@@ -30,6 +30,7 @@ import net.runelite.client.plugins.questhelper.Icon;
 import net.runelite.client.plugins.questhelper.*;
 import net.runelite.client.plugins.questhelper.questhelpers.QuestHelper;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementCache;
 import net.runelite.client.plugins.questhelper.requirements.item.ItemRequirement;
 import net.runelite.client.plugins.questhelper.requirements.item.NoItemRequirement;
 import net.runelite.client.plugins.questhelper.rewards.Reward;
@@ -413,6 +414,11 @@ public class QuestOverviewPanel extends JPanel
 		questHelperPlugin.shutDownQuestFromSidebar();
 	}
 
+	RequirementCache getRequirementCache()
+	{
+		return questHelperPlugin.getRequirementCache();
+	}
+
 	void updateCollapseText()
 	{
 		collapseBtn.setSelected(isAllCollapsed());
@@ -679,8 +685,17 @@ public class QuestOverviewPanel extends JPanel
 		{
 			return;
 		}
+		RequirementCache requirementCache = getRequirementCache();
+		long revision = requirementCache.getRevision();
 		for (QuestRequirementPanel requirementPanel : reqPanels)
 		{
+			// only requirements whose inputs changed can need a different text or colour
+			if (!requirementCache.hasChangedSince(requirementPanel.getDependencies(), requirementPanel.getUpdatedRevision()))
+			{
+				continue;
+			}
+			requirementPanel.setUpdatedRevision(revision);
+
 			Color newColor;
 
 			ItemRequirement itemRequirement;
@@ -690,7 +705,7 @@ public class QuestOverviewPanel extends JPanel
 
 				requirementPanel.getLabel().setText(itemRequirement.getSidebarText());
 
-				requirementPanel.setVisible(itemRequirement.getConditionToHide() == null || !itemRequirement.getConditionToHide().check(client));
+				requirementPanel.setVisible(itemRequirement.getConditionToHide() == null || !requirementCache.check(itemRequirement.getConditionToHide()));
 
 				if (itemRequirement instanceof NoItemRequirement)
 				{
@@ -27,7 +27,9 @@ package net.runelite.client.plugins.questhelper.panel;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.plugins.questhelper.Icon;
+import net.runelite.api.InventoryID;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.client.plugins.questhelper.requirements.item.ItemRequirement;
 
 import javax.swing.*;
@@ -51,9 +53,24 @@ public class QuestRequirementPanel extends JPanel
 	@Getter
 	private final Requirement requirement;
 
+	/**
+	 * Everything read when updating this panel, including the bank and hide condition of item requirements
+	 */
+	@Getter
+	private final RequirementDependencies dependencies;
+
+	/**
+	 * The {@link net.runelite.client.plugins.questhelper.requirements.RequirementCache} revision this panel was
+	 * last updated at
+	 */
+	@Getter
+	@Setter
+	private long updatedRevision = -1;
+
 	public QuestRequirementPanel(Requirement requirement)
 	{
 		this.requirement = requirement;
+		this.dependencies = getDependencies(requirement);
 
 		setLayout(new BorderLayout());
 		setBorder(new EmptyBorder(0, 0, 0, 0));
@@ -132,6 +149,21 @@ public class QuestRequirementPanel extends JPanel
 		}
 	}
 
+	private static RequirementDependencies getDependencies(Requirement requirement)
+	{
+		RequirementDependencies dependencies = requirement.getDependencies();
+		if (requirement instanceof ItemRequirement)
+		{
+			dependencies = dependencies.and(RequirementDependencies.itemContainers(InventoryID.BANK));
+			Requirement conditionToHide = ((ItemRequirement) requirement).getConditionToHide();
+			if (conditionToHide != null)
+			{
+				dependencies = dependencies.and(conditionToHide.getDependencies());
+			}
+		}
+		return dependencies;
+	}
+
 	private void addButtonToPanel(String tooltipText)
 	{
 		String html1 = "<html><body>";
@@ -25,6 +25,7 @@
 package net.runelite.client.plugins.questhelper.panel;
 
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementCache;
 import net.runelite.client.plugins.questhelper.steps.QuestStep;
 import net.runelite.api.Client;
 import net.runelite.api.Item;
@@ -341,14 +342,14 @@ public class QuestStepPanel extends JPanel
 	public void updateRequirements(Client client, List<Item> bankItems, QuestOverviewPanel questOverviewPanel)
 	{
 		questOverviewPanel.updateRequirementPanels(client, requirementPanels, bankItems);
-		updateStepVisibility(client);
+		updateStepVisibility(questOverviewPanel.getRequirementCache());
 	}
 
-	public void updateStepVisibility(Client client)
+	public void updateStepVisibility(RequirementCache requirementCache)
 	{
 		for (QuestStep step : steps.keySet())
 		{
-			step.setShowInSidebar(step.getConditionToHide() == null || !step.getConditionToHide().check(client));
+			step.setShowInSidebar(step.getConditionToHide() == null || !requirementCache.check(step.getConditionToHide()));
 			steps.get(step).setVisible(step.isShowInSidebar());
 		}
 	}
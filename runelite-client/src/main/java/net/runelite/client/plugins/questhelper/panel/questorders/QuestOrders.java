@@ -26,7 +26,6 @@ package net.runelite.client.plugins.questhelper.panel.questorders;
 
 import com.google.common.collect.ImmutableList;
 import net.runelite.client.plugins.questhelper.QuestHelperQuest;
-import net.runelite.client.plugins.questhelper.questhelpers.QuestHelper;
 import lombok.Getter;
 
 import java.util.Comparator;
@@ -721,38 +720,38 @@ public class QuestOrders
 		return QUEST_NAME_PATTERN.matcher(questName).replaceAll("").trim();
 	}
 
-	public static Comparator<QuestHelper> sortOptimalOrder()
+	public static Comparator<QuestHelperQuest> sortOptimalOrder()
 	{
-		return Comparator.comparing(q -> getOptimalOrder().indexOf(q.getQuest()));
+		return Comparator.comparing(q -> getOptimalOrder().indexOf(q));
 	}
 
-	public static Comparator<QuestHelper> sortOptimalIronmanOrder()
+	public static Comparator<QuestHelperQuest> sortOptimalIronmanOrder()
 	{
-		return Comparator.comparing(q -> getOptimalIronmanOrder().indexOf(q.getQuest()));
+		return Comparator.comparing(q -> getOptimalIronmanOrder().indexOf(q));
 	}
 
-	public static Comparator<QuestHelper> sortAToZ()
+	public static Comparator<QuestHelperQuest> sortAToZ()
 	{
-		return Comparator.comparing(q -> normalizeQuestName(q.getQuest().getName()));
+		return Comparator.comparing(q -> normalizeQuestName(q.getName()));
 	}
 
-	public static Comparator<QuestHelper> sortZToA()
+	public static Comparator<QuestHelperQuest> sortZToA()
 	{
-		return Comparator.comparing(q -> normalizeQuestName(q.getQuest().getName()), Comparator.reverseOrder());
+		return Comparator.comparing(q -> normalizeQuestName(q.getName()), Comparator.reverseOrder());
 	}
 
-	public static Comparator<QuestHelper> sortByRelease()
+	public static Comparator<QuestHelperQuest> sortByRelease()
 	{
-		return Comparator.comparing(q -> getReleaseOrder().indexOf(q.getQuest()));
+		return Comparator.comparing(q -> getReleaseOrder().indexOf(q));
 	}
 
-	public static Comparator<QuestHelper> sortByQuestPointRewardAscending()
+	public static Comparator<QuestHelperQuest> sortByQuestPointRewardAscending()
 	{
-		return Comparator.comparing(q -> q.getQuestPointReward() != null ? q.getQuestPointReward().getPoints() : 0 );
+		return Comparator.comparing(QuestHelperQuest::getQuestPoints);
 	}
 
-	public static Comparator<QuestHelper> sortByQuestPointRewardDescending()
+	public static Comparator<QuestHelperQuest> sortByQuestPointRewardDescending()
 	{
-		return Comparator.comparing(q -> q.getQuestPointReward() != null ? q.getQuestPointReward().getPoints() : 0, Comparator.reverseOrder());
+		return Comparator.comparing(QuestHelperQuest::getQuestPoints, Comparator.reverseOrder());
 	}
 }
@@ -0,0 +1,40 @@
+package net.runelite.client.plugins.questhelper.questhelpers;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import lombok.Value;
+import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.item.ItemRequirement;
+
+/**
+ * The requirements of a quest, kept after its helper has been released so that highlighting needed items and
+ * filtering quests by requirements don't need to load every helper again.
+ */
+@Value
+public class QuestRequirements
+{
+	List<ItemRequirement> itemRequirements;
+	List<ItemRequirement> itemRecommended;
+	List<Requirement> generalRequirements;
+
+	public static QuestRequirements of(QuestHelper questHelper)
+	{
+		return new QuestRequirements(questHelper.getItemRequirements(), questHelper.getItemRecommended(),
+			questHelper.getGeneralRequirements());
+	}
+
+	/**
+	 * @see QuestHelper#clientMeetsRequirements()
+	 */
+	public boolean meetsRequirements(Predicate<Requirement> check)
+	{
+		if (generalRequirements == null)
+		{
+			return true;
+		}
+
+		return generalRequirements.stream().filter(Objects::nonNull).allMatch(r ->
+			!r.shouldConsiderForFilter() || check.test(r));
+	}
+}
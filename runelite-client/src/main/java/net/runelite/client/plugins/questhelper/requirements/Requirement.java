@@ -51,6 +51,19 @@ public interface Requirement
 	 */
 	boolean check(Client client);
 
+	/**
+	 * The client state read by {@link #check(Client)}, used by {@link RequirementCache} to avoid re-checking
+	 * requirements whose inputs have not changed.<br>
+	 * Requirements reading anything without a tracked change event, such as chat messages, NPCs or config,
+	 * must keep the default of {@link RequirementDependencies#UNTRACKED}.
+	 *
+	 * @return what this requirement reads
+	 */
+	default RequirementDependencies getDependencies()
+	{
+		return RequirementDependencies.UNTRACKED;
+	}
+
 	default boolean checkWithConfigChange(Client client, ConfigManager configManager, String configName, String value)
 	{
 		if (check(client))
@@ -0,0 +1,194 @@
+package net.runelite.client.plugins.questhelper.requirements;
+
+import net.runelite.api.Client;
+import net.runelite.api.Skill;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.eventbus.Subscribe;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches the results of {@link Requirement#check(Client)}, re-checking a requirement only once something in its
+ * {@link RequirementDependencies} has changed.<br>
+ * Every change event advances a revision counter, and each tracked varbit, varp, item container and skill remembers
+ * the revision it last changed at. A cached result is still valid while none of its dependencies changed after it
+ * was checked. Requirements reading the player's location are re-checked once per game tick, and
+ * {@link RequirementDependencies#UNTRACKED untracked} requirements are checked every time.<br>
+ * The cache is subscribed ahead of other listeners so anything checking requirements from the same events sees
+ * the change. It must only be used from the {@link net.runelite.client.callback.ClientThread}.
+ */
+@Singleton
+public class RequirementCache
+{
+	private static final float PRIORITY = 100;
+
+	private static final class Entry
+	{
+		private final RequirementDependencies dependencies;
+		private boolean result;
+		private long checkedRevision;
+		private int checkedTick;
+
+		private Entry(RequirementDependencies dependencies)
+		{
+			this.dependencies = dependencies;
+		}
+	}
+
+	private final Client client;
+
+	private final Map<Requirement, Entry> entries = new IdentityHashMap<>();
+	private final Map<Integer, Long> varbitRevisions = new HashMap<>();
+	private final Map<Integer, Long> varpRevisions = new HashMap<>();
+	private final Map<Integer, Long> itemContainerRevisions = new HashMap<>();
+	private final Map<Skill, Long> skillRevisions = new EnumMap<>(Skill.class);
+
+	private long revision;
+	private long clearedRevision;
+
+	@Inject
+	RequirementCache(Client client)
+	{
+		this.client = client;
+	}
+
+	/**
+	 * @return the current revision, to pass to {@link #hasChangedSince(RequirementDependencies, long)} later on
+	 */
+	public long getRevision()
+	{
+		return revision;
+	}
+
+	/**
+	 * Check a requirement, re-using the last result if nothing it depends on has changed.
+	 *
+	 * @param requirement the requirement to check
+	 * @return the result of {@link Requirement#check(Client)}
+	 */
+	public boolean check(Requirement requirement)
+	{
+		Entry entry = entries.get(requirement);
+		if (entry == null)
+		{
+			entry = new Entry(requirement.getDependencies());
+			entries.put(requirement, entry);
+		}
+		else if (!isStale(entry))
+		{
+			return entry.result;
+		}
+
+		entry.result = requirement.check(client);
+		entry.checkedRevision = revision;
+		entry.checkedTick = client.getTickCount();
+		return entry.result;
+	}
+
+	/**
+	 * Whether anything in the dependencies has changed since the given revision. Location and untracked
+	 * dependencies are always considered changed.
+	 *
+	 * @param dependencies what a requirement, or a panel showing it, reads
+	 * @param since a revision from {@link #getRevision()}
+	 * @return true if a requirement with these dependencies may now give a different result
+	 */
+	public boolean hasChangedSince(RequirementDependencies dependencies, long since)
+	{
+		return dependencies.isLocation() || changedSince(dependencies, since);
+	}
+
+	/**
+	 * Forget every cached result, for example after a quest is closed or the player logs out.
+	 */
+	public void clear()
+	{
+		entries.clear();
+		invalidateAll();
+	}
+
+	/**
+	 * Treat every requirement as changed, for state which has no specific change event.
+	 */
+	public void invalidateAll()
+	{
+		clearedRevision = ++revision;
+	}
+
+	/**
+	 * Mark the item container as changed. Called for {@link ItemContainerChanged} and when a stored copy of a
+	 * container, such as the quest bank, is reloaded.
+	 */
+	public void itemContainerChanged(int containerId)
+	{
+		itemContainerRevisions.put(containerId, ++revision);
+	}
+
+	@Subscribe(priority = PRIORITY)
+	public void onVarbitChanged(VarbitChanged event)
+	{
+		++revision;
+		if (event.getVarbitId() != -1)
+		{
+			varbitRevisions.put(event.getVarbitId(), revision);
+		}
+		if (event.getVarpId() != -1)
+		{
+			varpRevisions.put(event.getVarpId(), revision);
+		}
+	}
+
+	@Subscribe(priority = PRIORITY)
+	public void onItemContainerChanged(ItemContainerChanged event)
+	{
+		itemContainerChanged(event.getContainerId());
+	}
+
+	@Subscribe(priority = PRIORITY)
+	public void onStatChanged(StatChanged event)
+	{
+		skillRevisions.put(event.getSkill(), ++revision);
+	}
+
+	private boolean isStale(Entry entry)
+	{
+		if (entry.dependencies.isLocation() && entry.checkedTick != client.getTickCount())
+		{
+			return true;
+		}
+		return changedSince(entry.dependencies, entry.checkedRevision);
+	}
+
+	private boolean changedSince(RequirementDependencies dependencies, long since)
+	{
+		if (dependencies.isUntracked() || clearedRevision > since)
+		{
+			return true;
+		}
+		return changedSince(varbitRevisions, dependencies.getVarbits(), since)
+			|| changedSince(varpRevisions, dependencies.getVarps(), since)
+			|| changedSince(itemContainerRevisions, dependencies.getItemContainers(), since)
+			|| changedSince(skillRevisions, dependencies.getSkills(), since);
+	}
+
+	private static <K> boolean changedSince(Map<K, Long> revisions, Set<K> keys, long since)
+	{
+		for (K key : keys)
+		{
+			Long changed = revisions.get(key);
+			if (changed != null && changed > since)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,143 @@
+package net.runelite.client.plugins.questhelper.requirements;
+
+import lombok.Getter;
+import net.runelite.api.InventoryID;
+import net.runelite.api.Skill;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The client state a {@link Requirement} reads when it is checked.<br>
+ * {@link RequirementCache} uses these to only re-check a requirement after something it reads has changed.
+ * A requirement which reads anything not listed here must be {@link #UNTRACKED}, which is the default.
+ */
+@Getter
+public final class RequirementDependencies
+{
+	/**
+	 * Reads state which fires no change event, so the requirement is checked every time.
+	 */
+	public static final RequirementDependencies UNTRACKED = new RequirementDependencies(true, false,
+		Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+	/**
+	 * Reads nothing which can change, so the first result is kept.
+	 */
+	public static final RequirementDependencies NONE = new RequirementDependencies(false, false,
+		Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+	private final boolean untracked;
+
+	/**
+	 * Reads the local player's location, which can change every game tick.
+	 */
+	private final boolean location;
+
+	private final Set<Integer> varbits;
+	private final Set<Integer> varps;
+	private final Set<Integer> itemContainers;
+	private final Set<Skill> skills;
+
+	private RequirementDependencies(boolean untracked, boolean location, Set<Integer> varbits, Set<Integer> varps,
+									Set<Integer> itemContainers, Set<Skill> skills)
+	{
+		this.untracked = untracked;
+		this.location = location;
+		this.varbits = varbits;
+		this.varps = varps;
+		this.itemContainers = itemContainers;
+		this.skills = skills;
+	}
+
+	public static RequirementDependencies varbit(int varbitId)
+	{
+		return new RequirementDependencies(false, false, Collections.singleton(varbitId), Collections.emptySet(),
+			Collections.emptySet(), Collections.emptySet());
+	}
+
+	public static RequirementDependencies varp(int varpId)
+	{
+		return new RequirementDependencies(false, false, Collections.emptySet(), Collections.singleton(varpId),
+			Collections.emptySet(), Collections.emptySet());
+	}
+
+	public static RequirementDependencies itemContainers(InventoryID... containers)
+	{
+		Set<Integer> ids = new HashSet<>();
+		for (InventoryID container : containers)
+		{
+			ids.add(container.getId());
+		}
+		return new RequirementDependencies(false, false, Collections.emptySet(), Collections.emptySet(),
+			Collections.unmodifiableSet(ids), Collections.emptySet());
+	}
+
+	public static RequirementDependencies skill(Skill skill)
+	{
+		return new RequirementDependencies(false, false, Collections.emptySet(), Collections.emptySet(),
+			Collections.emptySet(), Collections.unmodifiableSet(EnumSet.of(skill)));
+	}
+
+	public static RequirementDependencies location()
+	{
+		return new RequirementDependencies(false, true, Collections.emptySet(), Collections.emptySet(),
+			Collections.emptySet(), Collections.emptySet());
+	}
+
+	/**
+	 * @return everything read by any of the requirements. Null requirements are ignored.
+	 */
+	public static RequirementDependencies of(Collection<? extends Requirement> requirements)
+	{
+		RequirementDependencies dependencies = NONE;
+		for (Requirement requirement : requirements)
+		{
+			if (requirement != null)
+			{
+				dependencies = dependencies.and(requirement.getDependencies());
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * @return everything read by either this or the other dependencies
+	 */
+	public RequirementDependencies and(RequirementDependencies other)
+	{
+		if (untracked || other == NONE)
+		{
+			return this;
+		}
+		if (other.untracked || this == NONE)
+		{
+			return other;
+		}
+
+		Set<Skill> allSkills = EnumSet.noneOf(Skill.class);
+		allSkills.addAll(skills);
+		allSkills.addAll(other.skills);
+		return new RequirementDependencies(false, location || other.location, merge(varbits, other.varbits),
+			merge(varps, other.varps), merge(itemContainers, other.itemContainers),
+			Collections.unmodifiableSet(allSkills));
+	}
+
+	private static Set<Integer> merge(Set<Integer> first, Set<Integer> second)
+	{
+		if (second.isEmpty())
+		{
+			return first;
+		}
+		if (first.isEmpty())
+		{
+			return second;
+		}
+		Set<Integer> merged = new HashSet<>(first);
+		merged.addAll(second);
+		return Collections.unmodifiableSet(merged);
+	}
+}
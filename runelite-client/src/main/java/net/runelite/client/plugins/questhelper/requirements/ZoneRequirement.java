@@ -92,6 +92,12 @@ public class ZoneRequirement extends AbstractRequirement
 		this.checkInZone = checkInZone;
 	}
 
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		return RequirementDependencies.location();
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
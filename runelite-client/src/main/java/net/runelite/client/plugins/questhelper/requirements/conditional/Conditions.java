@@ -25,6 +25,7 @@
 package net.runelite.client.plugins.questhelper.requirements.conditional;
 
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.client.plugins.questhelper.requirements.util.LogicType;
 import net.runelite.client.plugins.questhelper.requirements.util.Operation;
 import lombok.Setter;
@@ -111,6 +112,13 @@ public class Conditions extends ConditionForStep
 		return text;
 	}
 
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		// a passed condition is latched, and can be reset through setHasPassed
+		return onlyNeedToPassOnce ? RequirementDependencies.UNTRACKED : RequirementDependencies.of(conditions);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -27,6 +27,7 @@
 package net.runelite.client.plugins.questhelper.requirements.item;
 
 import net.runelite.client.plugins.questhelper.ItemCollections;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.api.Client;
 import net.runelite.api.Item;
 
@@ -47,6 +48,12 @@ public class FollowerItemRequirement extends ItemRequirement
 		super(name, itemIDs);
 		this.followerIDs = followerIDs;
 	}
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		return RequirementDependencies.UNTRACKED;
+	}
+
 	@Override
 	public boolean check(Client client, boolean checkConsideringSlotRestrictions, List<Item> items)
 	{
@@ -39,6 +39,7 @@ import net.runelite.client.plugins.questhelper.QuestBank;
 import net.runelite.client.plugins.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.questhelper.requirements.AbstractRequirement;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.client.plugins.questhelper.requirements.conditional.Conditions;
 import net.runelite.client.plugins.questhelper.requirements.util.InventorySlots;
 import net.runelite.client.plugins.questhelper.requirements.util.LogicType;
@@ -453,6 +454,8 @@ public class ItemRequirement extends AbstractRequirement
 			allItems.addAll(questBank.getBankItems());
 		}
 
+		ItemContainer equipped = client.getItemContainer(InventoryID.EQUIPMENT);
+		ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
 		int remainder = 0;
 
 		List<Integer> ids = getAllIds();
@@ -462,8 +465,8 @@ public class ItemRequirement extends AbstractRequirement
 			{
 				remainder = quantity;
 			}
-			remainder += (quantity - getRequiredItemDifference(client, alternate, checkConsideringSlotRestrictions,
-				allItems));
+			remainder += (quantity - getRequiredItemDifference(equipped, inventory, alternate,
+				checkConsideringSlotRestrictions, allItems));
 		}
 		return remainder;
 	}
@@ -476,6 +479,8 @@ public class ItemRequirement extends AbstractRequirement
 			allItems.addAll(questBank.getBankItems());
 		}
 
+		ItemContainer equipped = client.getItemContainer(InventoryID.EQUIPMENT);
+		ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
 		int remainder = quantity;
 
 		List<Integer> ids = getAllIds();
@@ -485,8 +490,8 @@ public class ItemRequirement extends AbstractRequirement
 			{
 				remainder = quantity;
 			}
-			remainder -= (quantity - getRequiredItemDifference(client, alternate, checkConsideringSlotRestrictions,
-				allItems));
+			remainder -= (quantity - getRequiredItemDifference(equipped, inventory, alternate,
+				checkConsideringSlotRestrictions, allItems));
 			if (remainder <= 0)
 			{
 				hadItemLastCheck = true;
@@ -504,7 +509,13 @@ public class ItemRequirement extends AbstractRequirement
 	public int getRequiredItemDifference(Client client, int itemID, boolean checkConsideringSlotRestrictions,
 										 List<Item> items)
 	{
-		ItemContainer equipped = client.getItemContainer(InventoryID.EQUIPMENT);
+		return getRequiredItemDifference(client.getItemContainer(InventoryID.EQUIPMENT),
+			client.getItemContainer(InventoryID.INVENTORY), itemID, checkConsideringSlotRestrictions, items);
+	}
+
+	private int getRequiredItemDifference(ItemContainer equipped, ItemContainer inventory, int itemID,
+										  boolean checkConsideringSlotRestrictions, List<Item> items)
+	{
 		int tempQuantity = quantity;
 
 		if (equipped != null)
@@ -512,13 +523,9 @@ public class ItemRequirement extends AbstractRequirement
 			tempQuantity -= getNumMatches(equipped, itemID);
 		}
 
-		if (!checkConsideringSlotRestrictions || !equip)
+		if ((!checkConsideringSlotRestrictions || !equip) && inventory != null)
 		{
-			ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
-			if (inventory != null)
-			{
-				tempQuantity -= getNumMatches(inventory, itemID);
-			}
+			tempQuantity -= getNumMatches(inventory, itemID);
 		}
 
 		if (items != null)
@@ -531,7 +538,15 @@ public class ItemRequirement extends AbstractRequirement
 
 	public int getNumMatches(ItemContainer items, int itemID)
 	{
-		return getNumMatches(Arrays.asList(items.getItems().clone()), itemID);
+		int matches = 0;
+		for (Item item : items.getItems())
+		{
+			if (item != null && item.getId() == itemID)
+			{
+				matches += item.getQuantity();
+			}
+		}
+		return matches;
 	}
 
 	public int getNumMatches(List<Item> items, int itemID)
@@ -543,6 +558,16 @@ public class ItemRequirement extends AbstractRequirement
 			.sum();
 	}
 
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		if (questBank != null)
+		{
+			return RequirementDependencies.itemContainers(InventoryID.EQUIPMENT, InventoryID.INVENTORY, InventoryID.BANK);
+		}
+		return RequirementDependencies.itemContainers(InventoryID.EQUIPMENT, InventoryID.INVENTORY);
+	}
+
 	public boolean check(Client client)
 	{
 		return check(client, false);
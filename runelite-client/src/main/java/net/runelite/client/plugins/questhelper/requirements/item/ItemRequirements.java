@@ -28,6 +28,7 @@ package net.runelite.client.plugins.questhelper.requirements.item;
 
 import net.runelite.client.plugins.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.questhelper.questhelpers.QuestUtil;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.client.plugins.questhelper.requirements.util.LogicType;
 import lombok.Getter;
 import net.runelite.api.Client;
@@ -83,6 +84,12 @@ public class ItemRequirements extends ItemRequirement
 		return LogicType.OR.test(getItemRequirements().stream(), item -> !item.getAllIds().contains(-1) && item.getQuantity() >= 0);
 	}
 
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		return RequirementDependencies.of(itemRequirements);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
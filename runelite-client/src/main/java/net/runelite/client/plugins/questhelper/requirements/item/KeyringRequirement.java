@@ -26,6 +26,7 @@ package net.runelite.client.plugins.questhelper.requirements.item;
 
 import net.runelite.client.plugins.questhelper.KeyringCollection;
 import net.runelite.client.plugins.questhelper.QuestHelperConfig;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.client.plugins.questhelper.requirements.runelite.RuneliteRequirement;
 import net.runelite.api.Client;
 import net.runelite.api.Item;
@@ -88,6 +89,12 @@ public class KeyringRequirement extends ItemRequirement
 		return newItem;
 	}
 
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		return RequirementDependencies.UNTRACKED;
+	}
+
 	@Override
 	public boolean check(Client client, boolean checkConsideringSlotRestrictions, List<Item> items)
 	{
@@ -30,6 +30,7 @@ package net.runelite.client.plugins.questhelper.requirements.player;
 import net.runelite.client.plugins.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.questhelper.QuestHelperPlugin;
 import net.runelite.client.plugins.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.client.plugins.questhelper.requirements.util.Operation;
 import lombok.Getter;
 import net.runelite.api.Client;
@@ -108,6 +109,12 @@ public class SkillRequirement extends AbstractRequirement
 		this.displayText = displayText;
 	}
 
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		return RequirementDependencies.skill(skill);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -28,6 +28,7 @@
 package net.runelite.client.plugins.questhelper.requirements.var;
 
 import net.runelite.client.plugins.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.client.plugins.questhelper.requirements.util.Operation;
 import lombok.Getter;
 import net.runelite.api.Client;
@@ -143,6 +144,12 @@ public class VarbitRequirement extends AbstractRequirement
 		shouldCountForFilter = true;
 	}
 
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		return RequirementDependencies.varbit(varbitID);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -27,6 +27,7 @@
 package net.runelite.client.plugins.questhelper.requirements.var;
 
 import net.runelite.client.plugins.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementDependencies;
 import net.runelite.client.plugins.questhelper.requirements.util.Operation;
 import net.runelite.api.Client;
 
@@ -117,6 +118,12 @@ public class VarplayerRequirement extends AbstractRequirement
 	}
 
 
+	@Override
+	public RequirementDependencies getDependencies()
+	{
+		return RequirementDependencies.varp(varplayerId);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
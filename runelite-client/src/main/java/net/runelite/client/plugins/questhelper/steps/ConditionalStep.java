@@ -29,6 +29,7 @@ import net.runelite.client.plugins.questhelper.QuestHelperPlugin;
 import net.runelite.client.plugins.questhelper.questhelpers.QuestHelper;
 import net.runelite.client.plugins.questhelper.requirements.ChatMessageRequirement;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementCache;
 import net.runelite.client.plugins.questhelper.requirements.conditional.InitializableRequirement;
 import net.runelite.client.plugins.questhelper.requirements.conditional.NpcCondition;
 import net.runelite.client.plugins.questhelper.requirements.npc.DialogRequirement;
@@ -51,6 +52,9 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	@Inject
 	protected EventBus eventBus;
 
+	@Inject
+	protected RequirementCache requirementCache;
+
 	protected boolean started = false;
 
 	protected final LinkedHashMap<Requirement, QuestStep> steps;
@@ -249,7 +253,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		for (Requirement conditions : steps.keySet())
 		{
 			boolean stepIsLocked = steps.get(conditions).isLocked();
-			if (conditions != null && conditions.check(client) && !stepIsLocked)
+			if (conditions != null && requirementCache.check(conditions) && !stepIsLocked)
 			{
 				startUpStep(steps.get(conditions));
 				return;
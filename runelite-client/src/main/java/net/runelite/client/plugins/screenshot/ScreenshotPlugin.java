@@ -38,7 +38,9 @@ import java.time.LocalDate;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -76,6 +78,8 @@ import static net.runelite.api.widgets.WidgetID.TOA_REWARD_GROUP_ID;
 import static net.runelite.api.widgets.WidgetID.WILDERNESS_LOOT_CHEST;
 import net.runelite.api.widgets.WidgetInfo;
 import static net.runelite.client.RuneLite.SCREENSHOT_DIR;
+import net.runelite.client.chat.ChatMessageClassifier;
+import net.runelite.client.chat.ChatMessageRule;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.PlayerLootReceived;
@@ -109,6 +113,7 @@ public class ScreenshotPlugin extends Plugin
 	private static final int GAUNTLET_REGION = 7512;
 	private static final int CORRUPTED_GAUNTLET_REGION = 7768;
 	private static final Pattern NUMBER_PATTERN = Pattern.compile("([0-9]+)");
+	private static final Pattern CLUE_COMPLETED_PATTERN = Pattern.compile("You have completed.*Treasure");
 	private static final Pattern LEVEL_UP_PATTERN = Pattern.compile(".*Your ([a-zA-Z]+) (?:level is|are)? now (\\d+)\\.");
 	private static final Pattern LEVEL_UP_MESSAGE_PATTERN = Pattern.compile("Congratulations, you've just advanced your ([a-zA-Z]+) level. You are now level (\\d+)\\.");
 	private static final Pattern BOSSKILL_MESSAGE_PATTERN = Pattern.compile("Your (.+) kill count is: <col=ff0000>(\\d+)</col>.");
@@ -198,6 +203,9 @@ public class ScreenshotPlugin extends Plugin
 	@Inject
 	private ImageCapture imageCapture;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	@Getter(AccessLevel.PACKAGE)
 	private BufferedImage reportButton;
 
@@ -226,6 +234,7 @@ public class ScreenshotPlugin extends Plugin
 		overlayManager.add(screenshotOverlay);
 		SCREENSHOT_DIR.mkdirs();
 		keyManager.registerKeyListener(hotkeyListener);
+		registerChatMessageRules();
 
 		final BufferedImage iconImage = ImageUtil.loadImageResource(getClass(), "screenshot.png");
 
@@ -251,6 +260,7 @@ public class ScreenshotPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
+		chatMessageClassifier.unregister(this);
 		overlayManager.remove(screenshotOverlay);
 		clientToolbar.removeNavigation(titleBarButton);
 		keyManager.unregisterKeyListener(hotkeyListener);
@@ -354,130 +364,88 @@ public class ScreenshotPlugin extends Plugin
 		kickPlayerName = stringStack[stringSize - 1];
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage event)
+	@VisibleForTesting
+	void registerChatMessageRules()
 	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE
-			&& event.getType() != ChatMessageType.SPAM
-			&& event.getType() != ChatMessageType.TRADE
-			&& event.getType() != ChatMessageType.FRIENDSCHATNOTIFICATION)
-		{
-			return;
-		}
-
-		String chatMessage = event.getMessage();
-
-		if (chatMessage.contains("You have completed") && chatMessage.contains("Treasure"))
+		register(ChatMessageRule.builder()
+			.pattern(CLUE_COMPLETED_PATTERN)
+			.match(ChatMessageRule.Match.FIND)
+			.exclusive(true), (event, matcher) ->
 		{
+			String chatMessage = event.getMessage();
 			Matcher m = NUMBER_PATTERN.matcher(Text.removeTags(chatMessage));
 			if (m.find())
 			{
 				clueNumber = Integer.valueOf(m.group());
 				clueType = chatMessage.substring(chatMessage.lastIndexOf(m.group()) + m.group().length() + 1, chatMessage.indexOf("Treasure") - 1);
-				return;
-			}
-		}
-
-		if (chatMessage.startsWith("Your Barrows chest count is"))
-		{
-			Matcher m = NUMBER_PATTERN.matcher(Text.removeTags(chatMessage));
-			if (m.find())
-			{
-				killType = KillType.BARROWS;
-				killCountNumber = Integer.valueOf(m.group());
-				return;
-			}
-		}
-
-		if (chatMessage.startsWith("Your completed Chambers of Xeric count is:"))
-		{
-			Matcher m = NUMBER_PATTERN.matcher(Text.removeTags(chatMessage));
-			if (m.find())
-			{
-				killType = KillType.COX;
-				killCountNumber = Integer.valueOf(m.group());
-				return;
-			}
-		}
-
-		if (chatMessage.startsWith("Your completed Chambers of Xeric Challenge Mode count is:"))
-		{
-			Matcher m = NUMBER_PATTERN.matcher(Text.removeTags(chatMessage));
-			if (m.find())
-			{
-				killType = KillType.COX_CM;
-				killCountNumber = Integer.valueOf(m.group());
-				return;
-			}
-		}
-
-		if (chatMessage.startsWith("Your completed Theatre of Blood"))
-		{
-			Matcher m = NUMBER_PATTERN.matcher(Text.removeTags(chatMessage));
-			if (m.find())
-			{
-				killType = chatMessage.contains("Hard Mode") ? KillType.TOB_HM : (chatMessage.contains("Story Mode") ? KillType.TOB_SM : KillType.TOB);
-				killCountNumber = Integer.valueOf(m.group());
-				return;
 			}
-		}
-
-		if (chatMessage.startsWith("Your completed Tombs of Amascut"))
-		{
-			Matcher m = NUMBER_PATTERN.matcher(Text.removeTags(chatMessage));
-			if (m.find())
-			{
-				killType = chatMessage.contains("Expert Mode") ? KillType.TOA_EXPERT_MODE :
-					chatMessage.contains("Entry Mode") ? KillType.TOA_ENTRY_MODE :
-						KillType.TOA;
-				killCountNumber = Integer.valueOf(m.group());
-				return;
-			}
-		}
-
-		if (config.screenshotKick() && chatMessage.equals("Your request to kick/ban this user was successful."))
-		{
-			if (kickPlayerName == null)
+		});
+
+		onKillCount("Your Barrows chest count is", chatMessage -> KillType.BARROWS);
+		onKillCount("Your completed Chambers of Xeric count is:", chatMessage -> KillType.COX);
+		onKillCount("Your completed Chambers of Xeric Challenge Mode count is:", chatMessage -> KillType.COX_CM);
+		onKillCount("Your completed Theatre of Blood", chatMessage ->
+			chatMessage.contains("Hard Mode") ? KillType.TOB_HM : (chatMessage.contains("Story Mode") ? KillType.TOB_SM : KillType.TOB));
+		onKillCount("Your completed Tombs of Amascut", chatMessage ->
+			chatMessage.contains("Expert Mode") ? KillType.TOA_EXPERT_MODE :
+				chatMessage.contains("Entry Mode") ? KillType.TOA_ENTRY_MODE :
+					KillType.TOA);
+
+		register(ChatMessageRule.literal("Your request to kick/ban this user was successful.")
+			.match(ChatMessageRule.Match.MATCHES), (event, matcher) ->
+		{
+			if (!config.screenshotKick() || kickPlayerName == null)
 			{
 				return;
 			}
 
 			takeScreenshot("Kick " + kickPlayerName, SD_FRIENDS_CHAT_KICKS);
 			kickPlayerName = null;
-		}
+		});
 
-		if (config.screenshotPet() && PET_MESSAGES.stream().anyMatch(chatMessage::contains))
+		for (String petMessage : PET_MESSAGES)
 		{
-			String fileName = "Pet";
-			takeScreenshot(fileName, SD_PETS);
+			register(ChatMessageRule.literal(petMessage)
+				.match(ChatMessageRule.Match.FIND), (event, matcher) ->
+			{
+				if (config.screenshotPet())
+				{
+					String fileName = "Pet";
+					takeScreenshot(fileName, SD_PETS);
+				}
+			});
 		}
 
-		if (config.screenshotBossKills())
+		register(ChatMessageRule.builder()
+			.pattern(BOSSKILL_MESSAGE_PATTERN), (event, m) ->
 		{
-			Matcher m = BOSSKILL_MESSAGE_PATTERN.matcher(chatMessage);
-			if (m.matches())
+			if (config.screenshotBossKills())
 			{
 				String bossName = m.group(1);
 				String bossKillcount = m.group(2);
 				String fileName = bossName + "(" + bossKillcount + ")";
 				takeScreenshot(fileName, SD_BOSS_KILLS);
 			}
-		}
+		});
 
-		if (chatMessage.equals(CHEST_LOOTED_MESSAGE) && config.screenshotRewards())
+		register(ChatMessageRule.literal(CHEST_LOOTED_MESSAGE)
+			.match(ChatMessageRule.Match.MATCHES), (event, matcher) ->
 		{
-			final int regionID = client.getLocalPlayer().getWorldLocation().getRegionID();
-			String eventName = CHEST_LOOT_EVENTS.get(regionID);
-			if (eventName != null)
+			if (config.screenshotRewards())
 			{
-				takeScreenshot(eventName, SD_CHEST_LOOT);
+				final int regionID = client.getLocalPlayer().getWorldLocation().getRegionID();
+				String eventName = CHEST_LOOT_EVENTS.get(regionID);
+				if (eventName != null)
+				{
+					takeScreenshot(eventName, SD_CHEST_LOOT);
+				}
 			}
-		}
+		});
 
-		if (config.screenshotValuableDrop())
+		register(ChatMessageRule.builder()
+			.pattern(VALUABLE_DROP_PATTERN), (event, m) ->
 		{
-			Matcher m = VALUABLE_DROP_PATTERN.matcher(chatMessage);
-			if (m.matches())
+			if (config.screenshotValuableDrop())
 			{
 				int valuableDropValue = Integer.parseInt(m.group(2).replaceAll(",", ""));
 				if (valuableDropValue >= config.valuableDropThreshold())
@@ -487,51 +455,60 @@ public class ScreenshotPlugin extends Plugin
 					takeScreenshot(fileName, SD_VALUABLE_DROPS);
 				}
 			}
-		}
+		});
 
-		if (config.screenshotUntradeableDrop() && !isInsideGauntlet())
+		register(ChatMessageRule.builder()
+			.pattern(UNTRADEABLE_DROP_PATTERN), (event, m) ->
 		{
-			Matcher m = UNTRADEABLE_DROP_PATTERN.matcher(chatMessage);
-			if (m.matches())
+			if (config.screenshotUntradeableDrop() && !isInsideGauntlet())
 			{
 				String untradeableDropName = m.group(1);
 				String fileName = "Untradeable drop " + untradeableDropName;
 				takeScreenshot(fileName, SD_UNTRADEABLE_DROPS);
 			}
-		}
+		});
 
-		if (config.screenshotDuels())
+		register(ChatMessageRule.builder()
+			.pattern(DUEL_END_PATTERN)
+			.match(ChatMessageRule.Match.FIND), (event, m) ->
 		{
-			Matcher m = DUEL_END_PATTERN.matcher(chatMessage);
-			if (m.find())
+			if (config.screenshotDuels())
 			{
 				String result = m.group(1);
 				String count = m.group(2).replace(",", "");
 				String fileName = "Duel " + result + " (" + count + ")";
 				takeScreenshot(fileName, SD_DUELS);
 			}
-		}
+		});
 
-		if (config.screenshotCollectionLogEntries() && chatMessage.startsWith(COLLECTION_LOG_TEXT) && client.getVarbitValue(Varbits.COLLECTION_LOG_NOTIFICATION) == 1)
+		register(ChatMessageRule.literal(COLLECTION_LOG_TEXT), (event, matcher) ->
 		{
-			String entry = Text.removeTags(chatMessage).substring(COLLECTION_LOG_TEXT.length());
-			String fileName = "Collection log (" + entry + ")";
-			takeScreenshot(fileName, SD_COLLECTION_LOG);
-		}
+			if (config.screenshotCollectionLogEntries() && client.getVarbitValue(Varbits.COLLECTION_LOG_NOTIFICATION) == 1)
+			{
+				String entry = Text.removeTags(event.getMessage()).substring(COLLECTION_LOG_TEXT.length());
+				String fileName = "Collection log (" + entry + ")";
+				takeScreenshot(fileName, SD_COLLECTION_LOG);
+			}
+		});
 
-		if (chatMessage.contains("combat task") && config.screenshotCombatAchievements() && client.getVarbitValue(Varbits.COMBAT_ACHIEVEMENTS_POPUP) == 1)
+		register(ChatMessageRule.literal("combat task")
+			.match(ChatMessageRule.Match.FIND), (event, matcher) ->
 		{
-			String fileName = parseCombatAchievementWidget(chatMessage);
-			if (!fileName.isEmpty())
+			if (config.screenshotCombatAchievements() && client.getVarbitValue(Varbits.COMBAT_ACHIEVEMENTS_POPUP) == 1)
 			{
-				takeScreenshot(fileName, SD_COMBAT_ACHIEVEMENTS);
+				String fileName = parseCombatAchievementWidget(event.getMessage());
+				if (!fileName.isEmpty())
+				{
+					takeScreenshot(fileName, SD_COMBAT_ACHIEVEMENTS);
+				}
 			}
-		}
+		});
 
-		if (client.getVarbitValue(Varbits.DISABLE_LEVEL_UP_INTERFACE) == 1 && config.screenshotLevels())
+		register(ChatMessageRule.builder()
+			.pattern(LEVEL_UP_MESSAGE_PATTERN)
+			.match(ChatMessageRule.Match.FIND), (event, m) ->
 		{
-			Matcher m = LEVEL_UP_MESSAGE_PATTERN.matcher(chatMessage);
-			if (m.find())
+			if (client.getVarbitValue(Varbits.DISABLE_LEVEL_UP_INTERFACE) == 1 && config.screenshotLevels())
 			{
 				String skillName = m.group(1);
 				String skillLevel = m.group(2);
@@ -539,7 +516,36 @@ public class ScreenshotPlugin extends Plugin
 				String screenshotSubDir = "Levels";
 				takeScreenshot(fileName, screenshotSubDir);
 			}
-		}
+		});
+	}
+
+	/**
+	 * Record the kill count from a message starting with the prefix, ahead of the reward interface opening. The kill
+	 * count messages are exclusive, so the rules after them are not tried for the message.
+	 */
+	private void onKillCount(String prefix, Function<String, KillType> type)
+	{
+		register(ChatMessageRule.literal(prefix)
+			.exclusive(true), (event, matcher) ->
+		{
+			Matcher m = NUMBER_PATTERN.matcher(Text.removeTags(event.getMessage()));
+			if (m.find())
+			{
+				killType = type.apply(event.getMessage());
+				killCountNumber = Integer.valueOf(m.group());
+			}
+		});
+	}
+
+	private void register(ChatMessageRule.ChatMessageRuleBuilder rule, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		chatMessageClassifier.register(this, rule
+			.type(ChatMessageType.GAMEMESSAGE)
+			.type(ChatMessageType.SPAM)
+			.type(ChatMessageType.TRADE)
+			.type(ChatMessageType.FRIENDSCHATNOTIFICATION)
+			.handler(handler)
+			.build());
 	}
 
 	@Subscribe
@@ -0,0 +1,401 @@
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * A list of {@link WildcardMatcher} patterns compiled once, so that a name can be matched against all of them
+ * without building and compiling a regex for each pattern.
+ * <p>
+ * Patterns are matched case insensitively, like {@link WildcardMatcher}. Patterns without a wildcard are looked up
+ * in a hash map, patterns with only trailing or only leading wildcards are found by walking a prefix or suffix trie,
+ * and the remaining patterns are combined into a single automaton which is run over the name once.
+ *
+ * @param <T> the entries the patterns belong to, such as the patterns themselves or parsed config entries
+ */
+public class WildcardMatcherSet<T>
+{
+	private static final int[] NO_ENTRIES = new int[0];
+
+	private final List<T> entries;
+	private final Map<String, int[]> literals = new HashMap<>();
+	private final TrieNode prefixes = new TrieNode();
+	private final TrieNode suffixes = new TrieNode();
+	@Nullable
+	private final Automaton automaton;
+
+	private WildcardMatcherSet(List<T> entries, Function<? super T, String> pattern)
+	{
+		this.entries = entries;
+
+		Automaton.Builder automatonBuilder = new Automaton.Builder();
+		for (int i = 0; i < entries.size(); ++i)
+		{
+			String p = pattern.apply(entries.get(i));
+			if (p != null)
+			{
+				add(fold(p), i, automatonBuilder);
+			}
+		}
+		automaton = automatonBuilder.build();
+	}
+
+	/**
+	 * Compile a list of patterns.
+	 *
+	 * @param patterns the patterns, see {@link WildcardMatcher#matches(String, String)}
+	 * @return the compiled set, matching entries are the patterns themselves
+	 */
+	public static WildcardMatcherSet<String> of(Collection<String> patterns)
+	{
+		return of(patterns, Function.identity());
+	}
+
+	/**
+	 * Compile the patterns of a list of entries.
+	 *
+	 * @param entries the entries, in the order they should be matched in
+	 * @param pattern gets the pattern of an entry, see {@link WildcardMatcher#matches(String, String)}
+	 * @return the compiled set
+	 */
+	public static <T> WildcardMatcherSet<T> of(Collection<T> entries, Function<? super T, String> pattern)
+	{
+		return new WildcardMatcherSet<>(new ArrayList<>(entries), pattern);
+	}
+
+	public boolean isEmpty()
+	{
+		return entries.isEmpty();
+	}
+
+	/**
+	 * @return true if any pattern matches the name
+	 */
+	public boolean matches(String name)
+	{
+		return match(name) != null;
+	}
+
+	/**
+	 * @return the first entry, in the order the set was built from, whose pattern matches the name,
+	 * or null if none match
+	 */
+	@Nullable
+	public T match(String name)
+	{
+		BitSet matched = find(name);
+		int first = matched.nextSetBit(0);
+		return first == -1 ? null : entries.get(first);
+	}
+
+	/**
+	 * @return every entry whose pattern matches the name, in the order the set was built from
+	 */
+	public List<T> matchAll(String name)
+	{
+		BitSet matched = find(name);
+		if (matched.isEmpty())
+		{
+			return Collections.emptyList();
+		}
+
+		List<T> result = new ArrayList<>(matched.cardinality());
+		for (int i = matched.nextSetBit(0); i != -1; i = matched.nextSetBit(i + 1))
+		{
+			result.add(entries.get(i));
+		}
+		return result;
+	}
+
+	private BitSet find(String name)
+	{
+		BitSet matched = new BitSet(entries.size());
+		if (entries.isEmpty() || name == null)
+		{
+			return matched;
+		}
+
+		String folded = fold(name);
+		set(matched, literals.getOrDefault(folded, NO_ENTRIES));
+
+		TrieNode node = prefixes;
+		set(matched, node.entries);
+		for (int i = 0; i < folded.length() && (node = node.children.get(folded.charAt(i))) != null; ++i)
+		{
+			set(matched, node.entries);
+		}
+
+		node = suffixes;
+		set(matched, node.entries);
+		for (int i = folded.length() - 1; i >= 0 && (node = node.children.get(folded.charAt(i))) != null; --i)
+		{
+			set(matched, node.entries);
+		}
+
+		if (automaton != null)
+		{
+			automaton.run(folded, matched);
+		}
+		return matched;
+	}
+
+	private void add(String pattern, int entry, Automaton.Builder automatonBuilder)
+	{
+		int start = 0;
+		int end = pattern.length();
+		while (start < end && pattern.charAt(start) == '*')
+		{
+			++start;
+		}
+		while (end > start && pattern.charAt(end - 1) == '*')
+		{
+			--end;
+		}
+
+		String core = pattern.substring(start, end);
+		boolean leading = start > 0;
+		boolean trailing = end < pattern.length();
+
+		if (core.indexOf('*') != -1 || (leading && trailing && !core.isEmpty()))
+		{
+			automatonBuilder.add(pattern, entry);
+		}
+		else if (!leading && !trailing)
+		{
+			literals.merge(core, new int[]{entry}, WildcardMatcherSet::concat);
+		}
+		else if (trailing)
+		{
+			// also covers patterns consisting of only wildcards, which match everything from the trie root
+			TrieNode node = prefixes;
+			for (int i = 0; i < core.length(); ++i)
+			{
+				node = node.children.computeIfAbsent(core.charAt(i), c -> new TrieNode());
+			}
+			node.entries = concat(node.entries, new int[]{entry});
+		}
+		else
+		{
+			TrieNode node = suffixes;
+			for (int i = core.length() - 1; i >= 0; --i)
+			{
+				node = node.children.computeIfAbsent(core.charAt(i), c -> new TrieNode());
+			}
+			node.entries = concat(node.entries, new int[]{entry});
+		}
+	}
+
+	private static void set(BitSet bits, int[] indexes)
+	{
+		for (int index : indexes)
+		{
+			bits.set(index);
+		}
+	}
+
+	private static int[] concat(int[] a, int[] b)
+	{
+		int[] result = Arrays.copyOf(a, a.length + b.length);
+		System.arraycopy(b, 0, result, a.length, b.length);
+		return result;
+	}
+
+	/**
+	 * Fold the case of ASCII letters, matching the case insensitivity of {@link WildcardMatcher}
+	 */
+	private static String fold(String s)
+	{
+		char[] chars = null;
+		for (int i = 0; i < s.length(); ++i)
+		{
+			char c = s.charAt(i);
+			if (c >= 'A' && c <= 'Z')
+			{
+				if (chars == null)
+				{
+					chars = s.toCharArray();
+				}
+				chars[i] = (char) (c + ('a' - 'A'));
+			}
+		}
+		return chars == null ? s : new String(chars);
+	}
+
+	private static final class TrieNode
+	{
+		private final Map<Character, TrieNode> children = new HashMap<>();
+		private int[] entries = NO_ENTRIES;
+	}
+
+	/**
+	 * A nondeterministic automaton for several wildcard patterns, run with one bit per state.
+	 * <p>
+	 * A pattern with {@code n} literal characters has states {@code 0..n}, where state {@code i} means the first
+	 * {@code i} characters have been matched. Each character of the name moves every active state {@code i} whose
+	 * next pattern character matches to {@code i + 1}, which is a shift of the state bits masked by the states that
+	 * character can enter. States which follow a wildcard also stay active. The states of all patterns are laid
+	 * out one after another, and as no character can enter a pattern's first state the shift never carries a
+	 * state from one pattern into the next.
+	 */
+	private static final class Automaton
+	{
+		private static final int ASCII = 128;
+
+		private final long[] initial;
+		private final long[] loops;
+		private final long[] accepting;
+		private final long[][] asciiMasks;
+		private final Map<Character, long[]> masks;
+		private final int[][] acceptedEntries;
+
+		private Automaton(Builder builder)
+		{
+			int words = (builder.states + Long.SIZE - 1) / Long.SIZE;
+			initial = new long[words];
+			loops = new long[words];
+			accepting = new long[words];
+			asciiMasks = new long[ASCII][];
+			masks = new HashMap<>();
+			acceptedEntries = new int[builder.states][];
+
+			for (Builder.CompiledPattern pattern : builder.patterns.values())
+			{
+				int state = pattern.firstState;
+				setBit(initial, state);
+				for (int i = 0; i < pattern.pattern.length(); ++i)
+				{
+					char c = pattern.pattern.charAt(i);
+					if (c == '*')
+					{
+						setBit(loops, state);
+					}
+					else
+					{
+						setBit(mask(c, words), ++state);
+					}
+				}
+				setBit(accepting, state);
+				acceptedEntries[state] = pattern.entries;
+			}
+		}
+
+		void run(String name, BitSet matched)
+		{
+			long[] active = initial.clone();
+			for (int i = 0; i < name.length(); ++i)
+			{
+				char c = name.charAt(i);
+				long[] mask = c < ASCII ? asciiMasks[c] : masks.get(c);
+
+				long any = 0;
+				long carry = 0;
+				for (int w = 0; w < active.length; ++w)
+				{
+					long a = active[w];
+					long next = a & loops[w];
+					if (mask != null)
+					{
+						next |= ((a << 1) | carry) & mask[w];
+						carry = a >>> (Long.SIZE - 1);
+					}
+					active[w] = next;
+					any |= next;
+				}
+
+				if (any == 0)
+				{
+					return;
+				}
+			}
+
+			for (int w = 0; w < active.length; ++w)
+			{
+				for (long accepted = active[w] & accepting[w]; accepted != 0; accepted &= accepted - 1)
+				{
+					set(matched, acceptedEntries[w * Long.SIZE + Long.numberOfTrailingZeros(accepted)]);
+				}
+			}
+		}
+
+		private long[] mask(char c, int words)
+		{
+			if (c < ASCII)
+			{
+				if (asciiMasks[c] == null)
+				{
+					asciiMasks[c] = new long[words];
+				}
+				return asciiMasks[c];
+			}
+			return masks.computeIfAbsent(c, k -> new long[words]);
+		}
+
+		private static void setBit(long[] bits, int index)
+		{
+			bits[index / Long.SIZE] |= 1L << (index % Long.SIZE);
+		}
+
+		private static final class Builder
+		{
+			private static final class CompiledPattern
+			{
+				private final String pattern;
+				private final int firstState;
+				private int[] entries;
+
+				private CompiledPattern(String pattern, int firstState, int entry)
+				{
+					this.pattern = pattern;
+					this.firstState = firstState;
+					this.entries = new int[]{entry};
+				}
+			}
+
+			private final Map<String, CompiledPattern> patterns = new HashMap<>();
+			private int states;
+
+			void add(String pattern, int entry)
+			{
+				CompiledPattern compiled = patterns.get(pattern);
+				if (compiled != null)
+				{
+					compiled.entries = concat(compiled.entries, new int[]{entry});
+					return;
+				}
+
+				// consecutive wildcards are the same as one
+				String collapsed = pattern.replaceAll("\\*+", "*");
+				compiled = new CompiledPattern(collapsed, states, entry);
+				patterns.put(pattern, compiled);
+				states += collapsed.length() - count(collapsed, '*') + 1;
+			}
+
+			@Nullable
+			Automaton build()
+			{
+				return patterns.isEmpty() ? null : new Automaton(this);
+			}
+
+			private static int count(String s, char c)
+			{
+				int count = 0;
+				for (int i = 0; i < s.length(); ++i)
+				{
+					if (s.charAt(i) == c)
+					{
+						++count;
+					}
+				}
+				return count;
+			}
+		}
+	}
+}
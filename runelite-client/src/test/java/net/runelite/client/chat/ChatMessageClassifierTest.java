@@ -0,0 +1,150 @@
+package net.runelite.client.chat;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ChatMessageClassifierTest
+{
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
+	private final List<String> matched = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testKeyword()
+	{
+		assertEquals("'s pocket.", ChatMessageClassifier.keyword(Pattern.compile("You pick .*'s pocket\\.")));
+		assertEquals(" portal shield has dropped!", ChatMessageClassifier.keyword(Pattern.compile("The ([a-z]+), [^ ]+ portal shield has dropped!", Pattern.CASE_INSENSITIVE)));
+		assertEquals(" kill count is: <col=ff0000>", ChatMessageClassifier.keyword(Pattern.compile("Your (.+) kill count is: <col=ff0000>(\\d+)</col>")));
+		assertEquals("you have ", ChatMessageClassifier.keyword(Pattern.compile("You have \\d{1,3} charges? left\\.")));
+		assertEquals("a+b", ChatMessageClassifier.keyword(Pattern.compile("x?\\Qa+b\\E")));
+		assertEquals("abc", ChatMessageClassifier.keyword(Pattern.compile("\\x41\\u0042abc\\d")));
+		assertNull(ChatMessageClassifier.keyword(Pattern.compile("foo|bar")));
+		assertNull(ChatMessageClassifier.keyword(Pattern.compile("(?x) comment")));
+		assertNull(ChatMessageClassifier.keyword(Pattern.compile("\\d+")));
+	}
+
+	@Test
+	public void testDispatch()
+	{
+		Object owner = new Object();
+		chatMessageClassifier.register(owner, ChatMessageRule.builder()
+			.pattern(Pattern.compile("Your (.+) kill count is: (\\d+)\\."))
+			.type(ChatMessageType.GAMEMESSAGE)
+			.handler((chatMessage, matcher) -> matched.add(matcher.group(1) + "=" + matcher.group(2)))
+			.build());
+		chatMessageClassifier.register(owner, ChatMessageRule.literal("Congratulations")
+			.removeTags(true)
+			.handler((chatMessage, matcher) -> matched.add("congratulations"))
+			.build());
+		chatMessageClassifier.register(owner, ChatMessageRule.builder()
+			.pattern(Pattern.compile("\\d+ (\\w+)"))
+			.type(ChatMessageType.SPAM)
+			.match(ChatMessageRule.Match.FIND)
+			.handler((chatMessage, matcher) -> matched.add(matcher.group(1)))
+			.build());
+
+		chat(ChatMessageType.GAMEMESSAGE, "Your Zulrah kill count is: 12.");
+		chat(ChatMessageType.SPAM, "Your Zulrah kill count is: 13.");
+		chat(ChatMessageType.GAMEMESSAGE, "<col=ff0000>Congratulations</col>, you've completed a task.");
+		chat(ChatMessageType.SPAM, "You get 3 logs.");
+		assertEquals(Arrays.asList("Zulrah=12", "congratulations", "logs"), matched);
+
+		ChatMessageClassifier.Stats stats = chatMessageClassifier.getStats().get(1);
+		assertEquals(3, stats.getRules());
+		assertEquals(3, stats.getMatches());
+
+		chatMessageClassifier.unregister(owner);
+		chat(ChatMessageType.GAMEMESSAGE, "Your Zulrah kill count is: 14.");
+		assertEquals(3, matched.size());
+	}
+
+	@Test
+	public void testExclusive()
+	{
+		Object owner = new Object();
+		Object other = new Object();
+		chatMessageClassifier.register(owner, ChatMessageRule.literal("Your book has run out")
+			.exclusive(true)
+			.handler((chatMessage, matcher) -> matched.add("empty"))
+			.build());
+		chatMessageClassifier.register(owner, ChatMessageRule.builder()
+			.pattern(Pattern.compile("Your book has (\\d+) charges"))
+			.match(ChatMessageRule.Match.LOOKING_AT)
+			.exclusive(true)
+			.handler((chatMessage, matcher) -> matched.add(matcher.group(1)))
+			.build());
+		chatMessageClassifier.register(owner, ChatMessageRule.literal("charges")
+			.match(ChatMessageRule.Match.FIND)
+			.handler((chatMessage, matcher) -> matched.add("charges"))
+			.build());
+		chatMessageClassifier.register(other, ChatMessageRule.literal("charges")
+			.match(ChatMessageRule.Match.FIND)
+			.handler((chatMessage, matcher) -> matched.add("other"))
+			.build());
+
+		chat(ChatMessageType.GAMEMESSAGE, "Your book has 999 charges left.");
+		assertEquals(Arrays.asList("999", "other"), matched);
+
+		matched.clear();
+		chat(ChatMessageType.GAMEMESSAGE, "Your book has run out of charges.");
+		assertEquals(Arrays.asList("empty", "other"), matched);
+
+		matched.clear();
+		chat(ChatMessageType.GAMEMESSAGE, "You add 5 charges to your book.");
+		assertEquals(Arrays.asList("charges", "other"), matched);
+	}
+
+	@Test
+	public void testManyKeywords()
+	{
+		Object owner = new Object();
+		String[] words = {"he", "she", "his", "hers", "caf\u00e9", "f\u00e9e"};
+		for (String word : words)
+		{
+			chatMessageClassifier.register(owner, ChatMessageRule.literal(word)
+				.match(ChatMessageRule.Match.FIND)
+				.handler((chatMessage, matcher) -> matched.add(word))
+				.build());
+		}
+
+		chat(ChatMessageType.GAMEMESSAGE, "ushers");
+		assertEquals(Arrays.asList("he", "she", "hers"), matched);
+
+		matched.clear();
+		chat(ChatMessageType.GAMEMESSAGE, "cafe caf\u00e9e");
+		assertEquals(Arrays.asList("caf\u00e9", "f\u00e9e"), matched);
+	}
+
+	private void chat(ChatMessageType type, String message)
+	{
+		chatMessageClassifier.onChatMessage(new ChatMessage(null, type, "", message, "", 0));
+	}
+}
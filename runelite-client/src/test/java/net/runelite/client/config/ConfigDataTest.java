@@ -0,0 +1,236 @@
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File configFile;
+
+	@Before
+	public void before()
+	{
+		configFile = new File(folder.getRoot(), "test.properties");
+	}
+
+	@Test
+	public void testMigrateProperties() throws IOException
+	{
+		Properties props = new Properties();
+		props.setProperty("group.key", "value");
+		try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(configFile), StandardCharsets.UTF_8))
+		{
+			props.store(writer, null);
+		}
+
+		ConfigData data = new ConfigData(configFile);
+		assertEquals("value", data.getProperty("group.key"));
+
+		data.setProperty("group.other", "other");
+		data.unset("group.key");
+		data.patch(data.swapChanges());
+		assertTrue(ConfigData.logFile(configFile).exists());
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertNull(reloaded.getProperty("group.key"));
+		assertEquals("other", reloaded.getProperty("group.other"));
+	}
+
+	@Test
+	public void testMergeClients()
+	{
+		ConfigData first = new ConfigData(configFile);
+		first.setProperty("group.a", "1");
+		first.patch(first.swapChanges());
+
+		ConfigData second = new ConfigData(configFile);
+		first.setProperty("group.b", "2");
+		first.patch(first.swapChanges());
+		second.setProperty("group.c", "3\nwith a newline");
+		second.patch(second.swapChanges());
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertEquals("1", reloaded.getProperty("group.a"));
+		assertEquals("2", reloaded.getProperty("group.b"));
+		assertEquals("3\nwith a newline", reloaded.getProperty("group.c"));
+	}
+
+	@Test
+	public void testCompact()
+	{
+		ConfigData first = new ConfigData(configFile);
+		first.setProperty("group.a", "1");
+		first.patch(first.swapChanges());
+		ConfigData second = new ConfigData(configFile);
+
+		first.setProperty("group.b", "2");
+		first.patch(first.swapChanges());
+		ConfigData.compact(configFile);
+
+		// the second client appends to the compacted log
+		second.setProperty("group.c", "3");
+		second.patch(second.swapChanges());
+
+		ConfigData.logFile(configFile).delete();
+		ConfigData snapshot = new ConfigData(configFile);
+		assertEquals("1", snapshot.getProperty("group.a"));
+		assertEquals("2", snapshot.getProperty("group.b"));
+		assertNull(snapshot.getProperty("group.c"));
+	}
+
+	@Test
+	public void testRewrittenByOtherClient() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("group.a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("group.b", "2");
+		data.patch(data.swapChanges());
+
+		// a client which doesn't read the log rewrites the properties file
+		Properties props = new Properties();
+		props.setProperty("group.a", "1");
+		props.setProperty("group.b", "newer");
+		try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(configFile), StandardCharsets.UTF_8))
+		{
+			props.store(writer, null);
+		}
+
+		// the stale log must not be replayed over the newer file
+		assertEquals("newer", new ConfigData(configFile).getProperty("group.b"));
+
+		data.setProperty("group.c", "3");
+		data.patch(data.swapChanges());
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertEquals("newer", reloaded.getProperty("group.b"));
+		assertEquals("3", reloaded.getProperty("group.c"));
+
+		// once compacted, the properties file alone has every change
+		ConfigData.compact(configFile);
+		ConfigData.logFile(configFile).delete();
+		assertEquals("3", new ConfigData(configFile).getProperty("group.c"));
+	}
+
+	@Test
+	public void testKeepKeysMissingFromRewrite() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("group.a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("group.b", "2");
+		data.patch(data.swapChanges());
+
+		// a client which never saw group.b rewrites the properties file with its own change
+		Properties props = new Properties();
+		props.setProperty("group.a", "1");
+		props.setProperty("group.d", "4");
+		writeProperties(props);
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertEquals("2", reloaded.getProperty("group.b"));
+		assertEquals("4", reloaded.getProperty("group.d"));
+
+		// the stale log is reset by the next save, which keeps group.b
+		data.setProperty("group.c", "3");
+		data.patch(data.swapChanges());
+
+		ConfigData latest = new ConfigData(configFile);
+		assertEquals("2", latest.getProperty("group.b"));
+		assertEquals("3", latest.getProperty("group.c"));
+		assertEquals("4", latest.getProperty("group.d"));
+	}
+
+	@Test
+	public void testCompactIfNeeded() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("group.a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("group.b", "2");
+		data.patch(data.swapChanges());
+
+		// a small log is left alone
+		data.compactIfNeeded();
+		assertNull(readProperties().getProperty("group.b"));
+
+		Properties props = readProperties();
+		props.setProperty("group.d", "4");
+		writeProperties(props);
+
+		// once another client has rewritten the properties file, it is given every change
+		data.setProperty("group.c", "3");
+		data.patch(data.swapChanges());
+		data.compactIfNeeded();
+
+		Properties compacted = readProperties();
+		assertEquals("2", compacted.getProperty("group.b"));
+		assertEquals("3", compacted.getProperty("group.c"));
+		assertEquals("4", compacted.getProperty("group.d"));
+	}
+
+	@Test
+	public void testTornRecord() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("group.a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("group.b", "2");
+		data.patch(data.swapChanges());
+
+		// simulate a client crashing part way through appending a record
+		File logFile = ConfigData.logFile(configFile);
+		try (RandomAccessFile file = new RandomAccessFile(logFile, "rw"))
+		{
+			file.setLength(file.length() - 1);
+		}
+
+		ConfigData other = new ConfigData(configFile);
+		assertEquals("1", other.getProperty("group.a"));
+		assertNull(other.getProperty("group.b"));
+
+		other.setProperty("group.c", "3");
+		other.patch(other.swapChanges());
+
+		ConfigData reloaded = new ConfigData(configFile);
+		assertEquals("1", reloaded.getProperty("group.a"));
+		assertFalse(reloaded.keySet().contains("group.b"));
+		assertEquals("3", reloaded.getProperty("group.c"));
+	}
+
+	private Properties readProperties() throws IOException
+	{
+		Properties props = new Properties();
+		try (InputStreamReader reader = new InputStreamReader(new FileInputStream(configFile), StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		return props;
+	}
+
+	private void writeProperties(Properties props) throws IOException
+	{
+		try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(configFile), StandardCharsets.UTF_8))
+		{
+			props.store(writer, null);
+		}
+	}
+}
@@ -45,6 +45,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
@@ -56,6 +57,7 @@ import net.runelite.client.eventbus.EventBus;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Rule;
@@ -135,6 +137,19 @@ public class PluginManagerTest
 		}
 	}
 
+	@Test
+	public void testPluginIndex() throws Exception
+	{
+		PluginManager pluginManager = new PluginManager(true, false, null, null, null, null);
+		List<String> index = pluginManager.readPluginIndex(getClass().getClassLoader());
+		assertNotNull("plugin index was not generated", index);
+
+		Set<String> expected = pluginClasses.stream()
+			.map(Class::getName)
+			.collect(Collectors.toSet());
+		assertEquals(expected, new HashSet<>(index));
+	}
+
 	@Test
 	public void testLoadPlugins() throws Exception
 	{
@@ -36,6 +36,7 @@ import net.runelite.api.ItemContainer;
 import net.runelite.api.ItemID;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.client.Notifier;
+import net.runelite.client.chat.ChatMessageClassifier;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -132,10 +133,14 @@ public class ItemChargePluginTest
 	@Inject
 	private ItemChargePlugin itemChargePlugin;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	@Before
 	public void before()
 	{
 		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		itemChargePlugin.registerChatMessageRules();
 	}
 
 	// Dodgy necklace
@@ -143,7 +148,7 @@ public class ItemChargePluginTest
 	public void testDodgyCheck()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_DODGY_NECKLACE, 10);
 	}
 
@@ -151,7 +156,7 @@ public class ItemChargePluginTest
 	public void testDodgyProtect()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", PROTECT, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_DODGY_NECKLACE, 9);
 	}
 
@@ -159,7 +164,7 @@ public class ItemChargePluginTest
 	public void testDodgyProtect1()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", PROTECT_1, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_DODGY_NECKLACE, 1);
 	}
 
@@ -167,7 +172,7 @@ public class ItemChargePluginTest
 	public void testDodgyBreak()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_DODGY_NECKLACE, 10);
 	}
 
@@ -176,7 +181,7 @@ public class ItemChargePluginTest
 	public void testRofOne()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_RING_OF_FORGING_ONE, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 1);
 	}
 
@@ -184,7 +189,7 @@ public class ItemChargePluginTest
 	public void testRofFull()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_RING_OF_FORGING_FULL, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 140);
 	}
 
@@ -199,7 +204,7 @@ public class ItemChargePluginTest
 		when(equipmentItemContainer.getItems()).thenReturn(new Item[0]);
 		// Run message
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", USED_RING_OF_FORGING, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 89);
 	}
 
@@ -213,11 +218,11 @@ public class ItemChargePluginTest
 		when(equipmentItemContainer.getItems()).thenReturn(new Item[0]);
 		// Run message to break ring and then use ring, to simulate actual client behavior
 		ChatMessage breakMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_RING_OF_FORGING, "", 0);
-		itemChargePlugin.onChatMessage(breakMessage);
+		chatMessageClassifier.onChatMessage(breakMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 141);
 		when(configManager.getRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class)).thenReturn(141);
 		ChatMessage useMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", USED_RING_OF_FORGING, "", 0);
-		itemChargePlugin.onChatMessage(useMessage);
+		chatMessageClassifier.onChatMessage(useMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 140);
 	}
 
@@ -226,7 +231,7 @@ public class ItemChargePluginTest
 	public void testChemistryCheck()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_AMULET_OF_CHEMISTRY, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_AMULET_OF_CHEMISTRY, 5);
 	}
 
@@ -234,7 +239,7 @@ public class ItemChargePluginTest
 	public void testChemistry1()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_AMULET_OF_CHEMISTRY_1, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_AMULET_OF_CHEMISTRY, 1);
 	}
 
@@ -242,7 +247,7 @@ public class ItemChargePluginTest
 	public void testChemistryUsed4()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", USED_AMULET_OF_CHEMISTRY, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_AMULET_OF_CHEMISTRY, 4);
 	}
 
@@ -250,7 +255,7 @@ public class ItemChargePluginTest
 	public void testChemistryUsed3()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", USED_AMULET_OF_CHEMISTRY_3_DOSES, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_AMULET_OF_CHEMISTRY, 2);
 	}
 
@@ -258,7 +263,7 @@ public class ItemChargePluginTest
 	public void testChemistryUsed2()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", USED_AMULET_OF_CHEMISTRY_2_DOSES, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_AMULET_OF_CHEMISTRY, 1);
 	}
 
@@ -266,7 +271,7 @@ public class ItemChargePluginTest
 	public void testChemistryBreak()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_AMULET_OF_CHEMISTRY, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_AMULET_OF_CHEMISTRY, 5);
 	}
 
@@ -274,14 +279,14 @@ public class ItemChargePluginTest
 	public void testChemistryBreak3()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_AMULET_OF_CHEMISTRY_3_DOSES, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 	}
 
 	@Test
 	public void testChemistryBreak2()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_AMULET_OF_CHEMISTRY_2_DOSES, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_AMULET_OF_CHEMISTRY, 5);
 	}
 
@@ -290,7 +295,7 @@ public class ItemChargePluginTest
 	public void testChronicleCheckFull()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_CHECK_CHARGES_FULL, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 1000);
 	}
 
@@ -298,7 +303,7 @@ public class ItemChargePluginTest
 	public void testChronicleChargeOne()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_CHECK_CHARGES_ONE, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 1);
 	}
 
@@ -306,7 +311,7 @@ public class ItemChargePluginTest
 	public void testChronicleChargeEmpty()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_CHECK_CHARGES_EMPTY, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 0);
 	}
 
@@ -314,7 +319,7 @@ public class ItemChargePluginTest
 	public void testChronicleTeleport()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_TELEPORT, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 999);
 	}
 
@@ -322,7 +327,7 @@ public class ItemChargePluginTest
 	public void testChronicleTeleportOne()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_TELEPORT_ONE, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 1);
 	}
 
@@ -330,7 +335,7 @@ public class ItemChargePluginTest
 	public void testChronicleTeleportEmpty()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_TELEPORT_EMPTY, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 0);
 	}
 
@@ -338,7 +343,7 @@ public class ItemChargePluginTest
 	public void testChronicleTeleportFail()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_TELEPORT_FAIL, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 0);
 	}
 
@@ -346,7 +351,7 @@ public class ItemChargePluginTest
 	public void testChronicleAddSingleCharge()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_ADD_SINGLE_CHARGE, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 1);
 	}
 
@@ -354,7 +359,7 @@ public class ItemChargePluginTest
 	public void testChronicleAddSingleChargeFull()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_ADD_SINGLE_CHARGE_FULL, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 1000);
 	}
 
@@ -362,7 +367,7 @@ public class ItemChargePluginTest
 	public void testChronicleAddMultipleCharges()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_ADD_MULTIPLE_CHARGES, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 5);
 	}
 
@@ -370,7 +375,7 @@ public class ItemChargePluginTest
 	public void testChronicleAddFull()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHRONICLE_ADD_FULL, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_CHRONICLE, 1000);
 	}
 
@@ -379,7 +384,7 @@ public class ItemChargePluginTest
 	public void testSlaughterCheck()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_BRACELET_OF_SLAUGHTER, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_SLAUGHTER, 25);
 	}
 
@@ -387,7 +392,7 @@ public class ItemChargePluginTest
 	public void testSlaughterCheck1()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_BRACELET_OF_SLAUGHTER_1, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_SLAUGHTER, 1);
 	}
 
@@ -395,7 +400,7 @@ public class ItemChargePluginTest
 	public void testSlaughterActivate()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.SPAM, "", ACTIVATE_BRACELET_OF_SLAUGHTER, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_SLAUGHTER, 16);
 	}
 
@@ -403,7 +408,7 @@ public class ItemChargePluginTest
 	public void testSlaughterBreak()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_BRACELET_OF_SLAUGHTER, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_SLAUGHTER, 30);
 	}
 
@@ -411,7 +416,7 @@ public class ItemChargePluginTest
 	public void testSlaughterRegenerate()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", REGENERATE_BRACELET_OF_SLAUGHTER, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_SLAUGHTER, 30);
 	}
 
@@ -420,7 +425,7 @@ public class ItemChargePluginTest
 	public void testExpeditiousCheck()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_EXPEDITIOUS_BRACELET, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_EXPEDITIOUS_BRACELET, 6);
 	}
 
@@ -428,7 +433,7 @@ public class ItemChargePluginTest
 	public void testExpeditiousCheck1()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_EXPEDITIOUS_BRACELET_1, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_EXPEDITIOUS_BRACELET, 1);
 	}
 
@@ -436,7 +441,7 @@ public class ItemChargePluginTest
 	public void testExpeditiousActivate()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.SPAM, "", ACTIVATE_EXPEDITIOUS_BRACELET, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_EXPEDITIOUS_BRACELET, 11);
 	}
 
@@ -444,7 +449,7 @@ public class ItemChargePluginTest
 	public void testExpeditiousBreak()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_EXPEDITIOUS_BRACELET, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_EXPEDITIOUS_BRACELET, 30);
 	}
 
@@ -452,7 +457,7 @@ public class ItemChargePluginTest
 	public void testBloodEssenceActivate()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", ACTIVATE_BLOOD_ESSENCE, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BLOOD_ESSENCE, 1000);
 	}
 
@@ -461,7 +466,7 @@ public class ItemChargePluginTest
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", EXTRACT_BLOOD_ESSENCE, "", 0);
 		when(configManager.getConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BLOOD_ESSENCE, Integer.class)).thenReturn(1000);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BLOOD_ESSENCE, 933);
 	}
 
@@ -469,7 +474,7 @@ public class ItemChargePluginTest
 	public void testBloodEssenceCheck()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_BLOOD_ESSENCE, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BLOOD_ESSENCE, 56);
 	}
 
@@ -477,7 +482,7 @@ public class ItemChargePluginTest
 	public void testBraceletOfClayCheck()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", CHECK_BRACELET_OF_CLAY, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_CLAY, 13);
 	}
 
@@ -492,7 +497,7 @@ public class ItemChargePluginTest
 		when(equipmentItemContainer.getItems()).thenReturn(new Item[0]);
 		// Run message
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", USED_BRACELET_OF_CLAY, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_CLAY, 24);
 	}
 
@@ -500,7 +505,7 @@ public class ItemChargePluginTest
 	public void testBraceletOfClayBreak()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_BRACELET_OF_CLAY, "", 0);
-		itemChargePlugin.onChatMessage(chatMessage);
+		chatMessageClassifier.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_CLAY, 28);
 	}
 }
@@ -0,0 +1,186 @@
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.runelite.api.ItemID;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void before()
+	{
+		file = new File(folder.getRoot(), "loots/test.dat");
+	}
+
+	@Test
+	public void testAddAndReload() throws IOException
+	{
+		LootStore store = LootStore.open(file);
+		assertTrue(store.isEmpty());
+
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 1, 10, ItemID.BONES, 1, ItemID.COINS_995, 5)));
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 2, 20, ItemID.COINS_995, 7, ItemID.BRONZE_SPEAR, 1)));
+
+		LootStore reloaded = LootStore.open(file);
+		ConfigLoot goblin = reloaded.get(LootRecordType.NPC, "Goblin");
+		assertEquals(3, goblin.getKills());
+		assertEquals(Instant.ofEpochMilli(10), goblin.getFirst());
+		assertEquals(Instant.ofEpochMilli(20), goblin.getLast());
+		assertArrayEquals(new int[]{ItemID.BONES, 1, ItemID.COINS_995, 12, ItemID.BRONZE_SPEAR, 1}, goblin.getDrops());
+	}
+
+	@Test
+	public void testPageAndRemove() throws IOException
+	{
+		LootStore store = LootStore.open(file);
+		store.add(Arrays.asList(
+			loot(LootRecordType.NPC, "Goblin", 1, 10),
+			loot(LootRecordType.NPC, "Cow", 1, 30),
+			loot(LootRecordType.EVENT, "Barrows", 1, 20)));
+
+		assertEquals(Arrays.asList("Cow", "Barrows", "Goblin"), names(store.page(0, 10)));
+		assertEquals(Collections.singletonList("Barrows"), names(store.page(1, 1)));
+
+		// loot seen again moves to the front
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 1, 40)));
+		assertEquals(Arrays.asList("Goblin", "Cow", "Barrows"), names(store.page(0, 10)));
+
+		store.remove(LootRecordType.NPC, "Cow");
+		assertEquals(1, store.removeOlderThan(Instant.ofEpochMilli(25)));
+
+		LootStore reloaded = LootStore.open(file);
+		assertEquals(Collections.singletonList("Goblin"), names(reloaded.page(0, 10)));
+		assertNull(reloaded.get(LootRecordType.NPC, "Cow"));
+
+		reloaded.clear();
+		assertTrue(LootStore.open(file).isEmpty());
+	}
+
+	@Test
+	public void testImportTotals() throws IOException
+	{
+		LootStore store = LootStore.open(file);
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 1, 5, ItemID.BONES, 1)));
+
+		assertEquals(1, store.importTotals(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 2, 10, ItemID.BONES, 2, ItemID.COINS_995, 5))));
+		// importing the same totals again adds nothing
+		assertEquals(0, store.importTotals(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 2, 10, ItemID.BONES, 2, ItemID.COINS_995, 5))));
+
+		// another client added to the totals since
+		LootStore reloaded = LootStore.open(file);
+		assertEquals(1, reloaded.importTotals(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 3, 20, ItemID.BONES, 3, ItemID.COINS_995, 5))));
+
+		ConfigLoot goblin = reloaded.get(LootRecordType.NPC, "Goblin");
+		assertEquals(4, goblin.getKills());
+		assertArrayEquals(new int[]{ItemID.BONES, 4, ItemID.COINS_995, 5}, goblin.getDrops());
+
+		// cleared loot isn't imported again
+		reloaded.clear();
+		assertEquals(0, LootStore.open(file).importTotals(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 3, 20, ItemID.BONES, 3, ItemID.COINS_995, 5))));
+		assertTrue(LootStore.open(file).isEmpty());
+	}
+
+	@Test
+	public void testImportedValues() throws IOException
+	{
+		LootStore store = LootStore.open(file);
+		assertFalse(store.isImported("drops_NPC_Goblin", "{\"kills\":1}"));
+
+		store.markImported(Collections.singletonMap("drops_NPC_Goblin", "{\"kills\":1}"));
+		assertTrue(store.isImported("drops_NPC_Goblin", "{\"kills\":1}"));
+
+		LootStore reloaded = LootStore.open(file);
+		assertTrue(reloaded.isImported("drops_NPC_Goblin", "{\"kills\":1}"));
+		// a value written back with more loot is imported again
+		assertFalse(reloaded.isImported("drops_NPC_Goblin", "{\"kills\":2}"));
+		assertFalse(reloaded.isImported("drops_NPC_Cow", "{\"kills\":1}"));
+	}
+
+	@Test
+	public void testTopByValue() throws IOException
+	{
+		LootStore store = LootStore.open(file);
+		store.add(Arrays.asList(
+			loot(LootRecordType.NPC, "Goblin", 1, 10, ItemID.COINS_995, 5),
+			loot(LootRecordType.NPC, "Cow", 1, 10, ItemID.COINS_995, 50),
+			loot(LootRecordType.EVENT, "Barrows", 1, 10, ItemID.COINS_995, 500)));
+
+		List<ConfigLoot> top = store.top(2, l -> l.getDrops().length == 0 ? 0 : l.getDrops()[1]);
+		assertEquals(Arrays.asList("Barrows", "Cow"), names(top));
+	}
+
+	@Test
+	public void testCompact() throws IOException
+	{
+		LootStore store = LootStore.open(file);
+		for (int i = 0; i < 1000; ++i)
+		{
+			store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 1, i, ItemID.BONES, 1)));
+		}
+
+		assertTrue(file.length() < 300 * 50);
+		ConfigLoot goblin = LootStore.open(file).get(LootRecordType.NPC, "Goblin");
+		assertEquals(1000, goblin.getKills());
+		assertArrayEquals(new int[]{ItemID.BONES, 1000}, goblin.getDrops());
+	}
+
+	@Test
+	public void testTornRecord() throws IOException
+	{
+		LootStore store = LootStore.open(file);
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 1, 10)));
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Cow", 1, 20)));
+
+		// simulate the client crashing part way through appending a record
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(raf.length() - 1);
+		}
+
+		LootStore reloaded = LootStore.open(file);
+		assertNull(reloaded.get(LootRecordType.NPC, "Cow"));
+		reloaded.add(Collections.singletonList(loot(LootRecordType.NPC, "Cow", 2, 30)));
+
+		assertEquals(2, LootStore.open(file).get(LootRecordType.NPC, "Cow").getKills());
+		assertEquals(1, LootStore.open(file).get(LootRecordType.NPC, "Goblin").getKills());
+	}
+
+	private static ConfigLoot loot(LootRecordType type, String name, int kills, long time, int... drops)
+	{
+		ConfigLoot loot = new ConfigLoot(type, name);
+		loot.setKills(kills);
+		loot.setFirst(Instant.ofEpochMilli(time));
+		loot.setLast(Instant.ofEpochMilli(time));
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			loot.add(drops[i], drops[i + 1]);
+		}
+		return loot;
+	}
+
+	private static List<String> names(List<ConfigLoot> loots)
+	{
+		return loots.stream().map(ConfigLoot::getName).collect(Collectors.toList());
+	}
+}
@@ -29,6 +29,7 @@ import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.util.Arrays;
+import java.util.Collections;
 import net.runelite.api.Client;
 import net.runelite.api.KeyCode;
 import net.runelite.api.MenuAction;
@@ -264,6 +265,34 @@ public class MenuEntrySwapperPluginTest
 		}, argumentCaptor.getValue());
 	}
 
+	@Test
+	public void testNpcCustomSwap()
+	{
+		when(configManager.getConfigurationKeys(MenuEntrySwapperConfig.GROUP + "."))
+			.thenReturn(Collections.singletonList(MenuEntrySwapperConfig.GROUP + ".npc_3106"));
+		when(configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, "npc_3106")).thenReturn("2");
+		when(npc.getTransformedComposition().getId()).thenReturn(3106);
+
+		entries = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Pickpocket", "Man", MenuAction.NPC_THIRD_OPTION),
+			menu("Attack", "Man", MenuAction.NPC_SECOND_OPTION),
+			menu("Talk-to", "Man", MenuAction.NPC_FIRST_OPTION),
+		};
+
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+
+		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
+		verify(client).setMenuEntries(argumentCaptor.capture());
+
+		assertArrayEquals(new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Talk-to", "Man", MenuAction.NPC_FIRST_OPTION),
+			menu("Attack", "Man", MenuAction.NPC_SECOND_OPTION),
+			menu("Pickpocket", "Man", MenuAction.NPC_THIRD_OPTION),
+		}, argumentCaptor.getValue());
+	}
+
 	@Test
 	public void testShiftWithdraw()
 	{
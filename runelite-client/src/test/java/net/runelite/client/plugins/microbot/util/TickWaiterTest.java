@@ -0,0 +1,125 @@
+package net.runelite.client.plugins.microbot.util;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TickWaiterTest {
+    private static final int IDLE_MS = 500;
+
+    @Test
+    public void testSleepUntilWokenByTick() throws InterruptedException {
+        AtomicBoolean flag = new AtomicBoolean();
+        AtomicBoolean result = new AtomicBoolean();
+        int previous = TickWaiter.getPollInterval();
+        TickWaiter.setPollInterval(10_000);
+        try {
+            Thread waiter = new Thread(() -> result.set(TickWaiter.sleepUntil(flag::get, 5_000)));
+            waiter.start();
+            Thread.sleep(50);
+            flag.set(true);
+            TickWaiter.onGameTick();
+            waiter.join(1_000);
+            assertFalse(waiter.isAlive());
+            assertTrue(result.get());
+        } finally {
+            TickWaiter.setPollInterval(previous);
+        }
+    }
+
+    @Test
+    public void testSleepUntilTimesOut() {
+        long start = System.nanoTime();
+        assertFalse(TickWaiter.sleepUntil(() -> false, 100));
+        assertTrue(System.nanoTime() - start >= 100_000_000L);
+    }
+
+    @Test
+    public void testSleepUntilParksWithoutTick() {
+        AtomicInteger checks = new AtomicInteger();
+        int previous = TickWaiter.getPollInterval();
+        TickWaiter.setPollInterval(10_000);
+        try {
+            assertFalse(TickWaiter.sleepUntil(() -> {
+                checks.incrementAndGet();
+                return false;
+            }, 200));
+        } finally {
+            TickWaiter.setPollInterval(previous);
+        }
+        // checked before parking and once the timeout is reached, rather than in a loop
+        assertTrue(checks.get() <= 3);
+    }
+
+    @Test
+    public void testSleepTicks() throws InterruptedException {
+        AtomicLong woken = new AtomicLong(-1);
+        long start = TickWaiter.getGameTicks();
+        Thread waiter = new Thread(() -> {
+            TickWaiter.sleepTicks(2, 5_000);
+            woken.set(TickWaiter.getGameTicks());
+        });
+        waiter.start();
+        Thread.sleep(50);
+        TickWaiter.onGameTick();
+        TickWaiter.onGameTick();
+        waiter.join(1_000);
+        assertFalse(waiter.isAlive());
+        assertEquals(start + 2, woken.get());
+    }
+
+    @Test
+    public void testInterruptDoesNotCutWaitShort() {
+        Thread.currentThread().interrupt();
+        long start = System.nanoTime();
+        TickWaiter.sleep(100);
+        assertTrue(System.nanoTime() - start >= 100_000_000L);
+        // the interrupt is kept for the caller
+        assertTrue(Thread.interrupted());
+
+        Thread.currentThread().interrupt();
+        start = System.nanoTime();
+        assertFalse(TickWaiter.sleepUntil(() -> false, 100));
+        assertTrue(System.nanoTime() - start >= 100_000_000L);
+        assertTrue(Thread.interrupted());
+    }
+
+    /**
+     * Compares the cpu time of an idle wait spent busy-spinning, as the sleep helpers used to, against parking.
+     */
+    @Test
+    public void testIdleCpuTime() throws InterruptedException {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean.isCurrentThreadCpuTimeSupported());
+
+        long spinCpu = cpuTimeOf(threadMXBean, () -> {
+            long startTime = System.currentTimeMillis();
+            do {
+            } while (System.currentTimeMillis() - startTime < IDLE_MS);
+        });
+        long parkCpu = cpuTimeOf(threadMXBean, () -> TickWaiter.sleepUntil(() -> false, IDLE_MS));
+
+        assertTrue(parkCpu * 10 < spinCpu);
+    }
+
+    private static long cpuTimeOf(ThreadMXBean threadMXBean, Runnable runnable) throws InterruptedException {
+        AtomicLong cpu = new AtomicLong();
+        Thread thread = new Thread(() -> {
+            long start = threadMXBean.getCurrentThreadCpuTime();
+            runnable.run();
+            cpu.set(threadMXBean.getCurrentThreadCpuTime() - start);
+        });
+        thread.start();
+        thread.join();
+        return cpu.get();
+    }
+}
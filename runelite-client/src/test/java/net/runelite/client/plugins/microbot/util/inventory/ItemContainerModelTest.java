@@ -0,0 +1,79 @@
+package net.runelite.client.plugins.microbot.util.inventory;
+
+import net.runelite.api.Item;
+import net.runelite.api.ItemComposition;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ItemContainerModelTest {
+    private static final int LOBSTER = 379;
+    private static final int LOBSTER_NOTED = 380;
+    private static final int COINS = 995;
+
+    private final Map<Integer, ItemComposition> compositions = new HashMap<>();
+
+    private void composition(int id, String name, boolean stackable, int note) {
+        ItemComposition composition = mock(ItemComposition.class);
+        when(composition.getName()).thenReturn(name);
+        when(composition.isStackable()).thenReturn(stackable);
+        when(composition.getNote()).thenReturn(note);
+        compositions.put(id, composition);
+    }
+
+    private ItemContainerModel build(Item... items) {
+        composition(LOBSTER, "Lobster", false, -1);
+        composition(LOBSTER_NOTED, "Lobster", false, 799);
+        composition(COINS, "Coins", true, -1);
+        return ItemContainerModel.build(items, Rs2Inventory.INVENTORY_SIZE, compositions::get);
+    }
+
+    @Test
+    public void testCounts() {
+        ItemContainerModel model = build(
+                new Item(-1, 0),
+                new Item(LOBSTER, 1),
+                new Item(COINS, 5000),
+                new Item(LOBSTER, 1),
+                new Item(LOBSTER_NOTED, 20));
+
+        assertEquals(4, model.size());
+        assertFalse(model.isFull());
+        assertTrue(model.contains("LOBSTER"));
+        assertTrue(model.contains(COINS));
+        assertFalse(model.contains("shark"));
+        assertEquals(1, model.find(LOBSTER).getSlot());
+        assertEquals(1, model.find("lobster").getSlot());
+        assertEquals(2, model.getSlotCount(LOBSTER));
+        assertEquals(3, model.getSlotCount("lobster"));
+        assertEquals(22, model.getQuantity("lobster"));
+        assertEquals(5000, model.getQuantity(COINS));
+        assertTrue(model.containsStackable("lobster"));
+        assertEquals(2, model.findContains("oin").getSlot());
+        assertEquals(3, model.getSlotCountContains("ob"));
+        assertNull(model.getItem(0));
+    }
+
+    @Test
+    public void testFull() {
+        Item[] items = new Item[Rs2Inventory.INVENTORY_SIZE];
+        for (int slot = 0; slot < items.length; slot++) {
+            items[slot] = new Item(LOBSTER, 1);
+        }
+        ItemContainerModel model = build(items);
+
+        assertTrue(model.isFull());
+        assertFalse(model.containsStackable("lobster"));
+        assertFalse(ItemContainerModel.empty(Rs2Inventory.INVENTORY_SIZE).isFull());
+        // the client trims trailing empty slots
+        assertFalse(build(new Item(LOBSTER, 1)).isFull());
+    }
+}
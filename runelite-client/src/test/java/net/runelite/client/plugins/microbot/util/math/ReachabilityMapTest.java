@@ -0,0 +1,128 @@
+package net.runelite.client.plugins.microbot.util.math;
+
+import net.runelite.api.CollisionDataFlag;
+import net.runelite.api.Constants;
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ReachabilityMapTest {
+    private static final int BASE_X = 3200;
+    private static final int BASE_Y = 3200;
+    private static final int QUERIES = 2_000;
+
+    /**
+     * An open scene split by a wall of blocked tiles at x = 50 with a single gap at y = 60, and a wall on the
+     * east side of tile (20, 20).
+     */
+    private static int[][] flags() {
+        int[][] flags = new int[Constants.SCENE_SIZE][Constants.SCENE_SIZE];
+        for (int y = 0; y < Constants.SCENE_SIZE; y++) {
+            if (y != 60) {
+                flags[50][y] = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+            }
+        }
+        flags[20][20] = CollisionDataFlag.BLOCK_MOVEMENT_EAST;
+        flags[21][20] = CollisionDataFlag.BLOCK_MOVEMENT_WEST;
+        return flags;
+    }
+
+    private static WorldPoint point(int sceneX, int sceneY) {
+        return new WorldPoint(BASE_X + sceneX, BASE_Y + sceneY, 0);
+    }
+
+    @Test
+    public void testDistances() {
+        ReachabilityMap map = new ReachabilityMap();
+        map.compute(flags(), 40, 60, BASE_X, BASE_Y, 0);
+
+        assertTrue(map.isOrigin(point(40, 60)));
+        assertEquals(0, map.getDistance(40, 60));
+        assertEquals(5, map.getDistance(45, 65));
+        // through the gap
+        assertEquals(20, map.getDistance(60, 60));
+        assertEquals(31, map.getDistance(60, 40));
+        assertEquals(ReachabilityMap.UNREACHABLE, map.getDistance(50, 59));
+        assertFalse(map.canReach(point(50, 59), false));
+        // next to the blocked tile
+        assertEquals(9, map.getDistance(point(50, 59), true));
+        // other plane and outside the scene
+        assertFalse(map.canReach(new WorldPoint(BASE_X + 45, BASE_Y + 60, 1), false));
+        assertEquals(ReachabilityMap.UNREACHABLE, map.getDistance(-1, 60));
+    }
+
+    @Test
+    public void testWallBlocksDirectMove() {
+        ReachabilityMap map = new ReachabilityMap();
+        map.compute(flags(), 20, 20, BASE_X, BASE_Y, 0);
+
+        assertEquals(1, map.getDistance(20, 21));
+        // the wall blocks the east step and the diagonal steps around it
+        assertEquals(3, map.getDistance(21, 20));
+    }
+
+    @Test
+    public void testRecompute() {
+        int[][] flags = flags();
+        ReachabilityMap map = new ReachabilityMap();
+        map.compute(flags, 40, 60, BASE_X, BASE_Y, 0);
+        map.compute(flags, 60, 40, BASE_X, BASE_Y, 0);
+
+        // the buffers are cleared, nothing of the first search is left
+        assertTrue(map.isOrigin(point(60, 40)));
+        assertFalse(map.isOrigin(point(40, 60)));
+        assertEquals(0, map.getDistance(60, 40));
+        assertEquals(31, map.getDistance(40, 60));
+        assertEquals(ReachabilityMap.UNREACHABLE, map.getDistance(50, 59));
+
+        map.compute(flags, -1, 60, BASE_X, BASE_Y, 0);
+        assertEquals(ReachabilityMap.UNREACHABLE, map.getDistance(40, 60));
+    }
+
+    /**
+     * Compares the per-query cost of a fresh search with its own buffers, as every query used to run, against a
+     * search reusing one map's buffers and against a lookup in a map computed once.
+     */
+    @Test
+    public void testQueryCost() {
+        int[][] flags = flags();
+        int freshSum = 0;
+        int reusedSum = 0;
+        int lookupSum = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            ReachabilityMap map = new ReachabilityMap();
+            map.compute(flags, 40, 60, BASE_X, BASE_Y, 0);
+            freshSum += map.getDistance(query(i), i % 2 == 0);
+        }
+        long freshNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        ReachabilityMap reused = new ReachabilityMap();
+        for (int i = 0; i < QUERIES; i++) {
+            reused.compute(flags, 40, 60, BASE_X, BASE_Y, 0);
+            reusedSum += reused.getDistance(query(i), i % 2 == 0);
+        }
+        long reusedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        ReachabilityMap map = new ReachabilityMap();
+        map.compute(flags, 40, 60, BASE_X, BASE_Y, 0);
+        for (int i = 0; i < QUERIES; i++) {
+            lookupSum += map.getDistance(query(i), i % 2 == 0);
+        }
+        long lookupNanos = System.nanoTime() - start;
+
+        assertEquals(freshSum, reusedSum);
+        assertEquals(freshSum, lookupSum);
+        assertTrue(lookupNanos * 10 < freshNanos);
+    }
+
+    private static WorldPoint query(int i) {
+        return point(i % 100, (i * 7) % 100);
+    }
+}
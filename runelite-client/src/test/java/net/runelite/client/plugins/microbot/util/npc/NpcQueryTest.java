@@ -0,0 +1,67 @@
+package net.runelite.client.plugins.microbot.util.npc;
+
+import net.runelite.api.NPC;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NpcQueryTest {
+    private static final LocalPoint ORIGIN = new LocalPoint(0, 0);
+
+    private static NPC npc(int index, int id, String name, int x) {
+        NPC npc = mock(NPC.class);
+        when(npc.getIndex()).thenReturn(index);
+        when(npc.getId()).thenReturn(id);
+        when(npc.getName()).thenReturn(name);
+        when(npc.getLocalLocation()).thenReturn(new LocalPoint(x, 0));
+        NpcIndex.onNpcSpawned(new NpcSpawned(npc));
+        return npc;
+    }
+
+    @After
+    public void tearDown() {
+        NpcIndex.clear();
+    }
+
+    @Test
+    public void testNearestByName() {
+        NPC far = npc(1, 100, "Goblin", 900);
+        NPC near = npc(2, 100, "Goblin", 100);
+        NPC middle = npc(3, 101, "goblin", 500);
+        npc(4, 200, "Cow", 50);
+
+        assertSame(near, new NpcQuery().withName("GOBLIN").nearest(ORIGIN, 1).get(0));
+        assertEquals(Arrays.asList(near, middle), new NpcQuery().withName("goblin").nearest(ORIGIN, 2));
+        assertEquals(Arrays.asList(near, far), new NpcQuery().withId(100).nearest(ORIGIN, 5));
+        assertSame(far, NpcIndex.get(1));
+
+        NpcIndex.onNpcDespawned(new NpcDespawned(near));
+        List<NPC> goblins = new NpcQuery().withName("goblin").filter(npc -> npc.getId() == 100).nearest(ORIGIN, 5);
+        assertEquals(Arrays.asList(far), goblins);
+        assertNull(NpcIndex.get(2));
+    }
+
+    @Test
+    public void testNearestNone() {
+        npc(1, 100, "Goblin", 100);
+
+        assertTrue(new NpcQuery().withName("goblin").nearest(ORIGIN, 0).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNearestNegativeLimit() {
+        new NpcQuery().nearest(ORIGIN, -1);
+    }
+}
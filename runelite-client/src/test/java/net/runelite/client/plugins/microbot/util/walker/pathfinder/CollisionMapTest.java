@@ -0,0 +1,68 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class CollisionMapTest {
+    private static final int REGION_SIZE = 64;
+
+    @Test
+    public void testDenseMatchesRegions() throws IOException {
+        Random random = new Random(1);
+        Map<SplitFlagMap.Position, FlagMap> regions = new HashMap<>();
+        Map<SplitFlagMap.Position, byte[]> compressed = new HashMap<>();
+        int[][] positions = {{50, 50}, {51, 50}, {48, 53}};
+        for (int[] p : positions) {
+            FlagMap region = new FlagMap(p[0] * REGION_SIZE, p[1] * REGION_SIZE,
+                    (p[0] + 1) * REGION_SIZE - 1, (p[1] + 1) * REGION_SIZE - 1, 2);
+            for (int i = 0; i < 5000; i++) {
+                region.set(region.minX + random.nextInt(REGION_SIZE), region.minY + random.nextInt(REGION_SIZE),
+                        random.nextInt(FlagMap.PLANE_COUNT), random.nextInt(2), true);
+            }
+            SplitFlagMap.Position position = new SplitFlagMap.Position(p[0], p[1]);
+            regions.put(position, region);
+            compressed.put(position, gzip(region.toBytes()));
+        }
+
+        CollisionMap map = new CollisionMap(REGION_SIZE, compressed);
+        CollisionMap copy = new CollisionMap(ByteBuffer.wrap(map.toBytes()));
+        for (Map.Entry<SplitFlagMap.Position, FlagMap> entry : regions.entrySet()) {
+            FlagMap region = entry.getValue();
+            for (int z = 0; z < FlagMap.PLANE_COUNT; z++) {
+                for (int x = region.minX; x <= region.maxX; x++) {
+                    for (int y = region.minY; y <= region.maxY; y++) {
+                        for (int flag = 0; flag < 2; flag++) {
+                            boolean expected = region.get(x, y, z, flag);
+                            assertEquals(expected, map.get(x, y, z, flag));
+                            assertEquals(expected, copy.get(x, y, z, flag));
+                        }
+                    }
+                }
+            }
+        }
+
+        // missing regions and out of range coordinates are blocked
+        assertFalse(map.n(49 * REGION_SIZE, 50 * REGION_SIZE, 0));
+        assertFalse(map.n(-1, 50 * REGION_SIZE, 0));
+        assertFalse(map.n(50 * REGION_SIZE, 50 * REGION_SIZE, 4));
+        assertFalse(copy.n(60 * REGION_SIZE, 60 * REGION_SIZE, 0));
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,53 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PathCacheTest {
+    @Test
+    public void testHitFromTileOnPath() {
+        PathCache cache = new PathCache();
+        WorldPoint start = new WorldPoint(3200, 3200, 0);
+        WorldPoint target = new WorldPoint(3230, 3200, 0);
+        List<WorldPoint> path = new ArrayList<>();
+        int[] costs = new int[target.getX() - start.getX() + 1];
+        for (int x = start.getX(); x <= target.getX(); x++) {
+            path.add(new WorldPoint(x, 3200, 0));
+            int i = x - start.getX();
+            // the step onto the 21st tile is a transport that costs 5
+            costs[i] = i <= 20 ? i : i + 4;
+        }
+        cache.put(start, target, false, 0, path, costs);
+
+        PathCache.CachedPath cached = cache.get(new WorldPoint(3210, 3200, 0), target, false, 0, null);
+        assertEquals(path.subList(10, path.size()), cached.getPath());
+        assertEquals(24, cached.getCost());
+        assertEquals(1, cache.getHits());
+
+        // different transport configuration
+        assertNull(cache.get(new WorldPoint(3210, 3200, 0), target, true, 0, null));
+        // different start region
+        assertNull(cache.get(new WorldPoint(3100, 3200, 0), target, false, 0, null));
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testEviction() {
+        PathCache cache = new PathCache();
+        WorldPoint target = new WorldPoint(3230, 3200, 0);
+        for (int i = 0; i < 100; i++) {
+            List<WorldPoint> path = new ArrayList<>();
+            path.add(new WorldPoint(64 * i, 3200, 0));
+            path.add(target);
+            cache.put(path.get(0), target, false, 0, path, new int[]{0, 1});
+        }
+        assertEquals(64, cache.size());
+        assertNull(cache.get(new WorldPoint(0, 3200, 0), target, false, 0, null));
+    }
+}
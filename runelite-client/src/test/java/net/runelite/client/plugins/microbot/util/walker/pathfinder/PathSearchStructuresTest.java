@@ -0,0 +1,74 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import net.runelite.api.coords.WorldPoint;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PathSearchStructuresTest {
+    @Test
+    public void testPackRoundTrip() {
+        WorldPoint[] points = {
+                new WorldPoint(0, 0, 0),
+                new WorldPoint(3222, 3218, 0),
+                new WorldPoint(2662, 3305, 1),
+                new WorldPoint(16383, 32767, 3),
+        };
+        for (WorldPoint point : points) {
+            int packed = WorldPointUtil.pack(point);
+            assertTrue(packed >= 0);
+            assertEquals(point, WorldPointUtil.unpack(packed));
+        }
+        int lumbridge = WorldPointUtil.pack(3222, 3218, 0);
+        int varrock = WorldPointUtil.pack(3213, 3425, 0);
+        assertEquals(207, WorldPointUtil.distance(lumbridge, varrock));
+        assertEquals(WorldPointUtil.pack(3221, 3219, 0), WorldPointUtil.offset(lumbridge, -1, 1));
+    }
+
+    @Test
+    public void testHeapOrdering() {
+        Random random = new Random(1);
+        PrimitiveLongHeap heap = new PrimitiveLongHeap(4);
+        long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+            heap.push(values[i]);
+        }
+        Arrays.sort(values);
+        for (long value : values) {
+            assertEquals(value, heap.poll());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testVisitedTiles() {
+        VisitedTiles visited = new VisitedTiles();
+        int tile = WorldPointUtil.pack(3222, 3218, 2);
+        assertFalse(visited.get(tile));
+        assertTrue(visited.set(tile));
+        assertFalse(visited.set(tile));
+        assertTrue(visited.get(tile));
+        assertFalse(visited.get(WorldPointUtil.pack(3222, 3218, 0)));
+        visited.clear();
+        assertFalse(visited.get(tile));
+    }
+
+    @Test
+    public void testTileIntMap() {
+        TileIntMap map = new TileIntMap(2);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(WorldPointUtil.pack(i % 100, i / 100, 0), i);
+        }
+        assertEquals(10_000, map.size());
+        assertEquals(4321, map.get(WorldPointUtil.pack(21, 43, 0), -1));
+        assertEquals(-1, map.get(WorldPointUtil.pack(21, 43, 1), -1));
+        map.clear();
+        assertEquals(-1, map.get(WorldPointUtil.pack(21, 43, 0), -1));
+    }
+}
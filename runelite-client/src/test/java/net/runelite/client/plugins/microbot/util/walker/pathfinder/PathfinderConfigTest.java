@@ -0,0 +1,21 @@
+package net.runelite.client.plugins.microbot.util.walker.pathfinder;
+
+import net.runelite.api.VarPlayer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PathfinderConfigTest {
+    @Test
+    public void testIsTransportVar() {
+        // a quest was finished
+        assertTrue(PathfinderConfig.isTransportVar(VarPlayer.QUEST_POINTS, -1));
+        // Fairytale II was started, the varbit's own varp id is reported along with it
+        assertTrue(PathfinderConfig.isTransportVar(1, PathfinderConfig.FAIRYTALE_II_VARBIT));
+
+        assertFalse(PathfinderConfig.isTransportVar(VarPlayer.ATTACK_STYLE, -1));
+        // a varbit packed into the quest points varp is not a quest point change
+        assertFalse(PathfinderConfig.isTransportVar(VarPlayer.QUEST_POINTS, 1));
+    }
+}
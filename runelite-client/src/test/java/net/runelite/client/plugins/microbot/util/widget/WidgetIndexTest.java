@@ -0,0 +1,42 @@
+package net.runelite.client.plugins.microbot.util.widget;
+
+import net.runelite.api.Client;
+import net.runelite.api.widgets.Widget;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WidgetIndexTest {
+    private static Widget widget(boolean hidden, Widget... children) {
+        Widget widget = mock(Widget.class);
+        when(widget.isHidden()).thenReturn(hidden);
+        when(widget.getChildren()).thenReturn(children);
+        when(widget.getDynamicChildren()).thenReturn(children);
+        when(widget.getNestedChildren()).thenReturn(new Widget[0]);
+        when(widget.getStaticChildren()).thenReturn(new Widget[0]);
+        return widget;
+    }
+
+    @Test
+    public void testCollectVisibleWalksEveryRoot() {
+        Widget hiddenChild = widget(true);
+        Widget firstChild = widget(false);
+        Widget secondChild = widget(false);
+        Widget firstRoot = widget(false, firstChild, hiddenChild, null);
+        Widget secondRoot = widget(false, secondChild);
+        Client client = mock(Client.class);
+        when(client.getWidgetRoots()).thenReturn(new Widget[]{firstRoot, secondRoot});
+
+        assertEquals(Arrays.asList(firstRoot, firstChild, secondRoot, secondChild), WidgetIndex.collectVisible(client));
+    }
+
+    @Test
+    public void testNormalize() {
+        assertEquals("click here to continue", WidgetIndex.normalize("<col=0000ff>Click here to<br>continue</col>"));
+        assertEquals("", WidgetIndex.normalize(null));
+    }
+}
@@ -0,0 +1,19 @@
+package net.runelite.client.plugins.questhelper;
+
+import net.runelite.client.plugins.questhelper.rewards.QuestPointReward;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public class QuestPointsTest
+{
+	@Test
+	public void testMatchesHelperRewards()
+	{
+		for (QuestHelperQuest quest : QuestHelperQuest.values())
+		{
+			QuestPointReward reward = quest.createQuestHelper().getQuestPointReward();
+			int points = reward != null ? reward.getPoints() : 0;
+			assertEquals(quest.name(), points, quest.getQuestPoints());
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package net.runelite.client.plugins.questhelper.requirements;
+
+import net.runelite.api.Client;
+import net.runelite.api.Skill;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.plugins.questhelper.requirements.conditional.Conditions;
+import net.runelite.client.plugins.questhelper.requirements.player.SkillRequirement;
+import net.runelite.client.plugins.questhelper.requirements.var.VarbitRequirement;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RequirementCacheTest
+{
+	private static final int VARBIT = 1234;
+	private static final int OTHER_VARBIT = 5678;
+
+	private Client client;
+	private RequirementCache requirementCache;
+
+	@Before
+	public void before()
+	{
+		client = mock(Client.class);
+		requirementCache = new RequirementCache(client);
+	}
+
+	@Test
+	public void testRecheckedOnlyAfterDependencyChanges()
+	{
+		Requirement requirement = new VarbitRequirement(VARBIT, 1);
+		when(client.getVarbitValue(VARBIT)).thenReturn(0);
+
+		assertFalse(requirementCache.check(requirement));
+		assertFalse(requirementCache.check(requirement));
+		verify(client, times(1)).getVarbitValue(VARBIT);
+
+		when(client.getVarbitValue(VARBIT)).thenReturn(1);
+		requirementCache.onVarbitChanged(varbitChanged(OTHER_VARBIT));
+		assertFalse(requirementCache.check(requirement));
+
+		requirementCache.onVarbitChanged(varbitChanged(VARBIT));
+		assertTrue(requirementCache.check(requirement));
+		verify(client, times(2)).getVarbitValue(VARBIT);
+	}
+
+	@Test
+	public void testConditionsDependOnChildren()
+	{
+		Requirement requirement = new Conditions(new VarbitRequirement(VARBIT, 1),
+			new SkillRequirement(Skill.MINING, 10));
+		when(client.getVarbitValue(VARBIT)).thenReturn(1);
+		when(client.getRealSkillLevel(Skill.MINING)).thenReturn(5);
+
+		long revision = requirementCache.getRevision();
+		assertFalse(requirementCache.check(requirement));
+		assertFalse(requirementCache.hasChangedSince(requirement.getDependencies(), revision));
+
+		when(client.getRealSkillLevel(Skill.MINING)).thenReturn(10);
+		requirementCache.onStatChanged(new StatChanged(Skill.MINING, 1154, 10, 10));
+		assertTrue(requirementCache.hasChangedSince(requirement.getDependencies(), revision));
+		assertTrue(requirementCache.check(requirement));
+	}
+
+	@Test
+	public void testUntrackedAlwaysChecked()
+	{
+		Requirement requirement = mock(Requirement.class);
+		when(requirement.getDependencies()).thenReturn(RequirementDependencies.UNTRACKED);
+		when(requirement.check(client)).thenReturn(false, true);
+
+		assertFalse(requirementCache.check(requirement));
+		assertTrue(requirementCache.check(requirement));
+	}
+
+	private static VarbitChanged varbitChanged(int varbitId)
+	{
+		VarbitChanged event = new VarbitChanged();
+		event.setVarbitId(varbitId);
+		return event;
+	}
+}
@@ -46,6 +46,7 @@ import static net.runelite.api.widgets.WidgetID.LEVEL_UP_GROUP_ID;
 import static net.runelite.api.widgets.WidgetInfo.DIALOG_SPRITE_TEXT;
 import static net.runelite.api.widgets.WidgetInfo.LEVEL_UP_LEVEL;
 import net.runelite.client.Notifier;
+import net.runelite.client.chat.ChatMessageClassifier;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
@@ -91,6 +92,9 @@ public class ScreenshotPluginTest
 	@Inject
 	private ScreenshotPlugin screenshotPlugin;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	@Mock
 	@Bind
 	private ScreenshotConfig screenshotConfig;
@@ -132,6 +136,7 @@ public class ScreenshotPluginTest
 	{
 		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
 		screenshotPlugin = spy(screenshotPlugin);
+		screenshotPlugin.registerChatMessageRules();
 		when(screenshotConfig.screenshotLevels()).thenReturn(true);
 		when(screenshotConfig.screenshotValuableDrop()).thenReturn(true);
 		when(screenshotConfig.valuableDropThreshold()).thenReturn(1000);
@@ -144,7 +149,7 @@ public class ScreenshotPluginTest
 	public void testClueScroll()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Seth", CLUE_SCROLL, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		assertEquals("medium", screenshotPlugin.getClueType());
 		assertEquals(28, screenshotPlugin.getClueNumber());
@@ -154,7 +159,7 @@ public class ScreenshotPluginTest
 	public void testBarrowsChest()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Seth", BARROWS_CHEST, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		assertEquals(310, screenshotPlugin.getKillCountNumber());
 	}
@@ -163,7 +168,7 @@ public class ScreenshotPluginTest
 	public void testChambersOfXericChest()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Seth", CHAMBERS_OF_XERIC_CHEST, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		assertEquals(489, screenshotPlugin.getKillCountNumber());
 	}
@@ -174,7 +179,7 @@ public class ScreenshotPluginTest
 		when(screenshotConfig.screenshotRewards()).thenReturn(true);
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Magic fTail", THEATRE_OF_BLOOD_CHEST, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		assertEquals(73, screenshotPlugin.getKillCountNumber());
 		assertEquals(ScreenshotPlugin.KillType.TOB, screenshotPlugin.getKillType());
@@ -192,7 +197,7 @@ public class ScreenshotPluginTest
 		when(screenshotConfig.screenshotRewards()).thenReturn(true);
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Magic fTail", THREATRE_OF_BLOOD_SM_CHEST, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		assertEquals(73, screenshotPlugin.getKillCountNumber());
 		assertEquals(ScreenshotPlugin.KillType.TOB_SM, screenshotPlugin.getKillType());
@@ -210,7 +215,7 @@ public class ScreenshotPluginTest
 		when(screenshotConfig.screenshotRewards()).thenReturn(true);
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Magic fTail", THREATRE_OF_BLOOD_HM_CHEST, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		assertEquals(73, screenshotPlugin.getKillCountNumber());
 		assertEquals(ScreenshotPlugin.KillType.TOB_HM, screenshotPlugin.getKillType());
@@ -226,12 +231,12 @@ public class ScreenshotPluginTest
 	public void testNotSoValuableDrop()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", NOT_SO_VALUABLE_DROP, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin, never()).takeScreenshot(anyString(), anyString());
 
 		when(screenshotConfig.valuableDropThreshold()).thenReturn(0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin).takeScreenshot("Valuable drop 6 x Bronze arrow (42 coins)", "Valuable Drops");
 	}
@@ -241,12 +246,12 @@ public class ScreenshotPluginTest
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", VALUABLE_DROP, null, 0);
 		when(screenshotConfig.valuableDropThreshold()).thenReturn(100_000);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin, never()).takeScreenshot(anyString(), anyString());
 
 		when(screenshotConfig.valuableDropThreshold()).thenReturn(1000);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin).takeScreenshot("Valuable drop Rune scimitar (25,600 coins)", "Valuable Drops");
 	}
@@ -255,7 +260,7 @@ public class ScreenshotPluginTest
 	public void testUntradeableDrop()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", UNTRADEABLE_DROP, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin).takeScreenshot("Untradeable drop Rusty sword", "Untradeable Drops");
 	}
@@ -346,14 +351,14 @@ public class ScreenshotPluginTest
 		when(client.getVarbitValue(Varbits.DISABLE_LEVEL_UP_INTERFACE)).thenReturn(1);
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", CRAFTING_LEVEL_96_MESSAGE, null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin).takeScreenshot("Crafting(96)", "Levels");
 		reset(screenshotPlugin);
 
 		when(client.getVarbitValue(Varbits.DISABLE_LEVEL_UP_INTERFACE)).thenReturn(0);
 
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 		verify(screenshotPlugin, never()).takeScreenshot(anyString(), anyString());
 	}
 
@@ -446,13 +451,13 @@ public class ScreenshotPluginTest
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "", COLLECTION_LOG_CHAT, null, 0);
 
 		when(client.getVarbitValue(Varbits.COLLECTION_LOG_NOTIFICATION)).thenReturn(1);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin).takeScreenshot("Collection log (Chompy bird hat)", "Collection Log");
 		reset(screenshotPlugin);
 
 		when(client.getVarbitValue(Varbits.COLLECTION_LOG_NOTIFICATION)).thenReturn(3);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin, never()).takeScreenshot(anyString(), anyString());
 	}
@@ -461,13 +466,13 @@ public class ScreenshotPluginTest
 	public void testDuelWin()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, TRADE, "", "You won! You have now won 1,909 duels.", null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin).takeScreenshot("Duel won (1909)", "Duels");
 		reset(screenshotPlugin);
 
 		chatMessageEvent = new ChatMessage(null, TRADE, "", "You have lost 145 duels.", null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin, never()).takeScreenshot(anyString(), anyString());
 	}
@@ -476,12 +481,12 @@ public class ScreenshotPluginTest
 	public void testDuelLoss()
 	{
 		ChatMessage chatMessageEvent = new ChatMessage(null, TRADE, "", "You were defeated! You have won 1,909 duels.", null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin, never()).takeScreenshot(anyString(), anyString());
 
 		chatMessageEvent = new ChatMessage(null, TRADE, "", "You have now lost 1,909 duels.", null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin).takeScreenshot("Duel lost (1909)", "Duels");
 	}
@@ -512,7 +517,7 @@ public class ScreenshotPluginTest
 
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "",
 			"Congratulations, you've completed a grandmaster combat task: <col=06600c>Egniol Diet II</col> (6 points).", null, 0);
-		screenshotPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 
 		verify(screenshotPlugin).takeScreenshot("Combat task (Egniol Diet II)", "Combat Achievements");
 	}
@@ -0,0 +1,78 @@
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WildcardMatcherSetTest
+{
+	@Test
+	public void testMatches()
+	{
+		WildcardMatcherSet<String> set = WildcardMatcherSet.of(Arrays.asList("rune*", "Abyssal whip", "*impling", "*dragon*", "a*b*c",
+			"string $ with special character"));
+		assertTrue(set.matches("rune pouch"));
+		assertTrue(set.matches("Rune pouch"));
+		assertFalse(set.matches("Adamant dagger"));
+		assertTrue(set.matches("Abyssal whip"));
+		assertTrue(set.matches("NATURE IMPLING"));
+		assertFalse(set.matches("Nature impling jar"));
+		assertTrue(set.matches("Baby red dragon"));
+		assertTrue(set.matches("abc"));
+		assertTrue(set.matches("axxbyyc"));
+		assertFalse(set.matches("axxbyycd"));
+		assertTrue(set.matches("string $ with special character"));
+	}
+
+	@Test
+	public void testMatchOrder()
+	{
+		WildcardMatcherSet<String> set = WildcardMatcherSet.of(Arrays.asList("*", "*dragon", "baby*", "baby blue dragon", "*blue*"));
+		assertEquals("*", set.match("Baby blue dragon"));
+		assertEquals(Arrays.asList("*", "*dragon", "baby*", "baby blue dragon", "*blue*"), set.matchAll("Baby blue dragon"));
+		assertEquals(Arrays.asList("*", "baby*"), set.matchAll("baby"));
+
+		WildcardMatcherSet<String> empty = WildcardMatcherSet.of(Arrays.asList());
+		assertNull(empty.match("Baby blue dragon"));
+	}
+
+	@Test
+	public void testMatchesWildcardMatcher()
+	{
+		Random random = new Random(1234);
+		String alphabet = "abAB *";
+
+		List<String> patterns = new ArrayList<>();
+		for (int i = 0; i < 200; ++i)
+		{
+			patterns.add(randomString(random, alphabet, 1 + random.nextInt(6)));
+		}
+
+		WildcardMatcherSet<String> set = WildcardMatcherSet.of(patterns);
+		for (int i = 0; i < 1000; ++i)
+		{
+			String name = randomString(random, alphabet.replace("*", ""), random.nextInt(8));
+			List<String> expected = patterns.stream()
+				.filter(pattern -> WildcardMatcher.matches(pattern, name))
+				.collect(Collectors.toList());
+			assertEquals(name, expected, set.matchAll(name));
+		}
+	}
+
+	private static String randomString(Random random, String alphabet, int length)
+	{
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; ++i)
+		{
+			sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,258 @@
+package net.runelite.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes an index of every {@code @PluginDescriptor} class in the module being compiled, so the client can load
+ * its plugins without scanning and loading every class in the plugins package.
+ * <p>
+ * Each line of the index holds, separated by tabs: the plugin's binary class name, its name, the descriptor flags
+ * which are set out of {@code developerPlugin}, {@code loadWhenOutdated} and {@code loadInSafeMode}, and the binary
+ * names of its {@code @PluginDependency} classes. Empty flag and dependency lists are written as {@code -}. Lines
+ * starting with {@code #} are comments.
+ * <p>
+ * Builds which compile only part of the module, such as incremental builds, see only some of the plugins, so the
+ * entries of the existing index are kept for plugins which weren't compiled, as long as their class still exists and
+ * still has a {@code @PluginDescriptor}.
+ */
+@SupportedAnnotationTypes(PluginIndexProcessor.PLUGIN_DESCRIPTOR)
+public class PluginIndexProcessor extends AbstractProcessor
+{
+	public static final String INDEX = "META-INF/runelite/plugins";
+
+	static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	static final String PLUGIN_DESCRIPTOR = PLUGIN_PACKAGE + ".PluginDescriptor";
+	static final String PLUGIN_DEPENDENCY = PLUGIN_PACKAGE + ".PluginDependency";
+	static final String PLUGIN_DEPENDENCIES = PLUGIN_PACKAGE + ".PluginDependencies";
+
+	private static final String[] FLAGS = {"developerPlugin", "loadWhenOutdated", "loadInSafeMode"};
+
+	// sorted so the index is reproducible
+	private final Map<String, String> entries = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		if (roundEnv.processingOver())
+		{
+			if (!entries.isEmpty())
+			{
+				mergeExistingIndex();
+				writeIndex();
+			}
+			return false;
+		}
+
+		TypeElement descriptor = processingEnv.getElementUtils().getTypeElement(PLUGIN_DESCRIPTOR);
+		if (descriptor == null)
+		{
+			return false;
+		}
+
+		for (Element element : roundEnv.getElementsAnnotatedWith(descriptor))
+		{
+			if (element.getKind() != ElementKind.CLASS)
+			{
+				continue;
+			}
+
+			TypeElement type = (TypeElement) element;
+			String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+			// match the top level classes the client scanned the plugin package for
+			if (type.getNestingKind() != NestingKind.TOP_LEVEL || !className.startsWith(PLUGIN_PACKAGE + ".")
+				|| type.getModifiers().contains(Modifier.ABSTRACT))
+			{
+				continue;
+			}
+
+			entries.put(className, className + '\t' + describe(type));
+		}
+		return false;
+	}
+
+	private String describe(TypeElement type)
+	{
+		String name = null;
+		List<String> flags = new ArrayList<>();
+		List<String> dependencies = new ArrayList<>();
+
+		for (AnnotationMirror mirror : type.getAnnotationMirrors())
+		{
+			String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+			switch (annotation)
+			{
+				case PLUGIN_DESCRIPTOR:
+				{
+					Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+						processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+					name = (String) value(values, "name");
+					for (String flag : FLAGS)
+					{
+						if (Boolean.TRUE.equals(value(values, flag)))
+						{
+							flags.add(flag);
+						}
+					}
+					break;
+				}
+				case PLUGIN_DEPENDENCY:
+					dependencies.add(dependency(mirror));
+					break;
+				case PLUGIN_DEPENDENCIES:
+				{
+					@SuppressWarnings("unchecked")
+					List<? extends AnnotationValue> repeated = (List<? extends AnnotationValue>) value(mirror.getElementValues(), "value");
+					for (AnnotationValue value : repeated)
+					{
+						dependencies.add(dependency((AnnotationMirror) value.getValue()));
+					}
+					break;
+				}
+			}
+		}
+
+		if (name == null || name.indexOf('\t') != -1 || name.indexOf('\n') != -1)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Plugin name cannot be indexed", type);
+		}
+
+		return name + '\t' + join(flags) + '\t' + join(dependencies);
+	}
+
+	private String dependency(AnnotationMirror mirror)
+	{
+		TypeMirror value = (TypeMirror) value(mirror.getElementValues(), "value");
+		TypeElement element = (TypeElement) ((DeclaredType) value).asElement();
+		return processingEnv.getElementUtils().getBinaryName(element).toString();
+	}
+
+	private static Object value(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name)
+	{
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet())
+		{
+			if (entry.getKey().getSimpleName().contentEquals(name))
+			{
+				return entry.getValue().getValue();
+			}
+		}
+		return null;
+	}
+
+	private static String join(List<String> values)
+	{
+		return values.isEmpty() ? "-" : String.join(",", values);
+	}
+
+	/**
+	 * Add the entries of the index from a previous build for plugins which weren't part of this one
+	 */
+	private void mergeExistingIndex()
+	{
+		List<String> lines = new ArrayList<>();
+		try
+		{
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (BufferedReader in = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8)))
+			{
+				String line;
+				while ((line = in.readLine()) != null)
+				{
+					lines.add(line);
+				}
+			}
+		}
+		catch (IOException | IllegalArgumentException ex)
+		{
+			// no index from a previous build
+			return;
+		}
+
+		for (String line : lines)
+		{
+			int tab = line.indexOf('\t');
+			if (line.startsWith("#") || tab == -1)
+			{
+				continue;
+			}
+
+			String className = line.substring(0, tab);
+			if (!entries.containsKey(className) && isPlugin(className))
+			{
+				entries.put(className, line);
+			}
+		}
+	}
+
+	private boolean isPlugin(String className)
+	{
+		// plugins are top level classes, so their binary name is also their canonical name
+		TypeElement type = processingEnv.getElementUtils().getTypeElement(className);
+		if (type == null)
+		{
+			return false;
+		}
+
+		for (AnnotationMirror mirror : type.getAnnotationMirrors())
+		{
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(PLUGIN_DESCRIPTOR))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void writeIndex()
+	{
+		try
+		{
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Writer out = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))
+			{
+				out.write("# class\tname\tflags\tdependencies\n");
+				for (String entry : entries.values())
+				{
+					out.write(entry);
+					out.write('\n');
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write plugin index: " + ex);
+		}
+	}
+}